@@ -1,6 +1,7 @@
 package com.epam.esm;
 
 import com.epam.esm.exceptions.Translator;
+import com.epam.esm.repository.support.BaseJpaRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -9,6 +10,7 @@ import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.data.web.config.SortHandlerMethodArgumentResolverCustomizer;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 
 /**
@@ -21,7 +23,8 @@ import org.springframework.web.servlet.config.annotation.EnableWebMvc;
  * since: 1.0
  */
 @EnableWebMvc
-@EnableJpaRepositories
+@EnableJpaRepositories(repositoryBaseClass = BaseJpaRepository.class)
+@EnableScheduling
 @SpringBootApplication(scanBasePackages = "com.epam.esm")
 public class OAuth2ResourceServerApplication {
 
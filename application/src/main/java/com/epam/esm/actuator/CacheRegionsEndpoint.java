@@ -0,0 +1,122 @@
+package com.epam.esm.actuator;
+
+import lombok.Value;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Actuator endpoint exposing the statistics of the Hibernate
+ * second-level cache and query cache regions at
+ * {@code /actuator/cacheregions}. The statistics are collected
+ * only with {@code hibernate.generate_statistics}, which is enabled
+ * in the dev and loadtest profiles only; otherwise the endpoint
+ * reports that they are disabled instead of zero counters.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Component
+@Endpoint(id = "cacheregions")
+public class CacheRegionsEndpoint {
+
+    private final SessionFactoryImplementor sessionFactory;
+
+    public CacheRegionsEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    /**
+     * Returns the statistics of all entity, collection
+     * and query cache regions.
+     *
+     * @return whether the statistics are collected and,
+     * if they are, the statistics by region name
+     */
+    @ReadOperation
+    public CacheRegions regions() {
+        Map<String, RegionStatistics> regions = new TreeMap<>();
+        if (!sessionFactory.getStatistics().isStatisticsEnabled()) {
+            return new CacheRegions(false, regions);
+        }
+        for (String name : sessionFactory.getCache().getCacheRegionNames()) {
+            RegionStatistics statistics = region(name);
+            if (statistics != null) {
+                regions.put(name, statistics);
+            }
+        }
+        return new CacheRegions(true, regions);
+    }
+
+    /**
+     * Returns the statistics of a single region.
+     *
+     * @param name the name of the region
+     * @return the statistics, or {@code null} if the statistics
+     * are disabled or there is no entity, collection or query
+     * region with the name
+     */
+    @ReadOperation
+    public RegionStatistics region(@Selector String name) {
+        CacheImplementor cache = sessionFactory.getCache();
+        Statistics statistics = sessionFactory.getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return null;
+        }
+        Region region = cache.getRegion(name);
+        if (region instanceof DomainDataRegion) {
+            return RegionStatistics.of(statistics.getDomainDataRegionStatistics(name));
+        }
+        if (region instanceof QueryResultsRegion) {
+            return RegionStatistics.of(statistics.getQueryRegionStatistics(name));
+        }
+        return null;
+    }
+
+    /**
+     * The statistics of the cache regions, empty if
+     * the statistics are not collected.
+     */
+    @Value
+    public static class CacheRegions {
+        boolean statisticsEnabled;
+        Map<String, RegionStatistics> regions;
+    }
+
+    /**
+     * The statistics of a cache region.
+     */
+    @Value
+    public static class RegionStatistics {
+        long hitCount;
+        long missCount;
+        long putCount;
+        long elementCountInMemory;
+        double hitRatio;
+
+        private static RegionStatistics of(CacheRegionStatistics statistics) {
+            if (statistics == null) {
+                return null;
+            }
+            long hits = statistics.getHitCount();
+            long lookups = hits + statistics.getMissCount();
+            return new RegionStatistics(hits,
+                    statistics.getMissCount(),
+                    statistics.getPutCount(),
+                    statistics.getElementCountInMemory(),
+                    lookups == 0 ? 0 : (double) hits / lookups);
+        }
+    }
+}
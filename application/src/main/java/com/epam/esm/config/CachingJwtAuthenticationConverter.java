@@ -0,0 +1,44 @@
+package com.epam.esm.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.Collection;
+
+/**
+ * Converts a {@link Jwt} to a {@link JwtAuthenticationToken},
+ * converting the claims of a token to authorities only once.
+ * <p>
+ * {@link CachingJwtDecoder} returns the same {@link Jwt} instance for
+ * every request with the same token, so the authorities are cached
+ * by that instance, compared by identity and held weakly: they are
+ * dropped together with the cached token. The authentication token
+ * itself is created per request, since the authentication provider
+ * sets the details of the request on it.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public class CachingJwtAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    private final Converter<Jwt, Collection<GrantedAuthority>> authoritiesConverter;
+    private final Cache<Jwt, Collection<GrantedAuthority>> authorities = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
+    public CachingJwtAuthenticationConverter(Converter<Jwt, Collection<GrantedAuthority>> authoritiesConverter) {
+        this.authoritiesConverter = authoritiesConverter;
+    }
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        Collection<GrantedAuthority> jwtAuthorities = authorities.get(jwt, authoritiesConverter::convert);
+        return new JwtAuthenticationToken(jwt, jwtAuthorities, jwt.getClaimAsString(JwtClaimNames.SUB));
+    }
+}
@@ -0,0 +1,121 @@
+package com.epam.esm.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * A {@link JwtDecoder} remembering the tokens it has verified.
+ * <p>
+ * Verifying the signature of a token is the most expensive step of
+ * an authenticated request, and clients send the same bearer token
+ * with every request until it expires. Tokens that pass the
+ * verification and validation of the delegate are cached by the
+ * SHA-256 hash of their value until their {@code exp} claim, but for
+ * no longer than the maximum TTL, so an expired token is never
+ * accepted from the cache. Rejected tokens are not cached. The
+ * cache is invalidated when a signing key is retired, so a token
+ * verified with a key the authorization server no longer publishes
+ * is verified again and rejected.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> tokens;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maximumTtl, Clock clock) {
+        this.delegate = delegate;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilExpiry(maximumTtl, clock))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = hash(token);
+        Jwt jwt = tokens.getIfPresent(key);
+        if (jwt == null) {
+            jwt = delegate.decode(token);
+            tokens.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    /**
+     * Forgets every verified token, e.g. after a signing key is retired.
+     */
+    public void invalidateAll() {
+        tokens.invalidateAll();
+    }
+
+    /**
+     * Returns the cache of verified tokens, e.g. to publish its metrics.
+     *
+     * @return the cache
+     */
+    public Cache<String, Jwt> getCache() {
+        return tokens;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Keeps a token until it expires or the maximum TTL passes,
+     * whichever comes first.
+     */
+    private static final class UntilExpiry implements Expiry<String, Jwt> {
+        private final Duration maximumTtl;
+        private final Clock clock;
+
+        private UntilExpiry(Duration maximumTtl, Clock clock) {
+            this.maximumTtl = maximumTtl;
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            Instant expiresAt = jwt.getExpiresAt();
+            if (expiresAt == null) {
+                return maximumTtl.toNanos();
+            }
+            Duration remaining = Duration.between(clock.instant(), expiresAt);
+            if (remaining.isNegative()) {
+                return 0;
+            }
+            return remaining.compareTo(maximumTtl) < 0 ? remaining.toNanos() : maximumTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.epam.esm.config;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UriUtils;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caches the serialized responses to the anonymous GET requests
+ * of the catalog, so a repeated request is answered without the
+ * queries, the links and the serialization.
+ * <p>
+ * The key of a response is the request URI with its scheme and
+ * host, which the links depend on, the query parameters sorted
+ * by name and the Accept header. Only successful responses
+ * without cookies are cached; a body from
+ * {@link ResponseCacheProperties#getGzipMinSize()} bytes is also
+ * kept gzipped and sent to the clients accepting gzip. A request
+ * with an If-None-Match header matching the entity tag of the
+ * cached response is answered with 304.
+ * <p>
+ * The entries are evicted by the writes of certificates and tags
+ * through {@link com.epam.esm.service.impl.cache.CacheNames#RESPONSES}
+ * after their transactions commit. A response produced while an
+ * eviction ran is sent but not cached, as it may have been read
+ * before the write committed. The entries are weighed by their
+ * bytes, see {@link #weigh(Object, Object)}, so the cache is
+ * bounded by a {@code maximumWeight} in bytes rather than by the
+ * number of responses. The filter runs after the
+ * security filters, so the requests it answers are authorized,
+ * and it skips every request with credentials.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public class CatalogResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+    private static final Set<String> UNCACHED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        UNCACHED_HEADERS.addAll(List.of(HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONTENT_TYPE,
+                HttpHeaders.CONTENT_ENCODING, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.DATE));
+    }
+
+    private final CopyingCaffeineCache cache;
+    private final ResponseCacheProperties properties;
+    private final String cacheControl;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public CatalogResponseCacheFilter(CopyingCaffeineCache cache, ResponseCacheProperties properties) {
+        this.cache = cache;
+        this.properties = properties;
+        this.cacheControl = CacheControl.maxAge(properties.getMaxAge()).cachePublic().getHeaderValue();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod()) || request.getHeader(HttpHeaders.AUTHORIZATION) != null) {
+            return true;
+        }
+        String path = urlPathHelper.getPathWithinApplication(request);
+        return properties.getPaths().stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String key = key(request);
+        CachedResponse cached = cache.get(key, CachedResponse.class);
+        if (cached != null) {
+            cached.writeHeaders(response);
+            writeCacheHeaders(response);
+            if (cached.eTag == null || !new ServletWebRequest(request, response).checkNotModified(cached.eTag)) {
+                write(request, response, cached);
+            }
+            return;
+        }
+        long version = cache.getVersion();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        if (!isCacheable(wrapper)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        cached = new CachedResponse(wrapper, properties.getGzipMinSize());
+        cache.putIfVersion(key, cached, version);
+        writeCacheHeaders(response);
+        write(request, response, cached);
+    }
+
+    /**
+     * Weighs an entry of the response cache by its bytes: the key,
+     * the body and the gzipped body.
+     *
+     * @param key   the key of the entry
+     * @param value the cached response
+     * @return the weight of the entry
+     */
+    public static int weigh(Object key, Object value) {
+        int weight = key.toString().length();
+        if (value instanceof CachedResponse) {
+            CachedResponse cached = (CachedResponse) value;
+            weight += cached.body.length + (cached.gzippedBody == null ? 0 : cached.gzippedBody.length);
+        }
+        return weight;
+    }
+
+    private String key(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(128)
+                .append(ServletUriComponentsBuilder.fromRequestUri(request).build().toUriString());
+        char separator = '?';
+        for (Map.Entry<String, String[]> parameter : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            for (String value : parameter.getValue()) {
+                key.append(separator)
+                        .append(UriUtils.encodeQueryParam(parameter.getKey(), StandardCharsets.UTF_8))
+                        .append('=')
+                        .append(UriUtils.encodeQueryParam(value, StandardCharsets.UTF_8));
+                separator = '&';
+            }
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return key.append(' ').append(accept == null ? "" : accept.trim()).toString();
+    }
+
+    private boolean isCacheable(ContentCachingResponseWrapper response) {
+        return response.getStatus() == HttpStatus.OK.value()
+                && response.getContentType() != null
+                && response.getContentSize() <= properties.getMaxBodySize()
+                && !response.containsHeader(HttpHeaders.CACHE_CONTROL)
+                && !response.containsHeader(HttpHeaders.SET_COOKIE);
+    }
+
+    private void writeCacheHeaders(HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.addHeader(HttpHeaders.VARY, VARY);
+    }
+
+    private static void write(HttpServletRequest request,
+                              HttpServletResponse response,
+                              CachedResponse cached) throws IOException {
+        byte[] body = cached.body;
+        if (cached.gzippedBody != null && acceptsGzip(request)) {
+            body = cached.gzippedBody;
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        Enumeration<String> headers = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (headers.hasMoreElements()) {
+            for (String coding : headers.nextElement().split(",")) {
+                String[] parts = coding.split(";");
+                if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+                    return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A successful response with its headers and its body,
+     * serialized and, if large enough, gzipped.
+     */
+    private static final class CachedResponse {
+
+        private final String contentType;
+        private final String eTag;
+        private final Map<String, List<String>> headers = new LinkedHashMap<>();
+        private final byte[] body;
+        private final byte[] gzippedBody;
+
+        private CachedResponse(ContentCachingResponseWrapper response, int gzipMinSize) {
+            this.contentType = response.getContentType();
+            this.eTag = response.getHeader(HttpHeaders.ETAG);
+            response.getHeaderNames().stream()
+                    .filter(name -> !UNCACHED_HEADERS.contains(name))
+                    .distinct()
+                    .forEach(name -> headers.put(name, List.copyOf(response.getHeaders(name))));
+            this.body = response.getContentAsByteArray();
+            this.gzippedBody = body.length >= gzipMinSize ? gzip(body) : null;
+        }
+
+        private void writeHeaders(HttpServletResponse response) {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(contentType);
+            headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        }
+
+        private static byte[] gzip(byte[] body) {
+            ByteArrayOutputStream gzipped = new ByteArrayOutputStream(body.length / 4);
+            try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+                out.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return gzipped.toByteArray();
+        }
+    }
+}
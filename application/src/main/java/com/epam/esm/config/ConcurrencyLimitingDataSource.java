@@ -0,0 +1,162 @@
+package com.epam.esm.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A data source that limits the number of connections in use at
+ * the same time with a fair semaphore, independently of the
+ * number of threads asking for connections.
+ * <p>
+ * With a request thread per connection of the pool, the thread
+ * pool itself bounds the number of waiters of the pool. With a
+ * virtual thread per request there is no such bound: thousands of
+ * requests can ask for a connection at once. The semaphore queues
+ * them in arrival order and parks them as ordinary blocked virtual
+ * threads, which do not pin carrier threads while they wait; with
+ * as many permits as the pool has connections, the pool always has
+ * a free connection for a thread holding a permit. The permit is
+ * released when the connection is closed.
+ * <p>
+ * Using the connection does pin: MySQL Connector/J 8.0 and the
+ * Hibernate session run their I/O inside {@code synchronized}
+ * blocks, so a virtual thread running a statement keeps its
+ * carrier thread until the statement completes. The permits
+ * therefore also bound the number of pinned carriers, and should
+ * stay below the parallelism of the virtual thread scheduler
+ * (the number of processors by default), so that requests not
+ * using the database always find a free carrier.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+
+    /**
+     * Creates a limiting data source.
+     *
+     * @param targetDataSource the pooled data source
+     * @param maxConcurrency   the number of connections that can
+     *                         be in use at the same time
+     * @param acquireTimeout   the time to wait for a permit
+     */
+    public ConcurrencyLimitingDataSource(DataSource targetDataSource, int maxConcurrency, Duration acquireTimeout) {
+        super(targetDataSource);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return limited(super::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return limited(() -> super.getConnection(username, password));
+    }
+
+    /**
+     * Returns the number of threads waiting for a permit.
+     *
+     * @return the approximate number of waiting threads
+     */
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException("No connection available within "
+                        + Duration.ofNanos(acquireTimeoutNanos) + ", " + permits.getQueueLength() + " waiting");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+        }
+    }
+
+    private Connection limited(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new PermitReleasingHandler(connection));
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    /**
+     * Releases the permit of a connection when the connection
+     * is closed for the first time.
+     */
+    private final class PermitReleasingHandler implements InvocationHandler {
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+                case "close":
+                    try {
+                        target.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                    return null;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.epam.esm.config;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.lang.NonNull;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * A {@link CaffeineCache} which stores and returns copies of the
+ * cached values. The DTOs returned by the services are mutated by
+ * their callers, e.g. HATEOAS links are added to them, so a cached
+ * instance must never be shared with a caller.
+ * <p>
+ * The cache has a version which every eviction increments. A value
+ * loaded through {@link #get(Object, Callable)} is stored only if no
+ * eviction happened since the load started, so a read racing with a
+ * write cannot put back the value the write has just evicted. The
+ * loader runs outside the lock of the entry, so a slow load does not
+ * block the evictions of the writes. Callers producing the value
+ * themselves, e.g. the response cache, do the same through
+ * {@link #getVersion()} and {@link #putIfVersion(Object, Object, long)}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public class CopyingCaffeineCache extends CaffeineCache {
+
+    private final UnaryOperator<Object> copier;
+    private final AtomicLong version = new AtomicLong();
+
+    public CopyingCaffeineCache(String name,
+                                com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                boolean allowNullValues,
+                                UnaryOperator<Object> copier) {
+        super(name, cache, allowNullValues);
+        this.copier = copier;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        long seen = version.get();
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        putIfVersion(key, value, seen);
+        return value;
+    }
+
+    /**
+     * Returns the current version, to be passed to
+     * {@link #putIfVersion(Object, Object, long)} after the value
+     * is produced.
+     *
+     * @return the number of evictions so far
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        version.incrementAndGet();
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(@NonNull Object key) {
+        version.incrementAndGet();
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        version.incrementAndGet();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        version.incrementAndGet();
+        return super.invalidate();
+    }
+
+    @Override
+    protected Object toStoreValue(Object userValue) {
+        return super.toStoreValue(userValue == null ? null : copier.apply(userValue));
+    }
+
+    @Override
+    protected Object fromStoreValue(Object storeValue) {
+        Object userValue = super.fromStoreValue(storeValue);
+        return userValue == null ? null : copier.apply(userValue);
+    }
+
+    /**
+     * Stores a loaded value if the cache is still at the version
+     * seen before the load. The version is checked again after the
+     * value is stored, as an eviction may have run in between.
+     *
+     * @param key   the key of the value
+     * @param value the loaded value
+     * @param seen  the version returned by {@link #getVersion()} before the load
+     * @return whether the value stayed stored
+     */
+    public boolean putIfVersion(Object key, Object value, long seen) {
+        if (value == null && !isAllowNullValues() || version.get() != seen) {
+            return false;
+        }
+        Object storeValue = toStoreValue(value);
+        getNativeCache().put(key, storeValue);
+        if (version.get() != seen) {
+            getNativeCache().asMap().remove(key, storeValue);
+            return false;
+        }
+        return true;
+    }
+}
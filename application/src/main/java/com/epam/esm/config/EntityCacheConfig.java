@@ -0,0 +1,67 @@
+package com.epam.esm.config;
+
+import com.epam.esm.service.impl.cache.CacheNames;
+import com.epam.esm.service.impl.support.DtoCopies;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collections;
+
+/**
+ * Configuration of the read-through caches of the service layer.
+ * <p>
+ * The caches are Caffeine caches (bounded by size and time, with
+ * W-TinyLFU admission) configured per cache name by
+ * {@link EntityCacheProperties}. Puts and evictions are deferred
+ * until the surrounding transaction commits, so a rolled back write
+ * never evicts an entry and readers never see uncommitted data.
+ * The hit, miss and eviction counters of caches with
+ * {@code recordStats} are published as {@code cache.*} metrics.
+ * The {@link CacheNames#RESPONSES} cache is weighed by the bytes of
+ * its entries, so its specification takes a {@code maximumWeight}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(EntityCacheProperties.class)
+public class EntityCacheConfig {
+
+    /**
+     * Creates the cache manager with one cache for every
+     * name of {@link CacheNames#ALL}.
+     *
+     * @param properties the configuration of the caches
+     * @return the cache manager
+     */
+    @Bean
+    public CacheManager cacheManager(EntityCacheProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name,
+                                               com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new TransactionAwareCacheDecorator(new CopyingCaffeineCache(
+                        name, cache, isAllowNullValues(), DtoCopies::copy));
+            }
+        };
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCacheNames(Collections.emptyList());
+        CacheNames.ALL.forEach(name -> {
+            Caffeine<Object, Object> builder = Caffeine
+                    .from(properties.getSpecs().getOrDefault(name, properties.getDefaultSpec()));
+            if (CacheNames.RESPONSES.equals(name)) {
+                builder.weigher(CatalogResponseCacheFilter::weigh);
+            }
+            cacheManager.registerCustomCache(name, builder.build());
+        });
+        return cacheManager;
+    }
+}
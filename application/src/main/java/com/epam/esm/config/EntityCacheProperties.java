@@ -0,0 +1,34 @@
+package com.epam.esm.config;
+
+import com.epam.esm.service.impl.cache.CacheNames;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the entity caches. Every cache is configured
+ * with a Caffeine specification, e.g.
+ * {@code maximumSize=10000,expireAfterWrite=30m,recordStats}. The
+ * responses cache is weighed in bytes and takes a
+ * {@code maximumWeight} instead of a {@code maximumSize}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "entity-cache")
+public class EntityCacheProperties {
+
+    /**
+     * The specification of the caches without an own specification.
+     */
+    private String defaultSpec = "maximumSize=1000,expireAfterWrite=10m,recordStats";
+
+    /**
+     * The specifications of the caches by cache name.
+     */
+    private Map<String, String> specs = new HashMap<>(Map.of(
+            CacheNames.RESPONSES, "maximumWeight=67108864,expireAfterWrite=5m,recordStats"));
+}
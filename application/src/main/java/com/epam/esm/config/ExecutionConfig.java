@@ -0,0 +1,127 @@
+package com.epam.esm.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Configuration of the request execution mode.
+ * <p>
+ * By default requests run on the platform threads of the Tomcat
+ * pool. With {@code execution.virtual-threads=true}, on JDK 21 or
+ * later, Tomcat processes every request and Spring MVC runs every
+ * asynchronous request (e.g. a streamed export) on a new virtual
+ * thread, so a request blocked on a slow client or waiting for a
+ * database connection does not hold a platform thread. A request
+ * running a statement does: the JDBC driver and Hibernate pin the
+ * carrier thread for the duration of the statement.
+ * <p>
+ * The number of request threads then no longer bounds the number
+ * of threads waiting for a database connection. With
+ * {@code execution.database-concurrency.enabled=true} connections
+ * are acquired through a {@link ConcurrencyLimitingDataSource}
+ * with as many permits as the pool has connections, which also
+ * bounds the number of pinned carriers.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ExecutionProperties.class)
+public class ExecutionConfig {
+
+    private static final String THREAD_NAME_PREFIX = "request-";
+    private static final String TASK_THREAD_NAME_PREFIX = "task-";
+
+    /**
+     * Runs the Tomcat request processing on virtual threads.
+     *
+     * @return the customizer of the Tomcat protocol handler
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "execution", name = "virtual-threads", havingValue = "true")
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor(THREAD_NAME_PREFIX);
+        log.info("Processing requests on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    /**
+     * Creates the executor starting a virtual thread per task.
+     * Replaces the pooled executor of the task execution
+     * auto-configuration.
+     *
+     * @return the executor
+     */
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    @ConditionalOnProperty(prefix = "execution", name = "virtual-threads", havingValue = "true")
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(VirtualThreads.newThreadPerTaskExecutor(TASK_THREAD_NAME_PREFIX));
+    }
+
+    /**
+     * Runs the asynchronous requests of Spring MVC, e.g. the
+     * streamed exports, on the virtual thread executor.
+     *
+     * @return the configurer of the asynchronous request support
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "execution", name = "virtual-threads", havingValue = "true")
+    public WebMvcConfigurer virtualThreadAsyncSupportConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.setTaskExecutor(applicationTaskExecutor());
+            }
+        };
+    }
+
+    /**
+     * Wraps the data source into a {@link ConcurrencyLimitingDataSource}.
+     * Static, so that it is registered before the data source is created.
+     *
+     * @param environment the environment holding the properties
+     * @return the post-processor wrapping the data source
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "execution.database-concurrency", name = "enabled", havingValue = "true")
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment) {
+        ExecutionProperties.DatabaseConcurrency properties = Binder.get(environment)
+                .bindOrCreate("execution.database-concurrency", ExecutionProperties.DatabaseConcurrency.class);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || bean instanceof ConcurrencyLimitingDataSource) {
+                    return bean;
+                }
+                int permits;
+                if (properties.getPermits() != null) {
+                    permits = properties.getPermits();
+                } else if (bean instanceof HikariDataSource) {
+                    permits = ((HikariDataSource) bean).getMaximumPoolSize();
+                } else {
+                    throw new IllegalStateException("Set execution.database-concurrency.permits "
+                            + "for the data source '" + beanName + "'");
+                }
+                log.info("Limiting the concurrently used connections of '{}' to {}", beanName, permits);
+                return new ConcurrencyLimitingDataSource((DataSource) bean, permits, properties.getAcquireTimeout());
+            }
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.epam.esm.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the threads running the requests and of the
+ * limit of concurrently used database connections.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "execution")
+public class ExecutionProperties {
+
+    /**
+     * Whether Tomcat requests and asynchronous tasks run on
+     * virtual threads. Requires JDK 21 or later.
+     */
+    private boolean virtualThreads;
+
+    /**
+     * The limit of concurrently used database connections.
+     */
+    private final DatabaseConcurrency databaseConcurrency = new DatabaseConcurrency();
+
+    @Data
+    public static class DatabaseConcurrency {
+
+        /**
+         * Whether connections are acquired through
+         * {@link ConcurrencyLimitingDataSource}.
+         */
+        private boolean enabled;
+
+        /**
+         * The number of connections that can be in use at the same
+         * time; the size of the connection pool if not set.
+         */
+        private Integer permits;
+
+        /**
+         * The time to wait for a connection before failing.
+         */
+        private Duration acquireTimeout = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,83 @@
+package com.epam.esm.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the caches of the JWT authentication: the
+ * verified bearer tokens and the JWK set of the authorization server.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "security.jwt")
+public class JwtCacheProperties {
+
+    /**
+     * The cache of verified tokens.
+     */
+    private final TokenCache tokenCache = new TokenCache();
+
+    /**
+     * The local copy of the JWK set.
+     */
+    private final JwkSet jwkSet = new JwkSet();
+
+    @Data
+    public static class TokenCache {
+
+        /**
+         * The maximum number of cached tokens.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * The longest time a token stays cached, even if it
+         * expires later or has no expiry.
+         */
+        private Duration maximumTtl = Duration.ofMinutes(30);
+    }
+
+    @Data
+    public static class JwkSet {
+
+        /**
+         * The signature algorithms accepted in the tokens.
+         */
+        private List<String> jwsAlgorithms = new ArrayList<>(List.of("RS256"));
+
+        /**
+         * The interval of the refreshes of the JWK set.
+         */
+        private Duration refreshInterval = Duration.ofMinutes(5);
+
+        /**
+         * The shortest interval between two refreshes triggered
+         * by tokens signed with an unknown key.
+         */
+        private Duration minimumRefreshInterval = Duration.ofSeconds(30);
+
+        /**
+         * The connect timeout of a refresh.
+         */
+        private Duration connectTimeout = Duration.ofSeconds(2);
+
+        /**
+         * The read timeout of a refresh.
+         */
+        private Duration readTimeout = Duration.ofSeconds(5);
+
+        /**
+         * The file keeping the last fetched JWK set, read at startup
+         * when the authorization server is unavailable. Not kept if
+         * not set.
+         */
+        private Path backupFile;
+    }
+}
@@ -0,0 +1,96 @@
+package com.epam.esm.config;
+
+import com.epam.esm.exceptions.ErrorCodes;
+import com.epam.esm.exceptions.InvalidResourcePropertyException;
+import com.epam.esm.repository.support.KeysetPageable;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.epam.esm.domain.validation.ValidationConstants.INVALID_CURSOR;
+import static com.epam.esm.domain.validation.ValidationConstants.INVALID_SORT;
+
+/**
+ * Resolves {@link Pageable} controller arguments. Requests without
+ * the {@value KeysetPageable#AFTER} parameter get the offset based
+ * pageable of Spring Data. Requests with the parameter get a
+ * {@link KeysetPageable} which selects the page following the cursor;
+ * an empty cursor selects the first page in keyset mode. Keyset pages
+ * can only be sorted by the properties declared with
+ * {@link KeysetSortable} on the argument.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public class KeysetPageableArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final Map<String, Class<?>> ID_ONLY = Map.of(KeysetPageable.ID, Long.class);
+
+    private final PageableHandlerMethodArgumentResolver pageableResolver;
+    private final Map<MethodParameter, Map<String, Class<?>>> sortKeys = new ConcurrentHashMap<>();
+
+    public KeysetPageableArgumentResolver(PageableHandlerMethodArgumentResolver pageableResolver) {
+        this.pageableResolver = pageableResolver;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return pageableResolver.supportsParameter(parameter);
+    }
+
+    @Override
+    public Pageable resolveArgument(@NonNull MethodParameter parameter,
+                                    ModelAndViewContainer mavContainer,
+                                    @NonNull NativeWebRequest webRequest,
+                                    WebDataBinderFactory binderFactory) {
+        Pageable pageable = pageableResolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+        String cursor = webRequest.getParameter(KeysetPageable.AFTER);
+        if (cursor == null) {
+            return pageable;
+        }
+        Map<String, Class<?>> keys = sortKeys.computeIfAbsent(parameter, KeysetPageableArgumentResolver::sortKeys);
+        if (cursor.isEmpty()) {
+            String property = pageable.getSort().stream()
+                    .findFirst()
+                    .map(Sort.Order::getProperty)
+                    .orElse(KeysetPageable.ID);
+            if (!keys.containsKey(property)) {
+                throw new InvalidResourcePropertyException(
+                        INVALID_SORT, property, ErrorCodes.INVALID_PAGINATION_PARAMETER);
+            }
+        }
+        try {
+            return KeysetPageable.of(pageable, cursor, keys);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidResourcePropertyException(INVALID_CURSOR, cursor, ErrorCodes.INVALID_PAGINATION_PARAMETER);
+        }
+    }
+
+    private static Map<String, Class<?>> sortKeys(MethodParameter parameter) {
+        KeysetSortable sortable = parameter.getParameterAnnotation(KeysetSortable.class);
+        if (sortable == null) {
+            return ID_ONLY;
+        }
+        Map<String, Class<?>> keys = new HashMap<>(ID_ONLY);
+        for (String property : sortable.value()) {
+            Class<?> type = BeanUtils.findPropertyType(property, sortable.type());
+            if (type == Object.class) {
+                throw new IllegalStateException("No property " + property + " in " + sortable.type().getName());
+            }
+            keys.put(property, type);
+        }
+        return Collections.unmodifiableMap(keys);
+    }
+}
@@ -0,0 +1,38 @@
+package com.epam.esm.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the properties a {@link org.springframework.data.domain.Pageable}
+ * controller argument can be sorted by in keyset mode. The properties
+ * must be non-null attributes of the listed entity, with the same
+ * names and types in the DTO, since the cursor carries the value of
+ * the last DTO of a page. Without the annotation keyset pages can
+ * only be sorted by the ID.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface KeysetSortable {
+
+    /**
+     * The DTO listed by the endpoint.
+     *
+     * @return the type of the DTO
+     */
+    Class<?> type();
+
+    /**
+     * The sortable properties besides the ID.
+     *
+     * @return the names of the properties
+     */
+    String[] value();
+}
@@ -0,0 +1,45 @@
+package com.epam.esm.config;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Sets the timeout of the asynchronous requests whose path matches
+ * an Ant pattern, e.g. the streamed exports, which run much longer
+ * than the other asynchronous requests. The timeout is set before
+ * the asynchronous processing starts; the other requests keep the
+ * default timeout of Spring MVC.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public class PathAsyncTimeoutInterceptor implements CallableProcessingInterceptor {
+
+    private final String pattern;
+    private final Duration timeout;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public PathAsyncTimeoutInterceptor(String pattern, Duration timeout) {
+        this.pattern = pattern;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(@NonNull NativeWebRequest request, @NonNull Callable<T> task) {
+        HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+        if (request instanceof AsyncWebRequest && servletRequest != null
+                && pathMatcher.match(pattern, urlPathHelper.getPathWithinApplication(servletRequest))) {
+            ((AsyncWebRequest) request).setTimeout(timeout.toMillis());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.epam.esm.config;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestOperations;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * A local copy of the JWK set of the authorization server.
+ * <p>
+ * The set is fetched at startup and refreshed in the background,
+ * so verifying a token never waits for the authorization server.
+ * A token signed with a key missing from the copy triggers an
+ * immediate refresh, at most once per minimum refresh interval, to
+ * pick up rotated keys. A failed refresh keeps the last fetched set,
+ * so tokens signed with known keys are still accepted while the
+ * authorization server is unavailable; with a backup file, the last
+ * set also survives a restart during such an outage.
+ * <p>
+ * When a refresh drops or replaces a key of the previous set, the
+ * key retirement listeners are notified, so that tokens verified
+ * with the retired key are no longer accepted from a cache.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Slf4j
+public class RefreshingJwkSetSource implements JWKSource<SecurityContext> {
+
+    private final String jwkSetUri;
+    private final RestOperations restOperations;
+    private final Duration minimumRefreshInterval;
+    private final Path backupFile;
+    private final Clock clock;
+    private final Object refreshLock = new Object();
+    private final List<Runnable> keyRetirementListeners = new CopyOnWriteArrayList<>();
+
+    private volatile JWKSet jwkSet;
+    private volatile Instant lastRefresh = Instant.MIN;
+
+    public RefreshingJwkSetSource(String jwkSetUri,
+                                  RestOperations restOperations,
+                                  Duration minimumRefreshInterval,
+                                  Path backupFile,
+                                  Clock clock) {
+        this.jwkSetUri = jwkSetUri;
+        this.restOperations = restOperations;
+        this.minimumRefreshInterval = minimumRefreshInterval;
+        this.backupFile = backupFile;
+        this.clock = clock;
+        refresh();
+        if (jwkSet == null) {
+            jwkSet = readBackup();
+        }
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector selector, SecurityContext context) throws KeySourceException {
+        JWKSet current = jwkSet;
+        if (current != null) {
+            List<JWK> keys = selector.select(current);
+            if (!keys.isEmpty()) {
+                return keys;
+            }
+        }
+        return selector.select(refreshForUnknownKey());
+    }
+
+    /**
+     * Registers a listener called after a refresh drops or
+     * replaces a key of the previous JWK set.
+     *
+     * @param listener the listener
+     */
+    public void addKeyRetirementListener(Runnable listener) {
+        keyRetirementListeners.add(listener);
+    }
+
+    /**
+     * Fetches the JWK set, keeping the current one if that fails.
+     * Called periodically, at the refresh interval.
+     */
+    public void refresh() {
+        synchronized (refreshLock) {
+            lastRefresh = clock.instant();
+            try {
+                String content = restOperations.getForObject(jwkSetUri, String.class);
+                JWKSet fetched = JWKSet.parse(content);
+                JWKSet previous = jwkSet;
+                jwkSet = fetched;
+                writeBackup(content);
+                log.debug("Fetched {} keys from {}", fetched.getKeys().size(), jwkSetUri);
+                if (previous != null && !publicKeys(fetched).containsAll(publicKeys(previous))) {
+                    log.info("A key of the JWK set from {} was retired", jwkSetUri);
+                    keyRetirementListeners.forEach(Runnable::run);
+                }
+            } catch (RestClientException | ParseException | IllegalArgumentException e) {
+                log.warn("Failed to fetch the JWK set from {}, keeping the last fetched keys", jwkSetUri, e);
+            }
+        }
+    }
+
+    private static Set<Map<String, Object>> publicKeys(JWKSet jwkSet) {
+        return jwkSet.getKeys().stream()
+                .map(key -> key.toPublicJWK().toJSONObject())
+                .collect(Collectors.toSet());
+    }
+
+    private JWKSet refreshForUnknownKey() throws KeySourceException {
+        synchronized (refreshLock) {
+            if (!clock.instant().isBefore(lastRefresh.plus(minimumRefreshInterval))) {
+                refresh();
+            }
+        }
+        JWKSet current = jwkSet;
+        if (current == null) {
+            throw new KeySourceException("No JWK set is available from " + jwkSetUri);
+        }
+        return current;
+    }
+
+    private void writeBackup(String content) {
+        if (backupFile == null) {
+            return;
+        }
+        try {
+            Path temporary = Files.createTempFile(backupFile.toAbsolutePath().getParent(), "jwks", ".tmp");
+            Files.writeString(temporary, content, StandardCharsets.UTF_8);
+            Files.move(temporary, backupFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to write the JWK set backup {}", backupFile, e);
+        }
+    }
+
+    private JWKSet readBackup() {
+        if (backupFile == null || !Files.isReadable(backupFile)) {
+            return null;
+        }
+        try {
+            JWKSet backup = JWKSet.parse(Files.readString(backupFile, StandardCharsets.UTF_8));
+            log.warn("Using the JWK set backup {} until {} is available", backupFile, jwkSetUri);
+            return backup;
+        } catch (IOException | ParseException e) {
+            log.warn("Failed to read the JWK set backup {}", backupFile, e);
+            return null;
+        }
+    }
+}
@@ -1,18 +1,44 @@
 package com.epam.esm.config;
 
 import com.epam.esm.exceptions.CustomAuthExceptionHandler;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.DelegatingJwtGrantedAuthoritiesConverter;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.util.StringUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Configuration class for the resource server, which defines the security filter
@@ -25,8 +51,11 @@ import org.springframework.security.web.SecurityFilterChain;
  * entry point, access denied handler, authorization rules for API endpoints,
  * and the OAuth2 resource server with JWT authentication.
  * The bean returns the configured HttpSecurity object.
- * jwtAuthenticationConverter: a JwtAuthenticationConverter bean that converts
+ * jwtAuthenticationConverter: a CachingJwtAuthenticationConverter bean that converts
  * the JWT token to an authentication object with granted authorities.
+ * jwtDecoder: a CachingJwtDecoder bean that verifies the JWT tokens against a
+ * RefreshingJwkSetSource copy of the JWK set and caches the verified tokens.
+ * jwtTokenCacheMetrics: the metrics of the verified token cache.
  * roleHierarchy: a RoleHierarchy bean that defines the role hierarchy.
  *
  * @author Oleksandr Koreshev
@@ -35,17 +64,23 @@ import org.springframework.security.web.SecurityFilterChain;
 @Configuration
 @EnableWebSecurity
 @EnableGlobalMethodSecurity(prePostEnabled = true)
+@EnableConfigurationProperties(JwtCacheProperties.class)
 public class ResourceServerConfig {
 
     /**
      * Configures the security filter chain for the resource server.
      *
-     * @param http the HttpSecurity object to configure
+     * @param http                       the HttpSecurity object to configure
+     * @param jwtDecoder                 the decoder of the bearer tokens
+     * @param jwtAuthenticationConverter the converter of the decoded tokens
      * @return the SecurityFilterChain object with the configured filters
      * @throws Exception if an error occurs during configuration
      */
     @Bean
-    SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                            JwtDecoder jwtDecoder,
+                                            CachingJwtAuthenticationConverter jwtAuthenticationConverter)
+            throws Exception {
         http
             .exceptionHandling()
                 .authenticationEntryPoint(new CustomAuthExceptionHandler())
@@ -58,29 +93,92 @@ public class ResourceServerConfig {
             .mvcMatchers(HttpMethod.GET, "/api/v1/tags/name/{tagName}/gift-certificates").permitAll()
             .mvcMatchers(HttpMethod.GET, "/api/v1/gift-certificates").permitAll()
             .mvcMatchers(HttpMethod.GET, "/api/v1/gift-certificates/*").permitAll()
+            .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+            .requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN")
             .anyRequest().authenticated()
             .and()
             .oauth2ResourceServer()
-            .jwt();
+            .jwt()
+                .decoder(jwtDecoder)
+                .jwtAuthenticationConverter(jwtAuthenticationConverter);
         return http.build();
     }
 
     /**
-     * Creates a JwtAuthenticationConverter bean that converts the JWT token to an authentication object with granted authorities.
+     * Creates a CachingJwtAuthenticationConverter bean that converts the JWT token to an authentication object with granted authorities.
      *
-     * @return the JwtAuthenticationConverter object with the configured JwtGrantedAuthoritiesConverter object
+     * @return the CachingJwtAuthenticationConverter object with the configured JwtGrantedAuthoritiesConverter object
      */
     @Bean
-    public JwtAuthenticationConverter jwtAuthenticationConverter() {
+    public CachingJwtAuthenticationConverter jwtAuthenticationConverter() {
         JwtGrantedAuthoritiesConverter defaultConverter = new JwtGrantedAuthoritiesConverter();
         JwtGrantedAuthoritiesConverter roleConverter = new JwtGrantedAuthoritiesConverter();
         roleConverter.setAuthoritiesClaimName("roles");
         roleConverter.setAuthorityPrefix("ROLE_");
         DelegatingJwtGrantedAuthoritiesConverter authoritiesConverter =
                 new DelegatingJwtGrantedAuthoritiesConverter(roleConverter, defaultConverter);
-        JwtAuthenticationConverter jwtConverter = new JwtAuthenticationConverter();
-        jwtConverter.setJwtGrantedAuthoritiesConverter(authoritiesConverter);
-        return jwtConverter;
+        return new CachingJwtAuthenticationConverter(authoritiesConverter);
+    }
+
+    /**
+     * Creates a JwtDecoder bean that verifies the tokens with the keys of the JWK set source,
+     * validates their timestamps and issuer and caches the verified tokens. Unless another
+     * JWK source is defined, the keys are read from a RefreshingJwkSetSource copy of the
+     * JWK set of the authorization server, whose key retirements invalidate the cached tokens.
+     *
+     * @param jwkSources               the JWK source replacing the authorization server, if any
+     * @param resourceServerProperties the JWK set URI and the expected issuer
+     * @param jwtCacheProperties       the configuration of the caches and the accepted algorithms
+     * @param restTemplateBuilder      the builder of the client fetching the JWK set
+     * @param taskScheduler            the scheduler of the JWK set refreshes
+     * @return the JwtDecoder object
+     */
+    @Bean
+    public CachingJwtDecoder jwtDecoder(ObjectProvider<JWKSource<SecurityContext>> jwkSources,
+                                        OAuth2ResourceServerProperties resourceServerProperties,
+                                        JwtCacheProperties jwtCacheProperties,
+                                        RestTemplateBuilder restTemplateBuilder,
+                                        TaskScheduler taskScheduler) {
+        JWKSource<SecurityContext> jwkSource = jwkSources.getIfAvailable(() -> refreshingJwkSetSource(
+                resourceServerProperties, jwtCacheProperties.getJwkSet(), restTemplateBuilder, taskScheduler));
+        Set<JWSAlgorithm> algorithms = jwtCacheProperties.getJwkSet().getJwsAlgorithms().stream()
+                .map(JWSAlgorithm::parse)
+                .collect(Collectors.toSet());
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, jwkSource));
+        // The claims are validated by the Spring Security validators
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        NimbusJwtDecoder nimbusJwtDecoder = new NimbusJwtDecoder(jwtProcessor);
+        String issuerUri = resourceServerProperties.getJwt().getIssuerUri();
+        OAuth2TokenValidator<Jwt> validator = StringUtils.hasText(issuerUri)
+                ? JwtValidators.createDefaultWithIssuer(issuerUri)
+                : JwtValidators.createDefault();
+        nimbusJwtDecoder.setJwtValidator(validator);
+        JwtCacheProperties.TokenCache tokenCache = jwtCacheProperties.getTokenCache();
+        CachingJwtDecoder jwtDecoder = new CachingJwtDecoder(nimbusJwtDecoder,
+                tokenCache.getMaximumSize(), tokenCache.getMaximumTtl(), Clock.systemUTC());
+        if (jwkSource instanceof RefreshingJwkSetSource) {
+            ((RefreshingJwkSetSource) jwkSource).addKeyRetirementListener(jwtDecoder::invalidateAll);
+        }
+        return jwtDecoder;
+    }
+
+    /**
+     * Publishes the hit, miss and eviction counters of the
+     * verified token cache as {@code cache.*} metrics.
+     *
+     * @param jwtDecoder    the decoder with the cache
+     * @param meterRegistry the registry of the metrics
+     * @return the binder of the metrics
+     */
+    @Bean
+    public CaffeineCacheMetrics<String, Jwt, Cache<String, Jwt>> jwtTokenCacheMetrics(CachingJwtDecoder jwtDecoder,
+                                                                                    MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics<String, Jwt, Cache<String, Jwt>> metrics =
+                new CaffeineCacheMetrics<>(jwtDecoder.getCache(), "jwt-tokens", Collections.emptyList());
+        metrics.bindTo(meterRegistry);
+        return metrics;
     }
 
     /**
@@ -94,4 +192,22 @@ public class ResourceServerConfig {
         roleHierarchy.setHierarchy("ROLE_ADMIN > ROLE_USER");
         return roleHierarchy;
     }
-}
\ No newline at end of file
+
+    private static RefreshingJwkSetSource refreshingJwkSetSource(OAuth2ResourceServerProperties resourceServerProperties,
+                                                                 JwtCacheProperties.JwkSet jwkSet,
+                                                                 RestTemplateBuilder restTemplateBuilder,
+                                                                 TaskScheduler taskScheduler) {
+        RefreshingJwkSetSource jwkSetSource = new RefreshingJwkSetSource(
+                resourceServerProperties.getJwt().getJwkSetUri(),
+                restTemplateBuilder
+                        .setConnectTimeout(jwkSet.getConnectTimeout())
+                        .setReadTimeout(jwkSet.getReadTimeout())
+                        .build(),
+                jwkSet.getMinimumRefreshInterval(),
+                jwkSet.getBackupFile(),
+                Clock.systemUTC());
+        taskScheduler.scheduleWithFixedDelay(jwkSetSource::refresh,
+                Instant.now().plus(jwkSet.getRefreshInterval()), jwkSet.getRefreshInterval());
+        return jwkSetSource;
+    }
+}
@@ -0,0 +1,51 @@
+package com.epam.esm.config;
+
+import com.epam.esm.service.impl.cache.CacheNames;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Objects;
+
+/**
+ * Configuration of the cache of the responses to anonymous
+ * catalog requests, see {@link CatalogResponseCacheFilter}.
+ * Disabled with {@code response-cache.enabled=false}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+@ConditionalOnProperty(prefix = "response-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheConfig {
+
+    /**
+     * Registers the filter right after the security filters. The
+     * filter puts into the cache directly, not through the
+     * transaction-aware decorator, as it runs outside transactions
+     * and checks the version of the cache itself.
+     *
+     * @param cacheManager the cache manager of the entity caches
+     * @param properties   the configuration of the response cache
+     * @return the registration of the filter
+     */
+    @Bean
+    public FilterRegistrationBean<CatalogResponseCacheFilter> catalogResponseCacheFilter(
+            CacheManager cacheManager, ResponseCacheProperties properties) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(CacheNames.RESPONSES));
+        if (cache instanceof TransactionAwareCacheDecorator) {
+            cache = ((TransactionAwareCacheDecorator) cache).getTargetCache();
+        }
+        FilterRegistrationBean<CatalogResponseCacheFilter> registration = new FilterRegistrationBean<>(
+                new CatalogResponseCacheFilter((CopyingCaffeineCache) cache, properties));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,53 @@
+package com.epam.esm.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the cache of the responses to anonymous
+ * catalog requests. The entries are bounded by the Caffeine
+ * specification of the {@code responses} entity cache, whose
+ * {@code maximumWeight} is in bytes.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "response-cache")
+public class ResponseCacheProperties {
+
+    /**
+     * Whether the responses are cached.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The Ant patterns of the paths, relative to the context path,
+     * whose anonymous GET responses are cached.
+     */
+    private List<String> paths = new ArrayList<>(List.of(
+            "/api/v1/gift-certificates",
+            "/api/v1/tags",
+            "/api/v1/tags/*/gift-certificates",
+            "/api/v1/tags/name/*/gift-certificates"));
+
+    /**
+     * The time clients and shared caches may reuse a response
+     * without revalidating it.
+     */
+    private Duration maxAge = Duration.ofSeconds(30);
+
+    /**
+     * The size in bytes from which a body is also kept gzipped.
+     */
+    private int gzipMinSize = 1024;
+
+    /**
+     * The size in bytes of the largest cached body.
+     */
+    private int maxBodySize = 1024 * 1024;
+}
@@ -0,0 +1,46 @@
+package com.epam.esm.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Web MVC configuration of the resource server. Ordered before
+ * the Spring Data web configuration, so its pageable
+ * resolver is consulted first. The order exports get their own
+ * asynchronous request timeout.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Configuration
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private static final String ORDER_EXPORT_PATH = "/api/v1/orders/export";
+
+    private final PageableHandlerMethodArgumentResolver pageableResolver;
+
+    @Value("${order.export.timeout:1h}")
+    private Duration exportTimeout;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new KeysetPageableArgumentResolver(pageableResolver));
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new PathAsyncTimeoutInterceptor(ORDER_EXPORT_PATH, exportTimeout));
+    }
+}
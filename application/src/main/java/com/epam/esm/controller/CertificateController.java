@@ -1,12 +1,15 @@
 package com.epam.esm.controller;
 
+import com.epam.esm.config.KeysetSortable;
 import com.epam.esm.domain.payload.CertificateDto;
 import com.epam.esm.domain.payload.CertificateFilterDto;
+import com.epam.esm.domain.payload.CertificateImportReport;
 import com.epam.esm.domain.validation.OnCreate;
 import com.epam.esm.domain.validation.OnUpdate;
 import com.epam.esm.exceptions.InvalidJsonPatchException;
 import com.epam.esm.hateoas.HateoasAdder;
 import com.epam.esm.security.annotations.AdminWritePermission;
+import com.epam.esm.service.api.CertificateImportService;
 import com.epam.esm.service.api.CertificateService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -17,14 +20,19 @@ import com.github.fge.jsonpatch.JsonPatchException;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
+import java.io.InputStream;
 import java.util.List;
 
 import static com.epam.esm.domain.validation.ValidationConstants.*;
@@ -45,39 +53,57 @@ import static com.epam.esm.exceptions.ExceptionConstants.INVALID_JSON_PATCH;
 @Slf4j
 public class CertificateController {
 
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final CertificateService certificateService;
     private final ObjectMapper objectMapper;
     private final HateoasAdder<CertificateDto> hateoasAdder;
+    private final CertificateImportService certificateImportService;
 
     /**
      * Handles the HTTP GET request to retrieve all gift certificates.
      *
      * @param certificateFilterDto the filter criteria to apply to the query
      * @param pageable             the pagination information
+     * @param request              the request, answered with 304 if
+     *                             its If-None-Match header matches
      * @return a {@link ResponseEntity} containing a list of
      *          {@link CertificateDto}s and a status code
      */
     @GetMapping
     public ResponseEntity<List<CertificateDto>> getAllCertificates(
             CertificateFilterDto certificateFilterDto,
-            Pageable pageable) {
+            @KeysetSortable(type = CertificateDto.class,
+                    value = {"name", "price", "duration", "createDate", "lastUpdateDate"}) Pageable pageable,
+            WebRequest request) {
         List<CertificateDto> certificateDtos =
                 certificateService.findAll(certificateFilterDto, pageable);
+        if (request.checkNotModified(ETags.ofCertificates(certificateDtos))) {
+            return null;
+        }
         hateoasAdder.addLinks(certificateDtos);
-        return new ResponseEntity<>(certificateDtos, HttpStatus.OK);
+        return new ResponseEntity<>(certificateDtos,
+                hateoasAdder.pageHeaders(certificateDtos, pageable),
+                HttpStatus.OK);
     }
 
     /**
      * Handles the HTTP GET request to retrieve a gift certificate by its ID.
      *
      * @param certificateId the ID of the certificate to retrieve
+     * @param request       the request, answered with 304 if
+     *                      its If-None-Match header matches
      * @return a {@link ResponseEntity} containing the retrieved
      *          {@link CertificateDto} and a status code
      */
     @GetMapping("/{certificate-id}")
     public ResponseEntity<CertificateDto> getCertificateById(
-            @PathVariable("certificate-id") @Positive(message = CERTIFICATE_INVALID_ID) Long certificateId) {
+            @PathVariable("certificate-id") @Positive(message = CERTIFICATE_INVALID_ID) Long certificateId,
+            WebRequest request) {
         CertificateDto certificateDto = certificateService.findById(certificateId);
+        if (request.checkNotModified(ETags.of(certificateDto))) {
+            return null;
+        }
         hateoasAdder.addLinks(certificateDto);
         return new ResponseEntity<>(certificateDto, HttpStatus.OK);
     }
@@ -99,22 +125,62 @@ public class CertificateController {
         return new ResponseEntity<>(addedCertificateDto, HttpStatus.CREATED);
     }
 
+    /**
+     * Handles the HTTP POST request to import gift certificates
+     * from newline delimited JSON, one certificate per line.
+     *
+     * @param content the body of the request
+     * @return a {@link ResponseEntity} containing the
+     *          {@link CertificateImportReport} and a status code
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @AdminWritePermission
+    public ResponseEntity<CertificateImportReport> importCertificatesFromNdjson(InputStream content) {
+        return new ResponseEntity<>(
+                certificateImportService.importCertificates(content, CertificateImportService.Format.NDJSON),
+                HttpStatus.OK);
+    }
+
+    /**
+     * Handles the HTTP POST request to import gift certificates from CSV
+     * with the header {@code name,description,price,duration,tags}.
+     *
+     * @param content the body of the request
+     * @return a {@link ResponseEntity} containing the
+     *          {@link CertificateImportReport} and a status code
+     */
+    @PostMapping(value = "/import", consumes = TEXT_CSV_VALUE)
+    @AdminWritePermission
+    public ResponseEntity<CertificateImportReport> importCertificatesFromCsv(InputStream content) {
+        return new ResponseEntity<>(
+                certificateImportService.importCertificates(content, CertificateImportService.Format.CSV),
+                HttpStatus.OK);
+    }
+
     /**
      * Updates an existing gift certificate with a specified
      * ID in the database. Returns HTTP status 200.
      * @param certificateId a unique identifier of the gift certificate to update
      * @param certificateDto an object containing the updated gift certificate
+     * @param ifMatch the entity tag the update is based on, if any
      * @return ResponseEntity with CertificateDto and HTTP status 200 (OK)
+     * @throws ObjectOptimisticLockingFailureException if the certificate was
+     *          changed since the version in the If-Match header
      */
     @PutMapping("/{certificate-id}")
     @AdminWritePermission
     @Validated({OnUpdate.class})
     public ResponseEntity<CertificateDto> updateCertificateById(
             @PathVariable("certificate-id") @Positive(message = CERTIFICATE_INVALID_ID) Long certificateId,
-            @RequestBody @Valid CertificateDto certificateDto) {
+            @RequestBody @Valid CertificateDto certificateDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        certificateDto.setVersion(ETags.version(ifMatch,
+                () -> certificateService.findById(certificateId).getVersion()));
         CertificateDto updatedCertificateDto = certificateService.update(certificateId, certificateDto);
         hateoasAdder.addLinks(updatedCertificateDto);
-        return new ResponseEntity<>(updatedCertificateDto, HttpStatus.OK);
+        return new ResponseEntity<>(updatedCertificateDto,
+                ETags.headers(ETags.of(updatedCertificateDto)),
+                HttpStatus.OK);
     }
 
     /**
@@ -148,22 +214,30 @@ public class CertificateController {
      *
      * @param certificateId the ID of the gift certificate to update
      * @param patch the JSON patch to apply to the gift certificate
+     * @param ifMatch the entity tag the patch is based on, if any
      * @return a response entity with the updated gift certificate
      *          and the HTTP status code "200 OK"
      * @throws AccessDeniedException if the requesting user does
      *          not have appropriate permissions
      * @throws InvalidJsonPatchException if the JSON patch is invalid or
      *          cannot be applied to the gift certificate
+     * @throws ObjectOptimisticLockingFailureException if the certificate was
+     *          changed since the version in the If-Match header
      */
     @PatchMapping("/{certificate-id}")
     @AdminWritePermission
     public ResponseEntity<CertificateDto> updateCertificatePartiallyById(
             @PathVariable("certificate-id") @Positive(message = CERTIFICATE_INVALID_ID) Long certificateId,
-            @RequestBody JsonPatch patch) {
-        CertificateDto partiallyModifiedDto = applyPatch(patch, certificateService.findById(certificateId));
-        CertificateDto updatedDto = certificateService.update(certificateId, partiallyModifiedDto);
+            @RequestBody JsonPatch patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        CertificateDto updatedDto = certificateService.patch(certificateId, certificateDto -> {
+            Long version = ETags.version(ifMatch, certificateDto::getVersion);
+            CertificateDto patchedDto = applyPatch(patch, certificateDto);
+            patchedDto.setVersion(version);
+            return patchedDto;
+        });
         hateoasAdder.addLinks(updatedDto);
-        return new ResponseEntity<>(updatedDto, HttpStatus.OK);
+        return new ResponseEntity<>(updatedDto, ETags.headers(ETags.of(updatedDto)), HttpStatus.OK);
     }
 
     /**
@@ -0,0 +1,182 @@
+package com.epam.esm.controller;
+
+import com.epam.esm.domain.payload.CertificateDto;
+import com.epam.esm.domain.payload.TagDto;
+import com.epam.esm.domain.payload.UserDto;
+import org.springframework.http.HttpHeaders;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Entity tags of the resources, derived from the versions of the
+ * entities, so a conditional GET is answered before the links are
+ * added and the body is serialized.
+ * <p>
+ * The entity tag of a tag or a user is its version. A certificate
+ * embeds its tags, and renaming a tag does not change the version
+ * of the certificate, so the entity tag of a certificate joins its
+ * version with a hash of the IDs and versions of its tags. A list
+ * has a weak entity tag hashed from the IDs and versions of its
+ * items. The hash is 64-bit FNV-1a.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+final class ETags {
+
+    /**
+     * The version returned for an If-Match header that cannot
+     * match any version, so the update fails its precondition.
+     */
+    static final long NO_VERSION = -1L;
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+    private static final char QUOTE = '"';
+    private static final char VERSION_SEPARATOR = '-';
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ETags() {
+    }
+
+    static String of(TagDto tag) {
+        return quote(String.valueOf(tag.getVersion()));
+    }
+
+    static String of(UserDto user) {
+        return quote(String.valueOf(user.getVersion()));
+    }
+
+    static String of(CertificateDto certificate) {
+        return quote(certificate.getVersion() + String.valueOf(VERSION_SEPARATOR)
+                + Long.toHexString(hashTags(certificate)));
+    }
+
+    static String ofTags(List<TagDto> tags) {
+        long hash = FNV_OFFSET_BASIS;
+        for (TagDto tag : tags) {
+            hash = mix(mix(hash, tag.getId()), tag.getVersion());
+        }
+        return weak(hash);
+    }
+
+    static String ofUsers(List<UserDto> users) {
+        long hash = FNV_OFFSET_BASIS;
+        for (UserDto user : users) {
+            hash = mix(mix(hash, user.getId()), user.getVersion());
+        }
+        return weak(hash);
+    }
+
+    static String ofCertificates(List<CertificateDto> certificates) {
+        long hash = FNV_OFFSET_BASIS;
+        for (CertificateDto certificate : certificates) {
+            hash = mix(mix(mix(hash, certificate.getId()), certificate.getVersion()), hashTags(certificate));
+        }
+        return weak(hash);
+    }
+
+    /**
+     * Returns the headers of a response with the entity tag.
+     *
+     * @param eTag the entity tag of the resource
+     * @return the headers
+     */
+    static HttpHeaders headers(String eTag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(eTag);
+        return headers;
+    }
+
+    /**
+     * Reads the version an update is based on from the If-Match
+     * header, which may list several entity tags. For a certificate
+     * only the version of the certificate is compared, not the hash
+     * of its tags. Weak and malformed entity tags never match, as
+     * If-Match uses strong comparison. When several entity tags are
+     * listed, the current version is returned if one of them names
+     * it, so the update passes its precondition.
+     *
+     * @param ifMatch        the If-Match header of the request, if any
+     * @param currentVersion reads the current version of the resource,
+     *                       only called when several entity tags are listed
+     * @return the version, {@code null} if the header is absent or
+     *         {@code *}, or {@link #NO_VERSION} if it cannot match
+     */
+    static Long version(String ifMatch, Supplier<Long> currentVersion) {
+        if (ifMatch == null) {
+            return null;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch(ifMatch);
+        List<String> eTags;
+        try {
+            eTags = headers.getIfMatch();
+        } catch (IllegalArgumentException e) {
+            return NO_VERSION;
+        }
+        if (eTags.contains(ANY)) {
+            return null;
+        }
+        List<Long> versions = new ArrayList<>(eTags.size());
+        for (String eTag : eTags) {
+            Long version = strongVersion(eTag);
+            if (version != null) {
+                versions.add(version);
+            }
+        }
+        if (versions.isEmpty()) {
+            return NO_VERSION;
+        }
+        if (versions.size() == 1) {
+            return versions.get(0);
+        }
+        Long current = currentVersion.get();
+        return versions.contains(current) ? current : NO_VERSION;
+    }
+
+    private static Long strongVersion(String eTag) {
+        if (eTag.startsWith(WEAK_PREFIX) || eTag.length() < 2
+                || eTag.charAt(0) != QUOTE || eTag.charAt(eTag.length() - 1) != QUOTE) {
+            return null;
+        }
+        String value = eTag.substring(1, eTag.length() - 1);
+        int separator = value.indexOf(VERSION_SEPARATOR);
+        try {
+            return Long.parseLong(separator < 0 ? value : value.substring(0, separator));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static long hashTags(CertificateDto certificate) {
+        List<TagDto> tags = new ArrayList<>(certificate.getTags());
+        tags.sort(Comparator.comparing(TagDto::getId, Comparator.nullsFirst(Comparator.naturalOrder())));
+        long hash = FNV_OFFSET_BASIS;
+        for (TagDto tag : tags) {
+            hash = mix(mix(hash, tag.getId()), tag.getVersion());
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, Long value) {
+        long bits = value == null ? NO_VERSION : value;
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash = (hash ^ (bits & 0xff)) * FNV_PRIME;
+            bits >>>= Byte.SIZE;
+        }
+        return hash;
+    }
+
+    private static String quote(String value) {
+        return QUOTE + value + QUOTE;
+    }
+
+    private static String weak(long hash) {
+        return WEAK_PREFIX + quote(Long.toHexString(hash));
+    }
+}
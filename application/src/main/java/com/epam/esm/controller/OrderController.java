@@ -1,22 +1,37 @@
 package com.epam.esm.controller;
 
+import com.epam.esm.config.KeysetSortable;
 import com.epam.esm.domain.payload.OrderDto;
+import com.epam.esm.domain.payload.OrderExportRow;
 import com.epam.esm.domain.payload.OrderFilterDto;
 import com.epam.esm.hateoas.HateoasAdder;
+import com.epam.esm.security.annotations.AdminReadPermission;
 import com.epam.esm.security.annotations.AdminWritePermission;
 import com.epam.esm.security.annotations.UserReadPermission;
 import com.epam.esm.security.annotations.UserWritePermission;
 import com.epam.esm.service.api.OrderService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.epam.esm.domain.validation.ValidationConstants.*;
@@ -33,6 +48,7 @@ import static com.epam.esm.domain.validation.ValidationConstants.*;
  * <li>The {@link #getAllOrders(OrderFilterDto, Pageable)} method requires User read permission.</li>
  * <li>The {@link #getOrderById(Long)} method requires User read permission.</li>
  * <li>The {@link #addOrder(OrderDto)} method requires User write permission.</li>
+ * <li>The export methods require Admin read permission.</li>
  * <li>The {@link #deleteOrderById(Long)} method requires Admin write permission.</li>
  * </ul>
  * @author Oleksandr Koreshev
@@ -43,8 +59,12 @@ import static com.epam.esm.domain.validation.ValidationConstants.*;
 @AllArgsConstructor
 @Validated
 public class OrderController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder().findAndAddModules().build();
+
     private final OrderService orderService;
     private final HateoasAdder<OrderDto> hateoasAdder;
+    private final ObjectMapper objectMapper;
 
     /**
      * Retrieves all orders with the given filter and pagination parameters.
@@ -60,10 +80,12 @@ public class OrderController {
     @GetMapping
     @UserReadPermission
     public ResponseEntity<List<OrderDto>> getAllOrders(OrderFilterDto orderFilterDto,
+                                                       @KeysetSortable(type = OrderDto.class,
+                                                               value = {"cost", "createDate"})
                                                        Pageable pageable) {
         List<OrderDto> orderDtos = orderService.findAll(orderFilterDto, pageable);
         hateoasAdder.addLinks(orderDtos);
-        return new ResponseEntity<>(orderDtos, HttpStatus.OK);
+        return new ResponseEntity<>(orderDtos, hateoasAdder.pageHeaders(orderDtos, pageable), HttpStatus.OK);
     }
 
     /**
@@ -101,6 +123,80 @@ public class OrderController {
         return new ResponseEntity<>(addedOrderDto, HttpStatus.CREATED);
     }
 
+    /**
+     * Adds several orders at once in one transaction.
+     * @param orderDtos the {@link OrderDto} objects containing the order details
+     * @return a {@link ResponseEntity} object containing the added
+     *         {@link OrderDto} objects and an HTTP status code
+     * @throws AccessDeniedException if the requesting user does
+     *          not have appropriate permissions
+     * @throws IllegalArgumentException if any of the given orderDtos is invalid
+     */
+    @PostMapping("/batch")
+    @UserWritePermission
+    public ResponseEntity<List<OrderDto>> addOrders(
+            @RequestBody @Size(min = 1, max = 100, message = ORDER_BATCH_INVALID_SIZE)
+            List<@Valid OrderDto> orderDtos) {
+        List<OrderDto> addedOrderDtos = orderService.createAll(orderDtos);
+        hateoasAdder.addLinks(addedOrderDtos);
+        return new ResponseEntity<>(addedOrderDtos, HttpStatus.CREATED);
+    }
+
+    /**
+     * Streams the orders created in the given range as newline
+     * delimited JSON, one order per line, without HATEOAS links.
+     * @param createdFrom the inclusive lower bound of the creation date
+     * @param createdTo the exclusive upper bound of the creation date
+     * @return a {@link ResponseEntity} object containing the body writing
+     *         the orders and an HTTP status code
+     * @throws AccessDeniedException if the requesting user does
+     *          not have appropriate permissions
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @AdminReadPermission
+    public ResponseEntity<StreamingResponseBody> exportOrdersAsNdjson(
+            @RequestParam(required = false) @DateTimeFormat(pattern = TIME_PATTERN) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(pattern = TIME_PATTERN) LocalDateTime createdTo) {
+        return export(objectMapper.writerFor(OrderExportRow.class).withRootValueSeparator("\n"),
+                createdFrom, createdTo);
+    }
+
+    /**
+     * Streams the orders created in the given range as CSV with a header row.
+     * @param createdFrom the inclusive lower bound of the creation date
+     * @param createdTo the exclusive upper bound of the creation date
+     * @return a {@link ResponseEntity} object containing the body writing
+     *         the orders and an HTTP status code
+     * @throws AccessDeniedException if the requesting user does
+     *          not have appropriate permissions
+     */
+    @GetMapping(value = "/export", produces = TEXT_CSV_VALUE)
+    @AdminReadPermission
+    public ResponseEntity<StreamingResponseBody> exportOrdersAsCsv(
+            @RequestParam(required = false) @DateTimeFormat(pattern = TIME_PATTERN) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(pattern = TIME_PATTERN) LocalDateTime createdTo) {
+        return export(CSV_MAPPER.writer(CSV_MAPPER.schemaFor(OrderExportRow.class).withHeader()),
+                createdFrom, createdTo);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(ObjectWriter writer,
+                                                         LocalDateTime createdFrom,
+                                                         LocalDateTime createdTo) {
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter rows = writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .writeValues(outputStream)) {
+                orderService.exportAll(createdFrom, createdTo, row -> {
+                    try {
+                        rows.write(row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return new ResponseEntity<>(body, HttpStatus.OK);
+    }
+
     /**
      * Deletes an order with the given ID.
      * @param orderId the ID of the order to delete
@@ -1,5 +1,6 @@
 package com.epam.esm.controller;
 
+import com.epam.esm.config.KeysetSortable;
 import com.epam.esm.domain.payload.*;
 import com.epam.esm.domain.validation.OnCreate;
 import com.epam.esm.domain.validation.OnUpdate;
@@ -10,11 +11,14 @@ import com.epam.esm.service.api.CertificateService;
 import com.epam.esm.service.api.TagService;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
@@ -43,14 +47,20 @@ public class TagController {
      * Get all tags with pagination and filtering.
      * @param tagFilterDto The filter criteria for tags.
      * @param pageable The pagination information.
+     * @param request The request, answered with 304 if its If-None-Match header matches.
      * @return The list of tag DTOs.
      */
     @GetMapping
     public ResponseEntity<List<TagDto>> getAllTags(TagFilterDto tagFilterDto,
-                                                   Pageable pageable) {
+                                                   @KeysetSortable(type = TagDto.class, value = "name")
+                                                   Pageable pageable,
+                                                   WebRequest request) {
         List<TagDto> tagDtos = tagService.findAll(tagFilterDto, pageable);
+        if (request.checkNotModified(ETags.ofTags(tagDtos))) {
+            return null;
+        }
         hateoasAdder.addLinks(tagDtos);
-        return new ResponseEntity<>(tagDtos, HttpStatus.OK);
+        return new ResponseEntity<>(tagDtos, hateoasAdder.pageHeaders(tagDtos, pageable), HttpStatus.OK);
     }
 
     /**
@@ -58,17 +68,25 @@ public class TagController {
      * @param tagId The ID of the tag to retrieve certificates for.
      * @param certificateFilterDto The filter criteria for certificates.
      * @param pageable The pagination information.
+     * @param request The request, answered with 304 if its If-None-Match header matches.
      * @return The list of certificate DTOs.
      */
     @GetMapping("/{tag-id}/gift-certificates")
     public ResponseEntity<List<CertificateDto>> getGiftCertificatesByTagId(
             @PathVariable("tag-id") Long tagId,
             CertificateFilterDto certificateFilterDto,
-            Pageable pageable) {
+            @KeysetSortable(type = CertificateDto.class,
+                    value = {"name", "price", "duration", "createDate", "lastUpdateDate"}) Pageable pageable,
+            WebRequest request) {
         List<CertificateDto> certificateDtos =
                 certificateService.findAllByTagId(tagId, certificateFilterDto, pageable);
+        if (request.checkNotModified(ETags.ofCertificates(certificateDtos))) {
+            return null;
+        }
         certificateHateoasAdder.addLinks(certificateDtos);
-        return new ResponseEntity<>(certificateDtos, HttpStatus.OK);
+        return new ResponseEntity<>(certificateDtos,
+                certificateHateoasAdder.pageHeaders(certificateDtos, pageable),
+                HttpStatus.OK);
     }
 
     /**
@@ -76,28 +94,41 @@ public class TagController {
      * @param tagName The name of the tag to retrieve certificates for.
      * @param certificateFilterDto The filter criteria for certificates.
      * @param pageable The pagination information.
+     * @param request The request, answered with 304 if its If-None-Match header matches.
      * @return The list of certificate DTOs.
      */
     @GetMapping("/name/{tag-name}/gift-certificates")
     public ResponseEntity<List<CertificateDto>> getGiftCertificatesByTagName(
             @PathVariable("tag-name") String tagName,
             CertificateFilterDto certificateFilterDto,
-            Pageable pageable) {
+            @KeysetSortable(type = CertificateDto.class,
+                    value = {"name", "price", "duration", "createDate", "lastUpdateDate"}) Pageable pageable,
+            WebRequest request) {
         List<CertificateDto> certificateDtos =
                 certificateService.findAllByTagName(tagName, certificateFilterDto, pageable);
+        if (request.checkNotModified(ETags.ofCertificates(certificateDtos))) {
+            return null;
+        }
         certificateHateoasAdder.addLinks(certificateDtos);
-        return new ResponseEntity<>(certificateDtos, HttpStatus.OK);
+        return new ResponseEntity<>(certificateDtos,
+                certificateHateoasAdder.pageHeaders(certificateDtos, pageable),
+                HttpStatus.OK);
     }
 
     /**
      * Get the tag with the given ID.
      * @param tagId The ID of the tag to retrieve.
+     * @param request The request, answered with 304 if its If-None-Match header matches.
      * @return The tag DTO.
      */
     @GetMapping("/{tag-id}")
     public ResponseEntity<TagDto> getTagById(
-            @PathVariable("tag-id") @Positive(message = TAG_INVALID_ID) Long tagId) {
+            @PathVariable("tag-id") @Positive(message = TAG_INVALID_ID) Long tagId,
+            WebRequest request) {
         TagDto tagDto = tagService.findById(tagId);
+        if (request.checkNotModified(ETags.of(tagDto))) {
+            return null;
+        }
         hateoasAdder.addLinks(tagDto);
         return new ResponseEntity<>(tagDto, HttpStatus.OK);
     }
@@ -123,21 +154,26 @@ public class TagController {
      * Updates a tag with a given ID.
      * @param tagId   The ID of the tag to update.
      * @param tagDto  The new tag DTO.
+     * @param ifMatch The entity tag the update is based on, if any.
      *
      * @return ResponseEntity containing updated TagDto.
      * @throws AccessDeniedException if the requesting user does
      *          not have appropriate permissions
      * @throws IllegalArgumentException if the provided tagId is not valid.
+     * @throws ObjectOptimisticLockingFailureException if the tag was changed
+     *          since the version in the If-Match header
      */
     @PutMapping("/{tag-id}")
     @AdminWritePermission
     @Validated({OnUpdate.class})
     public ResponseEntity<TagDto> updateTagById(
             @PathVariable("tag-id") @Positive(message = TAG_INVALID_ID) Long tagId,
-            @RequestBody @Valid TagDto tagDto) {
+            @RequestBody @Valid TagDto tagDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        tagDto.setVersion(ETags.version(ifMatch, () -> tagService.findById(tagId).getVersion()));
         TagDto updatedTagDto = tagService.update(tagId, tagDto);
         hateoasAdder.addLinks(updatedTagDto);
-        return new ResponseEntity<>(updatedTagDto, HttpStatus.OK);
+        return new ResponseEntity<>(updatedTagDto, ETags.headers(ETags.of(updatedTagDto)), HttpStatus.OK);
     }
 
     /**
@@ -161,14 +197,19 @@ public class TagController {
     /**
      * Gets the most popular tag of the user with the highest cost of all orders.
      *
+     * @param request The request, answered with 304 if its If-None-Match header matches.
      * @return ResponseEntity containing TagDto.
      * @throws AccessDeniedException if the requesting user does
      *          not have appropriate permissions
      */
     @GetMapping("/popular")
     @UserReadPermission
-    public ResponseEntity<TagDto> getMostPopularTag() {
+    public ResponseEntity<TagDto> getMostPopularTag(WebRequest request) {
         TagDto tagDto = tagService.findMostPopularTagOfUserWithHighestCostOfAllOrders();
+        // another tag may become the most popular one, so its ID is part of the entity tag
+        if (request.checkNotModified(ETags.ofTags(List.of(tagDto)))) {
+            return null;
+        }
         hateoasAdder.addLinks(tagDto);
         return new ResponseEntity<>(tagDto, HttpStatus.OK);
     }
@@ -1,5 +1,6 @@
 package com.epam.esm.controller;
 
+import com.epam.esm.config.KeysetSortable;
 import com.epam.esm.domain.payload.*;
 import com.epam.esm.security.annotations.AdminReadPermission;
 import com.epam.esm.security.annotations.AdminWritePermission;
@@ -10,11 +11,14 @@ import com.epam.esm.service.api.OrderService;
 import com.epam.esm.service.api.UserService;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
@@ -44,6 +48,7 @@ public class UserController {
      *
      * @param userFilterDto filter criteria for retrieving users
      * @param pageable page and sorting criteria
+     * @param request the request, answered with 304 if its If-None-Match header matches
      * @return list of user DTOs with added HATEOAS links
      * @throws AccessDeniedException if the requesting user does
      *          not have appropriate permissions
@@ -51,10 +56,16 @@ public class UserController {
      */
     @GetMapping
     @AdminReadPermission
-    public ResponseEntity<List<UserDto>> findAll(UserFilterDto userFilterDto, Pageable pageable) {
+    public ResponseEntity<List<UserDto>> findAll(
+            UserFilterDto userFilterDto,
+            @KeysetSortable(type = UserDto.class, value = {"login", "email"}) Pageable pageable,
+            WebRequest request) {
         List<UserDto> userDtos = userService.findAll(userFilterDto, pageable);
+        if (request.checkNotModified(ETags.ofUsers(userDtos))) {
+            return null;
+        }
         userDtos.forEach(hateoasAdder::addLinks);
-        return new ResponseEntity<>(userDtos, HttpStatus.OK);
+        return new ResponseEntity<>(userDtos, hateoasAdder.pageHeaders(userDtos, pageable), HttpStatus.OK);
     }
 
     /**
@@ -74,15 +85,18 @@ public class UserController {
     public ResponseEntity<List<OrderDto>> findAllByUserId(
             @PathVariable("user-id") @Positive(message = USER_INVALID_ID) Long userId,
             OrderFilterDto orderFilterDto,
-            Pageable pageable) {
+            @KeysetSortable(type = OrderDto.class, value = {"cost", "createDate"}) Pageable pageable) {
         List<OrderDto> orderDtos = orderService.findAllByUserId(userId, orderFilterDto, pageable);
         orderHateoasAdder.addLinks(orderDtos);
-        return new ResponseEntity<>(orderDtos, HttpStatus.OK);
+        return new ResponseEntity<>(orderDtos,
+                orderHateoasAdder.pageHeaders(orderDtos, pageable),
+                HttpStatus.OK);
     }
 
     /**
      * Retrieve a user by ID.
      * @param userId the ID of the user to retrieve
+     * @param request the request, answered with 304 if its If-None-Match header matches
      * @return the user DTO
      * @throws AccessDeniedException if the requesting user does
      *          not have appropriate permissions
@@ -91,8 +105,12 @@ public class UserController {
     @GetMapping("/{user-id}")
     @UserReadPermission
     public ResponseEntity<UserDto> findById(
-            @PathVariable("user-id") @Positive(message = USER_INVALID_ID) Long userId) {
+            @PathVariable("user-id") @Positive(message = USER_INVALID_ID) Long userId,
+            WebRequest request) {
         UserDto userDto = userService.findById(userId);
+        if (request.checkNotModified(ETags.of(userDto))) {
+            return null;
+        }
         hateoasAdder.addLinks(userDto);
         return new ResponseEntity<>(userDto, HttpStatus.OK);
     }
@@ -102,20 +120,25 @@ public class UserController {
      *
      * @param userId the ID of the user to update
      * @param userDto the updated user data
+     * @param ifMatch the entity tag the update is based on, if any
      * @return the updated user DTO
      * @throws AccessDeniedException if the requesting user does
      *          not have appropriate permissions
      * @throws IllegalArgumentException if the user ID is not positive
+     * @throws ObjectOptimisticLockingFailureException if the user was changed
+     *          since the version in the If-Match header
      */
     @PutMapping("/{user-id}")
     @Validated({OnUpdate.class})
     @AdminWritePermission
     public ResponseEntity<UserDto> update(
             @PathVariable("user-id") @Positive(message = USER_INVALID_ID) Long userId,
-            @RequestBody @Valid UserDto userDto) {
+            @RequestBody @Valid UserDto userDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        userDto.setVersion(ETags.version(ifMatch, () -> userService.findById(userId).getVersion()));
         UserDto updatedUserDto = userService.update(userId, userDto);
         hateoasAdder.addLinks(updatedUserDto);
-        return new ResponseEntity<>(updatedUserDto, HttpStatus.OK);
+        return new ResponseEntity<>(updatedUserDto, ETags.headers(ETags.of(updatedUserDto)), HttpStatus.OK);
     }
 
     /**
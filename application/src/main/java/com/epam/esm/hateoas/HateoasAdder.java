@@ -1,8 +1,20 @@
 package com.epam.esm.hateoas;
 
+import com.epam.esm.repository.support.KeysetPageable;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.Collection;
+import java.util.List;
 
 /**
  * The interface {@code HateoasAdder} defines methods for
@@ -21,6 +33,13 @@ public interface HateoasAdder<T extends RepresentationModel<T>> {
     String DELETE = "delete";
     String CREATE = "create";
 
+    /**
+     * The request parameter selecting the links of a response.
+     * With the value {@value #NO_LINKS} no links are added.
+     */
+    String LINKS_PARAMETER = "links";
+    String NO_LINKS = "none";
+
     /**
      * Adds links to Dto entity object.
      *
@@ -35,6 +54,49 @@ public interface HateoasAdder<T extends RepresentationModel<T>> {
      *             objects to which links will be added
      */
     default void addLinks(Collection<T> dtos) {
+        if (linksOmitted()) {
+            return;
+        }
         dtos.forEach(this::addLinks);
     }
+
+    /**
+     * Checks whether the client asked to omit the links with
+     * {@code ?links=none}, e.g. for bulk reads where the links
+     * are not needed and building them would only add cost.
+     *
+     * @return {@code true} if no links should be added
+     */
+    static boolean linksOmitted() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes
+                && NO_LINKS.equals(((ServletRequestAttributes) attributes).getRequest().getParameter(LINKS_PARAMETER));
+    }
+
+    /**
+     * Builds the headers of a list response. When the page was
+     * requested in keyset mode and is full, adds a {@code Link}
+     * header with the "next" relation: the current request with
+     * the cursor of the row following the last DTO of the page.
+     *
+     * @param page     the DTOs of the page
+     * @param pageable the pageable the page was requested with
+     * @return the headers of the list response
+     */
+    default HttpHeaders pageHeaders(List<T> page, Pageable pageable) {
+        HttpHeaders headers = new HttpHeaders();
+        if (!(pageable instanceof KeysetPageable) || page.isEmpty() || page.size() < pageable.getPageSize()) {
+            return headers;
+        }
+        KeysetPageable keyset = (KeysetPageable) pageable;
+        BeanWrapper last = new BeanWrapperImpl(page.get(page.size() - 1));
+        String cursor = keyset.nextCursor(
+                last.getPropertyValue(keyset.getProperty()),
+                (Long) last.getPropertyValue(KeysetPageable.ID));
+        Link next = Link.of(ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam(KeysetPageable.AFTER, cursor)
+                .toUriString(), IanaLinkRelations.NEXT);
+        headers.add(HttpHeaders.LINK, next.toString());
+        return headers;
+    }
 }
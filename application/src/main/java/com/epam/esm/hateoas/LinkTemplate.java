@@ -0,0 +1,141 @@
+package com.epam.esm.hateoas;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+/**
+ * A link to a controller method whose URI is built once and then
+ * expanded with plain string concatenation.
+ * <p>
+ * {@code linkTo(methodOn(...))} creates proxies of the controller
+ * and of the return value and resolves the request mapping by
+ * reflection on every call. A template performs that invocation
+ * only once, with the {@link #ID} and {@link #NAME} placeholders
+ * as the path variables, and keeps the URI relative to the base
+ * URI of the application split at the placeholders. Expanding
+ * the template joins the base URI of the current request, the
+ * parts and the encoded values, which gives the same link as
+ * {@code linkTo(methodOn(...))} with the values as arguments.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public final class LinkTemplate {
+
+    /**
+     * The placeholder of a numeric path variable.
+     */
+    public static final Long ID = 9_090_909_090_909_090L;
+
+    /**
+     * The placeholder of a textual path variable.
+     */
+    public static final String NAME = "link-template-name";
+
+    private static final Pattern PLACEHOLDERS = Pattern.compile(
+            Pattern.quote(String.valueOf(ID)) + "|" + Pattern.quote(NAME));
+
+    private static final String BASE_URI_ATTRIBUTE = LinkTemplate.class.getName() + ".BASE_URI";
+
+    private final Supplier<Object> invocation;
+    private final LinkRelation relation;
+    private volatile String[] parts;
+
+    private LinkTemplate(Supplier<Object> invocation, LinkRelation relation) {
+        this.invocation = invocation;
+        this.relation = relation;
+    }
+
+    /**
+     * Creates a template from a controller method invocation.
+     *
+     * @param invocation invokes the controller method on
+     *                   {@code methodOn(...)}, passing the placeholders
+     *                   for the path variables
+     * @param relation   the relation of the link
+     * @return the template, built on the first expansion
+     */
+    public static LinkTemplate of(Supplier<Object> invocation, LinkRelation relation) {
+        return new LinkTemplate(invocation, relation);
+    }
+
+    /**
+     * Creates a template from a controller method invocation.
+     *
+     * @param invocation invokes the controller method on
+     *                   {@code methodOn(...)}, passing the placeholders
+     *                   for the path variables
+     * @param relation   the relation of the link
+     * @return the template, built on the first expansion
+     */
+    public static LinkTemplate of(Supplier<Object> invocation, String relation) {
+        return of(invocation, LinkRelation.of(relation));
+    }
+
+    /**
+     * Builds the link for the current request.
+     *
+     * @param values the values of the path variables,
+     *               in the order of the placeholders in the URI
+     * @return the link
+     */
+    public Link expand(Object... values) {
+        String[] compiled = compile();
+        StringBuilder uri = new StringBuilder(128)
+                .append(baseUri())
+                .append(compiled[0]);
+        for (int i = 1; i < compiled.length; i++) {
+            uri.append(encode(values[i - 1])).append(compiled[i]);
+        }
+        return Link.of(uri.toString(), relation);
+    }
+
+    /**
+     * Builds the template. The invocation needs the current request,
+     * so the template is built on the first expansion rather than at
+     * startup; concurrent first expansions build identical parts.
+     */
+    private String[] compile() {
+        String[] compiled = parts;
+        if (compiled == null) {
+            String uri = linkTo(invocation.get()).withRel(relation).getHref();
+            String base = baseUri();
+            if (!uri.startsWith(base)) {
+                throw new IllegalStateException("The link " + uri + " is not relative to " + base);
+            }
+            compiled = PLACEHOLDERS.split(uri.substring(base.length()), -1);
+            parts = compiled;
+        }
+        return compiled;
+    }
+
+    private static String encode(Object value) {
+        return value instanceof String
+                ? UriUtils.encodePathSegment((String) value, StandardCharsets.UTF_8)
+                : String.valueOf(value);
+    }
+
+    /**
+     * Returns the base URI of the application as seen by the client
+     * of the current request, computed once per request.
+     */
+    private static String baseUri() {
+        RequestAttributes attributes = RequestContextHolder.currentRequestAttributes();
+        String base = (String) attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (base == null) {
+            base = ServletUriComponentsBuilder.fromCurrentServletMapping().build().toUriString();
+            attributes.setAttribute(BASE_URI_ATTRIBUTE, base, RequestAttributes.SCOPE_REQUEST);
+        }
+        return base;
+    }
+}
@@ -5,19 +5,20 @@ import com.epam.esm.domain.payload.CertificateDto;
 import com.epam.esm.domain.payload.CertificateFilterDto;
 import com.epam.esm.domain.payload.TagDto;
 import com.epam.esm.hateoas.HateoasAdder;
+import com.epam.esm.hateoas.LinkTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static com.epam.esm.hateoas.LinkTemplate.ID;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 /**
  * This class is responsible for adding HATEOAS links to
  * the {@link CertificateDto} objects.
- * The links are added using the
- * {@link org.springframework.hateoas.server.mvc.WebMvcLinkBuilder}
+ * The links are built from {@link LinkTemplate}s
  * and include links to GET, DELETE, UPDATE and CREATE
  * certificate endpoints, as well as to the 'gift-certificates'
  * endpoint for retrieving all available certificates.
@@ -36,6 +37,17 @@ public class CertificateHateoasAdder implements HateoasAdder<CertificateDto> {
     private static final Class<CertificateController> CONTROLLER = CertificateController.class;
     private final HateoasAdder<TagDto> tagDtoHateoasAdder;
 
+    private final LinkTemplate self = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .getCertificateById(ID, null), IanaLinkRelations.SELF);
+    private final LinkTemplate delete = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .deleteCertificateById(ID), DELETE);
+    private final LinkTemplate update = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .updateCertificateById(ID, null, null), UPDATE);
+    private final LinkTemplate create = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .addCertificate(null), CREATE);
+    private final LinkTemplate all = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .getAllCertificates(new CertificateFilterDto(), Pageable.ofSize(defaultSize), null), "gift-certificates");
+
     @Autowired
     public CertificateHateoasAdder(HateoasAdder<TagDto> tagDtoHateoasAdder) {
         this.tagDtoHateoasAdder = tagDtoHateoasAdder;
@@ -43,21 +55,15 @@ public class CertificateHateoasAdder implements HateoasAdder<CertificateDto> {
 
     @Override
     public void addLinks(CertificateDto certificateDto) {
-        certificateDto.add(linkTo(methodOn(CONTROLLER)
-                .getCertificateById(certificateDto.getId()))
-                .withSelfRel());
-        certificateDto.add(linkTo(methodOn(CONTROLLER)
-                .deleteCertificateById(certificateDto.getId()))
-                .withRel(DELETE));
-        certificateDto.add(linkTo(methodOn(CONTROLLER)
-                .updateCertificateById(certificateDto.getId(), certificateDto))
-                .withRel(UPDATE));
-        certificateDto.add(linkTo(methodOn(CONTROLLER)
-                .addCertificate(certificateDto))
-                .withRel(CREATE));
-        certificateDto.add(linkTo(methodOn(CONTROLLER)
-                .getAllCertificates(new CertificateFilterDto(), Pageable.ofSize(defaultSize)))
-                .withRel("gift-certificates"));
+        if (HateoasAdder.linksOmitted()) {
+            return;
+        }
+        Long id = certificateDto.getId();
+        certificateDto.add(self.expand(id));
+        certificateDto.add(delete.expand(id));
+        certificateDto.add(update.expand(id));
+        certificateDto.add(create.expand());
+        certificateDto.add(all.expand());
         tagDtoHateoasAdder.addLinks(certificateDto.getTags());
     }
 }
@@ -3,12 +3,14 @@ package com.epam.esm.hateoas.impl;
 import com.epam.esm.controller.OrderController;
 import com.epam.esm.domain.payload.*;
 import com.epam.esm.hateoas.HateoasAdder;
+import com.epam.esm.hateoas.LinkTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static com.epam.esm.hateoas.LinkTemplate.ID;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 /**
@@ -26,6 +28,15 @@ public class OrderHateoasAdder implements HateoasAdder<OrderDto> {
     private final HateoasAdder<UserDto> userHateoasAdder;
     private final HateoasAdder<CertificateDto> certificateHateoasAdder;
 
+    private final LinkTemplate self = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .getOrderById(ID), IanaLinkRelations.SELF);
+    private final LinkTemplate delete = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .deleteOrderById(ID), DELETE);
+    private final LinkTemplate create = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .addOrder(null), CREATE);
+    private final LinkTemplate all = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .getAllOrders(new OrderFilterDto(), Pageable.ofSize(defaultSize)), "orders");
+
     @Autowired
     public OrderHateoasAdder(HateoasAdder<UserDto> userHateoasAdder,
                              HateoasAdder<CertificateDto> certificateHateoasAdder) {
@@ -35,18 +46,14 @@ public class OrderHateoasAdder implements HateoasAdder<OrderDto> {
 
     @Override
     public void addLinks(OrderDto orderDto) {
-        orderDto.add(linkTo(methodOn(CONTROLLER)
-                .getOrderById(orderDto.getId()))
-                .withSelfRel());
-        orderDto.add(linkTo(methodOn(CONTROLLER)
-                .deleteOrderById(orderDto.getId()))
-                .withRel(DELETE));
-        orderDto.add(linkTo(methodOn(CONTROLLER)
-                .addOrder(orderDto))
-                .withRel(CREATE));
-        orderDto.add(linkTo(methodOn(CONTROLLER)
-                .getAllOrders(new OrderFilterDto(), Pageable.ofSize(defaultSize)))
-                .withRel("orders"));
+        if (HateoasAdder.linksOmitted()) {
+            return;
+        }
+        Long id = orderDto.getId();
+        orderDto.add(self.expand(id));
+        orderDto.add(delete.expand(id));
+        orderDto.add(create.expand());
+        orderDto.add(all.expand());
         userHateoasAdder.addLinks(orderDto.getUser());
         certificateHateoasAdder.addLinks(orderDto.getCertificate());
     }
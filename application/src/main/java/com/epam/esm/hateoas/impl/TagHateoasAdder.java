@@ -5,11 +5,14 @@ import com.epam.esm.domain.payload.CertificateFilterDto;
 import com.epam.esm.domain.payload.TagDto;
 import com.epam.esm.domain.payload.TagFilterDto;
 import com.epam.esm.hateoas.HateoasAdder;
+import com.epam.esm.hateoas.LinkTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static com.epam.esm.hateoas.LinkTemplate.ID;
+import static com.epam.esm.hateoas.LinkTemplate.NAME;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 /**
@@ -26,37 +29,44 @@ public class TagHateoasAdder implements HateoasAdder<TagDto> {
     private int defaultSize;
     private static final Class<TagController> CONTROLLER = TagController.class;
 
+    private final LinkTemplate self = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .getTagById(ID, null), IanaLinkRelations.SELF);
+    private final LinkTemplate delete = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .deleteTagById(ID), DELETE);
+    private final LinkTemplate update = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .updateTagById(ID, null, null), UPDATE);
+    private final LinkTemplate create = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .addTag(null), CREATE);
+    private final LinkTemplate mostPopular = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .getMostPopularTag(null), "most-popular-tag");
+    private final LinkTemplate all = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .getAllTags(new TagFilterDto(), Pageable.ofSize(defaultSize), null), "tags");
+    private final LinkTemplate certificatesByTagId = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .getGiftCertificatesByTagId(
+                    ID,
+                    new CertificateFilterDto(),
+                    Pageable.ofSize(defaultSize),
+                    null), "gift-certificates-by-tag-id");
+    private final LinkTemplate certificatesByTagName = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .getGiftCertificatesByTagName(
+                    NAME,
+                    new CertificateFilterDto(),
+                    Pageable.ofSize(defaultSize),
+                    null), "gift-certificates-by-tag-name");
+
     @Override
     public void addLinks(TagDto tagDto) {
-        tagDto.add(linkTo(methodOn(CONTROLLER)
-                .getTagById(tagDto.getId()))
-                .withSelfRel());
-        tagDto.add(linkTo(methodOn(CONTROLLER)
-                .deleteTagById(tagDto.getId()))
-                .withRel(DELETE));
-        tagDto.add(linkTo(methodOn(CONTROLLER)
-                .updateTagById(tagDto.getId(), tagDto))
-                .withRel(UPDATE));
-        tagDto.add(linkTo(methodOn(CONTROLLER)
-                .addTag(tagDto))
-                .withRel(CREATE));
-        tagDto.add(linkTo(methodOn(CONTROLLER)
-                .getMostPopularTag())
-                .withRel("most-popular-tag"));
-        tagDto.add(linkTo(methodOn(CONTROLLER)
-                .getAllTags(new TagFilterDto(), Pageable.ofSize(defaultSize)))
-                .withRel("tags"));
-        tagDto.add(linkTo(methodOn(CONTROLLER)
-                .getGiftCertificatesByTagId(
-                        tagDto.getId(),
-                        new CertificateFilterDto(),
-                        Pageable.ofSize(defaultSize)))
-                .withRel("gift-certificates-by-tag-id"));
-        tagDto.add(linkTo(methodOn(CONTROLLER)
-                .getGiftCertificatesByTagName(
-                        tagDto.getName(),
-                        new CertificateFilterDto(),
-                        Pageable.ofSize(defaultSize)))
-                .withRel("gift-certificates-by-tag-name"));
+        if (HateoasAdder.linksOmitted()) {
+            return;
+        }
+        Long id = tagDto.getId();
+        tagDto.add(self.expand(id));
+        tagDto.add(delete.expand(id));
+        tagDto.add(update.expand(id));
+        tagDto.add(create.expand());
+        tagDto.add(mostPopular.expand());
+        tagDto.add(all.expand());
+        tagDto.add(certificatesByTagId.expand(id));
+        tagDto.add(certificatesByTagName.expand(tagDto.getName()));
     }
 }
@@ -5,11 +5,13 @@ import com.epam.esm.domain.payload.OrderFilterDto;
 import com.epam.esm.domain.payload.UserDto;
 import com.epam.esm.domain.payload.UserFilterDto;
 import com.epam.esm.hateoas.HateoasAdder;
+import com.epam.esm.hateoas.LinkTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static com.epam.esm.hateoas.LinkTemplate.ID;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 /**
@@ -25,19 +27,24 @@ public class UserHateoasAdder implements HateoasAdder<UserDto> {
     private int defaultSize;
     private static final Class<UserController> CONTROLLER = UserController.class;
 
+    private final LinkTemplate self = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .findById(ID, null), IanaLinkRelations.SELF);
+    private final LinkTemplate all = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .findAll(new UserFilterDto(), Pageable.ofSize(defaultSize), null), "users");
+    private final LinkTemplate orders = LinkTemplate.of(() -> methodOn(CONTROLLER)
+            .findAllByUserId(
+                    ID,
+                    new OrderFilterDto(),
+                    Pageable.ofSize(defaultSize)), "orders");
+
     @Override
     public void addLinks(UserDto userDto) {
-        userDto.add(linkTo(methodOn(CONTROLLER)
-                .findById(userDto.getId()))
-                .withSelfRel());
-        userDto.add(linkTo(methodOn(CONTROLLER)
-                .findAll(new UserFilterDto(), Pageable.ofSize(defaultSize)))
-                .withRel("users"));
-        userDto.add(linkTo(methodOn(CONTROLLER)
-                .findAllByUserId(
-                        userDto.getId(),
-                        new OrderFilterDto(),
-                        Pageable.ofSize(defaultSize)))
-                .withRel("orders"));
+        if (HateoasAdder.linksOmitted()) {
+            return;
+        }
+        Long id = userDto.getId();
+        userDto.add(self.expand(id));
+        userDto.add(all.expand());
+        userDto.add(orders.expand(id));
     }
 }
@@ -0,0 +1,104 @@
+package com.epam.esm.actuator;
+
+import com.epam.esm.actuator.CacheRegionsEndpoint.CacheRegions;
+import com.epam.esm.actuator.CacheRegionsEndpoint.RegionStatistics;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link CacheRegionsEndpoint}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class CacheRegionsEndpointTest {
+
+    private static final String ENTITY_REGION = "certificate";
+    private static final String QUERY_REGION = "default-query-results-region";
+
+    private final SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+    private final CacheImplementor cache = mock(CacheImplementor.class);
+    private final Statistics statistics = mock(Statistics.class);
+    private CacheRegionsEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        when(cache.getCacheRegionNames()).thenReturn(Set.of(ENTITY_REGION, QUERY_REGION, "timestamps"));
+        when(cache.getRegion(ENTITY_REGION)).thenReturn(mock(DomainDataRegion.class));
+        when(cache.getRegion(QUERY_REGION)).thenReturn(mock(QueryResultsRegion.class));
+        CacheRegionStatistics entityStatistics = regionStatistics(3, 1, 4, 10);
+        CacheRegionStatistics queryStatistics = regionStatistics(0, 0, 0, 0);
+        when(statistics.getDomainDataRegionStatistics(ENTITY_REGION)).thenReturn(entityStatistics);
+        when(statistics.getQueryRegionStatistics(QUERY_REGION)).thenReturn(queryStatistics);
+        endpoint = new CacheRegionsEndpoint(entityManagerFactory);
+    }
+
+    /**
+     * @see CacheRegionsEndpoint#regions()
+     */
+    @Test
+    void testRegionsShouldReportHitsMissesAndPutsPerRegion() {
+        when(statistics.isStatisticsEnabled()).thenReturn(true);
+
+        CacheRegions regions = endpoint.regions();
+
+        assertTrue(regions.isStatisticsEnabled());
+        assertEquals(List.of(ENTITY_REGION, QUERY_REGION), List.copyOf(regions.getRegions().keySet()));
+        assertEquals(new RegionStatistics(3, 1, 4, 10, 0.75), regions.getRegions().get(ENTITY_REGION));
+        assertEquals(new RegionStatistics(0, 0, 0, 0, 0), regions.getRegions().get(QUERY_REGION));
+    }
+
+    /**
+     * @see CacheRegionsEndpoint#region(String)
+     */
+    @Test
+    void testRegionShouldReturnNullForUnknownRegion() {
+        when(statistics.isStatisticsEnabled()).thenReturn(true);
+
+        assertEquals(new RegionStatistics(3, 1, 4, 10, 0.75), endpoint.region(ENTITY_REGION));
+        assertNull(endpoint.region("timestamps"));
+    }
+
+    /**
+     * @see CacheRegionsEndpoint#regions()
+     * @see CacheRegionsEndpoint#region(String)
+     */
+    @Test
+    void testRegionsShouldReportDisabledStatistics() {
+        when(statistics.isStatisticsEnabled()).thenReturn(false);
+
+        CacheRegions regions = endpoint.regions();
+
+        assertFalse(regions.isStatisticsEnabled());
+        assertEquals(Map.of(), regions.getRegions());
+        assertNull(endpoint.region(ENTITY_REGION));
+        verify(statistics, never()).getDomainDataRegionStatistics(anyString());
+    }
+
+    private static CacheRegionStatistics regionStatistics(long hits, long misses, long puts, long elements) {
+        CacheRegionStatistics regionStatistics = mock(CacheRegionStatistics.class);
+        when(regionStatistics.getHitCount()).thenReturn(hits);
+        when(regionStatistics.getMissCount()).thenReturn(misses);
+        when(regionStatistics.getPutCount()).thenReturn(puts);
+        when(regionStatistics.getElementCountInMemory()).thenReturn(elements);
+        return regionStatistics;
+    }
+}
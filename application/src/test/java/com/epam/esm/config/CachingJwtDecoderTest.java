@@ -0,0 +1,111 @@
+package com.epam.esm.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link CachingJwtDecoder}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class CachingJwtDecoderTest {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final JwtDecoder delegate = mock(JwtDecoder.class);
+    private final CachingJwtDecoder decoder = new CachingJwtDecoder(
+            delegate, 100, Duration.ofMinutes(30), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    /**
+     * @see CachingJwtDecoder#decode(String)
+     */
+    @Test
+    void testDecodeShouldVerifyTokenOnce() {
+        Jwt jwt = jwt(NOW.plus(Duration.ofHours(1)));
+        when(delegate.decode(TOKEN)).thenReturn(jwt);
+
+        assertSame(jwt, decoder.decode(TOKEN));
+        assertSame(jwt, decoder.decode(TOKEN));
+        verify(delegate, times(1)).decode(TOKEN);
+    }
+
+    /**
+     * @see CachingJwtDecoder#decode(String)
+     */
+    @Test
+    void testDecodeShouldNotCacheRejectedToken() {
+        when(delegate.decode(TOKEN)).thenThrow(new BadJwtException("bad signature"));
+
+        assertThrows(BadJwtException.class, () -> decoder.decode(TOKEN));
+        assertThrows(BadJwtException.class, () -> decoder.decode(TOKEN));
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    /**
+     * @see CachingJwtDecoder#decode(String)
+     */
+    @Test
+    void testDecodeShouldKeepTokenNoLongerThanItsExpiry() {
+        when(delegate.decode(TOKEN)).thenReturn(jwt(NOW.plus(Duration.ofSeconds(10))));
+
+        decoder.decode(TOKEN);
+
+        assertEquals(1, decoder.getCache().estimatedSize());
+        String key = decoder.getCache().asMap().keySet().iterator().next();
+        long expiresAfter = decoder.getCache().policy().expireVariably().orElseThrow()
+                .getExpiresAfter(key, TimeUnit.SECONDS).orElseThrow();
+        assertTrue(expiresAfter <= 10, "expires after " + expiresAfter + "s");
+    }
+
+    /**
+     * @see CachingJwtDecoder#decode(String)
+     */
+    @Test
+    void testDecodeShouldKeepTokenNoLongerThanMaximumTtl() {
+        when(delegate.decode(TOKEN)).thenReturn(jwt(NOW.plus(Duration.ofDays(1))));
+
+        decoder.decode(TOKEN);
+
+        String key = decoder.getCache().asMap().keySet().iterator().next();
+        long expiresAfter = decoder.getCache().policy().expireVariably().orElseThrow()
+                .getExpiresAfter(key, TimeUnit.MINUTES).orElseThrow();
+        assertTrue(expiresAfter <= 30, "expires after " + expiresAfter + "min");
+    }
+
+    /**
+     * @see CachingJwtDecoder#invalidateAll()
+     */
+    @Test
+    void testInvalidateAllShouldVerifyTokenAgain() {
+        when(delegate.decode(TOKEN))
+                .thenReturn(jwt(NOW.plus(Duration.ofHours(1))))
+                .thenThrow(new BadJwtException("unknown key"));
+
+        decoder.decode(TOKEN);
+        decoder.invalidateAll();
+
+        assertThrows(BadJwtException.class, () -> decoder.decode(TOKEN));
+    }
+
+    private static Jwt jwt(Instant expiresAt) {
+        return Jwt.withTokenValue(TOKEN)
+                .header("alg", "RS256")
+                .subject("user")
+                .issuedAt(NOW)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package com.epam.esm.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link CatalogResponseCacheFilter}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class CatalogResponseCacheFilterTest {
+
+    private static final String PATH = "/api/v1/tags";
+    private static final String BODY = "{\"tags\":[]}";
+
+    private final CopyingCaffeineCache cache = new CopyingCaffeineCache("responses", Caffeine.newBuilder()
+            .maximumWeight(1024 * 1024)
+            .weigher(CatalogResponseCacheFilter::weigh)
+            .build(), false, UnaryOperator.identity());
+    private final ResponseCacheProperties properties = new ResponseCacheProperties();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    /**
+     * @see CatalogResponseCacheFilter#doFilter(javax.servlet.ServletRequest,
+     * javax.servlet.ServletResponse, FilterChain)
+     */
+    @Test
+    void testDoFilterShouldCacheResponseOnMissAndAnswerFromCacheOnHit() throws Exception {
+        CatalogResponseCacheFilter filter = new CatalogResponseCacheFilter(cache, properties);
+
+        MockHttpServletResponse miss = get(filter, chain(BODY));
+        MockHttpServletResponse hit = get(filter, chain(BODY));
+
+        assertEquals(1, calls.get());
+        assertEquals(BODY, miss.getContentAsString());
+        assertEquals(BODY, hit.getContentAsString());
+        assertEquals("application/json", hit.getContentType());
+        assertEquals("max-age=30, public", hit.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertEquals(1, cache.getNativeCache().estimatedSize());
+    }
+
+    /**
+     * @see CatalogResponseCacheFilter#doFilter(javax.servlet.ServletRequest,
+     * javax.servlet.ServletResponse, FilterChain)
+     */
+    @Test
+    void testDoFilterShouldProduceResponseAgainAfterWriteEvictedCache() throws Exception {
+        CatalogResponseCacheFilter filter = new CatalogResponseCacheFilter(cache, properties);
+
+        get(filter, chain(BODY));
+        cache.clear();
+        MockHttpServletResponse response = get(filter, chain("{\"tags\":[{\"id\":1}]}"));
+
+        assertEquals(2, calls.get());
+        assertEquals("{\"tags\":[{\"id\":1}]}", response.getContentAsString());
+    }
+
+    /**
+     * @see CatalogResponseCacheFilter#doFilter(javax.servlet.ServletRequest,
+     * javax.servlet.ServletResponse, FilterChain)
+     */
+    @Test
+    void testDoFilterShouldNotCacheResponseProducedWhileWriteEvictedCache() throws Exception {
+        CatalogResponseCacheFilter filter = new CatalogResponseCacheFilter(cache, properties);
+        FilterChain racingChain = (request, response) -> {
+            chain(BODY).doFilter(request, response);
+            cache.clear();
+        };
+
+        MockHttpServletResponse stale = get(filter, racingChain);
+        get(filter, chain(BODY));
+
+        assertEquals(BODY, stale.getContentAsString());
+        assertEquals(2, calls.get());
+    }
+
+    /**
+     * @see CatalogResponseCacheFilter#doFilter(javax.servlet.ServletRequest,
+     * javax.servlet.ServletResponse, FilterChain)
+     */
+    @Test
+    void testDoFilterShouldBypassCacheForAuthenticatedRequests() throws Exception {
+        CatalogResponseCacheFilter filter = new CatalogResponseCacheFilter(cache, properties);
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+            request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, chain(BODY));
+            assertEquals(BODY, response.getContentAsString());
+            assertNull(response.getHeader(HttpHeaders.CACHE_CONTROL));
+        }
+
+        assertEquals(2, calls.get());
+        assertEquals(0, cache.getNativeCache().estimatedSize());
+    }
+
+    /**
+     * @see CatalogResponseCacheFilter#doFilter(javax.servlet.ServletRequest,
+     * javax.servlet.ServletResponse, FilterChain)
+     */
+    @Test
+    void testDoFilterShouldBypassCacheForOversizedBodies() throws Exception {
+        properties.setMaxBodySize(BODY.length() - 1);
+        CatalogResponseCacheFilter filter = new CatalogResponseCacheFilter(cache, properties);
+
+        MockHttpServletResponse first = get(filter, chain(BODY));
+        MockHttpServletResponse second = get(filter, chain(BODY));
+
+        assertEquals(BODY, first.getContentAsString());
+        assertEquals(BODY, second.getContentAsString());
+        assertEquals(2, calls.get());
+        assertEquals(0, cache.getNativeCache().estimatedSize());
+    }
+
+    /**
+     * @see CatalogResponseCacheFilter#weigh(Object, Object)
+     */
+    @Test
+    void testWeighShouldCountBodyAndGzippedBodyBytes() throws Exception {
+        properties.setGzipMinSize(0);
+        CatalogResponseCacheFilter filter = new CatalogResponseCacheFilter(cache, properties);
+
+        get(filter, chain(BODY));
+
+        cache.getNativeCache().asMap().forEach((key, value) -> assertTrue(
+                CatalogResponseCacheFilter.weigh(key, value) > key.toString().length() + BODY.length()));
+        assertEquals(1, cache.getNativeCache().estimatedSize());
+    }
+
+    private static MockHttpServletResponse get(CatalogResponseCacheFilter filter, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", PATH), response, chain);
+        return response;
+    }
+
+    private FilterChain chain(String body) {
+        return (request, response) -> {
+            calls.incrementAndGet();
+            response.setContentType("application/json");
+            response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package com.epam.esm.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link ConcurrencyLimitingDataSource}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class ConcurrencyLimitingDataSourceTest {
+
+    private static final Duration SHORT_TIMEOUT = Duration.ofMillis(50);
+
+    private final DataSource target = mock(DataSource.class);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @see ConcurrencyLimitingDataSource#getConnection()
+     */
+    @Test
+    void testGetConnectionShouldTimeOutWhenAllPermitsAreInUse() throws SQLException {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 2, SHORT_TIMEOUT);
+        dataSource.getConnection();
+        dataSource.getConnection();
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        verify(target, times(2)).getConnection();
+    }
+
+    /**
+     * @see ConcurrencyLimitingDataSource#getConnection()
+     */
+    @Test
+    void testCloseShouldReleasePermitOnlyOnce() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 1, SHORT_TIMEOUT);
+        Connection first = dataSource.getConnection();
+        first.close();
+        first.close();
+        dataSource.getConnection();
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        verify(connection, times(2)).close();
+    }
+
+    /**
+     * @see ConcurrencyLimitingDataSource#getConnection()
+     */
+    @Test
+    void testGetConnectionShouldReleasePermitWhenTargetFails() throws SQLException {
+        when(target.getConnection())
+                .thenThrow(new SQLException("pool exhausted"))
+                .thenReturn(mock(Connection.class));
+        ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 1, SHORT_TIMEOUT);
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertNotNull(dataSource.getConnection());
+    }
+
+    /**
+     * @see ConcurrencyLimitingDataSource#getConnection()
+     * @see ConcurrencyLimitingDataSource#getWaitingThreads()
+     */
+    @Test
+    void testGetConnectionShouldWaitUntilPermitIsReleased() throws Exception {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        ConcurrencyLimitingDataSource dataSource =
+                new ConcurrencyLimitingDataSource(target, 1, Duration.ofSeconds(5));
+        Connection held = dataSource.getConnection();
+        Future<Connection> waiting = executor.submit(() -> dataSource.getConnection());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dataSource.getWaitingThreads() == 0) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+        assertFalse(waiting.isDone());
+        held.close();
+        assertNotNull(waiting.get(5, TimeUnit.SECONDS));
+        assertEquals(0, dataSource.getWaitingThreads());
+    }
+
+    /**
+     * @see ConcurrencyLimitingDataSource#getConnection()
+     */
+    @Test
+    void testUnwrapShouldReturnLimitedConnection() throws SQLException {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 1, SHORT_TIMEOUT);
+        Connection connection = dataSource.getConnection();
+        assertSame(connection, connection.unwrap(Connection.class));
+    }
+}
@@ -0,0 +1,83 @@
+package com.epam.esm.config;
+
+import com.epam.esm.domain.payload.TagDto;
+import com.epam.esm.service.impl.support.DtoCopies;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link CopyingCaffeineCache}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class CopyingCaffeineCacheTest {
+
+    private final CopyingCaffeineCache cache = new CopyingCaffeineCache(
+            "tags", Caffeine.newBuilder().build(), false, DtoCopies::copy);
+
+    /**
+     * @see CopyingCaffeineCache#get(Object, Callable)
+     */
+    @Test
+    void testGetShouldStoreLoadedValueAndReturnCopies() {
+        AtomicInteger loads = new AtomicInteger();
+        Callable<TagDto> loader = () -> {
+            loads.incrementAndGet();
+            return new TagDto(1L, "tag");
+        };
+        TagDto loaded = cache.get(1L, loader);
+        TagDto first = cache.get(1L, loader);
+        TagDto second = cache.get(1L, loader);
+        assertEquals(1, loads.get());
+        assertEquals(loaded, first);
+        assertNotSame(loaded, first);
+        assertNotSame(first, second);
+    }
+
+    /**
+     * @see CopyingCaffeineCache#get(Object, Callable)
+     * @see CopyingCaffeineCache#evict(Object)
+     */
+    @Test
+    void testGetShouldNotStoreValueLoadedWhileEntryWasEvicted() {
+        TagDto stale = cache.get(1L, () -> {
+            cache.evict(1L);
+            return new TagDto(1L, "stale");
+        });
+        assertEquals("stale", stale.getName());
+        assertNull(cache.get(1L));
+        assertEquals("fresh", cache.get(1L, () -> new TagDto(1L, "fresh")).getName());
+        assertEquals("fresh", cache.get(1L, TagDto.class).getName());
+    }
+
+    /**
+     * @see CopyingCaffeineCache#get(Object, Callable)
+     * @see CopyingCaffeineCache#clear()
+     */
+    @Test
+    void testGetShouldNotStoreValueLoadedWhileCacheWasCleared() {
+        cache.get(1L, () -> {
+            cache.clear();
+            return new TagDto(1L, "stale");
+        });
+        assertNull(cache.get(1L));
+    }
+
+    /**
+     * @see CopyingCaffeineCache#get(Object, Callable)
+     */
+    @Test
+    void testGetShouldWrapExceptionOfLoader() {
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(1L, () -> {
+            throw new IllegalStateException("database is down");
+        }));
+        assertNull(cache.get(1L));
+    }
+}
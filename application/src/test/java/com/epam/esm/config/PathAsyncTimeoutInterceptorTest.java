@@ -0,0 +1,50 @@
+package com.epam.esm.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link PathAsyncTimeoutInterceptor}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class PathAsyncTimeoutInterceptorTest {
+
+    private final PathAsyncTimeoutInterceptor interceptor =
+            new PathAsyncTimeoutInterceptor("/api/v1/orders/export", Duration.ofHours(1));
+
+    /**
+     * @see PathAsyncTimeoutInterceptor#beforeConcurrentHandling
+     */
+    @Test
+    void testBeforeConcurrentHandlingShouldSetTimeoutOfMatchingRequest() {
+        AsyncWebRequest request = request("/api/v1/orders/export");
+        interceptor.beforeConcurrentHandling(request, () -> null);
+        verify(request).setTimeout(Duration.ofHours(1).toMillis());
+    }
+
+    /**
+     * @see PathAsyncTimeoutInterceptor#beforeConcurrentHandling
+     */
+    @Test
+    void testBeforeConcurrentHandlingShouldKeepTimeoutOfOtherRequests() {
+        AsyncWebRequest request = request("/api/v1/orders");
+        interceptor.beforeConcurrentHandling(request, () -> null);
+        verify(request, never()).setTimeout(anyLong());
+    }
+
+    private static AsyncWebRequest request(String path) {
+        AsyncWebRequest request = mock(AsyncWebRequest.class);
+        when(request.getNativeRequest(HttpServletRequest.class))
+                .thenReturn(new MockHttpServletRequest("GET", path));
+        return request;
+    }
+}
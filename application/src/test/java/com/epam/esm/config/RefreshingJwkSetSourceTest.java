@@ -0,0 +1,99 @@
+package com.epam.esm.config;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link RefreshingJwkSetSource}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class RefreshingJwkSetSourceTest {
+
+    private static final String JWK_SET_URI = "http://auth-server:9000/oauth2/jwks";
+
+    private static RSAKey oldKey;
+    private static RSAKey newKey;
+
+    private final RestOperations restOperations = mock(RestOperations.class);
+    private final AtomicInteger retirements = new AtomicInteger();
+
+    @BeforeAll
+    static void generateKeys() throws JOSEException {
+        oldKey = new RSAKeyGenerator(2048).keyID("old").generate();
+        newKey = new RSAKeyGenerator(2048).keyID("new").generate();
+    }
+
+    /**
+     * @see RefreshingJwkSetSource#refresh()
+     */
+    @Test
+    void testRefreshShouldNotNotifyWhenKeyIsAdded() {
+        RefreshingJwkSetSource source = source(jwks(oldKey), jwks(oldKey, newKey));
+
+        source.refresh();
+
+        assertEquals(0, retirements.get());
+    }
+
+    /**
+     * @see RefreshingJwkSetSource#refresh()
+     */
+    @Test
+    void testRefreshShouldNotifyWhenKeyIsRetired() throws Exception {
+        RefreshingJwkSetSource source = source(jwks(oldKey, newKey), jwks(newKey));
+
+        source.refresh();
+
+        assertEquals(1, retirements.get());
+        assertEquals(1, source.get(new JWKSelector(new JWKMatcher.Builder().keyID("new").build()), null).size());
+    }
+
+    /**
+     * @see RefreshingJwkSetSource#refresh()
+     */
+    @Test
+    void testRefreshShouldKeepKeysAndNotNotifyWhenFetchFails() throws Exception {
+        when(restOperations.getForObject(JWK_SET_URI, String.class))
+                .thenReturn(jwks(oldKey))
+                .thenThrow(new ResourceAccessException("auth-server is down"));
+        RefreshingJwkSetSource source = new RefreshingJwkSetSource(
+                JWK_SET_URI, restOperations, Duration.ofSeconds(30), null, Clock.systemUTC());
+        source.addKeyRetirementListener(retirements::incrementAndGet);
+
+        source.refresh();
+
+        assertEquals(0, retirements.get());
+        assertEquals(1, source.get(new JWKSelector(new JWKMatcher.Builder().keyID("old").build()), null).size());
+    }
+
+    private RefreshingJwkSetSource source(String initial, String refreshed) {
+        when(restOperations.getForObject(JWK_SET_URI, String.class)).thenReturn(initial, refreshed);
+        RefreshingJwkSetSource source = new RefreshingJwkSetSource(
+                JWK_SET_URI, restOperations, Duration.ofSeconds(30), null, Clock.systemUTC());
+        source.addKeyRetirementListener(retirements::incrementAndGet);
+        return source;
+    }
+
+    private static String jwks(RSAKey... keys) {
+        return new JWKSet(List.<JWK>of(keys)).toString(true);
+    }
+}
@@ -0,0 +1,43 @@
+package com.epam.esm.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test class for {@link VirtualThreads}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class VirtualThreadsTest {
+
+    /**
+     * @see VirtualThreads#newThreadPerTaskExecutor(String)
+     */
+    @Test
+    void testNewThreadPerTaskExecutorShouldFailWithoutVirtualThreads() {
+        assumeFalse(VirtualThreads.isSupported());
+        assertThrows(IllegalStateException.class, () -> VirtualThreads.newThreadPerTaskExecutor("request-"));
+    }
+
+    /**
+     * @see VirtualThreads#newThreadPerTaskExecutor(String)
+     */
+    @Test
+    void testNewThreadPerTaskExecutorShouldRunTasksOnNamedThreads() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("request-");
+        try {
+            assertEquals("request-0", executor.submit(() -> Thread.currentThread().getName())
+                    .get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.epam.esm.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ETags}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class ETagsTest {
+
+    private final AtomicInteger reads = new AtomicInteger();
+    private final Supplier<Long> currentVersion = () -> {
+        reads.incrementAndGet();
+        return 4L;
+    };
+
+    /**
+     * @see ETags#version(String, Supplier)
+     */
+    @Test
+    void testVersionShouldReadSingleEntityTagWithoutCurrentVersion() {
+        assertEquals(3L, ETags.version("\"3\"", currentVersion));
+        assertEquals(3L, ETags.version("\"3-a1b2c3\"", currentVersion));
+        assertEquals(0, reads.get());
+    }
+
+    /**
+     * @see ETags#version(String, Supplier)
+     */
+    @Test
+    void testVersionShouldMatchAnyEntityTagOfList() {
+        assertEquals(4L, ETags.version("\"3\", \"4\"", currentVersion));
+        assertEquals(4L, ETags.version("\"4-a1b2c3\",\"5-d4e5f6\"", currentVersion));
+        assertEquals(ETags.NO_VERSION, ETags.version("\"2\", \"3\"", currentVersion));
+    }
+
+    /**
+     * @see ETags#version(String, Supplier)
+     */
+    @Test
+    void testVersionShouldIgnoreWeakEntityTags() {
+        assertEquals(ETags.NO_VERSION, ETags.version("W/\"4\"", currentVersion));
+        assertEquals(3L, ETags.version("W/\"4\", \"3\"", currentVersion));
+    }
+
+    /**
+     * @see ETags#version(String, Supplier)
+     */
+    @Test
+    void testVersionShouldReturnNullForAbsentOrAnyEntityTag() {
+        assertNull(ETags.version(null, currentVersion));
+        assertNull(ETags.version("*", currentVersion));
+        assertEquals(0, reads.get());
+    }
+
+    /**
+     * @see ETags#version(String, Supplier)
+     */
+    @Test
+    void testVersionShouldNotMatchMalformedEntityTag() {
+        assertEquals(ETags.NO_VERSION, ETags.version("3", currentVersion));
+        assertEquals(ETags.NO_VERSION, ETags.version("\"three\"", currentVersion));
+    }
+}
@@ -0,0 +1,246 @@
+package com.epam.esm.hateoas;
+
+import com.epam.esm.controller.CertificateController;
+import com.epam.esm.controller.OrderController;
+import com.epam.esm.controller.TagController;
+import com.epam.esm.controller.UserController;
+import com.epam.esm.domain.payload.*;
+import com.epam.esm.hateoas.impl.CertificateHateoasAdder;
+import com.epam.esm.hateoas.impl.OrderHateoasAdder;
+import com.epam.esm.hateoas.impl.TagHateoasAdder;
+import com.epam.esm.hateoas.impl.UserHateoasAdder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.ForwardedHeaderFilter;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.epam.esm.hateoas.HateoasAdder.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Test class for {@link LinkTemplate}. The links of every adder are
+ * compared with the links built by {@code linkTo(methodOn(...))}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class LinkTemplateTest {
+
+    private static final int PAGE_SIZE = 10;
+    private static final long ID = 7L;
+    private static final String TAG_NAME = "Spa d'\u00e9t\u00e9";
+
+    private final TagHateoasAdder tagAdder = withPageSize(new TagHateoasAdder());
+    private final CertificateHateoasAdder certificateAdder = withPageSize(new CertificateHateoasAdder(tagAdder));
+    private final UserHateoasAdder userAdder = withPageSize(new UserHateoasAdder());
+    private final OrderHateoasAdder orderAdder = withPageSize(new OrderHateoasAdder(userAdder, certificateAdder));
+
+    @BeforeEach
+    void setUp() {
+        bind(new MockHttpServletRequest("GET", "/api/v1/tags"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    /**
+     * @see TagHateoasAdder#addLinks(TagDto)
+     */
+    @Test
+    void testTagLinksShouldEqualMethodOnLinksWithEncodedName() {
+        TagDto tag = new TagDto(ID, TAG_NAME);
+
+        tagAdder.addLinks(tag);
+
+        assertEquals(expectedTagLinks(), tag.getLinks().toList());
+    }
+
+    /**
+     * @see CertificateHateoasAdder#addLinks(CertificateDto)
+     */
+    @Test
+    void testCertificateLinksShouldEqualMethodOnLinks() {
+        CertificateDto certificate = certificate();
+
+        certificateAdder.addLinks(certificate);
+
+        assertEquals(expectedCertificateLinks(), certificate.getLinks().toList());
+        assertEquals(expectedTagLinks(), certificate.getTags().iterator().next().getLinks().toList());
+    }
+
+    /**
+     * @see UserHateoasAdder#addLinks(UserDto)
+     */
+    @Test
+    void testUserLinksShouldEqualMethodOnLinks() {
+        UserDto user = user();
+
+        userAdder.addLinks(user);
+
+        assertEquals(expectedUserLinks(), user.getLinks().toList());
+    }
+
+    /**
+     * @see OrderHateoasAdder#addLinks(OrderDto)
+     */
+    @Test
+    void testOrderLinksShouldEqualMethodOnLinks() {
+        OrderDto order = new OrderDto();
+        order.setId(ID);
+        order.setUser(user());
+        order.setCertificate(certificate());
+
+        orderAdder.addLinks(order);
+
+        assertEquals(List.of(
+                        linkTo(methodOn(OrderController.class).getOrderById(ID)).withSelfRel(),
+                        linkTo(methodOn(OrderController.class).deleteOrderById(ID)).withRel(DELETE),
+                        linkTo(methodOn(OrderController.class).addOrder(null)).withRel(CREATE),
+                        linkTo(methodOn(OrderController.class)
+                                .getAllOrders(new OrderFilterDto(), Pageable.ofSize(PAGE_SIZE))).withRel("orders")),
+                order.getLinks().toList());
+        assertEquals(expectedUserLinks(), order.getUser().getLinks().toList());
+        assertEquals(expectedCertificateLinks(), order.getCertificate().getLinks().toList());
+    }
+
+    /**
+     * @see LinkTemplate#expand(Object...)
+     */
+    @Test
+    void testExpandShouldUseBaseUriOfEveryRequest() throws Exception {
+        tagAdder.addLinks(new TagDto(ID, TAG_NAME));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/gift/api/v1/tags");
+        request.setContextPath("/gift");
+        bind(request);
+        TagDto withContextPath = new TagDto(ID, TAG_NAME);
+        tagAdder.addLinks(withContextPath);
+        assertEquals(expectedTagLinks(), withContextPath.getLinks().toList());
+        assertTrue(withContextPath.getRequiredLink("self").getHref().startsWith("http://localhost/gift/api/"));
+
+        MockHttpServletRequest forwarded = new MockHttpServletRequest("GET", "/api/v1/tags");
+        forwarded.addHeader("X-Forwarded-Proto", "https");
+        forwarded.addHeader("X-Forwarded-Host", "shop.example.com");
+        forwarded.addHeader("X-Forwarded-Prefix", "/store");
+        AtomicReference<List<Link>> actual = new AtomicReference<>();
+        AtomicReference<List<Link>> expected = new AtomicReference<>();
+        new ForwardedHeaderFilter().doFilter(forwarded, new MockHttpServletResponse(), (filtered, response) -> {
+            bind((HttpServletRequest) filtered);
+            TagDto tag = new TagDto(ID, TAG_NAME);
+            tagAdder.addLinks(tag);
+            actual.set(tag.getLinks().toList());
+            expected.set(expectedTagLinks());
+        });
+        assertEquals(expected.get(), actual.get());
+        assertTrue(actual.get().get(0).getHref().startsWith("https://shop.example.com/store/api/"));
+    }
+
+    /**
+     * @see LinkTemplate#expand(Object...)
+     */
+    @Test
+    void testExpandShouldRejectLinkNotRelativeToBaseUri() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tags");
+        request.setAttribute(LinkTemplate.class.getName() + ".BASE_URI", "http://elsewhere");
+        bind(request);
+
+        assertThrows(IllegalStateException.class, () -> new TagHateoasAdder().addLinks(new TagDto(ID, TAG_NAME)));
+    }
+
+    /**
+     * @see HateoasAdder#linksOmitted()
+     */
+    @Test
+    void testAddLinksShouldOmitLinksWhenRequested() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders");
+        request.addParameter(LINKS_PARAMETER, NO_LINKS);
+        bind(request);
+        OrderDto order = new OrderDto();
+        order.setId(ID);
+        order.setUser(user());
+        order.setCertificate(certificate());
+
+        orderAdder.addLinks(List.of(order));
+        certificateAdder.addLinks(order.getCertificate());
+
+        assertFalse(order.hasLinks());
+        assertFalse(order.getUser().hasLinks());
+        assertFalse(order.getCertificate().hasLinks());
+        assertFalse(order.getCertificate().getTags().iterator().next().hasLinks());
+    }
+
+    private static List<Link> expectedTagLinks() {
+        return List.of(
+                linkTo(methodOn(TagController.class).getTagById(ID, null)).withSelfRel(),
+                linkTo(methodOn(TagController.class).deleteTagById(ID)).withRel(DELETE),
+                linkTo(methodOn(TagController.class).updateTagById(ID, null, null)).withRel(UPDATE),
+                linkTo(methodOn(TagController.class).addTag(null)).withRel(CREATE),
+                linkTo(methodOn(TagController.class).getMostPopularTag(null)).withRel("most-popular-tag"),
+                linkTo(methodOn(TagController.class)
+                        .getAllTags(new TagFilterDto(), Pageable.ofSize(PAGE_SIZE), null)).withRel("tags"),
+                linkTo(methodOn(TagController.class).getGiftCertificatesByTagId(
+                        ID, new CertificateFilterDto(), Pageable.ofSize(PAGE_SIZE), null))
+                        .withRel("gift-certificates-by-tag-id"),
+                linkTo(methodOn(TagController.class).getGiftCertificatesByTagName(
+                        TAG_NAME, new CertificateFilterDto(), Pageable.ofSize(PAGE_SIZE), null))
+                        .withRel("gift-certificates-by-tag-name"));
+    }
+
+    private static List<Link> expectedCertificateLinks() {
+        return List.of(
+                linkTo(methodOn(CertificateController.class).getCertificateById(ID, null)).withSelfRel(),
+                linkTo(methodOn(CertificateController.class).deleteCertificateById(ID)).withRel(DELETE),
+                linkTo(methodOn(CertificateController.class).updateCertificateById(ID, null, null)).withRel(UPDATE),
+                linkTo(methodOn(CertificateController.class).addCertificate(null)).withRel(CREATE),
+                linkTo(methodOn(CertificateController.class).getAllCertificates(
+                        new CertificateFilterDto(), Pageable.ofSize(PAGE_SIZE), null)).withRel("gift-certificates"));
+    }
+
+    private static List<Link> expectedUserLinks() {
+        return List.of(
+                linkTo(methodOn(UserController.class).findById(ID, null)).withSelfRel(),
+                linkTo(methodOn(UserController.class)
+                        .findAll(new UserFilterDto(), Pageable.ofSize(PAGE_SIZE), null)).withRel("users"),
+                linkTo(methodOn(UserController.class)
+                        .findAllByUserId(ID, new OrderFilterDto(), Pageable.ofSize(PAGE_SIZE))).withRel("orders"));
+    }
+
+    private static CertificateDto certificate() {
+        CertificateDto certificate = new CertificateDto();
+        certificate.setId(ID);
+        certificate.setTags(new HashSet<>(Set.of(new TagDto(ID, TAG_NAME))));
+        return certificate;
+    }
+
+    private static UserDto user() {
+        UserDto user = new UserDto();
+        user.setId(ID);
+        return user;
+    }
+
+    private static void bind(HttpServletRequest request) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private static <T> T withPageSize(T adder) {
+        ReflectionTestUtils.setField(adder, "defaultSize", PAGE_SIZE);
+        return adder;
+    }
+}
@@ -7,17 +7,20 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * This class is the entry point of the application.
  * It configures the Spring Boot application, and sets up
- * a message source bean and a translator bean.
+ * a message source bean and a translator bean. Scheduling
+ * is enabled for the rotation of the signing keys.
  *
  * @author Oleksandr Koreshev
  * @since 1.0
  */
 @SpringBootApplication
 @EnableJpaRepositories
+@EnableScheduling
 public class AuthorizationServerApplication {
 
     @Value("${message.source}")
@@ -1,14 +1,14 @@
 package com.epam.esm.config;
 
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.JWKSource;
-import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.jwk.JWK;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -16,17 +16,20 @@ import org.springframework.security.oauth2.core.AuthorizationGrantType;
 import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
 import org.springframework.security.oauth2.core.OAuth2TokenType;
 import org.springframework.security.oauth2.core.oidc.OidcScopes;
+import org.springframework.security.oauth2.server.authorization.JdbcOAuth2AuthorizationConsentService;
+import org.springframework.security.oauth2.server.authorization.JdbcOAuth2AuthorizationService;
 import org.springframework.security.oauth2.server.authorization.JwtEncodingContext;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationConsentService;
 import org.springframework.security.oauth2.server.authorization.OAuth2TokenCustomizer;
-import org.springframework.security.oauth2.server.authorization.client.InMemoryRegisteredClientRepository;
+import org.springframework.security.oauth2.server.authorization.client.JdbcRegisteredClientRepository;
 import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
 import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
 import org.springframework.security.oauth2.server.authorization.config.ProviderSettings;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.security.KeyPair;
-import java.security.KeyPairGenerator;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -45,6 +48,7 @@ import java.util.stream.Collectors;
  * @author Oleksandr Koreshev
  * @since 1.0
  */
+@Slf4j
 @Configuration(proxyBeanMethods = false)
 @Import(DefaultSecurityConfig.class)
 @RequiredArgsConstructor
@@ -53,8 +57,16 @@ public class AuthorizationServerConfig {
     private final PasswordEncoder passwordEncoder;
 
     /**
-     * Creates a RegisteredClientRepository bean.
+     * Creates a RegisteredClientRepository bean. The clients are
+     * stored in the database and cached by every node. The client
+     * of the properties is registered, or updated with the properties
+     * if it already exists, keeping its id, so the authorizations and
+     * consents stored for it stay valid. Its secret is hashed again
+     * only when it changes.
      *
+     * @param jdbcOperations the JDBC operations of the data source.
+     * @param cacheMaximumSize the maximum number of cached clients.
+     * @param cacheTimeToLive the time a client stays cached.
      * @param clientId the client id.
      * @param clientSecret the client secret.
      * @param redirectUriLogin the login redirect uri.
@@ -65,15 +77,31 @@ public class AuthorizationServerConfig {
      */
     @Bean
     public RegisteredClientRepository registeredClientRepository(
+            JdbcOperations jdbcOperations,
+            @Value(AuthorizationStoreProperties.CLIENT_CACHE_MAXIMUM_SIZE) long cacheMaximumSize,
+            @Value(AuthorizationStoreProperties.CLIENT_CACHE_TIME_TO_LIVE) Duration cacheTimeToLive,
             @Value(OAuth2Properties.CLIENT_ID) String clientId,
             @Value(OAuth2Properties.CLIENT_SECRET) String clientSecret,
             @Value(OAuth2Properties.REDIRECT_URI_LOGIN) String redirectUriLogin,
             @Value(OAuth2Properties.REDIRECT_URI_AUTHORIZED) String redirectUriAuthorized,
             @Value(OAuth2Properties.SCOPE_READ) String scopeRead,
             @Value(OAuth2Properties.SCOPE_WRITE) String scopeWrite) {
-        RegisteredClient registeredClient = RegisteredClient.withId(UUID.randomUUID().toString())
+        RegisteredClientRepository registeredClientRepository = new CachingRegisteredClientRepository(
+                new JdbcRegisteredClientRepository(jdbcOperations), cacheMaximumSize, cacheTimeToLive);
+        RegisteredClient existing = registeredClientRepository.findByClientId(clientId);
+        RegisteredClient.Builder builder = existing == null
+                ? RegisteredClient.withId(UUID.randomUUID().toString())
+                : RegisteredClient.from(existing)
+                        .clientAuthenticationMethods(Set::clear)
+                        .authorizationGrantTypes(Set::clear)
+                        .redirectUris(Set::clear)
+                        .scopes(Set::clear);
+        String encodedSecret = existing != null && passwordEncoder.matches(clientSecret, existing.getClientSecret())
+                ? existing.getClientSecret()
+                : passwordEncoder.encode(clientSecret);
+        RegisteredClient registeredClient = builder
                 .clientId(clientId)
-                .clientSecret(passwordEncoder.encode(clientSecret))
+                .clientSecret(encodedSecret)
                 .clientAuthenticationMethod(ClientAuthenticationMethod.CLIENT_SECRET_BASIC)
                 .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
                 .authorizationGrantType(AuthorizationGrantType.REFRESH_TOKEN)
@@ -83,61 +111,78 @@ public class AuthorizationServerConfig {
                 .scope(scopeRead)
                 .scope(scopeWrite)
                 .build();
-        return new InMemoryRegisteredClientRepository(registeredClient);
+        try {
+            registeredClientRepository.save(registeredClient);
+        } catch (DuplicateKeyException e) {
+            log.info("The client {} was registered by another node", clientId);
+        }
+        return registeredClientRepository;
     }
 
     /**
-     * Creates a JWKSource bean
+     * Creates the OAuth2AuthorizationService bean, which stores the
+     * authorizations in the database and finds them by token with an
+     * index of the token hashes.
      *
-     * @param algorithmName the name of the algorithm used for JWT.
-     * @param keySize the size of the key used for JWT.
-     * @return the JWKSource bean.
+     * @param jdbcOperations the JDBC operations of the data source.
+     * @param transactionManager the transaction manager of the data source.
+     * @param registeredClientRepository the repository of the clients.
+     * @param stateTimeToLive the time an authorization request waits for its code.
+     * @param purgeBatchSize the number of authorizations purged at a time.
+     * @return the HashIndexedAuthorizationService bean.
      */
     @Bean
-    public JWKSource<SecurityContext> jwkSource(@Value(OAuth2Properties.JWT_ALGORITHM_NAME) String algorithmName,
-                                                @Value(OAuth2Properties.JWT_ALGORITHM_KEY_SIZE) int keySize) {
-        RSAKey rsaKey = generateRsa(algorithmName, keySize);
-        JWKSet jwkSet = new JWKSet(rsaKey);
-        return (jwkSelector, securityContext) -> jwkSelector.select(jwkSet);
+    public HashIndexedAuthorizationService authorizationService(
+            JdbcOperations jdbcOperations,
+            PlatformTransactionManager transactionManager,
+            RegisteredClientRepository registeredClientRepository,
+            @Value(AuthorizationStoreProperties.STATE_TIME_TO_LIVE) Duration stateTimeToLive,
+            @Value(AuthorizationStoreProperties.PURGE_BATCH_SIZE) int purgeBatchSize) {
+        return new HashIndexedAuthorizationService(
+                new JdbcOAuth2AuthorizationService(jdbcOperations, registeredClientRepository),
+                jdbcOperations, new TransactionTemplate(transactionManager),
+                stateTimeToLive, purgeBatchSize, Clock.systemUTC());
     }
 
     /**
-     * Generates an RSAKey
+     * Creates the OAuth2AuthorizationConsentService bean, which
+     * stores the consents in the database.
      *
-     * @param algorithmName the name of the algorithm used for RSAKey.
-     * @param keySize the size of the RSAKey.
-     * @return the generated RSAKey.
+     * @param jdbcOperations the JDBC operations of the data source.
+     * @param registeredClientRepository the repository of the clients.
+     * @return the OAuth2AuthorizationConsentService bean.
      */
-    private static RSAKey generateRsa(String algorithmName, int keySize) {
-        KeyPair keyPair = generateRsaKey(algorithmName, keySize);
-        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
-        RSAPrivateKey privateKey = (RSAPrivateKey) keyPair.getPrivate();
-        return new RSAKey.Builder(publicKey)
-                .privateKey(privateKey)
-                .keyID(UUID.randomUUID().toString())
-                .build();
+    @Bean
+    public OAuth2AuthorizationConsentService authorizationConsentService(
+            JdbcOperations jdbcOperations,
+            RegisteredClientRepository registeredClientRepository) {
+        return new JdbcOAuth2AuthorizationConsentService(jdbcOperations, registeredClientRepository);
     }
 
     /**
-     * Generates a KeyPair for RSA
+     * Creates the store of the signing keys, which is also the JWKSource
+     * of the token encoder and of the JWK set endpoint. The keys are
+     * stored in the database and shared by all the nodes.
      *
-     * @param algName the name of the algorithm used for KeyPair generation.
-     * @param keySize the size of the KeyPair.
-     * @return the generated KeyPair.
+     * @param jdbcOperations the JDBC operations of the data source.
+     * @param algorithmName the algorithm of new keys, RSA or EC.
+     * @param keySize the size of new RSA keys.
+     * @param rotationInterval the time a key signs tokens.
+     * @param publicationPeriod the time the next key is published before its activation.
+     * @param retentionPeriod the time a retired key is kept for verification.
+     * @return the SigningKeyStore bean.
      */
-    private static KeyPair generateRsaKey(String algName, int keySize) {
-        KeyPair keyPair;
-        try {
-            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance(algName);
-            keyPairGenerator.initialize(keySize);
-            keyPair = keyPairGenerator.generateKeyPair();
-        } catch (Exception ex) {
-            throw new IllegalStateException(ex);
-        }
-        return keyPair;
+    @Bean
+    public SigningKeyStore jwkSource(JdbcOperations jdbcOperations,
+                                     @Value(OAuth2Properties.JWT_ALGORITHM_NAME) SigningKeyAlgorithm algorithmName,
+                                     @Value(OAuth2Properties.JWT_ALGORITHM_KEY_SIZE) int keySize,
+                                     @Value(OAuth2Properties.JWT_KEY_ROTATION_INTERVAL) Duration rotationInterval,
+                                     @Value(OAuth2Properties.JWT_KEY_PUBLICATION_PERIOD) Duration publicationPeriod,
+                                     @Value(OAuth2Properties.JWT_KEY_RETENTION_PERIOD) Duration retentionPeriod) {
+        return new SigningKeyStore(jdbcOperations, algorithmName, keySize,
+                rotationInterval, publicationPeriod, retentionPeriod, Clock.systemUTC());
     }
 
-
     /**
      * Creates and returns the ProviderSettings object
      * with the specified issuer value.
@@ -157,14 +202,23 @@ public class AuthorizationServerConfig {
      * Returns an OAuth2TokenCustomizer object for
      * customizing JWT encoding contexts.
      *
+     * Every token is signed with the active key of the key store,
+     * named in the {@code kid} header.
+     *
      * @param userRoles the name of the JWT claim for user roles
+     * @param signingKeyStore the store of the signing keys
      * @return an OAuth2TokenCustomizer object for customizing JWT encoding contexts
      * @throws IllegalArgumentException if the userRoles parameter is null or empty
      */
     @Bean
     public OAuth2TokenCustomizer<JwtEncodingContext> jwtCustomizer(
-            @Value(OAuth2Properties.JWT_CLAIM_USER_ROLES) String userRoles) {
+            @Value(OAuth2Properties.JWT_CLAIM_USER_ROLES) String userRoles,
+            SigningKeyStore signingKeyStore) {
         return context -> {
+            JWK signingKey = signingKeyStore.getActiveKey();
+            context.getHeaders()
+                    .algorithm(SigningKeyAlgorithm.of(signingKey).getSignatureAlgorithm())
+                    .keyId(signingKey.getKeyID());
             if (context.getTokenType() == OAuth2TokenType.ACCESS_TOKEN) {
                 Authentication principal = context.getPrincipal();
                 Set<String> authorities = principal.getAuthorities().stream()
@@ -0,0 +1,22 @@
+package com.epam.esm.config;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * This class contains constants for the properties of the store
+ * of the OAuth2 authorizations and registered clients: the time to
+ * live of a state, the interval and batch size of the purge of
+ * expired authorizations, and the cache of the registered clients.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AuthorizationStoreProperties {
+    public static final String STATE_TIME_TO_LIVE = "${oauth2.authorization.state-time-to-live}";
+    public static final String PURGE_INTERVAL = "${oauth2.authorization.purge-interval}";
+    public static final String PURGE_BATCH_SIZE = "${oauth2.authorization.purge-batch-size}";
+    public static final String CLIENT_CACHE_MAXIMUM_SIZE = "${oauth2.client.cache.maximum-size}";
+    public static final String CLIENT_CACHE_TIME_TO_LIVE = "${oauth2.client.cache.time-to-live}";
+}
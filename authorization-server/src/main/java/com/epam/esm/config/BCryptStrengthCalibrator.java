@@ -0,0 +1,56 @@
+package com.epam.esm.config;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Chooses the bcrypt strength for the hardware the server runs on.
+ * <p>
+ * Every step of the strength doubles the work of a hash, so the time
+ * of a hash at the minimum strength, measured after a warm-up, gives
+ * the time at every other strength. The strongest strength whose
+ * estimated time does not exceed the target latency is chosen,
+ * within the configured bounds.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+    private static final int MEASUREMENTS = 3;
+
+    /**
+     * Measures the hashing time and chooses the strength.
+     *
+     * @param targetLatency   the longest time a hash should take
+     * @param minimumStrength the weakest strength allowed
+     * @param maximumStrength the strongest strength allowed
+     * @return the strength
+     */
+    public static int calibrate(Duration targetLatency, int minimumStrength, int maximumStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minimumStrength);
+        encoder.encode(SAMPLE_PASSWORD);
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < MEASUREMENTS; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        int strength = minimumStrength;
+        long estimate = fastest;
+        while (strength < maximumStrength && estimate * 2 <= targetLatency.toNanos()) {
+            strength++;
+            estimate *= 2;
+        }
+        log.info("Hashing passwords with bcrypt strength {}: about {} ms per hash, targeting {} ms",
+                strength, Duration.ofNanos(estimate).toMillis(), targetLatency.toMillis());
+        return strength;
+    }
+}
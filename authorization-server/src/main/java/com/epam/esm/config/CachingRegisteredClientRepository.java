@@ -0,0 +1,59 @@
+package com.epam.esm.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
+
+import java.time.Duration;
+
+/**
+ * A {@link RegisteredClientRepository} that caches the clients of
+ * another repository for a short time.
+ * <p>
+ * A client is read on every authorization and token request, and
+ * clients change rarely, so the lookups are served from memory. A
+ * client saved through this repository is evicted from the cache of
+ * this node; the other nodes see the change once their entries expire.
+ * Clients that are not found are not cached.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public class CachingRegisteredClientRepository implements RegisteredClientRepository {
+
+    private final RegisteredClientRepository delegate;
+    private final Cache<String, RegisteredClient> clientsById;
+    private final Cache<String, RegisteredClient> clientsByClientId;
+
+    public CachingRegisteredClientRepository(RegisteredClientRepository delegate,
+                                             long maximumSize,
+                                             Duration timeToLive) {
+        this.delegate = delegate;
+        this.clientsById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+        this.clientsByClientId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+    }
+
+    @Override
+    public void save(RegisteredClient registeredClient) {
+        delegate.save(registeredClient);
+        clientsById.invalidate(registeredClient.getId());
+        clientsByClientId.invalidate(registeredClient.getClientId());
+    }
+
+    @Override
+    public RegisteredClient findById(String id) {
+        return clientsById.get(id, delegate::findById);
+    }
+
+    @Override
+    public RegisteredClient findByClientId(String clientId) {
+        return clientsByClientId.get(clientId, delegate::findByClientId);
+    }
+}
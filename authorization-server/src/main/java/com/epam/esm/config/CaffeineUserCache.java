@@ -0,0 +1,62 @@
+package com.epam.esm.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * A bounded {@link UserCache} of the users loaded for logins.
+ * <p>
+ * The cache holds immutable copies of the users and returns a new
+ * copy on every lookup, so erasing the credentials of an
+ * authenticated principal never reaches a cached user and no JPA
+ * entity is shared between requests. Every change of a user made
+ * by the authorization server evicts the user. The roles, logins
+ * and deletions changed through the resource server cannot evict
+ * this cache, so they reach the login once the entry expires: the
+ * time to live bounds how long a revoked role can still be granted
+ * and is kept short for that reason. If a login fails with a cached
+ * user, the authentication provider loads the user again, so a stale
+ * entry never rejects a valid password.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public class CaffeineUserCache implements UserCache {
+
+    private final Cache<String, UserDetails> users;
+
+    public CaffeineUserCache(Cache<String, UserDetails> users) {
+        this.users = users;
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        UserDetails user = users.getIfPresent(username);
+        return user == null ? null : copy(user);
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        users.put(user.getUsername(), copy(user));
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        users.invalidate(username);
+    }
+
+    /**
+     * Returns the underlying cache, e.g. to publish its metrics.
+     *
+     * @return the cache
+     */
+    public Cache<String, UserDetails> getCache() {
+        return users;
+    }
+
+    private static UserDetails copy(UserDetails user) {
+        return User.withUserDetails(user).build();
+    }
+}
@@ -9,8 +9,7 @@ import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.OAuth2AuthorizationServerConfiguration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.web.SecurityFilterChain;
 
 import static org.springframework.security.config.Customizer.withDefaults;
@@ -68,24 +67,21 @@ public class DefaultSecurityConfig {
     /**
      * Provides an instance of DaoAuthenticationProvider
      * that uses custom implementation of {@link UserService}
+     * and upgrades outdated password hashes after a login.
+     * Users are cached between logins by the {@link UserCache}.
+     * The principal of the authentication is the login, so that
+     * the authorizations stored in the database hold no JPA entity
      *
+     * @param passwordEncoder the password encoder of {@link PasswordHashingConfig}
+     * @param userCache the cache of the users of {@link UserCacheConfig}
      * @return DaoAuthenticationProvider instance
      */
     @Bean
-    DaoAuthenticationProvider authenticationProvider() {
-        DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
-        authenticationProvider.setPasswordEncoder(passwordEncoder());
-        authenticationProvider.setUserDetailsService(userDefaultService);
+    DaoAuthenticationProvider authenticationProvider(HashingPasswordEncoder passwordEncoder, UserCache userCache) {
+        DaoAuthenticationProvider authenticationProvider =
+                new RehashingAuthenticationProvider(userDefaultService, userDefaultService, passwordEncoder);
+        authenticationProvider.setUserCache(userCache);
+        authenticationProvider.setForcePrincipalAsString(true);
         return authenticationProvider;
     }
-
-    /**
-     * Provides an instance of PasswordEncoder.
-     *
-     * @return PasswordEncoder instance
-     */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
 }
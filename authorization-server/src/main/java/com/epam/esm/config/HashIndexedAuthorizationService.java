@@ -0,0 +1,213 @@
+package com.epam.esm.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.core.AbstractOAuth2Token;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.server.authorization.JdbcOAuth2AuthorizationService;
+import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationCode;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationService;
+import org.springframework.security.oauth2.core.OAuth2TokenType;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An {@link OAuth2AuthorizationService} that keeps the authorizations
+ * in the database, shared by all the nodes of the authorization server.
+ * <p>
+ * The authorizations are stored by {@link JdbcOAuth2AuthorizationService}.
+ * It finds an authorization by a token by comparing the token value
+ * columns, which are blobs and cannot be indexed, so every lookup
+ * scans the table. This service also writes the SHA-256 hash of the
+ * state, the authorization code and the tokens of an authorization
+ * to the {@code oauth2_authorization_token} table, whose primary key
+ * is the hash. A token is found with a primary key lookup followed
+ * by a lookup of the authorization by its id, and the token of the
+ * authorization found is compared with the token asked for.
+ * <p>
+ * Every token row holds the expiry time of its token; a state expires
+ * after the configured time to live. An authorization expires with
+ * the last of its tokens, whose expiry is written to the indexed
+ * {@code expires_at} column of the authorization. Expired
+ * authorizations are purged on a schedule by deleting a range of
+ * that index a batch at a time; their token rows are deleted with
+ * them by the foreign key.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Slf4j
+public class HashIndexedAuthorizationService implements OAuth2AuthorizationService {
+
+    private static final OAuth2TokenType STATE_TOKEN_TYPE = new OAuth2TokenType(OAuth2ParameterNames.STATE);
+    private static final OAuth2TokenType CODE_TOKEN_TYPE = new OAuth2TokenType(OAuth2ParameterNames.CODE);
+
+    private static final String DELETE_TOKENS =
+            "DELETE FROM oauth2_authorization_token WHERE authorization_id = ?";
+    private static final String INSERT_TOKEN =
+            "INSERT INTO oauth2_authorization_token (token_hash, token_type, authorization_id, expires_at) "
+                    + "VALUES (?, ?, ?, ?)";
+    private static final String SELECT_AUTHORIZATION_ID =
+            "SELECT authorization_id FROM oauth2_authorization_token WHERE token_hash = ?";
+    private static final String UPDATE_EXPIRY =
+            "UPDATE oauth2_authorization SET expires_at = ? WHERE id = ?";
+    private static final String DELETE_EXPIRED_AUTHORIZATIONS =
+            "DELETE FROM oauth2_authorization WHERE expires_at < ? LIMIT ?";
+
+    private final JdbcOAuth2AuthorizationService authorizations;
+    private final JdbcOperations jdbcOperations;
+    private final TransactionOperations transactionOperations;
+    private final Duration stateTimeToLive;
+    private final int purgeBatchSize;
+    private final Clock clock;
+
+    public HashIndexedAuthorizationService(JdbcOAuth2AuthorizationService authorizations,
+                                           JdbcOperations jdbcOperations,
+                                           TransactionOperations transactionOperations,
+                                           Duration stateTimeToLive,
+                                           int purgeBatchSize,
+                                           Clock clock) {
+        this.authorizations = authorizations;
+        this.jdbcOperations = jdbcOperations;
+        this.transactionOperations = transactionOperations;
+        this.stateTimeToLive = stateTimeToLive;
+        this.purgeBatchSize = purgeBatchSize;
+        this.clock = clock;
+    }
+
+    @Override
+    public void save(OAuth2Authorization authorization) {
+        List<Object[]> tokens = tokenRows(authorization);
+        Timestamp expiresAt = tokens.stream()
+                .map(token -> (Timestamp) token[3])
+                .max(Timestamp::compareTo)
+                .orElseGet(() -> Timestamp.from(clock.instant().plus(stateTimeToLive)));
+        transactionOperations.executeWithoutResult(status -> {
+            authorizations.save(authorization);
+            jdbcOperations.update(UPDATE_EXPIRY, expiresAt, authorization.getId());
+            jdbcOperations.update(DELETE_TOKENS, authorization.getId());
+            jdbcOperations.batchUpdate(INSERT_TOKEN, tokens);
+        });
+    }
+
+    @Override
+    public void remove(OAuth2Authorization authorization) {
+        transactionOperations.executeWithoutResult(status -> {
+            jdbcOperations.update(DELETE_TOKENS, authorization.getId());
+            authorizations.remove(authorization);
+        });
+    }
+
+    @Override
+    public OAuth2Authorization findById(String id) {
+        return authorizations.findById(id);
+    }
+
+    @Override
+    public OAuth2Authorization findByToken(String token, OAuth2TokenType tokenType) {
+        List<String> ids = jdbcOperations.queryForList(SELECT_AUTHORIZATION_ID, String.class, hash(token));
+        if (ids.isEmpty()) {
+            return null;
+        }
+        OAuth2Authorization authorization = authorizations.findById(ids.get(0));
+        return authorization != null && hasToken(authorization, token, tokenType) ? authorization : null;
+    }
+
+    /**
+     * Deletes the authorizations whose tokens have all expired,
+     * a batch at a time, so no statement holds the locks of a large
+     * range. Every node runs the purge; a range already deleted by
+     * another node deletes nothing.
+     */
+    @Scheduled(fixedDelayString = AuthorizationStoreProperties.PURGE_INTERVAL,
+            initialDelayString = AuthorizationStoreProperties.PURGE_INTERVAL)
+    public void purgeExpired() {
+        Timestamp now = Timestamp.from(clock.instant());
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = jdbcOperations.update(DELETE_EXPIRED_AUTHORIZATIONS, now, purgeBatchSize);
+            purged += deleted;
+        } while (deleted == purgeBatchSize);
+        if (purged > 0) {
+            log.info("Purged {} expired authorizations", purged);
+        }
+    }
+
+    private List<Object[]> tokenRows(OAuth2Authorization authorization) {
+        List<Object[]> rows = new ArrayList<>();
+        String state = authorization.getAttribute(OAuth2ParameterNames.STATE);
+        if (state != null) {
+            rows.add(tokenRow(authorization, state, STATE_TOKEN_TYPE, null));
+        }
+        addTokenRow(rows, authorization, authorization.getToken(OAuth2AuthorizationCode.class), CODE_TOKEN_TYPE);
+        addTokenRow(rows, authorization, authorization.getAccessToken(), OAuth2TokenType.ACCESS_TOKEN);
+        addTokenRow(rows, authorization, authorization.getRefreshToken(), OAuth2TokenType.REFRESH_TOKEN);
+        return rows;
+    }
+
+    private void addTokenRow(List<Object[]> rows,
+                             OAuth2Authorization authorization,
+                             OAuth2Authorization.Token<? extends AbstractOAuth2Token> token,
+                             OAuth2TokenType tokenType) {
+        if (token != null) {
+            AbstractOAuth2Token value = token.getToken();
+            rows.add(tokenRow(authorization, value.getTokenValue(), tokenType, value.getExpiresAt()));
+        }
+    }
+
+    private Object[] tokenRow(OAuth2Authorization authorization,
+                              String token,
+                              OAuth2TokenType tokenType,
+                              Instant expiresAt) {
+        Instant expiry = expiresAt != null ? expiresAt : clock.instant().plus(stateTimeToLive);
+        return new Object[]{hash(token), tokenType.getValue(), authorization.getId(), Timestamp.from(expiry)};
+    }
+
+    private static boolean hasToken(OAuth2Authorization authorization, String token, OAuth2TokenType tokenType) {
+        if (tokenType == null) {
+            return matchesState(authorization, token)
+                    || matchesToken(authorization.getToken(OAuth2AuthorizationCode.class), token)
+                    || matchesToken(authorization.getAccessToken(), token)
+                    || matchesToken(authorization.getRefreshToken(), token);
+        } else if (STATE_TOKEN_TYPE.equals(tokenType)) {
+            return matchesState(authorization, token);
+        } else if (CODE_TOKEN_TYPE.equals(tokenType)) {
+            return matchesToken(authorization.getToken(OAuth2AuthorizationCode.class), token);
+        } else if (OAuth2TokenType.ACCESS_TOKEN.equals(tokenType)) {
+            return matchesToken(authorization.getAccessToken(), token);
+        } else if (OAuth2TokenType.REFRESH_TOKEN.equals(tokenType)) {
+            return matchesToken(authorization.getRefreshToken(), token);
+        }
+        return false;
+    }
+
+    private static boolean matchesState(OAuth2Authorization authorization, String token) {
+        return token.equals(authorization.getAttribute(OAuth2ParameterNames.STATE));
+    }
+
+    private static boolean matchesToken(OAuth2Authorization.Token<? extends AbstractOAuth2Token> token,
+                                        String value) {
+        return token != null && Objects.equals(token.getToken().getTokenValue(), value);
+    }
+
+    private static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
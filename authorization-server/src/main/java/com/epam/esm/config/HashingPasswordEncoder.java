@@ -0,0 +1,109 @@
+package com.epam.esm.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * A {@link PasswordEncoder} hashing on a dedicated, bounded executor.
+ * <p>
+ * Hashing is CPU bound and deliberately slow. Running it on the
+ * executor caps the number of hashes computed at the same time, so
+ * a spike of logins cannot take all the CPU from the other requests.
+ * The executor is expected to have a short queue and to reject the
+ * tasks it cannot queue: under overload the request fails at once
+ * with an {@link AuthenticationServiceException} instead of waiting,
+ * and the queue bounds the time a request thread waits for its hash.
+ * The timeout is only a safety net; a hash is not interrupted when it
+ * passes, since bcrypt does not check the interrupt flag, and its
+ * result is simply dropped.
+ * <p>
+ * Hashes are upgraded in the background: {@link #rehash} hashes a
+ * password with the current encoding on the executor, dropping the
+ * upgrade if the executor is busy; it is retried on a later login.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Slf4j
+public class HashingPasswordEncoder implements PasswordEncoder {
+
+    private static final String HASHING_UNAVAILABLE = "Password hashing is temporarily unavailable";
+
+    private final PasswordEncoder delegate;
+    private final ExecutorService executor;
+    private final Duration timeout;
+
+    public HashingPasswordEncoder(PasswordEncoder delegate, ExecutorService executor, Duration timeout) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return call(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return call(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Hashes the password with the current encoding in the background.
+     *
+     * @param rawPassword the password
+     * @param consumer    receives the new hash on the executor thread
+     */
+    public void rehash(CharSequence rawPassword, Consumer<String> consumer) {
+        try {
+            executor.execute(() -> {
+                try {
+                    consumer.accept(delegate.encode(rawPassword));
+                } catch (RuntimeException e) {
+                    log.warn("Failed to upgrade a password hash", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Skipped a password hash upgrade, the hashing executor is busy");
+        }
+    }
+
+    private <T> T call(Callable<T> task) {
+        Future<T> result;
+        try {
+            result = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new AuthenticationServiceException(HASHING_UNAVAILABLE, e);
+        }
+        try {
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new AuthenticationServiceException(HASHING_UNAVAILABLE, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException(HASHING_UNAVAILABLE, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
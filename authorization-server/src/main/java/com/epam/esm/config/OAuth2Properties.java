@@ -7,7 +7,8 @@ import lombok.NoArgsConstructor;
  * This class contains constants for OAuth2 properties used
  * in the application. These properties include client id,
  * client secret, redirect URIs, scopes, JWT algorithm name,
- * key size, user roles claim, and issuer.
+ * key size, signing key rotation, user roles claim,
+ * and issuer.
  *
  *  @author Oleksandr Koreshev
  *  @since 1.0
@@ -22,6 +23,9 @@ public class OAuth2Properties {
     public static final String SCOPE_WRITE = "${oauth2.client.scope-write}";
     public static final String JWT_ALGORITHM_NAME = "${jwt.algorithm.name}";
     public static final String JWT_ALGORITHM_KEY_SIZE = "${jwt.algorithm.key.size}";
+    public static final String JWT_KEY_ROTATION_INTERVAL = "${jwt.key.rotation-interval}";
+    public static final String JWT_KEY_PUBLICATION_PERIOD = "${jwt.key.publication-period}";
+    public static final String JWT_KEY_RETENTION_PERIOD = "${jwt.key.retention-period}";
     public static final String JWT_CLAIM_USER_ROLES = "${jwt.claim.user.roles}";
     public static final String OAUTH2_ISSUER = "${oauth2.issuer}";
 }
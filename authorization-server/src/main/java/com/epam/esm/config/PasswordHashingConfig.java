@@ -0,0 +1,83 @@
+package com.epam.esm.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The PasswordHashingConfig class provides the password encoder
+ * shared by the user service, the login and the client authentication.
+ *
+ * <p>
+ * New hashes are bcrypt hashes with the {@code {bcrypt}} prefix of
+ * {@link DelegatingPasswordEncoder}, at the configured strength or
+ * at the strength calibrated at startup to the target latency.
+ * Hashes without a prefix, as stored before, are matched as bcrypt
+ * hashes and upgraded on the next login. Hashing runs on a bounded
+ * executor, see {@link HashingPasswordEncoder}.
+ * </p>
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+public class PasswordHashingConfig {
+
+    private static final String BCRYPT = "bcrypt";
+
+    /**
+     * Creates the executor computing the password hashes. A hash that
+     * finds the threads busy and the queue full is rejected at once,
+     * so a request waits for at most the hashes queued before it.
+     *
+     * @param threads the number of hashing threads, the number of processors if 0.
+     * @param queueCapacity the number of hashes waiting for a thread, the number of threads if 0.
+     * @return the ExecutorService bean.
+     */
+    @Bean
+    public ExecutorService passwordHashingExecutor(@Value(PasswordHashingProperties.THREADS) int threads,
+                                                   @Value(PasswordHashingProperties.QUEUE_CAPACITY) int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity > 0 ? queueCapacity : poolSize),
+                new CustomizableThreadFactory("password-hashing-"), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Creates the PasswordEncoder bean.
+     *
+     * @param strength the bcrypt strength, calibrated if 0.
+     * @param targetLatency the time a hash should take when calibrated.
+     * @param minimumStrength the weakest calibrated strength.
+     * @param maximumStrength the strongest calibrated strength.
+     * @param timeout the time to wait for a hash.
+     * @param passwordHashingExecutor the executor computing the hashes.
+     * @return the HashingPasswordEncoder bean.
+     */
+    @Bean
+    public HashingPasswordEncoder passwordEncoder(
+            @Value(PasswordHashingProperties.STRENGTH) int strength,
+            @Value(PasswordHashingProperties.TARGET_LATENCY) Duration targetLatency,
+            @Value(PasswordHashingProperties.MINIMUM_STRENGTH) int minimumStrength,
+            @Value(PasswordHashingProperties.MAXIMUM_STRENGTH) int maximumStrength,
+            @Value(PasswordHashingProperties.TIMEOUT) Duration timeout,
+            ExecutorService passwordHashingExecutor) {
+        int bcryptStrength = strength > 0
+                ? strength
+                : BCryptStrengthCalibrator.calibrate(targetLatency, minimumStrength, maximumStrength);
+        DelegatingPasswordEncoder delegatingEncoder = new DelegatingPasswordEncoder(
+                BCRYPT, Map.of(BCRYPT, new BCryptPasswordEncoder(bcryptStrength)));
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return new HashingPasswordEncoder(delegatingEncoder, passwordHashingExecutor, timeout);
+    }
+}
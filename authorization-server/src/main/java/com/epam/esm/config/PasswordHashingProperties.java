@@ -0,0 +1,24 @@
+package com.epam.esm.config;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * This class contains constants for the password hashing properties
+ * used in the application. These properties include the bcrypt
+ * strength or the target latency it is calibrated to, and the size,
+ * queue and timeout of the hashing executor.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PasswordHashingProperties {
+    public static final String STRENGTH = "${password.hashing.strength:0}";
+    public static final String TARGET_LATENCY = "${password.hashing.target-latency}";
+    public static final String MINIMUM_STRENGTH = "${password.hashing.minimum-strength}";
+    public static final String MAXIMUM_STRENGTH = "${password.hashing.maximum-strength}";
+    public static final String THREADS = "${password.hashing.threads:0}";
+    public static final String QUEUE_CAPACITY = "${password.hashing.queue-capacity:0}";
+    public static final String TIMEOUT = "${password.hashing.timeout}";
+}
@@ -0,0 +1,46 @@
+package com.epam.esm.config;
+
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+/**
+ * A {@link DaoAuthenticationProvider} upgrading the password hash
+ * of a user after a successful login, in the background.
+ * <p>
+ * Hashes of another encoding than the current one, e.g. bcrypt
+ * hashes without the encoding prefix or with a lower strength, are
+ * rehashed from the password just verified. The login does not wait
+ * for the new hash; the default provider would compute it on the
+ * request thread.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public class RehashingAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private final HashingPasswordEncoder passwordEncoder;
+    private final UserDetailsPasswordService passwordService;
+
+    public RehashingAuthenticationProvider(UserDetailsService userDetailsService,
+                                           UserDetailsPasswordService passwordService,
+                                           HashingPasswordEncoder passwordEncoder) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordService = passwordService;
+        setUserDetailsService(userDetailsService);
+        setPasswordEncoder(passwordEncoder);
+    }
+
+    @Override
+    protected Authentication createSuccessAuthentication(Object principal,
+                                                         Authentication authentication,
+                                                         UserDetails user) {
+        if (authentication.getCredentials() != null && passwordEncoder.upgradeEncoding(user.getPassword())) {
+            passwordEncoder.rehash(authentication.getCredentials().toString(),
+                    encodedPassword -> passwordService.updatePassword(user, encodedPassword));
+        }
+        return super.createSuccessAuthentication(principal, authentication, user);
+    }
+}
@@ -0,0 +1,96 @@
+package com.epam.esm.config;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.KeyType;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+
+import java.util.UUID;
+
+/**
+ * The kinds of keys the authorization server signs tokens with.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public enum SigningKeyAlgorithm {
+
+    /**
+     * RSA keys of the configured size, signing with RS256.
+     */
+    RSA(KeyType.RSA, JWSAlgorithm.RS256, SignatureAlgorithm.RS256),
+
+    /**
+     * Elliptic curve keys on the P-256 curve, signing with ES256.
+     * Signing and verifying are several times cheaper than with
+     * RSA-2048 keys, and the tokens are shorter.
+     */
+    EC(KeyType.EC, JWSAlgorithm.ES256, SignatureAlgorithm.ES256);
+
+    private final KeyType keyType;
+    private final JWSAlgorithm jwsAlgorithm;
+    private final SignatureAlgorithm signatureAlgorithm;
+
+    SigningKeyAlgorithm(KeyType keyType, JWSAlgorithm jwsAlgorithm, SignatureAlgorithm signatureAlgorithm) {
+        this.keyType = keyType;
+        this.jwsAlgorithm = jwsAlgorithm;
+        this.signatureAlgorithm = signatureAlgorithm;
+    }
+
+    /**
+     * Returns the algorithm of the tokens signed with a key.
+     *
+     * @param key the key
+     * @return the algorithm
+     * @throws IllegalArgumentException if the key is of no supported type
+     */
+    public static SigningKeyAlgorithm of(JWK key) {
+        for (SigningKeyAlgorithm algorithm : values()) {
+            if (algorithm.keyType.equals(key.getKeyType())) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported key type " + key.getKeyType());
+    }
+
+    /**
+     * Generates a signing key with a random id.
+     *
+     * @param rsaKeySize the size of RSA keys
+     * @return the key with its private part
+     * @throws IllegalStateException if the key cannot be generated
+     */
+    public JWK generate(int rsaKeySize) {
+        String keyId = UUID.randomUUID().toString();
+        try {
+            if (this == EC) {
+                return new ECKeyGenerator(Curve.P_256)
+                        .keyUse(KeyUse.SIGNATURE)
+                        .algorithm(jwsAlgorithm)
+                        .keyID(keyId)
+                        .generate();
+            }
+            return new RSAKeyGenerator(rsaKeySize)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(jwsAlgorithm)
+                    .keyID(keyId)
+                    .generate();
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the algorithm to put in the header of the tokens.
+     *
+     * @return the algorithm
+     */
+    public SignatureAlgorithm getSignatureAlgorithm() {
+        return signatureAlgorithm;
+    }
+}
@@ -0,0 +1,277 @@
+package com.epam.esm.config;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.JSONObjectUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The keys the authorization server signs tokens with, stored in
+ * the database and rotated on a schedule.
+ * <p>
+ * The keys survive restarts and are shared by all the nodes, so a
+ * token signed by any node is verified with the key set published
+ * by any other, and resource servers keep their cached key sets.
+ * The key set is one row, written with a compare-and-set on its
+ * version: a node whose rotation lost the race to another node
+ * reads the keys again and rotates them from there. Every node
+ * reads the keys at each rotation check, so a key published by
+ * another node is served well before it is activated. A key signs
+ * tokens for the rotation interval. The next key is generated and
+ * published in the JWK set ahead of its activation, so resource
+ * servers fetch it before the first token signed with it arrives.
+ * A change of the configured algorithm goes through the same
+ * publication. A retired key is kept for the retention period, so
+ * tokens it signed can still be verified until they expire; its
+ * private part is dropped after a short signing grace period.
+ * Tokens name their signing key in the {@code kid} header, and the
+ * resource servers select the key by it.
+ * <p>
+ * The row holds private keys; access to the table must be limited
+ * to the authorization server.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Slf4j
+public class SigningKeyStore implements JWKSource<SecurityContext> {
+
+    private static final String SELECT_KEYS =
+            "SELECT jwk_set, version FROM oauth2_signing_keys WHERE id = 1";
+    private static final String INSERT_KEYS =
+            "INSERT INTO oauth2_signing_keys (id, jwk_set, version) VALUES (1, ?, 0)";
+    private static final String UPDATE_KEYS =
+            "UPDATE oauth2_signing_keys SET jwk_set = ?, version = version + 1 WHERE id = 1 AND version = ?";
+
+    private static final String KEYS = "keys";
+    private static final String KEY = "jwk";
+    private static final String PUBLISHED = "published";
+    private static final String ACTIVATED = "activated";
+    private static final String RETIRED = "retired";
+    private static final Duration SIGNING_GRACE = Duration.ofMinutes(1);
+
+    private final JdbcOperations jdbcOperations;
+    private final SigningKeyAlgorithm algorithm;
+    private final int rsaKeySize;
+    private final Duration rotationInterval;
+    private final Duration publicationPeriod;
+    private final Duration retentionPeriod;
+    private final Clock clock;
+
+    private volatile Keys keys;
+
+    public SigningKeyStore(JdbcOperations jdbcOperations,
+                           SigningKeyAlgorithm algorithm,
+                           int rsaKeySize,
+                           Duration rotationInterval,
+                           Duration publicationPeriod,
+                           Duration retentionPeriod,
+                           Clock clock) {
+        this.jdbcOperations = jdbcOperations;
+        this.algorithm = algorithm;
+        this.rsaKeySize = rsaKeySize;
+        this.rotationInterval = rotationInterval;
+        this.publicationPeriod = publicationPeriod;
+        this.retentionPeriod = retentionPeriod;
+        this.clock = clock;
+        rotate();
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector selector, SecurityContext context) {
+        return selector.select(keys.jwkSet);
+    }
+
+    /**
+     * Returns the key signing new tokens.
+     *
+     * @return the active key
+     */
+    public JWK getActiveKey() {
+        return keys.active;
+    }
+
+    /**
+     * Publishes the next key when the rotation approaches, activates
+     * it when the active key is due and the next key has been published
+     * for the publication period, and drops the retired keys past the
+     * retention period. A key of another algorithm than the configured
+     * one is due at once, and its successor is published first like
+     * any other. The private part of a retired key is dropped after
+     * the signing grace period, so tokens whose header named the key
+     * just before the rotation can still be signed with it.
+     */
+    @Scheduled(fixedDelayString = "${jwt.key.rotation-check-interval:PT1H}",
+            initialDelayString = "${jwt.key.rotation-check-interval:PT1H}")
+    public synchronized void rotate() {
+        Stored stored = read();
+        List<SigningKey> rotated = rotated(stored.keys);
+        while (rotated != stored.keys && !write(rotated, stored.version)) {
+            log.info("The signing keys were rotated by another node, rotating them again");
+            stored = read();
+            rotated = rotated(stored.keys);
+        }
+        keys = new Keys(rotated);
+    }
+
+    /**
+     * Returns the rotated keys, or the given list if nothing changed.
+     */
+    private List<SigningKey> rotated(List<SigningKey> stored) {
+        Instant now = clock.instant();
+        List<SigningKey> rotated = stored.stream()
+                .filter(key -> key.retired == null || key.retired.plus(retentionPeriod).isAfter(now))
+                .map(key -> key.retired != null && key.jwk.isPrivate() && !key.retired.plus(SIGNING_GRACE).isAfter(now)
+                        ? new SigningKey(key.jwk.toPublicJWK(), key.published, key.activated, key.retired)
+                        : key)
+                .collect(Collectors.toCollection(ArrayList::new));
+        SigningKey active = find(rotated, true);
+        SigningKey next = find(rotated, false);
+        if (next != null && SigningKeyAlgorithm.of(next.jwk) != algorithm) {
+            rotated.remove(next);
+            next = null;
+        }
+        if (active == null) {
+            // No token has been signed yet, so there is nothing to publish ahead of
+            active = new SigningKey(algorithm.generate(rsaKeySize), now, now, null);
+            rotated.add(active);
+            log.info("Activated the signing key {}", active.jwk.getKeyID());
+        }
+        boolean due = !now.isBefore(active.activated.plus(rotationInterval))
+                || SigningKeyAlgorithm.of(active.jwk) != algorithm;
+        if (next == null && (due || !now.isBefore(active.activated.plus(rotationInterval).minus(publicationPeriod)))) {
+            next = new SigningKey(algorithm.generate(rsaKeySize), now, null, null);
+            rotated.add(next);
+            log.info("Published the next signing key {}", next.jwk.getKeyID());
+        }
+        if (due && !now.isBefore(next.published.plus(publicationPeriod))) {
+            rotated.set(rotated.indexOf(active), new SigningKey(active.jwk, active.published, active.activated, now));
+            rotated.set(rotated.indexOf(next), new SigningKey(next.jwk, next.published, now, null));
+            log.info("Activated the signing key {}", next.jwk.getKeyID());
+        }
+        return rotated.equals(stored) ? stored : rotated;
+    }
+
+    private static SigningKey find(List<SigningKey> keys, boolean activated) {
+        return keys.stream()
+                .filter(key -> key.retired == null && (key.activated != null) == activated)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Stored read() {
+        List<Stored> rows = jdbcOperations.query(SELECT_KEYS,
+                (resultSet, rowNum) -> new Stored(parse(resultSet.getString(1)), resultSet.getLong(2)));
+        return rows.isEmpty() ? new Stored(List.of(), null) : rows.get(0);
+    }
+
+    private static List<SigningKey> parse(String jwkSet) {
+        try {
+            Map<String, Object> content = JSONObjectUtils.parse(jwkSet);
+            List<SigningKey> stored = new ArrayList<>();
+            for (Map<String, Object> key : JSONObjectUtils.getJSONObjectArray(content, KEYS)) {
+                stored.add(new SigningKey(
+                        JWK.parse(JSONObjectUtils.getJSONObject(key, KEY)),
+                        instant(key, PUBLISHED),
+                        instant(key, ACTIVATED),
+                        instant(key, RETIRED)));
+            }
+            return stored;
+        } catch (ParseException e) {
+            throw new IllegalStateException("Failed to parse the stored signing keys", e);
+        }
+    }
+
+    /**
+     * Writes the keys if they are still at the version read.
+     *
+     * @return whether the keys were written
+     */
+    private boolean write(List<SigningKey> stored, Long version) {
+        List<Map<String, Object>> content = stored.stream()
+                .map(key -> {
+                    Map<String, Object> entry = new LinkedHashMap<>();
+                    entry.put(KEY, key.jwk.toJSONObject());
+                    entry.put(PUBLISHED, key.published.getEpochSecond());
+                    entry.put(ACTIVATED, key.activated == null ? null : key.activated.getEpochSecond());
+                    entry.put(RETIRED, key.retired == null ? null : key.retired.getEpochSecond());
+                    return entry;
+                })
+                .collect(Collectors.toList());
+        String jwkSet = JSONObjectUtils.toJSONString(Map.of(KEYS, content));
+        if (version != null) {
+            return jdbcOperations.update(UPDATE_KEYS, jwkSet, version) == 1;
+        }
+        try {
+            return jdbcOperations.update(INSERT_KEYS, jwkSet) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private static Instant instant(Map<String, Object> key, String name) throws ParseException {
+        return key.get(name) == null ? null : Instant.ofEpochSecond(JSONObjectUtils.getLong(key, name));
+    }
+
+    /**
+     * A stored key: the next key has not been activated, the active
+     * key has not been retired.
+     */
+    private static final class SigningKey {
+        private final JWK jwk;
+        private final Instant published;
+        private final Instant activated;
+        private final Instant retired;
+
+        private SigningKey(JWK jwk, Instant published, Instant activated, Instant retired) {
+            this.jwk = jwk;
+            this.published = published;
+            this.activated = activated;
+            this.retired = retired;
+        }
+    }
+
+    /**
+     * The keys as read, with the version of their row,
+     * {@code null} if no keys are stored yet.
+     */
+    private static final class Stored {
+        private final List<SigningKey> keys;
+        private final Long version;
+
+        private Stored(List<SigningKey> keys, Long version) {
+            this.keys = keys;
+            this.version = version;
+        }
+    }
+
+    /**
+     * An immutable snapshot of the keys, swapped on rotation.
+     */
+    private static final class Keys {
+        private final JWKSet jwkSet;
+        private final JWK active;
+
+        private Keys(List<SigningKey> all) {
+            this.jwkSet = new JWKSet(all.stream().map(key -> key.jwk).collect(Collectors.toList()));
+            SigningKey activeKey = find(all, true);
+            this.active = activeKey == null ? null : activeKey.jwk;
+        }
+    }
+}
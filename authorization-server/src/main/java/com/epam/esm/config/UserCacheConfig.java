@@ -0,0 +1,50 @@
+package com.epam.esm.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * The UserCacheConfig class provides the cache of the users
+ * loaded by the login.
+ *
+ * <p>
+ * The hit, miss and eviction counters of the cache are published
+ * as {@code cache.*} metrics with the {@code users} cache name.
+ * </p>
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+public class UserCacheConfig {
+
+    private static final String CACHE_NAME = "users";
+
+    /**
+     * Creates the UserCache bean.
+     *
+     * @param maximumSize the maximum number of cached users.
+     * @param timeToLive the time a user stays cached.
+     * @param meterRegistry the registry of the metrics, if any.
+     * @return the CaffeineUserCache bean.
+     */
+    @Bean
+    public CaffeineUserCache userCache(@Value(UserCacheProperties.MAXIMUM_SIZE) long maximumSize,
+                                       @Value(UserCacheProperties.TIME_TO_LIVE) Duration timeToLive,
+                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        CaffeineUserCache userCache = new CaffeineUserCache(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build());
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, userCache.getCache(), CACHE_NAME));
+        return userCache;
+    }
+}
@@ -0,0 +1,18 @@
+package com.epam.esm.config;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * This class contains constants for the properties of the cache
+ * of the users loaded by the login: its maximum size and the time
+ * a user stays cached.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserCacheProperties {
+    public static final String MAXIMUM_SIZE = "${user-cache.maximum-size}";
+    public static final String TIME_TO_LIVE = "${user-cache.time-to-live}";
+}
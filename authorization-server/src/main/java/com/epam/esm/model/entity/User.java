@@ -1,6 +1,5 @@
 package com.epam.esm.model.entity;
 
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -16,14 +15,14 @@ import java.util.Collections;
 /**
  * This class represents a user entity which implements
  * the UserDetails interface for Spring Security authentication.
- * The user has a login, email, password and a role.
+ * The user has a login, email, password and a role, and the
+ * version shared with the optimistic locking of the resource server.
  *
  * @author Oleksandr Koreshev
  * @since 1.0
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 @EqualsAndHashCode(callSuper = false)
 @Entity
 @Table(name = "users")
@@ -48,6 +47,28 @@ public class User implements Serializable, UserDetails {
     @Enumerated(value = EnumType.STRING)
     private Role role;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    @EqualsAndHashCode.Exclude
+    private long version;
+
+    /**
+     * Constructs a user with the given parameters.
+     *
+     * @param id The ID of the user.
+     * @param login The login of the user.
+     * @param email The email of the user.
+     * @param password The encoded password of the user.
+     * @param role The role of the user.
+     */
+    public User(Long id, String login, String email, String password, Role role) {
+        this.id = id;
+        this.login = login;
+        this.email = email;
+        this.password = password;
+        this.role = role;
+    }
+
     /**
      * Gets the authorities granted to the user. In this case,
      * returns a single GrantedAuthority based on the user role.
@@ -2,6 +2,10 @@ package com.epam.esm.repository;
 
 import com.epam.esm.model.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.lang.NonNull;
 
 import java.util.Optional;
@@ -33,5 +37,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @NonNull
     Optional<User> findById(@NonNull Long id);
-}
 
+    /**
+     * Replaces the password hash of a user if it is still the expected one,
+     * so an upgraded hash never overwrites a password changed meanwhile,
+     * and bumps the version of the user, so an update based on the
+     * previous version fails its optimistic locking check
+     *
+     * @param login the user's login.
+     * @param expectedPassword the hash the user had when it was loaded.
+     * @param password the new hash.
+     * @return the number of updated users, 0 or 1.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password, u.version = u.version + 1 "
+            + "WHERE u.login = :login AND u.password = :expectedPassword")
+    int updatePassword(@Param("login") String login,
+                       @Param("expectedPassword") String expectedPassword,
+                       @Param("password") String password);
+}
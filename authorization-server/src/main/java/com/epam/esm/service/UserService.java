@@ -2,9 +2,10 @@ package com.epam.esm.service;
 
 import com.epam.esm.dto.PasswordDto;
 import com.epam.esm.dto.UserDetailsDto;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
-public interface UserService extends UserDetailsService {
+public interface UserService extends UserDetailsService, UserDetailsPasswordService {
 
     UserDetailsDto create(UserDetailsDto userDetailsDto);
 
@@ -9,9 +9,10 @@ import com.epam.esm.repository.UserRepository;
 import com.epam.esm.service.UserService;
 import lombok.AllArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import static com.epam.esm.config.ConstantsValidationMessages.*;
@@ -20,8 +21,9 @@ import static com.epam.esm.config.ConstantsValidationMessages.*;
 @AllArgsConstructor
 public class UserServiceImpl implements UserService {
 
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     @Override
     public UserDetails loadUserByUsername(String login) throws UsernameNotFoundException {
@@ -34,6 +36,7 @@ public class UserServiceImpl implements UserService {
         User newUser = userDetailsDto.toUser();
         newUser.setPassword(passwordEncoder.encode(newUser.getPassword()));
         userRepository.save(newUser);
+        userCache.removeUserFromCache(newUser.getLogin());
         return UserDetailsDto.toDto(newUser);
     }
 
@@ -48,6 +51,14 @@ public class UserServiceImpl implements UserService {
         String encodedPassword = passwordEncoder.encode(passwordDto.getNewPassword());
         user.setPassword(encodedPassword);
         userRepository.save(user);
+        userCache.removeUserFromCache(user.getLogin());
         return UserDetailsDto.toDto(user);
     }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), user.getPassword(), newPassword);
+        userCache.removeUserFromCache(user.getUsername());
+        return user;
+    }
 }
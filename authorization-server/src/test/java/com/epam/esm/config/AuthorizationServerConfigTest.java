@@ -0,0 +1,78 @@
+package com.epam.esm.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.server.authorization.client.JdbcRegisteredClientRepository;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link AuthorizationServerConfig}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class AuthorizationServerConfigTest {
+
+    private static final String CLIENT_ID = "articles-client";
+    private static final String REDIRECT_URI_LOGIN = "http://auth-server:9000/login/oauth2/code/articles-client-oidc";
+
+    private final PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    private final AuthorizationServerConfig config = new AuthorizationServerConfig(passwordEncoder);
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("authorization-store-schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * @see AuthorizationServerConfig#registeredClientRepository
+     */
+    @Test
+    void testRegisteredClientRepositoryShouldRegisterClient() {
+        config.registeredClientRepository(jdbcTemplate, 10, Duration.ofMinutes(1), CLIENT_ID, "secret",
+                REDIRECT_URI_LOGIN, "http://auth-server:9000/authorized", "read", "write");
+
+        RegisteredClient client = stored();
+        assertTrue(passwordEncoder.matches("secret", client.getClientSecret()));
+        assertEquals(Set.of(REDIRECT_URI_LOGIN, "http://auth-server:9000/authorized"), client.getRedirectUris());
+        assertTrue(client.getScopes().containsAll(Set.of("read", "write")));
+    }
+
+    /**
+     * @see AuthorizationServerConfig#registeredClientRepository
+     */
+    @Test
+    void testRegisteredClientRepositoryShouldUpdateClientKeepingItsId() {
+        config.registeredClientRepository(jdbcTemplate, 10, Duration.ofMinutes(1), CLIENT_ID, "secret",
+                REDIRECT_URI_LOGIN, "http://auth-server:9000/authorized", "read", "write");
+        RegisteredClient registered = stored();
+
+        config.registeredClientRepository(jdbcTemplate, 10, Duration.ofMinutes(1), CLIENT_ID, "secret",
+                REDIRECT_URI_LOGIN, "https://articles.example.com/authorized", "read", "write");
+
+        RegisteredClient updated = stored();
+        assertEquals(registered.getId(), updated.getId());
+        assertEquals(registered.getClientSecret(), updated.getClientSecret());
+        assertEquals(Set.of(REDIRECT_URI_LOGIN, "https://articles.example.com/authorized"), updated.getRedirectUris());
+    }
+
+    private RegisteredClient stored() {
+        return new JdbcRegisteredClientRepository(jdbcTemplate).findByClientId(CLIENT_ID);
+    }
+}
@@ -0,0 +1,48 @@
+package com.epam.esm.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link CaffeineUserCache}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class CaffeineUserCacheTest {
+
+    private final CaffeineUserCache userCache = new CaffeineUserCache(Caffeine.newBuilder().build());
+
+    /**
+     * @see CaffeineUserCache#getUserFromCache(String)
+     */
+    @Test
+    void testGetUserFromCacheShouldReturnCopyNotReachedByErasedCredentials() {
+        userCache.putUserInCache(User.withUsername("user").password("{bcrypt}hash").roles("ADMIN").build());
+
+        UserDetails first = userCache.getUserFromCache("user");
+        ((CredentialsContainer) first).eraseCredentials();
+        UserDetails second = userCache.getUserFromCache("user");
+
+        assertNotSame(first, second);
+        assertEquals("{bcrypt}hash", second.getPassword());
+        assertEquals(first.getAuthorities(), second.getAuthorities());
+    }
+
+    /**
+     * @see CaffeineUserCache#removeUserFromCache(String)
+     */
+    @Test
+    void testRemoveUserFromCacheShouldEvictUser() {
+        userCache.putUserInCache(User.withUsername("user").password("{bcrypt}hash").roles("ADMIN").build());
+
+        userCache.removeUserFromCache("user");
+
+        assertNull(userCache.getUserFromCache("user"));
+    }
+}
@@ -0,0 +1,172 @@
+package com.epam.esm.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2RefreshToken;
+import org.springframework.security.oauth2.core.OAuth2TokenType;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.server.authorization.JdbcOAuth2AuthorizationService;
+import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationCode;
+import org.springframework.security.oauth2.server.authorization.client.JdbcRegisteredClientRepository;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link HashIndexedAuthorizationService}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class HashIndexedAuthorizationServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Duration STATE_TIME_TO_LIVE = Duration.ofMinutes(10);
+    private static final OAuth2TokenType STATE = new OAuth2TokenType(OAuth2ParameterNames.STATE);
+    private static final OAuth2TokenType CODE = new OAuth2TokenType(OAuth2ParameterNames.CODE);
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcOAuth2AuthorizationService jdbcAuthorizationService;
+    private TransactionTemplate transactionTemplate;
+    private RegisteredClient registeredClient;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("authorization-store-schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        JdbcRegisteredClientRepository registeredClientRepository = new JdbcRegisteredClientRepository(jdbcTemplate);
+        registeredClient = RegisteredClient.withId(UUID.randomUUID().toString())
+                .clientId("articles-client")
+                .clientSecret("{noop}secret")
+                .clientAuthenticationMethod(ClientAuthenticationMethod.CLIENT_SECRET_BASIC)
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .authorizationGrantType(AuthorizationGrantType.REFRESH_TOKEN)
+                .redirectUri("http://auth-server:9000/authorized")
+                .scope("read")
+                .build();
+        registeredClientRepository.save(registeredClient);
+        jdbcAuthorizationService = new JdbcOAuth2AuthorizationService(jdbcTemplate, registeredClientRepository);
+    }
+
+    /**
+     * @see HashIndexedAuthorizationService#findByToken(String, OAuth2TokenType)
+     */
+    @Test
+    void testFindByTokenShouldFindAuthorizationByEveryToken() {
+        HashIndexedAuthorizationService service = service(NOW, 100);
+        OAuth2Authorization authorization = authorization("1", NOW.plus(Duration.ofHours(1)));
+        service.save(authorization);
+
+        assertEquals("1", service.findByToken("state-1", STATE).getId());
+        assertEquals("1", service.findByToken("code-1", CODE).getId());
+        assertEquals("1", service.findByToken("access-1", OAuth2TokenType.ACCESS_TOKEN).getId());
+        assertEquals("1", service.findByToken("refresh-1", OAuth2TokenType.REFRESH_TOKEN).getId());
+        assertEquals("1", service.findByToken("refresh-1", null).getId());
+        assertNull(service.findByToken("access-1", OAuth2TokenType.REFRESH_TOKEN));
+        assertNull(service.findByToken("unknown", null));
+    }
+
+    /**
+     * @see HashIndexedAuthorizationService#save(OAuth2Authorization)
+     */
+    @Test
+    void testSaveShouldReplaceTokensOfAuthorization() {
+        HashIndexedAuthorizationService service = service(NOW, 100);
+        OAuth2Authorization authorization = authorization("1", NOW.plus(Duration.ofHours(1)));
+        service.save(authorization);
+
+        service.save(OAuth2Authorization.from(authorization)
+                .accessToken(new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER,
+                        "access-2", NOW, NOW.plus(Duration.ofHours(2))))
+                .build());
+
+        assertNull(service.findByToken("access-1", OAuth2TokenType.ACCESS_TOKEN));
+        assertEquals("1", service.findByToken("access-2", OAuth2TokenType.ACCESS_TOKEN).getId());
+        assertEquals(NOW.plus(Duration.ofHours(2)), expiresAt("1"));
+    }
+
+    /**
+     * @see HashIndexedAuthorizationService#remove(OAuth2Authorization)
+     */
+    @Test
+    void testRemoveShouldDeleteAuthorizationWithItsTokens() {
+        HashIndexedAuthorizationService service = service(NOW, 100);
+        OAuth2Authorization authorization = authorization("1", NOW.plus(Duration.ofHours(1)));
+        service.save(authorization);
+
+        service.remove(authorization);
+
+        assertNull(service.findById("1"));
+        assertNull(service.findByToken("access-1", OAuth2TokenType.ACCESS_TOKEN));
+        assertEquals(0, tokenRows());
+    }
+
+    /**
+     * @see HashIndexedAuthorizationService#purgeExpired()
+     */
+    @Test
+    void testPurgeExpiredShouldDeleteOnlyExpiredAuthorizationsInBatches() {
+        HashIndexedAuthorizationService saving = service(NOW, 100);
+        saving.save(authorization("1", NOW.plus(Duration.ofHours(1))));
+        saving.save(authorization("2", NOW.plus(Duration.ofHours(1))));
+        saving.save(authorization("3", NOW.plus(Duration.ofHours(1))));
+        saving.save(authorization("4", NOW.plus(Duration.ofHours(3))));
+
+        service(NOW.plus(Duration.ofHours(2)), 2).purgeExpired();
+
+        assertNull(saving.findById("1"));
+        assertNull(saving.findById("2"));
+        assertNull(saving.findById("3"));
+        assertNotNull(saving.findById("4"));
+        assertEquals("4", saving.findByToken("refresh-4", OAuth2TokenType.REFRESH_TOKEN).getId());
+        assertEquals(4, tokenRows());
+    }
+
+    private HashIndexedAuthorizationService service(Instant now, int purgeBatchSize) {
+        return new HashIndexedAuthorizationService(jdbcAuthorizationService, jdbcTemplate, transactionTemplate,
+                STATE_TIME_TO_LIVE, purgeBatchSize, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private OAuth2Authorization authorization(String id, Instant refreshTokenExpiresAt) {
+        return OAuth2Authorization.withRegisteredClient(registeredClient)
+                .id(id)
+                .principalName("user")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .attribute(OAuth2ParameterNames.STATE, "state-" + id)
+                .token(new OAuth2AuthorizationCode("code-" + id, NOW, NOW.plus(Duration.ofMinutes(5))))
+                .accessToken(new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER,
+                        "access-" + id, NOW, NOW.plus(Duration.ofMinutes(30))))
+                .refreshToken(new OAuth2RefreshToken("refresh-" + id, NOW, refreshTokenExpiresAt))
+                .build();
+    }
+
+    private Instant expiresAt(String id) {
+        return jdbcTemplate.queryForObject("SELECT expires_at FROM oauth2_authorization WHERE id = ?",
+                Timestamp.class, id).toInstant();
+    }
+
+    private int tokenRows() {
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM oauth2_authorization_token", Integer.class);
+        return rows == null ? 0 : rows;
+    }
+}
@@ -0,0 +1,143 @@
+package com.epam.esm.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link HashingPasswordEncoder}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class HashingPasswordEncoderTest {
+
+    private final PasswordEncoder delegate = mock(PasswordEncoder.class);
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    /**
+     * @see HashingPasswordEncoder#matches(CharSequence, String)
+     */
+    @Test
+    void testMatchesShouldHashOnExecutor() {
+        AtomicReference<Thread> hashingThread = new AtomicReference<>();
+        when(delegate.matches("password", "{bcrypt}hash")).thenAnswer(invocation -> {
+            hashingThread.set(Thread.currentThread());
+            return true;
+        });
+        HashingPasswordEncoder encoder = new HashingPasswordEncoder(delegate, executor, Duration.ofSeconds(5));
+
+        assertTrue(encoder.matches("password", "{bcrypt}hash"));
+        assertNotSame(Thread.currentThread(), hashingThread.get());
+    }
+
+    /**
+     * @see HashingPasswordEncoder#encode(CharSequence)
+     */
+    @Test
+    void testEncodeShouldFailAtOnceWhenQueueIsFull() {
+        occupyExecutor();
+        HashingPasswordEncoder encoder = new HashingPasswordEncoder(delegate, executor, Duration.ofSeconds(5));
+
+        long start = System.nanoTime();
+        assertThrows(AuthenticationServiceException.class, () -> encoder.encode("password"));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        verifyNoInteractions(delegate);
+    }
+
+    /**
+     * @see HashingPasswordEncoder#matches(CharSequence, String)
+     */
+    @Test
+    void testMatchesShouldFailAfterTimeoutWithoutInterruptingHash() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        when(delegate.matches("password", "{bcrypt}hash")).thenReturn(true);
+        HashingPasswordEncoder encoder = new HashingPasswordEncoder(delegate, executor, Duration.ofMillis(50));
+
+        assertThrows(AuthenticationServiceException.class, () -> encoder.matches("password", "{bcrypt}hash"));
+        release.countDown();
+        assertFalse(interrupted.await(100, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * @see HashingPasswordEncoder#matches(CharSequence, String)
+     */
+    @Test
+    void testMatchesShouldRethrowExceptionOfHash() {
+        when(delegate.matches("password", "hash")).thenThrow(new IllegalArgumentException("Invalid hash"));
+        HashingPasswordEncoder encoder = new HashingPasswordEncoder(delegate, executor, Duration.ofSeconds(5));
+
+        assertThrows(IllegalArgumentException.class, () -> encoder.matches("password", "hash"));
+    }
+
+    /**
+     * @see HashingPasswordEncoder#rehash(CharSequence, java.util.function.Consumer)
+     */
+    @Test
+    void testRehashShouldSkipUpgradeWhenQueueIsFull() {
+        occupyExecutor();
+        HashingPasswordEncoder encoder = new HashingPasswordEncoder(delegate, executor, Duration.ofSeconds(5));
+        AtomicReference<String> upgraded = new AtomicReference<>();
+
+        assertDoesNotThrow(() -> encoder.rehash("password", upgraded::set));
+        assertNull(upgraded.get());
+        verifyNoInteractions(delegate);
+    }
+
+    /**
+     * @see HashingPasswordEncoder#rehash(CharSequence, java.util.function.Consumer)
+     */
+    @Test
+    void testRehashShouldPassNewHashToConsumer() throws InterruptedException {
+        when(delegate.encode("password")).thenReturn("{bcrypt}new");
+        HashingPasswordEncoder encoder = new HashingPasswordEncoder(delegate, executor, Duration.ofSeconds(5));
+        AtomicReference<String> upgraded = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        encoder.rehash("password", hash -> {
+            upgraded.set(hash);
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals("{bcrypt}new", upgraded.get());
+    }
+
+    private void occupyExecutor() {
+        Runnable blocked = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        executor.execute(blocked);
+        executor.execute(blocked);
+    }
+}
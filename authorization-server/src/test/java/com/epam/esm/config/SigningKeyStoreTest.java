@@ -0,0 +1,200 @@
+package com.epam.esm.config;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SigningKeyStore}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class SigningKeyStoreTest {
+
+    private static final Duration ROTATION_INTERVAL = Duration.ofDays(30);
+    private static final Duration PUBLICATION_PERIOD = Duration.ofHours(1);
+    private static final Duration RETENTION_PERIOD = Duration.ofDays(1);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private JdbcOperations jdbcOperations;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("authorization-store-schema.sql")).execute(dataSource);
+        jdbcOperations = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * @see SigningKeyStore#rotate()
+     */
+    @Test
+    void testRotateShouldPublishNextKeyBeforeActivatingIt() {
+        SigningKeyStore store = store(SigningKeyAlgorithm.EC);
+        JWK first = store.getActiveKey();
+
+        clock.advance(ROTATION_INTERVAL.minus(PUBLICATION_PERIOD));
+        store.rotate();
+        assertEquals(first.getKeyID(), store.getActiveKey().getKeyID());
+        assertEquals(2, all(store).size());
+
+        clock.advance(PUBLICATION_PERIOD);
+        store.rotate();
+        assertNotEquals(first.getKeyID(), store.getActiveKey().getKeyID());
+        assertTrue(all(store).stream().anyMatch(key -> key.getKeyID().equals(first.getKeyID())));
+    }
+
+    /**
+     * @see SigningKeyStore#rotate()
+     */
+    @Test
+    void testRotateShouldKeepPrivatePartOfRetiredKeyForSigningGrace() {
+        SigningKeyStore store = store(SigningKeyAlgorithm.EC);
+        String first = store.getActiveKey().getKeyID();
+        clock.advance(ROTATION_INTERVAL.minus(PUBLICATION_PERIOD));
+        store.rotate();
+        clock.advance(PUBLICATION_PERIOD);
+        store.rotate();
+
+        assertTrue(key(store, first).isPrivate());
+
+        clock.advance(Duration.ofMinutes(1));
+        store.rotate();
+        assertFalse(key(store, first).isPrivate());
+
+        clock.advance(RETENTION_PERIOD);
+        store.rotate();
+        assertTrue(all(store).stream().noneMatch(key -> key.getKeyID().equals(first)));
+    }
+
+    /**
+     * @see SigningKeyStore#rotate()
+     */
+    @Test
+    void testRotateShouldPublishKeyOfNewAlgorithmBeforeActivatingIt() {
+        String first = store(SigningKeyAlgorithm.EC).getActiveKey().getKeyID();
+
+        SigningKeyStore store = store(SigningKeyAlgorithm.RSA);
+        assertEquals(first, store.getActiveKey().getKeyID());
+        assertTrue(all(store).stream().anyMatch(key -> SigningKeyAlgorithm.of(key) == SigningKeyAlgorithm.RSA));
+
+        clock.advance(PUBLICATION_PERIOD);
+        store.rotate();
+        assertEquals(SigningKeyAlgorithm.RSA, SigningKeyAlgorithm.of(store.getActiveKey()));
+        assertTrue(key(store, first).isPrivate());
+    }
+
+    /**
+     * @see SigningKeyStore#SigningKeyStore(JdbcOperations, SigningKeyAlgorithm, int, Duration, Duration, Duration, Clock)
+     */
+    @Test
+    void testConstructorShouldReadStoredKeys() {
+        String first = store(SigningKeyAlgorithm.EC).getActiveKey().getKeyID();
+
+        assertEquals(first, store(SigningKeyAlgorithm.EC).getActiveKey().getKeyID());
+    }
+
+    /**
+     * @see SigningKeyStore#rotate()
+     */
+    @Test
+    void testRotateShouldShareKeysPublishedByAnotherNode() {
+        SigningKeyStore node = store(SigningKeyAlgorithm.EC);
+        SigningKeyStore otherNode = store(SigningKeyAlgorithm.EC);
+
+        clock.advance(ROTATION_INTERVAL.minus(PUBLICATION_PERIOD));
+        otherNode.rotate();
+        node.rotate();
+        assertEquals(2, all(node).size());
+        assertEquals(keyIds(otherNode), keyIds(node));
+
+        clock.advance(PUBLICATION_PERIOD);
+        node.rotate();
+        otherNode.rotate();
+        assertEquals(node.getActiveKey().getKeyID(), otherNode.getActiveKey().getKeyID());
+        assertEquals(2, all(otherNode).size());
+    }
+
+    /**
+     * @see SigningKeyStore#rotate()
+     */
+    @Test
+    void testRotateShouldNotPublishAnotherKeyWhenAnotherNodePublishedOne() {
+        SigningKeyStore node = store(SigningKeyAlgorithm.EC);
+        String first = node.getActiveKey().getKeyID();
+        clock.advance(ROTATION_INTERVAL.minus(PUBLICATION_PERIOD));
+        store(SigningKeyAlgorithm.EC);
+        Long version = jdbcOperations.queryForObject("SELECT version FROM oauth2_signing_keys", Long.class);
+
+        node.rotate();
+
+        assertEquals(first, node.getActiveKey().getKeyID());
+        assertEquals(2, all(node).size());
+        assertEquals(version, jdbcOperations.queryForObject("SELECT version FROM oauth2_signing_keys", Long.class));
+    }
+
+    private SigningKeyStore store(SigningKeyAlgorithm algorithm) {
+        return new SigningKeyStore(jdbcOperations, algorithm, 2048,
+                ROTATION_INTERVAL, PUBLICATION_PERIOD, RETENTION_PERIOD, clock);
+    }
+
+    private static List<JWK> all(SigningKeyStore store) {
+        return store.get(new JWKSelector(new JWKMatcher.Builder().build()), null);
+    }
+
+    private static List<String> keyIds(SigningKeyStore store) {
+        return all(store).stream().map(JWK::getKeyID).sorted().collect(Collectors.toList());
+    }
+
+    private static JWK key(SigningKeyStore store, String keyId) {
+        return store.get(new JWKSelector(new JWKMatcher.Builder().keyID(keyId).build()), null).get(0);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
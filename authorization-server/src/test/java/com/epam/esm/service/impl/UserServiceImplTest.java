@@ -0,0 +1,100 @@
+package com.epam.esm.service.impl;
+
+import com.epam.esm.dto.PasswordDto;
+import com.epam.esm.dto.UserDetailsDto;
+import com.epam.esm.model.entity.Role;
+import com.epam.esm.model.entity.User;
+import com.epam.esm.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link UserServiceImpl}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class UserServiceImplTest {
+
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserCache userCache = mock(UserCache.class);
+    private final UserServiceImpl userService = new UserServiceImpl(passwordEncoder, userRepository, userCache);
+
+    /**
+     * @see UserServiceImpl#create(UserDetailsDto)
+     */
+    @Test
+    void testCreateShouldEvictUser() {
+        UserDetailsDto user = new UserDetailsDto();
+        user.setLogin("user");
+        user.setEmail("user@email.com");
+        user.setPassword("password");
+        user.setRole(Role.USER);
+        when(passwordEncoder.encode("password")).thenReturn("{bcrypt}hash");
+
+        UserDetailsDto created = userService.create(user);
+
+        assertEquals("{bcrypt}hash", created.getPassword());
+        verify(userRepository).save(any(User.class));
+        verify(userCache).removeUserFromCache("user");
+    }
+
+    /**
+     * @see UserServiceImpl#changePassword(Long, PasswordDto)
+     */
+    @Test
+    void testChangePasswordShouldEvictUser() {
+        User user = new User(1L, "user", "user@email.com", "{bcrypt}old", Role.USER);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("current", "{bcrypt}old")).thenReturn(true);
+        when(passwordEncoder.encode("new")).thenReturn("{bcrypt}new");
+
+        userService.changePassword(1L, passwordDto("current", "new"));
+
+        assertEquals("{bcrypt}new", user.getPassword());
+        verify(userCache).removeUserFromCache("user");
+    }
+
+    /**
+     * @see UserServiceImpl#changePassword(Long, PasswordDto)
+     */
+    @Test
+    void testChangePasswordShouldNotEvictUserWhenCurrentPasswordIsWrong() {
+        User user = new User(1L, "user", "user@email.com", "{bcrypt}old", Role.USER);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("wrong", "{bcrypt}old")).thenReturn(false);
+
+        PasswordDto passwordDto = passwordDto("wrong", "new");
+        assertThrows(BadCredentialsException.class, () -> userService.changePassword(1L, passwordDto));
+        verify(userRepository, never()).save(any());
+        verifyNoInteractions(userCache);
+    }
+
+    /**
+     * @see UserServiceImpl#updatePassword(org.springframework.security.core.userdetails.UserDetails, String)
+     */
+    @Test
+    void testUpdatePasswordShouldEvictUser() {
+        User user = new User(1L, "user", "user@email.com", "$2a$10$legacy", Role.USER);
+
+        userService.updatePassword(user, "{bcrypt}upgraded");
+
+        verify(userRepository).updatePassword("user", "$2a$10$legacy", "{bcrypt}upgraded");
+        verify(userCache).removeUserFromCache("user");
+    }
+
+    private static PasswordDto passwordDto(String currentPassword, String newPassword) {
+        PasswordDto passwordDto = new PasswordDto();
+        passwordDto.setCurrentPassword(currentPassword);
+        passwordDto.setNewPassword(newPassword);
+        return passwordDto;
+    }
+}
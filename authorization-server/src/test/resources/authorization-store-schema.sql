@@ -0,0 +1,74 @@
+-- The tables of generate-schema-MySQL.sql used by the authorization
+-- server tests, for H2 in the MySQL mode
+
+CREATE TABLE oauth2_registered_client
+(
+    PRIMARY KEY (id),
+    id                            VARCHAR(100)                        NOT NULL,
+    client_id                     VARCHAR(100)                        NOT NULL UNIQUE,
+    client_id_issued_at           TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    client_secret                 VARCHAR(200)                        NULL,
+    client_secret_expires_at      TIMESTAMP                           NULL,
+    client_name                   VARCHAR(200)                        NOT NULL,
+    client_authentication_methods VARCHAR(1000)                       NOT NULL,
+    authorization_grant_types     VARCHAR(1000)                       NOT NULL,
+    redirect_uris                 VARCHAR(1000)                       NULL,
+    scopes                        VARCHAR(1000)                       NOT NULL,
+    client_settings               VARCHAR(2000)                       NOT NULL,
+    token_settings                VARCHAR(2000)                       NOT NULL
+);
+
+CREATE TABLE oauth2_authorization
+(
+    PRIMARY KEY (id),
+    id                            VARCHAR(100)  NOT NULL,
+    registered_client_id          VARCHAR(100)  NOT NULL,
+    principal_name                VARCHAR(200)  NOT NULL,
+    authorization_grant_type      VARCHAR(100)  NOT NULL,
+    attributes                    BLOB          NULL,
+    state                         VARCHAR(500)  NULL,
+    authorization_code_value      BLOB          NULL,
+    authorization_code_issued_at  TIMESTAMP     NULL,
+    authorization_code_expires_at TIMESTAMP     NULL,
+    authorization_code_metadata   BLOB          NULL,
+    access_token_value            BLOB          NULL,
+    access_token_issued_at        TIMESTAMP     NULL,
+    access_token_expires_at       TIMESTAMP     NULL,
+    access_token_metadata         BLOB          NULL,
+    access_token_type             VARCHAR(100)  NULL,
+    access_token_scopes           VARCHAR(1000) NULL,
+    oidc_id_token_value           BLOB          NULL,
+    oidc_id_token_issued_at       TIMESTAMP     NULL,
+    oidc_id_token_expires_at      TIMESTAMP     NULL,
+    oidc_id_token_metadata        BLOB          NULL,
+    refresh_token_value           BLOB          NULL,
+    refresh_token_issued_at       TIMESTAMP     NULL,
+    refresh_token_expires_at      TIMESTAMP     NULL,
+    refresh_token_metadata        BLOB          NULL,
+    expires_at                    TIMESTAMP(3)  NULL
+);
+
+CREATE INDEX oauth2_authorization_expires_at ON oauth2_authorization (expires_at);
+
+CREATE TABLE oauth2_authorization_token
+(
+    PRIMARY KEY (token_hash),
+    token_hash       BINARY(32)   NOT NULL,
+    token_type       VARCHAR(32)  NOT NULL,
+    authorization_id VARCHAR(100) NOT NULL,
+    expires_at       TIMESTAMP(3) NOT NULL,
+    FOREIGN KEY (authorization_id)
+        REFERENCES oauth2_authorization (id)
+        ON DELETE CASCADE
+        ON UPDATE CASCADE
+);
+
+CREATE INDEX oauth2_authorization_token_authorization_id ON oauth2_authorization_token (authorization_id);
+
+CREATE TABLE oauth2_signing_keys
+(
+    PRIMARY KEY (id),
+    id      TINYINT NOT NULL,
+    jwk_set CLOB    NOT NULL,
+    version BIGINT  NOT NULL
+);
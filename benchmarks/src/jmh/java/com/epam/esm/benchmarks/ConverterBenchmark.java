@@ -0,0 +1,67 @@
+package com.epam.esm.benchmarks;
+
+import com.epam.esm.domain.converter.impl.CertificateDtoConverter;
+import com.epam.esm.domain.converter.impl.OrderDtoConverter;
+import com.epam.esm.domain.converter.impl.TagDtoConverter;
+import com.epam.esm.domain.converter.impl.UserDtoConverter;
+import com.epam.esm.domain.entity.Certificate;
+import com.epam.esm.domain.entity.Order;
+import com.epam.esm.domain.payload.CertificateDto;
+import com.epam.esm.domain.payload.OrderDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of a page of certificates and a page
+ * of orders between entities and DTOs.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConverterBenchmark {
+
+    private CertificateDtoConverter certificateConverter;
+    private OrderDtoConverter orderConverter;
+    private List<Certificate> certificates;
+    private List<CertificateDto> certificateDtos;
+    private List<Order> orders;
+    private List<OrderDto> orderDtos;
+
+    @Setup
+    public void setUp() {
+        certificateConverter = new CertificateDtoConverter(new TagDtoConverter());
+        orderConverter = new OrderDtoConverter(new UserDtoConverter(), certificateConverter);
+        certificates = Fixtures.certificates();
+        certificateDtos = Fixtures.certificateDtos();
+        orders = Fixtures.orders();
+        orderDtos = Fixtures.orderDtos();
+    }
+
+    @Benchmark
+    public List<CertificateDto> certificatesToDto() {
+        return certificateConverter.toDto(certificates);
+    }
+
+    @Benchmark
+    public List<Certificate> certificatesToEntity() {
+        return certificateConverter.toEntity(certificateDtos);
+    }
+
+    @Benchmark
+    public List<OrderDto> ordersToDto() {
+        return orderConverter.toDto(orders);
+    }
+
+    @Benchmark
+    public List<Order> ordersToEntity() {
+        return orderConverter.toEntity(orderDtos);
+    }
+}
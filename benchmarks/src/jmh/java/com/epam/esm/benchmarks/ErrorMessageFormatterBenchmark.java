@@ -0,0 +1,82 @@
+package com.epam.esm.benchmarks;
+
+import com.epam.esm.domain.payload.CertificateDto;
+import com.epam.esm.domain.validation.OnCreate;
+import com.epam.esm.exceptions.ErrorMessageFormatter;
+import com.epam.esm.exceptions.Translator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validation;
+import javax.validation.groups.Default;
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.esm.domain.validation.ValidationConstants.CERTIFICATE_IMPORT_NAME_EXISTS;
+
+/**
+ * Measures the formatting of localized error messages for the
+ * exceptions handled by the exception handler, with the message
+ * bundle of the application.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorMessageFormatterBenchmark {
+
+    private ErrorMessageFormatter formatter;
+    private ConstraintViolationException constraintViolationException;
+    private MethodArgumentTypeMismatchException typeMismatchException;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasenames("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        messageSource.setUseCodeAsDefaultMessage(true);
+        formatter = new ErrorMessageFormatter(new Translator(messageSource));
+
+        CertificateDto certificate = Fixtures.certificateDto(1);
+        certificate.setName("");
+        certificate.setPrice(new BigDecimal("-1"));
+        Set<ConstraintViolation<CertificateDto>> violations = Validation.buildDefaultValidatorFactory()
+                .getValidator()
+                .validate(certificate, Default.class, OnCreate.class);
+        constraintViolationException = new ConstraintViolationException(violations);
+
+        MethodParameter parameter = new MethodParameter(
+                ErrorMessageFormatterBenchmark.class.getDeclaredMethod("findById", Long.class), 0);
+        typeMismatchException = new MethodArgumentTypeMismatchException(
+                "abc", Long.class, "id", parameter, new NumberFormatException("abc"));
+    }
+
+    @Benchmark
+    public String constraintViolations() {
+        return formatter.getLocalizedMessage(constraintViolationException);
+    }
+
+    @Benchmark
+    public String typeMismatch() {
+        return formatter.getLocalizedMessage(typeMismatchException);
+    }
+
+    @Benchmark
+    public String codeWithDetail() {
+        return formatter.getLocalizedMessage(CERTIFICATE_IMPORT_NAME_EXISTS, "name = 'certificate1'");
+    }
+
+    @SuppressWarnings("unused")
+    private void findById(Long id) {
+    }
+}
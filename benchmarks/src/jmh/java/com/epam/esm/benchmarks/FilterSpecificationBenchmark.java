@@ -0,0 +1,123 @@
+package com.epam.esm.benchmarks;
+
+import com.epam.esm.domain.entity.Certificate;
+import com.epam.esm.domain.payload.CertificateFilterDto;
+import com.epam.esm.repository.specification.CertificateSpecifications;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures certificate filters with no fields set, with an
+ * exact-match field set and with exact-match and substring fields
+ * set: turning the specification into the predicate of a criteria
+ * query, and running the query with the substring fields against
+ * 1000 certificates in an in-memory H2 database through Hibernate,
+ * which also renders the SQL with the values bound as parameters.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterSpecificationBenchmark {
+
+    private static final int CERTIFICATES = 1000;
+    private static final LocalDateTime CREATE_DATE = LocalDateTime.of(2023, 1, 15, 10, 30, 15);
+
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private CertificateFilterDto emptyFilter;
+    private CertificateFilterDto exactFilter;
+    private CertificateFilterDto mixedFilter;
+
+    @Setup
+    public void setUp() {
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(new DriverManagerDataSource("jdbc:h2:mem:filter-benchmark;DB_CLOSE_DELAY=-1"));
+        factoryBean.setPackagesToScan(Certificate.class.getPackageName());
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.cache.use_second_level_cache", "false",
+                "hibernate.criteria.literal_handling_mode", "bind",
+                "javax.persistence.sharedCache.mode", "NONE"));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        for (int i = 0; i < CERTIFICATES; i++) {
+            entityManager.persist(new Certificate(null, "certificate" + i, "description of certificate " + i,
+                    new BigDecimal(i % 4 == 0 ? "125.50" : "99.00"), i % 2 == 0 ? 30 : 60,
+                    CREATE_DATE, CREATE_DATE.plusDays(1)));
+        }
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+
+        emptyFilter = new CertificateFilterDto();
+        exactFilter = CertificateFilterDto.builder()
+                .price(new BigDecimal("125.50"))
+                .build();
+        mixedFilter = CertificateFilterDto.builder()
+                .price(new BigDecimal("125.50"))
+                .duration(30)
+                .nameContaining("cert")
+                .descriptionContaining("of")
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public CriteriaQuery<Certificate> emptyFilterPredicate() {
+        return criteriaQuery(emptyFilter);
+    }
+
+    @Benchmark
+    public CriteriaQuery<Certificate> exactFilterPredicate() {
+        return criteriaQuery(exactFilter);
+    }
+
+    @Benchmark
+    public CriteriaQuery<Certificate> mixedFilterPredicate() {
+        return criteriaQuery(mixedFilter);
+    }
+
+    @Benchmark
+    public List<Certificate> mixedFilterQuery() {
+        List<Certificate> certificates = entityManager.createQuery(criteriaQuery(mixedFilter))
+                .setMaxResults(Fixtures.PAGE_SIZE)
+                .getResultList();
+        entityManager.clear();
+        return certificates;
+    }
+
+    private CriteriaQuery<Certificate> criteriaQuery(CertificateFilterDto filter) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Certificate> query = criteriaBuilder.createQuery(Certificate.class);
+        Root<Certificate> root = query.from(Certificate.class);
+        Predicate predicate = CertificateSpecifications.byFilter(filter).toPredicate(root, query, criteriaBuilder);
+        return predicate == null ? query.select(root) : query.select(root).where(predicate);
+    }
+}
@@ -0,0 +1,134 @@
+package com.epam.esm.benchmarks;
+
+import com.epam.esm.domain.entity.Certificate;
+import com.epam.esm.domain.entity.Order;
+import com.epam.esm.domain.entity.Role;
+import com.epam.esm.domain.entity.Tag;
+import com.epam.esm.domain.entity.User;
+import com.epam.esm.domain.payload.CertificateDto;
+import com.epam.esm.domain.payload.OrderDto;
+import com.epam.esm.domain.payload.TagDto;
+import com.epam.esm.domain.payload.UserDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builds the object graphs used by the benchmarks: pages of the
+ * default size with certificates carrying a few tags, the way they
+ * are returned by the list endpoints.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+final class Fixtures {
+
+    static final int PAGE_SIZE = 20;
+    static final int TAGS_PER_CERTIFICATE = 5;
+    static final int DEFAULT_SIZE = 10;
+
+    private static final LocalDateTime CREATE_DATE = LocalDateTime.of(2023, 1, 15, 10, 30, 15);
+
+    private Fixtures() {
+    }
+
+    static Set<Tag> tags(long first, int count) {
+        Set<Tag> tags = new HashSet<>();
+        for (long id = first; id < first + count; id++) {
+            tags.add(new Tag(id, "tag" + id));
+        }
+        return tags;
+    }
+
+    static Certificate certificate(long id) {
+        Certificate certificate = new Certificate(id, "certificate" + id, "description of certificate " + id,
+                new BigDecimal("125.50"), 30, CREATE_DATE, CREATE_DATE.plusDays(1));
+        certificate.setTags(tags(id * 100, TAGS_PER_CERTIFICATE));
+        return certificate;
+    }
+
+    static User user(long id) {
+        return new User(id, "user" + id, "user" + id + "@mail.com", "{bcrypt}$2a$10$hash", Role.USER);
+    }
+
+    static Order order(long id) {
+        return new Order(id, new BigDecimal("125.50"), CREATE_DATE, user(id % 5 + 1), certificate(id));
+    }
+
+    static List<Certificate> certificates() {
+        List<Certificate> certificates = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            certificates.add(certificate(id));
+        }
+        return certificates;
+    }
+
+    static List<Order> orders() {
+        List<Order> orders = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            orders.add(order(id));
+        }
+        return orders;
+    }
+
+    static CertificateDto certificateDto(long id) {
+        Set<TagDto> tags = new HashSet<>();
+        for (long tagId = id * 100; tagId < id * 100 + TAGS_PER_CERTIFICATE; tagId++) {
+            tags.add(new TagDto(tagId, "tag" + tagId));
+        }
+        CertificateDto certificate = new CertificateDto();
+        certificate.setId(id);
+        certificate.setName("certificate" + id);
+        certificate.setDescription("description of certificate " + id);
+        certificate.setPrice(new BigDecimal("125.50"));
+        certificate.setDuration(30);
+        certificate.setCreateDate(CREATE_DATE);
+        certificate.setLastUpdateDate(CREATE_DATE.plusDays(1));
+        certificate.setTags(tags);
+        return certificate;
+    }
+
+    static UserDto userDto(long id) {
+        return new UserDto(id, "user" + id, "user" + id + "@mail.com", null, Role.USER);
+    }
+
+    static OrderDto orderDto(long id) {
+        return new OrderDto(id, new BigDecimal("125.50"), CREATE_DATE, userDto(id % 5 + 1), certificateDto(id));
+    }
+
+    static List<CertificateDto> certificateDtos() {
+        List<CertificateDto> certificates = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            certificates.add(certificateDto(id));
+        }
+        return certificates;
+    }
+
+    static List<OrderDto> orderDtos() {
+        List<OrderDto> orders = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            orders.add(orderDto(id));
+        }
+        return orders;
+    }
+
+    static List<TagDto> tagDtos() {
+        List<TagDto> tags = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            tags.add(new TagDto(id, "tag" + id));
+        }
+        return tags;
+    }
+
+    static List<UserDto> userDtos() {
+        List<UserDto> users = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            users.add(userDto(id));
+        }
+        return users;
+    }
+}
@@ -0,0 +1,197 @@
+package com.epam.esm.benchmarks;
+
+import com.epam.esm.controller.CertificateController;
+import com.epam.esm.controller.TagController;
+import com.epam.esm.domain.payload.*;
+import com.epam.esm.hateoas.HateoasAdder;
+import com.epam.esm.hateoas.impl.CertificateHateoasAdder;
+import com.epam.esm.hateoas.impl.OrderHateoasAdder;
+import com.epam.esm.hateoas.impl.TagHateoasAdder;
+import com.epam.esm.hateoas.impl.UserHateoasAdder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.esm.benchmarks.Fixtures.DEFAULT_SIZE;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Compares the cost of adding links to a page of 20 certificates
+ * with 5 tags each with the {@code linkTo(methodOn(...))} adders
+ * and with the adders built on link templates, the cost of
+ * a request with {@code ?links=none}, and the cost of the tag,
+ * user and order adders on pages of their own.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HateoasAdderBenchmark {
+
+    private HateoasAdder<CertificateDto> methodOnAdder;
+    private HateoasAdder<CertificateDto> templateAdder;
+    private HateoasAdder<TagDto> tagAdder;
+    private HateoasAdder<UserDto> userAdder;
+    private HateoasAdder<OrderDto> orderAdder;
+    private ServletRequestAttributes request;
+    private ServletRequestAttributes requestWithoutLinks;
+
+    @Setup
+    public void setUp() {
+        methodOnAdder = new MethodOnCertificateHateoasAdder(new MethodOnTagHateoasAdder());
+        TagHateoasAdder tagHateoasAdder = new TagHateoasAdder();
+        ReflectionTestUtils.setField(tagHateoasAdder, "defaultSize", DEFAULT_SIZE);
+        CertificateHateoasAdder certificateHateoasAdder = new CertificateHateoasAdder(tagHateoasAdder);
+        ReflectionTestUtils.setField(certificateHateoasAdder, "defaultSize", DEFAULT_SIZE);
+        templateAdder = certificateHateoasAdder;
+        tagAdder = tagHateoasAdder;
+        UserHateoasAdder userHateoasAdder = new UserHateoasAdder();
+        ReflectionTestUtils.setField(userHateoasAdder, "defaultSize", DEFAULT_SIZE);
+        userAdder = userHateoasAdder;
+        OrderHateoasAdder orderHateoasAdder = new OrderHateoasAdder(userHateoasAdder, certificateHateoasAdder);
+        ReflectionTestUtils.setField(orderHateoasAdder, "defaultSize", DEFAULT_SIZE);
+        orderAdder = orderHateoasAdder;
+        request = new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/v1/certificates"));
+        MockHttpServletRequest noLinks = new MockHttpServletRequest("GET", "/api/v1/certificates");
+        noLinks.setParameter(HateoasAdder.LINKS_PARAMETER, HateoasAdder.NO_LINKS);
+        requestWithoutLinks = new ServletRequestAttributes(noLinks);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public List<CertificateDto> methodOn() {
+        return addLinks(methodOnAdder, Fixtures.certificateDtos(), request);
+    }
+
+    @Benchmark
+    public List<CertificateDto> template() {
+        return addLinks(templateAdder, Fixtures.certificateDtos(), request);
+    }
+
+    @Benchmark
+    public List<CertificateDto> noLinks() {
+        return addLinks(templateAdder, Fixtures.certificateDtos(), requestWithoutLinks);
+    }
+
+    @Benchmark
+    public List<TagDto> tags() {
+        return addLinks(tagAdder, Fixtures.tagDtos(), request);
+    }
+
+    @Benchmark
+    public List<UserDto> users() {
+        return addLinks(userAdder, Fixtures.userDtos(), request);
+    }
+
+    @Benchmark
+    public List<OrderDto> orders() {
+        return addLinks(orderAdder, Fixtures.orderDtos(), request);
+    }
+
+    /**
+     * Adds the links to the page in a new request, so that the
+     * base URI cached in the request is computed on every call
+     * like in the application.
+     */
+    private static <T extends RepresentationModel<T>> List<T> addLinks(HateoasAdder<T> adder,
+                                                                      List<T> page,
+                                                                      ServletRequestAttributes attributes) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(attributes.getRequest()));
+        adder.addLinks(page);
+        return page;
+    }
+
+    /**
+     * The certificate adder as it was before link templates.
+     */
+    private static class MethodOnCertificateHateoasAdder implements HateoasAdder<CertificateDto> {
+
+        private static final Class<CertificateController> CONTROLLER = CertificateController.class;
+        private final HateoasAdder<TagDto> tagDtoHateoasAdder;
+
+        MethodOnCertificateHateoasAdder(HateoasAdder<TagDto> tagDtoHateoasAdder) {
+            this.tagDtoHateoasAdder = tagDtoHateoasAdder;
+        }
+
+        @Override
+        public void addLinks(CertificateDto certificateDto) {
+            certificateDto.add(linkTo(methodOn(CONTROLLER)
+                    .getCertificateById(certificateDto.getId(), null))
+                    .withSelfRel());
+            certificateDto.add(linkTo(methodOn(CONTROLLER)
+                    .deleteCertificateById(certificateDto.getId()))
+                    .withRel(DELETE));
+            certificateDto.add(linkTo(methodOn(CONTROLLER)
+                    .updateCertificateById(certificateDto.getId(), certificateDto, null))
+                    .withRel(UPDATE));
+            certificateDto.add(linkTo(methodOn(CONTROLLER)
+                    .addCertificate(certificateDto))
+                    .withRel(CREATE));
+            certificateDto.add(linkTo(methodOn(CONTROLLER)
+                    .getAllCertificates(new CertificateFilterDto(), Pageable.ofSize(DEFAULT_SIZE), null))
+                    .withRel("gift-certificates"));
+            tagDtoHateoasAdder.addLinks(certificateDto.getTags());
+        }
+    }
+
+    /**
+     * The tag adder as it was before link templates.
+     */
+    private static class MethodOnTagHateoasAdder implements HateoasAdder<TagDto> {
+
+        private static final Class<TagController> CONTROLLER = TagController.class;
+
+        @Override
+        public void addLinks(TagDto tagDto) {
+            tagDto.add(linkTo(methodOn(CONTROLLER)
+                    .getTagById(tagDto.getId(), null))
+                    .withSelfRel());
+            tagDto.add(linkTo(methodOn(CONTROLLER)
+                    .deleteTagById(tagDto.getId()))
+                    .withRel(DELETE));
+            tagDto.add(linkTo(methodOn(CONTROLLER)
+                    .updateTagById(tagDto.getId(), tagDto, null))
+                    .withRel(UPDATE));
+            tagDto.add(linkTo(methodOn(CONTROLLER)
+                    .addTag(tagDto))
+                    .withRel(CREATE));
+            tagDto.add(linkTo(methodOn(CONTROLLER)
+                    .getMostPopularTag(null))
+                    .withRel("most-popular-tag"));
+            tagDto.add(linkTo(methodOn(CONTROLLER)
+                    .getAllTags(new TagFilterDto(), Pageable.ofSize(DEFAULT_SIZE), null))
+                    .withRel("tags"));
+            tagDto.add(linkTo(methodOn(CONTROLLER)
+                    .getGiftCertificatesByTagId(
+                            tagDto.getId(),
+                            new CertificateFilterDto(),
+                            Pageable.ofSize(DEFAULT_SIZE),
+                            null))
+                    .withRel("gift-certificates-by-tag-id"));
+            tagDto.add(linkTo(methodOn(CONTROLLER)
+                    .getGiftCertificatesByTagName(
+                            tagDto.getName(),
+                            new CertificateFilterDto(),
+                            Pageable.ofSize(DEFAULT_SIZE),
+                            null))
+                    .withRel("gift-certificates-by-tag-name"));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.epam.esm.benchmarks;
+
+import com.epam.esm.config.HashingPasswordEncoder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the logins per second one core verifies: a password
+ * matched against a hash of the current encoding and against an
+ * unprefixed legacy hash, at the bcrypt strengths the calibration
+ * usually chooses. The {@code executor} runs match the password on
+ * the single thread of a {@link HashingPasswordEncoder}, as the
+ * authorization server does with one hashing thread per core, and
+ * show the cost of handing the work over.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(1)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "adminPass123";
+
+    @Param({"10", "12"})
+    private int strength;
+
+    @Param({"caller", "executor"})
+    private String hashing;
+
+    private ExecutorService executor;
+    private PasswordEncoder encoder;
+    private String hash;
+    private String legacyHash;
+
+    @Setup
+    public void setUp() {
+        DelegatingPasswordEncoder delegatingEncoder = new DelegatingPasswordEncoder(
+                "bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(strength)));
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        executor = Executors.newSingleThreadExecutor();
+        encoder = "executor".equals(hashing)
+                ? new HashingPasswordEncoder(delegatingEncoder, executor, Duration.ofMinutes(1))
+                : delegatingEncoder;
+        hash = delegatingEncoder.encode(PASSWORD);
+        legacyHash = new BCryptPasswordEncoder(strength).encode(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean login() {
+        return encoder.matches(PASSWORD, hash);
+    }
+
+    @Benchmark
+    public boolean legacyLogin() {
+        return encoder.matches(PASSWORD, legacyHash);
+    }
+}
@@ -0,0 +1,96 @@
+package com.epam.esm.benchmarks;
+
+import com.epam.esm.domain.payload.CertificateDto;
+import com.epam.esm.domain.payload.OrderDto;
+import com.epam.esm.hateoas.impl.CertificateHateoasAdder;
+import com.epam.esm.hateoas.impl.OrderHateoasAdder;
+import com.epam.esm.hateoas.impl.TagHateoasAdder;
+import com.epam.esm.hateoas.impl.UserHateoasAdder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.HalHandlerInstantiator;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.esm.benchmarks.Fixtures.DEFAULT_SIZE;
+
+/**
+ * Measures the Jackson serialization of a page of certificates and
+ * a page of orders, with the links added by the adders, both as
+ * plain JSON and as HAL.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper halMapper;
+    private List<CertificateDto> certificates;
+    private List<OrderDto> orders;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = new ObjectMapper().findAndRegisterModules();
+        halMapper = new ObjectMapper().findAndRegisterModules()
+                .registerModule(new Jackson2HalModule());
+        halMapper.setHandlerInstantiator(new HalHandlerInstantiator(
+                new DefaultLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+
+        TagHateoasAdder tagHateoasAdder = new TagHateoasAdder();
+        ReflectionTestUtils.setField(tagHateoasAdder, "defaultSize", DEFAULT_SIZE);
+        CertificateHateoasAdder certificateHateoasAdder = new CertificateHateoasAdder(tagHateoasAdder);
+        ReflectionTestUtils.setField(certificateHateoasAdder, "defaultSize", DEFAULT_SIZE);
+        UserHateoasAdder userHateoasAdder = new UserHateoasAdder();
+        ReflectionTestUtils.setField(userHateoasAdder, "defaultSize", DEFAULT_SIZE);
+        OrderHateoasAdder orderHateoasAdder = new OrderHateoasAdder(userHateoasAdder, certificateHateoasAdder);
+        ReflectionTestUtils.setField(orderHateoasAdder, "defaultSize", DEFAULT_SIZE);
+
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/v1/certificates")));
+        try {
+            certificates = Fixtures.certificateDtos();
+            certificateHateoasAdder.addLinks(certificates);
+            orders = Fixtures.orderDtos();
+            orderHateoasAdder.addLinks(orders);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Benchmark
+    public byte[] certificatesJson() throws JsonProcessingException {
+        return jsonMapper.writeValueAsBytes(certificates);
+    }
+
+    @Benchmark
+    public byte[] certificatesHal() throws JsonProcessingException {
+        return halMapper.writeValueAsBytes(certificates);
+    }
+
+    @Benchmark
+    public byte[] ordersJson() throws JsonProcessingException {
+        return jsonMapper.writeValueAsBytes(orders);
+    }
+
+    @Benchmark
+    public byte[] ordersHal() throws JsonProcessingException {
+        return halMapper.writeValueAsBytes(orders);
+    }
+}
@@ -0,0 +1,112 @@
+package com.epam.esm.benchmarks;
+
+import com.epam.esm.config.ConcurrencyLimitingDataSource;
+import com.epam.esm.config.VirtualThreads;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares platform and virtual request threads serving a burst
+ * of concurrent requests with the same connection pool of 5.
+ * <p>
+ * Every request first waits for a slow client, then holds a
+ * connection while it runs a query and waits a little longer, as
+ * for a query of a few milliseconds. The platform threads are a
+ * pool of 200 like the Tomcat default, so at most 200 requests are
+ * in progress at a time; with virtual threads every request is in
+ * progress at once and only the connections are limited, by the
+ * {@link ConcurrencyLimitingDataSource}. The {@code virtual} runs
+ * need JDK 21 or later.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ThreadModelBenchmark {
+
+    private static final int POOL_SIZE = 5;
+    private static final int PLATFORM_THREADS = 200;
+    private static final long CLIENT_MILLIS = 50;
+    private static final long QUERY_MILLIS = 2;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"1000", "5000"})
+    private int requests;
+
+    private HikariDataSource pool;
+    private ConcurrencyLimitingDataSource dataSource;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:threads;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setConnectionTimeout(Duration.ofMinutes(1).toMillis());
+        pool = new HikariDataSource(config);
+        dataSource = new ConcurrencyLimitingDataSource(pool, POOL_SIZE, Duration.ofMinutes(1));
+        executor = "virtual".equals(threads)
+                ? VirtualThreads.newThreadPerTaskExecutor("request-")
+                : Executors.newFixedThreadPool(PLATFORM_THREADS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        pool.close();
+    }
+
+    @Benchmark
+    public long burst() throws InterruptedException, ExecutionException {
+        List<Future<Integer>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(request(i)));
+        }
+        long sum = 0;
+        for (Future<Integer> future : futures) {
+            sum += future.get();
+        }
+        return sum;
+    }
+
+    private Callable<Integer> request(int value) {
+        return () -> {
+            Thread.sleep(CLIENT_MILLIS);
+            return query(value);
+        };
+    }
+
+    private int query(int value) throws SQLException, InterruptedException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT ?")) {
+            statement.setInt(1, value);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                Thread.sleep(QUERY_MILLIS);
+                return resultSet.getInt(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.epam.esm.service.impl;
+
+import com.epam.esm.domain.entity.Tag;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CertificateTagDiff#of(Set, java.util.Collection, Map, boolean)},
+ * which computes the tag changes of every certificate update and patch,
+ * when half of the requested tags are already linked to the certificate
+ * and one of them is renamed. The benchmark lives in the package of the
+ * diff, which is not public.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CertificateTagDiffBenchmark {
+
+    @Param({"5", "50", "500"})
+    private int tagCount;
+
+    @Param({"false", "true"})
+    private boolean replace;
+
+    private Set<Tag> currentTags;
+    private Set<Tag> requestedTags;
+    private Map<Long, String> storedNames;
+
+    @Setup
+    public void setUp() {
+        currentTags = tags(1, tagCount);
+        long firstRequested = tagCount / 2 + 1;
+        requestedTags = tags(firstRequested, tagCount);
+        requestedTags.remove(new Tag(firstRequested, "tag" + firstRequested));
+        requestedTags.add(new Tag(firstRequested, "renamed" + firstRequested));
+        storedNames = new HashMap<>();
+        currentTags.forEach(tag -> storedNames.put(tag.getId(), tag.getName()));
+        tags(firstRequested, tagCount).forEach(tag -> storedNames.put(tag.getId(), tag.getName()));
+    }
+
+    @Benchmark
+    public CertificateTagDiff diff() {
+        return CertificateTagDiff.of(currentTags, requestedTags, storedNames, replace);
+    }
+
+    private static Set<Tag> tags(long first, int count) {
+        Set<Tag> tags = new HashSet<>();
+        for (long id = first; id < first + count; id++) {
+            tags.add(new Tag(id, "tag" + id));
+        }
+        return tags;
+    }
+}
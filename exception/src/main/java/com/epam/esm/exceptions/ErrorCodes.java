@@ -47,6 +47,7 @@ public enum ErrorCodes {
     UNSUPPORTED_HTTP_METHOD(40019, "Invalid character found in the request"),
     UNAUTHORIZED_REQUEST(40101, "Unauthorized request"),
     FORBIDDEN_REQUEST(40301, "Forbidden request"),
+    CONCURRENT_MODIFICATION(40901, "The resource was changed since the version the request is based on"),
     INTERNAL_SERVER_ERROR(50001, "An error or exception occurred on the server side"),
     NULL_INSTEAD_LIST(50002, "Returns null instead of List<>"),
     SQL_ERROR(50003, "Default code for all sql exceptions"),
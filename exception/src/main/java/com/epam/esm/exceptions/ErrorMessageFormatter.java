@@ -62,13 +62,35 @@ public class ErrorMessageFormatter {
     public String getLocalizedMessage(ConstraintViolationException ex) {
         StringBuilder result = new StringBuilder();
         Set<ConstraintViolation<?>> constraintViolations = ex.getConstraintViolations();
-        constraintViolations.forEach(violation -> result.append(String.format("%s (%s = '%s') | ",
-                translator.toLocale(violation.getMessage()),
-                violation.getPropertyPath().toString().replaceFirst(".*\\.", ""),
-                violation.getInvalidValue())));
+        constraintViolations.forEach(violation -> result.append(getLocalizedMessage(violation)).append(" | "));
         return result.toString();
     }
 
+    /**
+     * Returns the localized error message for a single constraint violation
+     *
+     * @param violation the violated constraint
+     * @return a formatted error message with the invalid field,
+     *          its value and the error message
+     */
+    public String getLocalizedMessage(ConstraintViolation<?> violation) {
+        return getLocalizedMessage(violation.getMessage(), String.format("%s = '%s'",
+                violation.getPropertyPath().toString().replaceFirst(".*\\.", ""),
+                violation.getInvalidValue()));
+    }
+
+    /**
+     * Returns the localized message followed by the
+     * details of the error in parentheses
+     *
+     * @param messageCode the code of the message
+     * @param detail      the details of the error
+     * @return a formatted error message
+     */
+    public String getLocalizedMessage(String messageCode, String detail) {
+        return String.format("%s (%s)", translator.toLocale(messageCode), detail);
+    }
+
     /**
      * Returns the localized error message for a MethodArgumentTypeMismatchException
      *
@@ -16,6 +16,7 @@ public final class ExceptionConstants {
     public static final String SERVER_ERROR_500 = "internal.server.error";
     public static final String NULL_INSTEAD_LIST_RESOURCES = "get.null.list.resources";
     public static final String DATA_ACCESS_CONSTRAINT = "data.access.exception";
+    public static final String RESOURCE_CONCURRENTLY_MODIFIED = "resource.concurrently.modified";
     public static final String VIOLATION_DATA_INTEGRITY = "violation.data.integrity";
     public static final String MYSQL_ERROR_DUPLICATE_COLUMN = "mysql.error.duplicate.column";
     public static final String SQL_ERROR_DEFAULT_MESSAGE = "sql.error.default.message";
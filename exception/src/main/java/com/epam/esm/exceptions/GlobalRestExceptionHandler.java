@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -196,6 +197,30 @@ public class GlobalRestExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(apiErrorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles all OptimisticLockingFailureExceptions, thrown when
+     * a resource was changed since the version the update is based on.
+     * Returns a response with a corresponding error message and
+     * a status of 412 - PRECONDITION_FAILED if the version was given
+     * in the If-Match header, or 409 - CONFLICT otherwise
+     *
+     * @param ex the exception that occurred
+     * @param request the request that triggered the exception
+     * @return a ResponseEntity containing a message and status
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public final ResponseEntity<ApiErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex,
+                                                                                 WebRequest request) {
+        log.warn(ex.getMessage(), ex);
+        ApiErrorResponse apiErrorResponse = new ApiErrorResponse();
+        apiErrorResponse.setErrorCode(CONCURRENT_MODIFICATION.stringCode());
+        apiErrorResponse.setErrorMessage(translator.toLocale(RESOURCE_CONCURRENTLY_MODIFIED));
+        HttpStatus status = request.getHeader(HttpHeaders.IF_MATCH) == null
+                ? HttpStatus.CONFLICT
+                : HttpStatus.PRECONDITION_FAILED;
+        return new ResponseEntity<>(apiErrorResponse, status);
+    }
+
     /**
      * Handles all UsernameNotFoundExceptions that
      * occur during the processing of requests.
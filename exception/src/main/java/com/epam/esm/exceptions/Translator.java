@@ -35,7 +35,19 @@ public class Translator {
      * @return the translated message
      */
     public String toLocale(String msgCode) {
-        Locale locale = LocaleContextHolder.getLocale();
+        return toLocale(msgCode, LocaleContextHolder.getLocale());
+    }
+
+    /**
+     * Translates a message to the given locale. Used where the
+     * locale of the request is not held by {@link LocaleContextHolder},
+     * e.g. in WebFlux handlers.
+     *
+     * @param msgCode the code of the message to translate
+     * @param locale  the locale of the request
+     * @return the translated message
+     */
+    public String toLocale(String msgCode, Locale locale) {
         return messageSource.getMessage(msgCode, null, locale);
     }
 }
@@ -0,0 +1,148 @@
+package com.epam.esm.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends the requests of the scenarios at a fixed rate and records
+ * their latencies.
+ * <p>
+ * Requests are started on a fixed schedule whether or not the
+ * previous ones have completed, and the latency of a request is
+ * measured from the time it was scheduled to start. A slow
+ * response therefore also shows in the latencies of the requests
+ * queued behind it, as it would for independent clients, instead
+ * of lowering the rate at which requests are sent.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Slf4j
+class LoadDriver {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+    private static final long DRAIN_POLL_MILLIS = 10;
+
+    private final HttpClient client;
+    private final Scenario.Target target;
+    private final Scenario[] schedule;
+    private final int rate;
+
+    /**
+     * Creates a driver.
+     *
+     * @param client  the client sending the requests
+     * @param target  the application under load
+     * @param weights the relative frequencies of the scenarios
+     * @param rate    the number of requests started per second
+     */
+    LoadDriver(HttpClient client, Scenario.Target target, Map<Scenario, Integer> weights, int rate) {
+        this.client = client;
+        this.target = target;
+        this.schedule = weights.entrySet().stream()
+                .flatMap(weight -> Collections.nCopies(weight.getValue(), weight.getKey()).stream())
+                .toArray(Scenario[]::new);
+        this.rate = rate;
+        if (rate <= 0) {
+            throw new IllegalArgumentException("The rate must be positive: " + rate);
+        }
+        if (schedule.length == 0) {
+            throw new IllegalArgumentException("No scenario has a positive weight");
+        }
+    }
+
+    /**
+     * Applies the load for the given time.
+     *
+     * @param duration the time to apply the load
+     * @param seed     the seed of the choice of scenarios and requests,
+     *                 so that runs send the same sequence of requests
+     * @return the latencies and errors of the requests per scenario
+     * @throws InterruptedException if interrupted while waiting
+     */
+    Map<Scenario, ScenarioRecording> run(Duration duration, long seed) throws InterruptedException {
+        Map<Scenario, ScenarioRecording> recordings = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : schedule) {
+            recordings.computeIfAbsent(scenario, s -> new ScenarioRecording());
+        }
+        Random random = new Random(seed);
+        AtomicLong inFlight = new AtomicLong();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long intended = start; intended < end; intended += intervalNanos) {
+            long delay = intended - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            Scenario scenario = schedule[random.nextInt(schedule.length)];
+            HttpRequest request = scenario.request(target, random);
+            ScenarioRecording recording = recordings.get(scenario);
+            long scheduledAt = intended;
+            inFlight.incrementAndGet();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        recording.record(System.nanoTime() - scheduledAt,
+                                failure == null && response.statusCode() < 400);
+                        inFlight.decrementAndGet();
+                    });
+        }
+        long drainEnd = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainEnd) {
+            TimeUnit.MILLISECONDS.sleep(DRAIN_POLL_MILLIS);
+        }
+        if (inFlight.get() > 0) {
+            log.warn("{} requests did not complete within {}", inFlight.get(), DRAIN_TIMEOUT);
+        }
+        return recordings;
+    }
+
+    /**
+     * The latencies and the number of failed requests of a scenario.
+     */
+    static final class ScenarioRecording {
+
+        private final Histogram latencies = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+
+        private void record(long latencyNanos, boolean succeeded) {
+            latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+            if (!succeeded) {
+                errors.increment();
+            }
+        }
+
+        /**
+         * Returns the latencies of all requests in microseconds.
+         *
+         * @return the histogram of the latencies
+         */
+        Histogram getLatencies() {
+            return latencies;
+        }
+
+        /**
+         * Returns the number of requests that failed or were
+         * answered with an error status.
+         *
+         * @return the number of errors
+         */
+        long getErrors() {
+            return errors.sum();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.epam.esm.loadtest;
+
+import com.epam.esm.OAuth2ResourceServerApplication;
+import com.epam.esm.loadtest.LoadDriver.ScenarioRecording;
+import com.epam.esm.loadtest.LoadTestReport.ScenarioResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Runs a load test of the resource server. The application is
+ * started in the {@value #PROFILE} profile on a random port with
+ * an embedded database, warmed up, put under load at a fixed rate
+ * for the configured time, and the results are written to
+ * {@code <results-directory>/<commit>-<time>.json}. If a baseline
+ * is configured, the latencies and throughput are compared with it.
+ * <p>
+ * The same seed is used by every run, so runs on different commits
+ * send the same sequence of requests.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Slf4j
+public final class LoadTestApplication {
+
+    /**
+     * The profile of the application under load.
+     */
+    static final String PROFILE = "loadtest";
+
+    private static final long WARMUP_SEED = 1L;
+    private static final long SEED = 2L;
+    private static final String USER_ROLE = "USER";
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+            .withZone(ZoneOffset.UTC);
+
+    private LoadTestApplication() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        List<String> arguments = new ArrayList<>();
+        arguments.add("--spring.profiles.active=" + PROFILE);
+        arguments.addAll(Arrays.asList(args));
+        try (ConfigurableApplicationContext context = SpringApplication.run(
+                new Class<?>[]{OAuth2ResourceServerApplication.class, LoadTestConfig.class},
+                arguments.toArray(new String[0]))) {
+            run(context);
+        }
+    }
+
+    private static void run(ConfigurableApplicationContext context) throws IOException, InterruptedException {
+        LoadTestProperties properties = context.getBean(LoadTestProperties.class);
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        LoadDriver driver = new LoadDriver(HttpClient.newHttpClient(), target(context, properties),
+                properties.getWeights(), properties.getRate());
+
+        log.info("Warming up at {} requests/s for {}", properties.getRate(), properties.getWarmup());
+        driver.run(properties.getWarmup(), WARMUP_SEED);
+        Instant startedAt = Instant.now();
+        log.info("Recording at {} requests/s for {}", properties.getRate(), properties.getDuration());
+        Map<Scenario, ScenarioRecording> recordings = driver.run(properties.getDuration(), SEED);
+
+        LoadTestReport report = LoadTestReport.of(properties, startedAt, recordings);
+        Files.createDirectories(properties.getResultsDirectory());
+        Path results = properties.getResultsDirectory()
+                .resolve(properties.getCommit() + "-" + FILE_TIME.format(startedAt) + ".json");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(results.toFile(), report);
+        log.info("Results written to {}", results.toAbsolutePath());
+
+        LoadTestReport baseline = properties.getBaseline() == null
+                ? null
+                : objectMapper.readValue(properties.getBaseline().toFile(), LoadTestReport.class);
+        report.getScenarios().forEach(result -> summarize(result,
+                baseline == null ? null : baseline.find(result.getName())));
+        summarize(report.getTotal(), baseline == null ? null : baseline.getTotal());
+    }
+
+    /**
+     * Describes the application started in the context: its base
+     * URI, a token of a seeded user and the ranges of seeded IDs.
+     */
+    private static Scenario.Target target(ConfigurableApplicationContext context, LoadTestProperties properties) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        String login = jdbcTemplate.queryForObject(
+                "SELECT login FROM users WHERE role = ? ORDER BY id LIMIT 1", String.class, USER_ROLE);
+        Duration tokenTimeToLive = properties.getWarmup().plus(properties.getDuration()).plusHours(1);
+        return new Scenario.Target(
+                URI.create("http://localhost:" + port + "/api/v1/"),
+                context.getBean(LocalJwtIssuer.class).issue(login, USER_ROLE, tokenTimeToLive),
+                maxId(jdbcTemplate, "certificates"),
+                maxId(jdbcTemplate, "tags"),
+                maxId(jdbcTemplate, "users"));
+    }
+
+    private static int maxId(JdbcTemplate jdbcTemplate, String table) {
+        Integer maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Integer.class);
+        return Objects.requireNonNull(maxId, () -> "The table " + table + " is empty");
+    }
+
+    private static void summarize(ScenarioResult result, ScenarioResult baseline) {
+        log.info("{}: {} requests, {} errors, {} requests/s, p50 {} us, p99 {} us, p99.9 {} us, max {} us",
+                result.getName(), result.getRequests(), result.getErrors(),
+                String.format("%.1f", result.getThroughput()),
+                result.getLatencyMicros().getP50(), result.getLatencyMicros().getP99(),
+                result.getLatencyMicros().getP999(), result.getLatencyMicros().getMax());
+        if (baseline != null) {
+            log.info("{}: p50 {}, p99 {}, p99.9 {} compared with the baseline",
+                    result.getName(),
+                    change(result.getLatencyMicros().getP50(), baseline.getLatencyMicros().getP50()),
+                    change(result.getLatencyMicros().getP99(), baseline.getLatencyMicros().getP99()),
+                    change(result.getLatencyMicros().getP999(), baseline.getLatencyMicros().getP999()));
+        }
+    }
+
+    private static String change(long value, long baseline) {
+        return baseline == 0 ? "n/a" : String.format("%+.1f%%", (value - baseline) * 100.0 / baseline);
+    }
+}
@@ -0,0 +1,41 @@
+package com.epam.esm.loadtest;
+
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces the external dependencies of the resource server for
+ * the load test: the database is embedded and seeded from the
+ * model scripts, and tokens are verified with the key of the
+ * {@link LocalJwtIssuer} instead of the key set of the
+ * authorization server, through the same verified token cache.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Configuration
+@Profile(LoadTestApplication.PROFILE)
+@EnableConfigurationProperties(LoadTestProperties.class)
+public class LoadTestConfig {
+
+    @Bean
+    public LocalJwtIssuer localJwtIssuer() {
+        return new LocalJwtIssuer();
+    }
+
+    @Bean
+    public JWKSource<SecurityContext> jwkSource(LocalJwtIssuer localJwtIssuer) {
+        return localJwtIssuer.jwkSource();
+    }
+
+    @Bean
+    public SeedingDatabaseInitializer seedingDatabaseInitializer(DataSource dataSource) {
+        return new SeedingDatabaseInitializer(dataSource);
+    }
+}
@@ -0,0 +1,60 @@
+package com.epam.esm.loadtest;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The load profile of a load test run.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Data
+@ConfigurationProperties("load-test")
+public class LoadTestProperties {
+
+    /**
+     * The number of requests started per second, whatever
+     * the response times are.
+     */
+    private int rate = 200;
+
+    /**
+     * The time the load is applied before recording starts,
+     * so that caches and the JIT are warm.
+     */
+    private Duration warmup = Duration.ofSeconds(15);
+
+    /**
+     * The time the load is applied and recorded.
+     */
+    private Duration duration = Duration.ofSeconds(60);
+
+    /**
+     * The relative frequencies of the scenarios.
+     */
+    private Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+
+    /**
+     * The commit the application was built from,
+     * written to the results to compare runs.
+     */
+    private String commit = "unknown";
+
+    /**
+     * The directory the results are written to.
+     */
+    private Path resultsDirectory = Paths.get("build", "results", "load-test");
+
+    /**
+     * The results of an earlier run to compare the results with,
+     * e.g. of the previous release. Not compared if not set.
+     */
+    private Path baseline;
+}
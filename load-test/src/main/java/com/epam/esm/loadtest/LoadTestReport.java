@@ -0,0 +1,128 @@
+package com.epam.esm.loadtest;
+
+import com.epam.esm.loadtest.LoadDriver.ScenarioRecording;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The results of a load test run, written as JSON. Besides the
+ * throughput and the usual percentiles, every scenario keeps its
+ * complete latency histogram in the compressed HdrHistogram
+ * encoding, so other percentiles can be computed and runs can be
+ * merged later.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestReport {
+
+    private String commit;
+    private Instant startedAt;
+    private int rate;
+    private Duration warmup;
+    private Duration duration;
+    private List<ScenarioResult> scenarios = new ArrayList<>();
+    private ScenarioResult total;
+
+    /**
+     * Creates the report of a run.
+     *
+     * @param properties the load profile of the run
+     * @param startedAt  the start of the recorded part of the run
+     * @param recordings the recordings of the scenarios
+     * @return the report
+     */
+    static LoadTestReport of(LoadTestProperties properties, Instant startedAt,
+                             Map<Scenario, ScenarioRecording> recordings) {
+        Histogram all = new Histogram(3);
+        long allErrors = 0;
+        List<ScenarioResult> scenarios = new ArrayList<>();
+        for (Map.Entry<Scenario, ScenarioRecording> recording : recordings.entrySet()) {
+            Histogram latencies = recording.getValue().getLatencies();
+            long errors = recording.getValue().getErrors();
+            scenarios.add(ScenarioResult.of(recording.getKey().name(), latencies, errors, properties.getDuration()));
+            all.add(latencies);
+            allErrors += errors;
+        }
+        return new LoadTestReport(properties.getCommit(), startedAt, properties.getRate(),
+                properties.getWarmup(), properties.getDuration(), scenarios,
+                ScenarioResult.of("TOTAL", all, allErrors, properties.getDuration()));
+    }
+
+    /**
+     * Finds the result of a scenario.
+     *
+     * @param name the name of the scenario
+     * @return the result, {@code null} if the scenario was not run
+     */
+    ScenarioResult find(String name) {
+        return scenarios.stream()
+                .filter(scenario -> scenario.getName().equals(name))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * The results of a single scenario.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ScenarioResult {
+        private String name;
+        private long requests;
+        private long errors;
+        private double throughput;
+        private Latencies latencyMicros;
+        private String histogram;
+
+        private static ScenarioResult of(String name, Histogram latencies, long errors, Duration duration) {
+            ByteBuffer buffer = ByteBuffer.allocate(latencies.getNeededByteBufferCapacity());
+            int length = latencies.encodeIntoCompressedByteBuffer(buffer);
+            return new ScenarioResult(name,
+                    latencies.getTotalCount(),
+                    errors,
+                    latencies.getTotalCount() * 1000.0 / duration.toMillis(),
+                    Latencies.of(latencies),
+                    Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length)));
+        }
+    }
+
+    /**
+     * Latency percentiles in microseconds.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Latencies {
+        private double mean;
+        private long p50;
+        private long p90;
+        private long p99;
+        private long p999;
+        private long max;
+
+        private static Latencies of(Histogram histogram) {
+            return new Latencies(histogram.getMean(),
+                    histogram.getValueAtPercentile(50),
+                    histogram.getValueAtPercentile(90),
+                    histogram.getValueAtPercentile(99),
+                    histogram.getValueAtPercentile(99.9),
+                    histogram.getMaxValue());
+        }
+    }
+}
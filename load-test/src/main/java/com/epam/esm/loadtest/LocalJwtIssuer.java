@@ -0,0 +1,92 @@
+package com.epam.esm.loadtest;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Issues access tokens signed with a key pair generated for the
+ * run, in place of the authorization server. The tokens carry
+ * the same claims as the tokens of the authorization server:
+ * the login as the subject, the scopes and the roles.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public class LocalJwtIssuer {
+
+    private static final String ISSUER = "http://load-test";
+    private static final String ROLES_CLAIM = "roles";
+
+    private final JWKSet publicKeys;
+    private final JwtEncoder encoder;
+
+    /**
+     * Generates a new RSA key pair.
+     *
+     * @throws IllegalStateException if RSA is not available
+     */
+    public LocalJwtIssuer() {
+        KeyPair keyPair;
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            keyPair = generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        RSAKey key = new RSAKey.Builder((RSAPublicKey) keyPair.getPublic())
+                .privateKey((RSAPrivateKey) keyPair.getPrivate())
+                .keyID(UUID.randomUUID().toString())
+                .build();
+        publicKeys = new JWKSet(key.toPublicJWK());
+        encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(key)));
+    }
+
+    /**
+     * Issues a token with the {@code read} and {@code write} scopes.
+     *
+     * @param login      the login of the user
+     * @param role       the role of the user, e.g. {@code USER}
+     * @param timeToLive the time the token is valid
+     * @return the encoded token
+     */
+    public String issue(String login, String role, Duration timeToLive) {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer(ISSUER)
+                .subject(login)
+                .issuedAt(now)
+                .expiresAt(now.plus(timeToLive))
+                .claim("scope", "read write")
+                .claim(ROLES_CLAIM, List.of(role))
+                .build();
+        return encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+    }
+
+    /**
+     * Creates a key source with the public key of this issuer,
+     * replacing the key set of the authorization server.
+     *
+     * @return the key source
+     */
+    public JWKSource<SecurityContext> jwkSource() {
+        return new ImmutableJWKSet<>(publicKeys);
+    }
+}
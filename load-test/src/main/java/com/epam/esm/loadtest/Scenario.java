@@ -0,0 +1,96 @@
+package com.epam.esm.loadtest;
+
+import lombok.Value;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Random;
+
+/**
+ * The requests of the load test. Reads are sent anonymously where
+ * the API allows it, the other requests with the token of a user.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public enum Scenario {
+
+    /**
+     * Searches a page of certificates by a part of the name.
+     */
+    CERTIFICATE_SEARCH {
+        @Override
+        HttpRequest request(Target target, Random random) {
+            String nameContaining = String.valueOf((char) ('a' + random.nextInt(26)));
+            return get(target, "gift-certificates?nameContaining=" + nameContaining
+                    + "&page=" + random.nextInt(5) + "&size=20").build();
+        }
+    },
+
+    /**
+     * Gets a tag by ID.
+     */
+    TAG_LOOKUP {
+        @Override
+        HttpRequest request(Target target, Random random) {
+            return get(target, "tags/" + (1 + random.nextInt(target.getMaxTagId()))).build();
+        }
+    },
+
+    /**
+     * Creates an order of a user for a certificate.
+     */
+    ORDER_CREATION {
+        @Override
+        HttpRequest request(Target target, Random random) {
+            String order = "{\"user\":{\"id\":" + (1 + random.nextInt(target.getMaxUserId()))
+                    + "},\"certificate\":{\"id\":" + (1 + random.nextInt(target.getMaxCertificateId())) + "}}";
+            return HttpRequest.newBuilder(target.getBaseUri().resolve("orders"))
+                    .header("Authorization", "Bearer " + target.getUserToken())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(order))
+                    .build();
+        }
+    },
+
+    /**
+     * Gets the most popular tag of the user with the highest
+     * cost of all orders.
+     */
+    POPULAR_TAG {
+        @Override
+        HttpRequest request(Target target, Random random) {
+            return get(target, "tags/popular")
+                    .header("Authorization", "Bearer " + target.getUserToken())
+                    .build();
+        }
+    };
+
+    /**
+     * Builds a request of the scenario.
+     *
+     * @param target the application under load
+     * @param random the source of the varying parts of the request
+     * @return the request
+     */
+    abstract HttpRequest request(Target target, Random random);
+
+    private static HttpRequest.Builder get(Target target, String path) {
+        return HttpRequest.newBuilder(target.getBaseUri().resolve(path))
+                .header("Accept", "application/json")
+                .GET();
+    }
+
+    /**
+     * The application under load and the ranges of
+     * the IDs of its seeded data.
+     */
+    @Value
+    static class Target {
+        URI baseUri;
+        String userToken;
+        int maxCertificateId;
+        int maxTagId;
+        int maxUserId;
+    }
+}
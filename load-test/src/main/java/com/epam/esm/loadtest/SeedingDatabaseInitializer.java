@@ -0,0 +1,101 @@
+package com.epam.esm.loadtest;
+
+import org.springframework.boot.jdbc.init.DataSourceScriptDatabaseInitializer;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.sql.init.DatabaseInitializationSettings;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Creates the schema and the data of the embedded database from
+ * the MySQL scripts of the {@code model} module, so the load test
+ * runs against the same data as a development database.
+ * <p>
+ * The embedded database runs in MySQL mode, which covers the
+ * tables and the inserts. The statements selecting and recreating
+ * the database, the trigger keeping the creation date of a
+ * certificate, column collations and {@code #} comments have no
+ * counterpart there and are left out.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public class SeedingDatabaseInitializer extends DataSourceScriptDatabaseInitializer {
+
+    private static final List<String> SCHEMA = List.of("classpath:generate-schema-MySQL.sql");
+    private static final List<String> DATA = List.of(
+            "classpath:run-first-certificates.sql",
+            "classpath:run-second-tags.sql",
+            "classpath:run-third-certificates_tags.sql",
+            "classpath:run-fourth-users.sql",
+            "classpath:run-fifth-orders.sql");
+
+    private static final Pattern DATABASE_STATEMENT = Pattern.compile(
+            "(?im)^\\s*(DROP DATABASE|CREATE DATABASE|USE)\\b[^;]*;");
+    private static final Pattern TRIGGER = Pattern.compile("(?is)CREATE TRIGGER\\b.*?\\bEND;");
+    private static final Pattern COLLATION = Pattern.compile("(?i)\\s+COLLATE\\s+\\w+");
+    private static final Pattern HASH_COMMENT = Pattern.compile("(?m)^\\s*#.*$");
+    private static final Pattern ISO_TIMESTAMP = Pattern.compile("'(\\d{4}-\\d{2}-\\d{2})T");
+
+    /**
+     * Creates the initializer of the given data source.
+     *
+     * @param dataSource the embedded data source
+     */
+    public SeedingDatabaseInitializer(DataSource dataSource) {
+        super(dataSource, settings());
+    }
+
+    private static DatabaseInitializationSettings settings() {
+        DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+        settings.setSchemaLocations(SCHEMA);
+        settings.setDataLocations(DATA);
+        settings.setMode(DatabaseInitializationMode.EMBEDDED);
+        settings.setEncoding(StandardCharsets.UTF_8);
+        return settings;
+    }
+
+    @Override
+    protected void runScripts(List<Resource> resources, boolean continueOnError,
+                              String separator, Charset encoding) {
+        List<Resource> adapted = new ArrayList<>(resources.size());
+        for (Resource resource : resources) {
+            adapted.add(new ByteArrayResource(adapt(read(resource, encoding)).getBytes(encoding),
+                    resource.getDescription()));
+        }
+        super.runScripts(adapted, continueOnError, separator, encoding);
+    }
+
+    /**
+     * Removes the MySQL specific parts of a script.
+     *
+     * @param script the MySQL script
+     * @return the script for the embedded database
+     */
+    static String adapt(String script) {
+        String result = DATABASE_STATEMENT.matcher(script).replaceAll("");
+        result = TRIGGER.matcher(result).replaceAll("");
+        result = COLLATION.matcher(result).replaceAll("");
+        result = HASH_COMMENT.matcher(result).replaceAll("");
+        return ISO_TIMESTAMP.matcher(result).replaceAll("'$1 ");
+    }
+
+    private static String read(Resource resource, Charset encoding) {
+        try (InputStream content = resource.getInputStream()) {
+            return StreamUtils.copyToString(content, encoding);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + resource, e);
+        }
+    }
+}
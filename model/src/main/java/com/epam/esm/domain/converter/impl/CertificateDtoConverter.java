@@ -40,7 +40,7 @@ public class CertificateDtoConverter implements DtoConverter<Certificate, Certif
 
     @Override
     public CertificateDto toDto(Certificate certificate) {
-        return new CertificateDto(
+        CertificateDto certificateDto = new CertificateDto(
                 certificate.getId(),
                 certificate.getName(),
                 certificate.getDescription(),
@@ -50,5 +50,7 @@ public class CertificateDtoConverter implements DtoConverter<Certificate, Certif
                 certificate.getLastUpdateDate(),
                 tagConverter.toDto(certificate.getTags())
         );
+        certificateDto.setVersion(certificate.getVersion());
+        return certificateDto;
     }
 }
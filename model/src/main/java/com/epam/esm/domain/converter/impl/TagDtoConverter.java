@@ -25,10 +25,12 @@ public class TagDtoConverter implements DtoConverter<Tag, TagDto> {
 
     @Override
     public TagDto toDto(Tag tag) {
-        return new TagDto(
+        TagDto tagDto = new TagDto(
                 tag.getId(),
                 tag.getName()
         );
+        tagDto.setVersion(tag.getVersion());
+        return tagDto;
     }
 }
 
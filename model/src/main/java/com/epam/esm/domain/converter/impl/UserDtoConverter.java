@@ -28,13 +28,15 @@ public class UserDtoConverter implements DtoConverter<User, UserDto> {
 
     @Override
     public UserDto toDto(User user) {
-        return new UserDto(
+        UserDto userDto = new UserDto(
                 user.getId(),
                 user.getLogin(),
                 user.getEmail(),
                 user.getPassword(),
                 user.getRole()
         );
+        userDto.setVersion(user.getVersion());
+        return userDto;
     }
 }
 
@@ -0,0 +1,26 @@
+package com.epam.esm.domain.entity;
+
+/**
+ * Names of the Hibernate second-level cache regions of the
+ * entities. The regions are configured in {@code ehcache.xml}
+ * of the application.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public final class CacheRegions {
+
+    public static final String CERTIFICATE = "certificate";
+    public static final String CERTIFICATE_TAGS = "certificate.tags";
+    public static final String TAG = "tag";
+    public static final String USER = "user";
+
+    /**
+     * The prefix of the query cache region of an entity region,
+     * e.g. {@code query.certificate}.
+     */
+    public static final String QUERY_PREFIX = "query.";
+
+    private CacheRegions() {
+    }
+}
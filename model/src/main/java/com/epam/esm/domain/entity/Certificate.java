@@ -1,6 +1,8 @@
 package com.epam.esm.domain.entity;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.stereotype.Component;
 
 import javax.persistence.*;
@@ -9,7 +11,6 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Represents relevant entity from database's table
@@ -26,9 +27,10 @@ import java.util.stream.Collectors;
 @EqualsAndHashCode(callSuper = false)
 @ToString
 @NoArgsConstructor
-@AllArgsConstructor
 @Entity
 @Table(name = "certificates")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CERTIFICATE)
 public class Certificate extends AbstractEntity implements Serializable {
 
     @Id
@@ -54,6 +56,11 @@ public class Certificate extends AbstractEntity implements Serializable {
     @Column(name = "last_update_date", nullable = false)
     private LocalDateTime lastUpdateDate;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    @EqualsAndHashCode.Exclude
+    private long version;
+
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
     @ManyToMany(cascade = {
@@ -63,6 +70,7 @@ public class Certificate extends AbstractEntity implements Serializable {
             joinColumns = @JoinColumn(name = "certificate_id", nullable = false),
             inverseJoinColumns = @JoinColumn(name = "tag_id", nullable = false)
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CERTIFICATE_TAGS)
     private Set<Tag> tags = new HashSet<>();
 
     /**
@@ -93,21 +101,27 @@ public class Certificate extends AbstractEntity implements Serializable {
     }
 
     /**
-     * Merges the given set of tags with the existing tags
-     * of the certificate, updating the set of tags.
-     * If a tag already exists, it will be updated with the new values.
+     * Constructs a certificate with the given parameters and tags.
      *
-     * @param newTags The set of tags to merge.
+     * @param id The ID of the certificate.
+     * @param name The name of the certificate.
+     * @param description The description of the certificate.
+     * @param price The price of the certificate.
+     * @param duration The duration of the certificate in days.
+     * @param createDate The creation date of the certificate.
+     * @param lastUpdateDate The last update date of the certificate.
+     * @param tags The tags of the certificate.
      */
-    public void mergeTags(Set<Tag> newTags) {
-        Set<Long> newTagsIds = newTags.stream()
-                .map(Tag::getId)
-                .collect(Collectors.toSet());
-        Set<Tag> duplicatedTags = this.tags.stream()
-                .filter(sourceTag -> newTagsIds.contains(sourceTag.getId()))
-                .collect(Collectors.toSet());
-        this.tags.removeAll(duplicatedTags);
-        this.tags.addAll(newTags);
+    public Certificate(Long id,
+                       String name,
+                       String description,
+                       BigDecimal price,
+                       Integer duration,
+                       LocalDateTime createDate,
+                       LocalDateTime lastUpdateDate,
+                       Set<Tag> tags) {
+        this(id, name, description, price, duration, createDate, lastUpdateDate);
+        this.tags = tags;
     }
 
     /**
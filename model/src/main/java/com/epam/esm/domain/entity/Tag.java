@@ -1,6 +1,8 @@
 package com.epam.esm.domain.entity;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.io.Serializable;
@@ -15,9 +17,10 @@ import java.io.Serializable;
 @EqualsAndHashCode(callSuper = false)
 @ToString
 @NoArgsConstructor
-@AllArgsConstructor
 @Entity
 @Table(name = "tags")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = CacheRegions.TAG)
 public class Tag extends AbstractEntity implements Serializable {
     private static final long serialVersionUID = 4970441839353680890L;
 
@@ -28,4 +31,20 @@ public class Tag extends AbstractEntity implements Serializable {
 
     @Column(name = "name", unique = true, nullable = false)
     private String name;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    @EqualsAndHashCode.Exclude
+    private long version;
+
+    /**
+     * Constructs a tag with the given ID and name.
+     *
+     * @param id The ID of the tag.
+     * @param name The name of the tag.
+     */
+    public Tag(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
 }
@@ -2,6 +2,8 @@ package com.epam.esm.domain.entity;
 
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.io.Serializable;
@@ -16,10 +18,11 @@ import java.io.Serializable;
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 @EqualsAndHashCode(callSuper = false)
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USER)
 public class User extends AbstractEntity implements Serializable {
     private static final long serialVersionUID = -3722920263866649342L;
 
@@ -40,4 +43,26 @@ public class User extends AbstractEntity implements Serializable {
     @Column(name = "role", nullable = false)
     @Enumerated(value = EnumType.STRING)
     private Role role;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    @EqualsAndHashCode.Exclude
+    private long version;
+
+    /**
+     * Constructs a user with the given parameters.
+     *
+     * @param id The ID of the user.
+     * @param login The login of the user.
+     * @param email The email of the user.
+     * @param password The encoded password of the user.
+     * @param role The role of the user.
+     */
+    public User(Long id, String login, String email, String password, Role role) {
+        this.id = id;
+        this.login = login;
+        this.email = email;
+        this.password = password;
+        this.role = role;
+    }
 }
@@ -27,7 +27,6 @@ import static com.epam.esm.domain.validation.ValidationConstants.*;
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 public class CertificateDto extends RepresentationModel<CertificateDto> {
 
@@ -60,4 +59,30 @@ public class CertificateDto extends RepresentationModel<CertificateDto> {
     private LocalDateTime lastUpdateDate;
 
     private Set<@Valid TagDto> tags = new HashSet<>();
+
+    /**
+     * The version of the certificate, sent as the ETag of the
+     * resource rather than in the body.
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private Long version;
+
+    public CertificateDto(Long id,
+                          String name,
+                          String description,
+                          BigDecimal price,
+                          Integer duration,
+                          LocalDateTime createDate,
+                          LocalDateTime lastUpdateDate,
+                          Set<TagDto> tags) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.duration = duration;
+        this.createDate = createDate;
+        this.lastUpdateDate = lastUpdateDate;
+        this.tags = tags;
+    }
 }
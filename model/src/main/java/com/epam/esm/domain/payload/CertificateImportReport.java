@@ -0,0 +1,42 @@
+package com.epam.esm.domain.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The result of a bulk import of gift certificates. Rows are
+ * numbered from one in the order of the upload, not counting the
+ * CSV header and blank NDJSON lines.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CertificateImportReport {
+
+    private long imported;
+    private long failed;
+
+    /**
+     * The errors of the failed rows. Only the first errors are
+     * reported, {@link #failed} counts all of them.
+     */
+    private List<RowError> errors = new ArrayList<>();
+
+    /**
+     * The errors of a single row that was not imported.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long row;
+        private List<String> messages;
+    }
+}
@@ -0,0 +1,43 @@
+package com.epam.esm.domain.payload;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static com.epam.esm.domain.validation.ValidationConstants.TIME_PATTERN;
+
+/**
+ * A flat row of an order export. Unlike {@link OrderDto} it
+ * carries only the IDs and names of the user and the certificate
+ * and no HATEOAS links, so it can be written as a single JSON
+ * line or CSV record.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonPropertyOrder({"id", "cost", "createDate", "userId", "userLogin", "certificateId", "certificateName"})
+public class OrderExportRow {
+
+    private Long id;
+
+    private BigDecimal cost;
+
+    @JsonFormat(pattern = TIME_PATTERN)
+    private LocalDateTime createDate;
+
+    private Long userId;
+
+    private String userLogin;
+
+    private Long certificateId;
+
+    private String certificateName;
+}
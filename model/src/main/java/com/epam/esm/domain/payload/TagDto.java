@@ -2,6 +2,7 @@ package com.epam.esm.domain.payload;
 
 import com.epam.esm.domain.validation.OnCreate;
 import com.epam.esm.domain.validation.OnUpdate;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 import org.springframework.hateoas.RepresentationModel;
 
@@ -21,7 +22,6 @@ import static com.epam.esm.domain.validation.ValidationConstants.*;
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 public class TagDto extends RepresentationModel<TagDto> {
 
@@ -33,4 +33,17 @@ public class TagDto extends RepresentationModel<TagDto> {
     @NotNull(message = TAG_NAME_NULL)
     @Pattern(regexp = ENTITY_NAME_REGEXP, message = TAG_INVALID_NAME)
     private String name;
+
+    /**
+     * The version of the tag, sent as the ETag of the
+     * resource rather than in the body.
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private Long version;
+
+    public TagDto(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
 }
@@ -3,8 +3,8 @@ package com.epam.esm.domain.payload;
 import com.epam.esm.domain.entity.Role;
 import com.epam.esm.domain.validation.OnCreate;
 import com.epam.esm.domain.validation.OnUpdate;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -22,7 +22,6 @@ import static com.epam.esm.domain.validation.ValidationConstants.*;
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 public class UserDto extends RepresentationModel<UserDto> {
 
@@ -46,4 +45,20 @@ public class UserDto extends RepresentationModel<UserDto> {
 
     @NotNull(message = USER_ROLE_NULL)
     private Role role;
+
+    /**
+     * The version of the user, sent as the ETag of the
+     * resource rather than in the body.
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private Long version;
+
+    public UserDto(Long id, String login, String email, String password, Role role) {
+        this.id = id;
+        this.login = login;
+        this.email = email;
+        this.password = password;
+        this.role = role;
+    }
 }
@@ -42,6 +42,10 @@ public final class ValidationConstants {
     public static final String ORDER_ID_NULL = "order.id.null";
     public static final String ORDER_NOT_FOUND = "order.not.found";
     public static final String CHANGE_FILLED_ORDER = "forbidden.change.filled.order";
+    public static final String ORDER_BATCH_INVALID_SIZE = "order.batch.invalid.size";
+    public static final String CERTIFICATE_IMPORT_MALFORMED_ROW = "certificate.import.malformed.row";
+    public static final String CERTIFICATE_IMPORT_NAME_EXISTS = "certificate.import.name.exists";
+    public static final String CERTIFICATE_IMPORT_ROWS_NOT_SAVED = "certificate.import.rows.not.saved";
 
     public static final String TAG_ON_CREATE_VIOLATION = "tag.id.on-create.violation";
     public static final String TAG_INVALID_ID = "tag.invalid.id";
@@ -67,6 +71,8 @@ public final class ValidationConstants {
 
     public static final String INVALID_PAGE = "invalid.page.value";
     public static final String INVALID_SIZE = "invalid.size.limit";
+    public static final String INVALID_CURSOR = "invalid.page.cursor";
+    public static final String INVALID_SORT = "invalid.sort.property";
 
     public static final String ENTITY_NAME_REGEXP = "^[\\p{L}][\\p{L} \\-']{0,30}[\\p{L}]$";
     public static final String EMAIL_REGEXP = "^\\w+([.-]?\\w+){0,249}@\\w+([.-]?\\w+){0,249}(\\.\\w{2,3}){1,249}$";
@@ -1,5 +1,7 @@
 -- -----------------------------------------------------
 -- Schema gift_certificates
+-- The INVISIBLE version columns need MySQL 8.0.23 or later;
+-- migrate-version-columns-MySQL.sql adds them to an existing schema
 -- -----------------------------------------------------
 DROP DATABASE IF EXISTS gift_certificates;
 CREATE DATABASE IF NOT EXISTS gift_certificates DEFAULT CHARACTER SET utf8;
@@ -17,7 +19,8 @@ CREATE TABLE IF NOT EXISTS certificates
     price            DECIMAL(9, 2) NOT NULL,
     duration         INT UNSIGNED  NOT NULL,
     create_date      DATETIME(3)   NOT NULL,
-    last_update_date DATETIME(3)   NOT NULL
+    last_update_date DATETIME(3)   NOT NULL,
+    version          BIGINT        NOT NULL DEFAULT 0 INVISIBLE
 );
 
 CREATE TRIGGER do_immutable_create_date
@@ -35,8 +38,9 @@ END;
 CREATE TABLE IF NOT EXISTS tags
 (
     PRIMARY KEY (id),
-    id   INT UNSIGNED NOT NULL AUTO_INCREMENT,
-    name VARCHAR(32)  NOT NULL UNIQUE
+    id      INT UNSIGNED NOT NULL AUTO_INCREMENT,
+    name    VARCHAR(32)  NOT NULL UNIQUE,
+    version BIGINT       NOT NULL DEFAULT 0 INVISIBLE
 );
 
 
@@ -69,7 +73,8 @@ CREATE TABLE IF NOT EXISTS users
     login    VARCHAR(32) COLLATE utf8_bin NOT NULL UNIQUE,
     email    VARCHAR(255)                 NOT NULL UNIQUE,
     password VARCHAR(512)                 NOT NULL,
-    role     VARCHAR(15)                  NOT NULL
+    role     VARCHAR(15)                  NOT NULL,
+    version  BIGINT                       NOT NULL DEFAULT 0 INVISIBLE
 );
 
 
@@ -90,3 +95,105 @@ CREATE TABLE IF NOT EXISTS orders
         ON DELETE CASCADE
         ON UPDATE CASCADE
 );
+
+
+-- -----------------------------------------------------
+-- Table oauth2_registered_client
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS oauth2_registered_client
+(
+    PRIMARY KEY (id),
+    id                            VARCHAR(100)                        NOT NULL,
+    client_id                     VARCHAR(100)                        NOT NULL UNIQUE,
+    client_id_issued_at           TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    client_secret                 VARCHAR(200)                        NULL,
+    client_secret_expires_at      TIMESTAMP                           NULL,
+    client_name                   VARCHAR(200)                        NOT NULL,
+    client_authentication_methods VARCHAR(1000)                       NOT NULL,
+    authorization_grant_types     VARCHAR(1000)                       NOT NULL,
+    redirect_uris                 VARCHAR(1000)                       NULL,
+    scopes                        VARCHAR(1000)                       NOT NULL,
+    client_settings               VARCHAR(2000)                       NOT NULL,
+    token_settings                VARCHAR(2000)                       NOT NULL
+);
+
+
+-- -----------------------------------------------------
+-- Table oauth2_authorization
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS oauth2_authorization
+(
+    PRIMARY KEY (id),
+    id                            VARCHAR(100)  NOT NULL,
+    registered_client_id          VARCHAR(100)  NOT NULL,
+    principal_name                VARCHAR(200)  NOT NULL,
+    authorization_grant_type      VARCHAR(100)  NOT NULL,
+    attributes                    BLOB          NULL,
+    state                         VARCHAR(500)  NULL,
+    authorization_code_value      BLOB          NULL,
+    authorization_code_issued_at  TIMESTAMP     NULL,
+    authorization_code_expires_at TIMESTAMP     NULL,
+    authorization_code_metadata   BLOB          NULL,
+    access_token_value            BLOB          NULL,
+    access_token_issued_at        TIMESTAMP     NULL,
+    access_token_expires_at       TIMESTAMP     NULL,
+    access_token_metadata         BLOB          NULL,
+    access_token_type             VARCHAR(100)  NULL,
+    access_token_scopes           VARCHAR(1000) NULL,
+    oidc_id_token_value           BLOB          NULL,
+    oidc_id_token_issued_at       TIMESTAMP     NULL,
+    oidc_id_token_expires_at      TIMESTAMP     NULL,
+    oidc_id_token_metadata        BLOB          NULL,
+    refresh_token_value           BLOB          NULL,
+    refresh_token_issued_at       TIMESTAMP     NULL,
+    refresh_token_expires_at      TIMESTAMP     NULL,
+    refresh_token_metadata        BLOB          NULL,
+    expires_at                    DATETIME(3)   NULL,
+    INDEX (expires_at)
+);
+
+
+-- -----------------------------------------------------
+-- Table oauth2_authorization_token: the SHA-256 hashes of the
+-- state, code and tokens of the authorizations, so that a token
+-- is found by its primary key instead of a scan of the blobs
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS oauth2_authorization_token
+(
+    PRIMARY KEY (token_hash),
+    token_hash       BINARY(32)   NOT NULL,
+    token_type       VARCHAR(32)  NOT NULL,
+    authorization_id VARCHAR(100) NOT NULL,
+    expires_at       DATETIME(3)  NOT NULL,
+    INDEX (authorization_id),
+    FOREIGN KEY (authorization_id)
+        REFERENCES oauth2_authorization (id)
+        ON DELETE CASCADE
+        ON UPDATE CASCADE
+);
+
+
+-- -----------------------------------------------------
+-- Table oauth2_authorization_consent
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS oauth2_authorization_consent
+(
+    PRIMARY KEY (registered_client_id, principal_name),
+    registered_client_id VARCHAR(100)  NOT NULL,
+    principal_name       VARCHAR(200)  NOT NULL,
+    authorities          VARCHAR(1000) NOT NULL
+);
+
+
+-- -----------------------------------------------------
+-- Table oauth2_signing_keys: the signing keys of the
+-- authorization server, shared by all its nodes, as one
+-- JWK set document written with a compare-and-set on version
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS oauth2_signing_keys
+(
+    PRIMARY KEY (id),
+    id      TINYINT UNSIGNED NOT NULL,
+    jwk_set TEXT             NOT NULL,
+    version BIGINT           NOT NULL
+);
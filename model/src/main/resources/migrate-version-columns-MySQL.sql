@@ -0,0 +1,17 @@
+-- -----------------------------------------------------
+-- Adds the version columns of the optimistic locking to a
+-- gift_certificates schema created before they were added to
+-- generate-schema-MySQL.sql. The columns are INVISIBLE, so the
+-- positional INSERTs of the seed scripts keep working, which
+-- needs MySQL 8.0.23 or later. Existing rows start at version 0.
+-- -----------------------------------------------------
+USE gift_certificates;
+
+ALTER TABLE certificates
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0 INVISIBLE;
+
+ALTER TABLE tags
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0 INVISIBLE;
+
+ALTER TABLE users
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0 INVISIBLE;
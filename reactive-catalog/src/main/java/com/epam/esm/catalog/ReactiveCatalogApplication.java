@@ -0,0 +1,29 @@
+package com.epam.esm.catalog;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * The read-only catalog of gift certificates and tags served
+ * with WebFlux and R2DBC. It answers the catalog queries of the
+ * resource server with the same JSON, so a gateway can route
+ * {@code GET /api/v1/gift-certificates}, {@code GET /api/v1/tags}
+ * and {@code GET /api/v1/tags/{id}/gift-certificates} to it.
+ * <p>
+ * Only the {@code com.epam.esm.catalog} package is scanned: the
+ * shared modules also hold JPA entities and the servlet exception
+ * handler, which have no place in a reactive application.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@SpringBootApplication
+public class ReactiveCatalogApplication {
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(ReactiveCatalogApplication.class);
+        application.setWebApplicationType(WebApplicationType.REACTIVE);
+        application.run(args);
+    }
+}
@@ -0,0 +1,87 @@
+package com.epam.esm.catalog.config;
+
+import com.epam.esm.exceptions.Translator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.HalConfiguration;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+/**
+ * Configures the catalog to read requests and write responses like
+ * the resource server: pageable arguments with the same defaults and
+ * limits, links of the DTOs rendered as HAL {@code _links}, and the
+ * error messages resolved from the shared message bundles.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Configuration
+public class CatalogWebConfig implements WebFluxConfigurer {
+
+    @Value("${sort.default.entity-field}")
+    private String defaultSortField;
+
+    @Value("${page-size.default}")
+    private int defaultPageSize;
+
+    @Value("${page-size.max}")
+    private int maxPageSize;
+
+    @Value("${message.source}")
+    private String messageSourceBasename;
+
+    @Value("${message.source.default-encoding}")
+    private String messageSourceEncoding;
+
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        ReactivePageableHandlerMethodArgumentResolver resolver = new ReactivePageableHandlerMethodArgumentResolver();
+        resolver.setFallbackPageable(PageRequest.of(0, defaultPageSize, Sort.by(defaultSortField)));
+        resolver.setMaxPageSize(maxPageSize);
+        configurer.addCustomResolver(resolver);
+    }
+
+    /**
+     * The DTOs extend {@code RepresentationModel}, so their links are
+     * written in the HAL format for every JSON media type, as the
+     * resource server does.
+     */
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        objectMapper.registerModule(new Jackson2HalModule());
+        objectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DefaultLinkRelationProvider(), CurieProvider.NONE, new HalConfiguration()));
+        configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper,
+                MediaType.APPLICATION_JSON, MediaTypes.HAL_JSON, MediaType.APPLICATION_NDJSON));
+    }
+
+    @Bean
+    public ResourceBundleMessageSource messageSource() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename(messageSourceBasename);
+        messageSource.setDefaultEncoding(messageSourceEncoding);
+        messageSource.setUseCodeAsDefaultMessage(true);
+        return messageSource;
+    }
+
+    @Bean
+    public Translator translator(ResourceBundleMessageSource messageSource) {
+        return new Translator(messageSource);
+    }
+}
@@ -0,0 +1,92 @@
+package com.epam.esm.catalog.controller;
+
+import com.epam.esm.catalog.repository.CertificateCatalogRepository;
+import com.epam.esm.catalog.repository.TagCatalogRepository;
+import com.epam.esm.domain.payload.CertificateDto;
+import com.epam.esm.domain.payload.CertificateFilterDto;
+import com.epam.esm.domain.payload.TagDto;
+import com.epam.esm.domain.payload.TagFilterDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * The catalog queries of the gift certificates and tags API.
+ * The parameters and the JSON of the responses are those of the
+ * resource server; requests accepting {@code application/x-ndjson}
+ * get the items streamed as they are read.
+ * <p>
+ * The catalog pages by offset only and writes the items as they
+ * are read, before the whole page is known. It therefore sends no
+ * {@code ETag} and answers no {@code If-None-Match} with 304, and it
+ * does not support the keyset pages requested with {@code after},
+ * nor the {@code Link} header pointing to the next keyset page.
+ * Clients relying on conditional requests or keyset pages must
+ * be routed to the resource server.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@RestController
+@RequestMapping("api/v1")
+@RequiredArgsConstructor
+public class CatalogController {
+
+    private final CertificateCatalogRepository certificateRepository;
+    private final TagCatalogRepository tagRepository;
+    private final CatalogLinks links;
+
+    /**
+     * Gets a page of the gift certificates matching the filter.
+     *
+     * @param certificateFilterDto the filter parameters
+     * @param pageable             the page, size and sort parameters
+     * @param request              the current request
+     * @return the certificates of the page
+     */
+    @GetMapping("/gift-certificates")
+    public Flux<CertificateDto> getAllCertificates(CertificateFilterDto certificateFilterDto,
+                                                   Pageable pageable,
+                                                   ServerHttpRequest request) {
+        return links.addCertificateLinks(certificateRepository.findAll(certificateFilterDto, pageable), request);
+    }
+
+    /**
+     * Gets a page of the tags matching the filter.
+     *
+     * @param tagFilterDto the filter parameters
+     * @param pageable     the page, size and sort parameters
+     * @param request      the current request
+     * @return the tags of the page
+     */
+    @GetMapping("/tags")
+    public Flux<TagDto> getAllTags(TagFilterDto tagFilterDto,
+                                   Pageable pageable,
+                                   ServerHttpRequest request) {
+        return links.addTagLinks(tagRepository.findAll(tagFilterDto, pageable), request);
+    }
+
+    /**
+     * Gets a page of the gift certificates with the tag
+     * matching the filter.
+     *
+     * @param tagId                the id of the tag
+     * @param certificateFilterDto the filter parameters
+     * @param pageable             the page, size and sort parameters
+     * @param request              the current request
+     * @return the certificates of the page
+     */
+    @GetMapping("/tags/{tag-id}/gift-certificates")
+    public Flux<CertificateDto> getGiftCertificatesByTagId(@PathVariable("tag-id") Long tagId,
+                                                           CertificateFilterDto certificateFilterDto,
+                                                           Pageable pageable,
+                                                           ServerHttpRequest request) {
+        return links.addCertificateLinks(
+                certificateRepository.findAllByTagId(tagId, certificateFilterDto, pageable), request);
+    }
+}
@@ -0,0 +1,92 @@
+package com.epam.esm.catalog.controller;
+
+import com.epam.esm.exceptions.ApiErrorResponse;
+import com.epam.esm.exceptions.InvalidResourcePropertyException;
+import com.epam.esm.exceptions.Translator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.Locale;
+
+import static com.epam.esm.exceptions.ErrorCodes.INTERNAL_SERVER_ERROR;
+import static com.epam.esm.exceptions.ErrorCodes.METHOD_ARGUMENT_TYPE_MISTMATCH;
+import static com.epam.esm.exceptions.ExceptionConstants.SERVER_ERROR_500;
+
+/**
+ * Writes the errors of the catalog as {@link ApiErrorResponse}s,
+ * with the codes and localized messages of the resource server.
+ * WebFlux does not populate {@code LocaleContextHolder}, so the
+ * locale is resolved from the exchange by its locale context
+ * resolver, from the Accept-Language header by default.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Slf4j
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class CatalogExceptionHandler {
+
+    private final Translator translator;
+
+    /**
+     * Handles invalid filter, page and sort parameters.
+     *
+     * @param ex       the exception
+     * @param exchange the current exchange
+     * @return the error with the status 400 - BAD_REQUEST
+     */
+    @ExceptionHandler(InvalidResourcePropertyException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidResourceProperty(InvalidResourcePropertyException ex,
+                                                                          ServerWebExchange exchange) {
+        log.warn(ex.getMessage(), ex);
+        ApiErrorResponse apiErrorResponse = new ApiErrorResponse();
+        apiErrorResponse.setErrorCode(ex.getErrorCode());
+        apiErrorResponse.setErrorMessage(
+                String.format("%s %s", translator.toLocale(ex.getMessage(), locale(exchange)), ex.getDetails()));
+        return new ResponseEntity<>(apiErrorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles request parameters that cannot be converted,
+     * such as a malformed date or a non-numeric id.
+     *
+     * @param ex the exception
+     * @return the error with the status 400 - BAD_REQUEST
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ApiErrorResponse> handleServerWebInput(ServerWebInputException ex) {
+        log.warn(ex.getMessage(), ex);
+        ApiErrorResponse apiErrorResponse = new ApiErrorResponse();
+        apiErrorResponse.setErrorCode(METHOD_ARGUMENT_TYPE_MISTMATCH.stringCode());
+        apiErrorResponse.setErrorMessage(ex.getReason());
+        return new ResponseEntity<>(apiErrorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles all other exceptions and errors.
+     *
+     * @param ex       the exception or error
+     * @param exchange the current exchange
+     * @return the error with the status 500 - INTERNAL_SERVER_ERROR
+     */
+    @ExceptionHandler(Throwable.class)
+    public ResponseEntity<ApiErrorResponse> handleAllExceptionsAndErrors(Throwable ex, ServerWebExchange exchange) {
+        log.error(ex.getMessage(), ex);
+        ApiErrorResponse apiErrorResponse = new ApiErrorResponse();
+        apiErrorResponse.setErrorCode(INTERNAL_SERVER_ERROR.stringCode());
+        apiErrorResponse.setErrorMessage(translator.toLocale(SERVER_ERROR_500, locale(exchange)));
+        return new ResponseEntity<>(apiErrorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    private static Locale locale(ServerWebExchange exchange) {
+        Locale locale = exchange.getLocaleContext().getLocale();
+        return locale == null ? Locale.getDefault() : locale;
+    }
+}
@@ -0,0 +1,109 @@
+package com.epam.esm.catalog.controller;
+
+import com.epam.esm.domain.payload.CertificateDto;
+import com.epam.esm.domain.payload.TagDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Adds the links of the resource server to the catalog DTOs, with
+ * the same relations and hrefs, so clients following them do not
+ * see which application answered. Like the resource server, no
+ * links are added when the request has the {@code links=none}
+ * parameter.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Component
+public class CatalogLinks {
+
+    private static final String LINKS_PARAMETER = "links";
+    private static final String NO_LINKS = "none";
+    private static final String CERTIFICATES = "/api/v1/gift-certificates";
+    private static final String TAGS = "/api/v1/tags";
+
+    private final String firstPage;
+
+    public CatalogLinks(@Value("${page-size.default}") int defaultSize) {
+        this.firstPage = "?page=0&size=" + defaultSize;
+    }
+
+    /**
+     * Adds the links to the certificates and to their tags.
+     *
+     * @param certificates the certificates
+     * @param request      the current request
+     * @return the certificates with the links
+     */
+    public Flux<CertificateDto> addCertificateLinks(Flux<CertificateDto> certificates, ServerHttpRequest request) {
+        if (linksOmitted(request)) {
+            return certificates;
+        }
+        String base = baseUri(request);
+        return certificates.map(certificate -> {
+            String self = base + CERTIFICATES + "/" + certificate.getId();
+            certificate.add(Link.of(self, IanaLinkRelations.SELF));
+            certificate.add(Link.of(self, "delete"));
+            certificate.add(Link.of(self, "update"));
+            certificate.add(Link.of(base + CERTIFICATES, "create"));
+            certificate.add(Link.of(base + CERTIFICATES + firstPage, "gift-certificates"));
+            certificate.getTags().forEach(tag -> addLinks(tag, base));
+            return certificate;
+        });
+    }
+
+    /**
+     * Adds the links to the tags.
+     *
+     * @param tags    the tags
+     * @param request the current request
+     * @return the tags with the links
+     */
+    public Flux<TagDto> addTagLinks(Flux<TagDto> tags, ServerHttpRequest request) {
+        if (linksOmitted(request)) {
+            return tags;
+        }
+        String base = baseUri(request);
+        return tags.map(tag -> addLinks(tag, base));
+    }
+
+    private TagDto addLinks(TagDto tag, String base) {
+        String self = base + TAGS + "/" + tag.getId();
+        tag.add(Link.of(self, IanaLinkRelations.SELF));
+        tag.add(Link.of(self, "delete"));
+        tag.add(Link.of(self, "update"));
+        tag.add(Link.of(base + TAGS, "create"));
+        tag.add(Link.of(base + TAGS + "/popular", "most-popular-tag"));
+        tag.add(Link.of(base + TAGS + firstPage, "tags"));
+        tag.add(Link.of(self + "/gift-certificates" + firstPage, "gift-certificates-by-tag-id"));
+        tag.add(Link.of(base + TAGS + "/name/" + UriUtils.encodePathSegment(tag.getName(), StandardCharsets.UTF_8)
+                + "/gift-certificates" + firstPage, "gift-certificates-by-tag-name"));
+        return tag;
+    }
+
+    private static boolean linksOmitted(ServerHttpRequest request) {
+        return NO_LINKS.equals(request.getQueryParams().getFirst(LINKS_PARAMETER));
+    }
+
+    /**
+     * Returns the base URI of the application as seen by the client;
+     * the forwarded headers are already applied to the request.
+     */
+    private static String baseUri(ServerHttpRequest request) {
+        return UriComponentsBuilder.fromUri(request.getURI())
+                .replacePath(request.getPath().contextPath().value())
+                .replaceQuery(null)
+                .fragment(null)
+                .build()
+                .toUriString();
+    }
+}
@@ -0,0 +1,150 @@
+package com.epam.esm.catalog.repository;
+
+import com.epam.esm.domain.payload.CertificateDto;
+import com.epam.esm.domain.payload.CertificateFilterDto;
+import com.epam.esm.domain.payload.TagDto;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Reads pages of gift certificates with their tags.
+ * <p>
+ * A page is read with a single query: the filtered, sorted and
+ * limited certificates form a derived table that is joined with
+ * their tags, ordered by the same keys. The joined rows of one
+ * certificate are therefore adjacent and are folded into a DTO as
+ * soon as the next certificate starts, so certificates are emitted
+ * while the result is still being read and only one of them is held
+ * in memory at a time.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class CertificateCatalogRepository {
+
+    /**
+     * The columns by the sortable properties of {@link CertificateDto}.
+     */
+    static final Map<String, String> SORTABLE_COLUMNS = Map.of(
+            "id", "id",
+            "name", "name",
+            "description", "description",
+            "price", "price",
+            "duration", "duration",
+            "createDate", "create_date",
+            "lastUpdateDate", "last_update_date");
+
+    private static final String SELECT = "SELECT c.id, c.name, c.description, c.price, c.duration,"
+            + " c.create_date, c.last_update_date, t.id AS tag_id, t.name AS tag_name"
+            + " FROM (SELECT * FROM certificates c%s%s%s) c"
+            + " LEFT JOIN certificates_tags ct ON ct.certificate_id = c.id"
+            + " LEFT JOIN tags t ON t.id = ct.tag_id%s, t.id";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Finds a page of the certificates matching the filter.
+     *
+     * @param filter   the filter
+     * @param pageable the page request
+     * @return the certificates of the page, in order
+     */
+    public Flux<CertificateDto> findAll(CertificateFilterDto filter, Pageable pageable) {
+        return find(filter(filter), pageable);
+    }
+
+    /**
+     * Finds a page of the certificates with the tag matching the filter.
+     *
+     * @param tagId    the id of the tag
+     * @param filter   the filter
+     * @param pageable the page request
+     * @return the certificates of the page, in order; none if
+     *         the tag does not exist
+     */
+    public Flux<CertificateDto> findAllByTagId(Long tagId, CertificateFilterDto filter, Pageable pageable) {
+        return find(filter(filter).condition(
+                "c.id IN (SELECT certificate_id FROM certificates_tags WHERE tag_id = ?)", tagId), pageable);
+    }
+
+    /**
+     * Builds the filter of the resource server for certificates.
+     *
+     * @param filter the filter parameters of the request
+     * @return the filter
+     */
+    static SqlFilter filter(CertificateFilterDto filter) {
+        return new SqlFilter()
+                .equal("c.name", filter.getName())
+                .equal("c.description", filter.getDescription())
+                .equal("c.price", filter.getPrice())
+                .equal("c.duration", filter.getDuration())
+                .equal("c.create_date", filter.getCreateDate())
+                .equal("c.last_update_date", filter.getLastUpdateDate())
+                .containing("c.name", filter.getNameContaining())
+                .containing("c.description", filter.getDescriptionContaining());
+    }
+
+    private Flux<CertificateDto> find(SqlFilter filter, Pageable pageable) {
+        String orderBy = SqlPage.orderBy(pageable, SORTABLE_COLUMNS, "c");
+        String sql = String.format(SELECT, filter.where(), orderBy, SqlPage.limit(pageable), orderBy);
+        return filter.bind(databaseClient.sql(sql), 0)
+                .map(CertificateCatalogRepository::toRow)
+                .all()
+                .bufferUntilChanged(CertificateRow::getId)
+                .map(CertificateCatalogRepository::toDto);
+    }
+
+    private static CertificateRow toRow(Row row) {
+        return new CertificateRow(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                row.get("price", BigDecimal.class),
+                row.get("duration", Integer.class),
+                row.get("create_date", LocalDateTime.class),
+                row.get("last_update_date", LocalDateTime.class),
+                row.get("tag_id", Long.class),
+                row.get("tag_name", String.class));
+    }
+
+    private static CertificateDto toDto(List<CertificateRow> rows) {
+        CertificateRow first = rows.get(0);
+        LinkedHashSet<TagDto> tags = new LinkedHashSet<>();
+        rows.stream()
+                .filter(row -> Objects.nonNull(row.getTagId()))
+                .forEach(row -> tags.add(new TagDto(row.getTagId(), row.getTagName())));
+        return new CertificateDto(first.getId(), first.getName(), first.getDescription(), first.getPrice(),
+                first.getDuration(), first.getCreateDate(), first.getLastUpdateDate(), tags);
+    }
+
+    /**
+     * A row of the join: a certificate and one of its tags, if any.
+     */
+    @Value
+    private static class CertificateRow {
+        Long id;
+        String name;
+        String description;
+        BigDecimal price;
+        Integer duration;
+        LocalDateTime createDate;
+        LocalDateTime lastUpdateDate;
+        Long tagId;
+        String tagName;
+    }
+}
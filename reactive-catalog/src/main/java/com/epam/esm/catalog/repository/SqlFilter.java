@@ -0,0 +1,107 @@
+package com.epam.esm.catalog.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The {@code WHERE} clause of a catalog query and its bind values.
+ * <p>
+ * It follows the semantics of the filter specifications of the
+ * resource server: a field is ignored when its value is {@code null}
+ * or an empty string, exact fields are compared with {@code =}, and
+ * substring fields match the lower-cased column with {@code LIKE}.
+ * As in the filter specifications, {@code %} and {@code _} in a
+ * substring are not escaped and act as wildcards, so a filter
+ * returns the same rows on both servers.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public final class SqlFilter {
+
+    private final List<String> conditions = new ArrayList<>();
+    private final List<Object> values = new ArrayList<>();
+
+    /**
+     * Adds a comparison of the column with the value, if it is set.
+     *
+     * @param column the column
+     * @param value  the value of the filter field
+     * @return this filter
+     */
+    public SqlFilter equal(String column, Object value) {
+        return isSet(value) ? condition(column + " = ?", value) : this;
+    }
+
+    /**
+     * Adds a case-insensitive substring match of the column,
+     * if the value is set.
+     *
+     * @param column the column
+     * @param value  the substring
+     * @return this filter
+     */
+    public SqlFilter containing(String column, String value) {
+        return isSet(value) ? condition("LOWER(" + column + ") LIKE ?", likePattern(value)) : this;
+    }
+
+    /**
+     * Adds a condition with a single bind parameter.
+     *
+     * @param condition the condition with one {@code ?} placeholder
+     * @param value     the value of the placeholder
+     * @return this filter
+     */
+    public SqlFilter condition(String condition, Object value) {
+        conditions.add(condition);
+        values.add(value);
+        return this;
+    }
+
+    /**
+     * Returns the {@code WHERE} clause with a leading space,
+     * or an empty string if no condition is set.
+     *
+     * @return the clause
+     */
+    public String where() {
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    /**
+     * Returns the bind values in the order of the placeholders.
+     *
+     * @return the values
+     */
+    public List<Object> getValues() {
+        return Collections.unmodifiableList(values);
+    }
+
+    /**
+     * Binds the values to the placeholders of the clause, starting
+     * at the given index.
+     *
+     * @param spec  the statement
+     * @param first the index of the first placeholder of the clause
+     * @return the statement with the values bound
+     */
+    public GenericExecuteSpec bind(GenericExecuteSpec spec, int first) {
+        GenericExecuteSpec bound = spec;
+        for (int i = 0; i < values.size(); i++) {
+            bound = bound.bind(first + i, values.get(i));
+        }
+        return bound;
+    }
+
+    private static boolean isSet(Object value) {
+        return value != null && !(value instanceof String && ((String) value).isEmpty());
+    }
+
+    private static String likePattern(String value) {
+        return '%' + value.toLowerCase(Locale.ROOT) + '%';
+    }
+}
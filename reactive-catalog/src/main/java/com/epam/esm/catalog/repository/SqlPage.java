@@ -0,0 +1,67 @@
+package com.epam.esm.catalog.repository;
+
+import com.epam.esm.exceptions.ErrorCodes;
+import com.epam.esm.exceptions.InvalidResourcePropertyException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Map;
+import java.util.StringJoiner;
+
+import static com.epam.esm.domain.validation.ValidationConstants.INVALID_SORT;
+
+/**
+ * Translates a {@link Pageable} into the {@code ORDER BY} and
+ * {@code LIMIT} clauses of a catalog query.
+ * <p>
+ * Only the properties of the DTO mapped to a column can be sorted
+ * by; the id is always appended as the last key, so pages and the
+ * grouping of joined rows are deterministic.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public final class SqlPage {
+
+    private static final String ID = "id";
+
+    private SqlPage() {
+    }
+
+    /**
+     * Builds the {@code ORDER BY} clause, with a leading space.
+     *
+     * @param pageable the page request
+     * @param columns  the columns by the sortable properties of the DTO
+     * @param alias    the alias of the table
+     * @return the clause
+     * @throws InvalidResourcePropertyException if a property cannot be sorted by
+     */
+    public static String orderBy(Pageable pageable, Map<String, String> columns, String alias) {
+        StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", "");
+        boolean byId = false;
+        for (Sort.Order order : pageable.getSort()) {
+            String column = columns.get(order.getProperty());
+            if (column == null) {
+                throw new InvalidResourcePropertyException(
+                        INVALID_SORT, order.getProperty(), ErrorCodes.INVALID_PAGINATION_PARAMETER);
+            }
+            orderBy.add(alias + "." + column + (order.isAscending() ? " ASC" : " DESC"));
+            byId |= ID.equals(column);
+        }
+        if (!byId) {
+            orderBy.add(alias + "." + ID + " ASC");
+        }
+        return orderBy.toString();
+    }
+
+    /**
+     * Builds the {@code LIMIT} clause, with a leading space.
+     *
+     * @param pageable the page request
+     * @return the clause
+     */
+    public static String limit(Pageable pageable) {
+        return " LIMIT " + pageable.getPageSize() + " OFFSET " + pageable.getOffset();
+    }
+}
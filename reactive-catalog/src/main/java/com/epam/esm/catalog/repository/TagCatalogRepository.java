@@ -0,0 +1,59 @@
+package com.epam.esm.catalog.repository;
+
+import com.epam.esm.domain.payload.TagDto;
+import com.epam.esm.domain.payload.TagFilterDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
+
+/**
+ * Reads pages of tags.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class TagCatalogRepository {
+
+    /**
+     * The columns by the sortable properties of {@link TagDto}.
+     */
+    static final Map<String, String> SORTABLE_COLUMNS = Map.of(
+            "id", "id",
+            "name", "name");
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Finds a page of the tags matching the filter.
+     *
+     * @param filter   the filter
+     * @param pageable the page request
+     * @return the tags of the page, in order
+     */
+    public Flux<TagDto> findAll(TagFilterDto filter, Pageable pageable) {
+        SqlFilter sqlFilter = filter(filter);
+        String sql = "SELECT t.id, t.name FROM tags t" + sqlFilter.where()
+                + SqlPage.orderBy(pageable, SORTABLE_COLUMNS, "t") + SqlPage.limit(pageable);
+        return sqlFilter.bind(databaseClient.sql(sql), 0)
+                .map(row -> new TagDto(row.get("id", Long.class), row.get("name", String.class)))
+                .all();
+    }
+
+    /**
+     * Builds the filter of the resource server for tags.
+     *
+     * @param filter the filter parameters of the request
+     * @return the filter
+     */
+    static SqlFilter filter(TagFilterDto filter) {
+        return new SqlFilter()
+                .equal("t.name", filter.getName())
+                .containing("t.name", filter.getNameContaining());
+    }
+}
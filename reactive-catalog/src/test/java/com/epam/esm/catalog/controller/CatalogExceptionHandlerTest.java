@@ -0,0 +1,61 @@
+package com.epam.esm.catalog.controller;
+
+import com.epam.esm.exceptions.ApiErrorResponse;
+import com.epam.esm.exceptions.ErrorCodes;
+import com.epam.esm.exceptions.InvalidResourcePropertyException;
+import com.epam.esm.exceptions.Translator;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.util.Locale;
+
+import static com.epam.esm.domain.validation.ValidationConstants.INVALID_SORT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Test class for {@link CatalogExceptionHandler}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class CatalogExceptionHandlerTest {
+
+    private final CatalogExceptionHandler handler = new CatalogExceptionHandler(new Translator(messageSource()));
+
+    /**
+     * @see CatalogExceptionHandler#handleInvalidResourceProperty(InvalidResourcePropertyException,
+     * org.springframework.web.server.ServerWebExchange)
+     */
+    @Test
+    void testHandleInvalidResourcePropertyShouldUseLocaleOfRequest() {
+        InvalidResourcePropertyException ex = new InvalidResourcePropertyException(
+                INVALID_SORT, "tags", ErrorCodes.INVALID_PAGINATION_PARAMETER);
+
+        assertNotEquals(message("en"), message("uk"));
+        assertEquals(message("en") + " tags", errorMessage(ex, "en"));
+        assertEquals(message("uk") + " tags", errorMessage(ex, "uk"));
+    }
+
+    private String errorMessage(InvalidResourcePropertyException ex, String language) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/api/v1/tags")
+                .header(HttpHeaders.ACCEPT_LANGUAGE, language));
+        ApiErrorResponse response = handler.handleInvalidResourceProperty(ex, exchange).getBody();
+        return response == null ? null : response.getErrorMessage();
+    }
+
+    private static String message(String language) {
+        return messageSource().getMessage(INVALID_SORT, null, Locale.forLanguageTag(language));
+    }
+
+    private static ResourceBundleMessageSource messageSource() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        return messageSource;
+    }
+}
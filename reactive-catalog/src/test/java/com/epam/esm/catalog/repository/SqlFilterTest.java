@@ -0,0 +1,85 @@
+package com.epam.esm.catalog.repository;
+
+import com.epam.esm.domain.payload.CertificateFilterDto;
+import com.epam.esm.domain.payload.TagFilterDto;
+import com.epam.esm.exceptions.InvalidResourcePropertyException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for {@link SqlFilter} and {@link SqlPage}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class SqlFilterTest {
+
+    /**
+     * @see CertificateCatalogRepository#filter(CertificateFilterDto)
+     */
+    @Test
+    void testFilterShouldIgnoreUnsetFields() {
+        SqlFilter filter = CertificateCatalogRepository.filter(new CertificateFilterDto());
+
+        assertEquals("", filter.where());
+        assertEquals(List.of(), filter.getValues());
+    }
+
+    /**
+     * @see CertificateCatalogRepository#filter(CertificateFilterDto)
+     */
+    @Test
+    void testFilterShouldCombineExactAndSubstringFields() {
+        CertificateFilterDto certificateFilterDto = CertificateFilterDto.builder()
+                .name("")
+                .price(new BigDecimal("10.50"))
+                .descriptionContaining("Spa")
+                .build();
+
+        SqlFilter filter = CertificateCatalogRepository.filter(certificateFilterDto);
+
+        assertEquals(" WHERE c.price = ? AND LOWER(c.description) LIKE ?", filter.where());
+        assertEquals(List.of(new BigDecimal("10.50"), "%spa%"), filter.getValues());
+    }
+
+    /**
+     * @see TagCatalogRepository#filter(TagFilterDto)
+     */
+    @Test
+    void testFilterShouldKeepLikeWildcardsAsInFilterSpecifications() {
+        SqlFilter filter = TagCatalogRepository.filter(TagFilterDto.builder().nameContaining("A_b%C").build());
+
+        assertEquals(" WHERE LOWER(t.name) LIKE ?", filter.where());
+        assertEquals(List.of("%a_b%c%"), filter.getValues());
+    }
+
+    /**
+     * @see SqlPage#orderBy
+     */
+    @Test
+    void testOrderByShouldMapPropertiesAndAppendId() {
+        PageRequest pageable = PageRequest.of(2, 10, Sort.by(Sort.Order.desc("createDate"), Sort.Order.asc("name")));
+
+        assertEquals(" ORDER BY c.create_date DESC, c.name ASC, c.id ASC",
+                SqlPage.orderBy(pageable, CertificateCatalogRepository.SORTABLE_COLUMNS, "c"));
+        assertEquals(" LIMIT 10 OFFSET 20", SqlPage.limit(pageable));
+    }
+
+    /**
+     * @see SqlPage#orderBy
+     */
+    @Test
+    void testOrderByShouldRejectUnknownProperty() {
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("tags"));
+
+        assertThrows(InvalidResourcePropertyException.class,
+                () -> SqlPage.orderBy(pageable, TagCatalogRepository.SORTABLE_COLUMNS, "t"));
+    }
+}
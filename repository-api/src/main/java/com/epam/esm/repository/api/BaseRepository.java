@@ -1,10 +1,14 @@
 package com.epam.esm.repository.api;
 
 import com.epam.esm.domain.entity.AbstractEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.lang.Nullable;
 
+import java.util.List;
 
 /**
  * This interface serves as a base for all repositories in the
@@ -20,4 +24,16 @@ import org.springframework.data.repository.NoRepositoryBean;
 @NoRepositoryBean
 public interface BaseRepository<E extends AbstractEntity, N> extends JpaRepository<E, N>, JpaSpecificationExecutor<E> {
 
+    /**
+     * Returns a page of entities matching the given specification.
+     * Unlike {@link #findAll(Specification, Pageable)} it does not
+     * run an additional count query. A
+     * {@link com.epam.esm.repository.support.KeysetPageable}
+     * selects the page following its cursor.
+     *
+     * @param specification the specification to match, may be {@code null}
+     * @param pageable the pagination and sorting to apply
+     * @return a list of entities matching the given specification
+     */
+    List<E> findAllAsList(@Nullable Specification<E> specification, Pageable pageable);
 }
@@ -0,0 +1,47 @@
+package com.epam.esm.repository.api;
+
+import com.epam.esm.domain.entity.Certificate;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository fragment inserting many certificates at once and
+ * updating a certificate together with the links to its tags.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public interface CertificateBatchRepository {
+
+    /**
+     * Inserts the certificates and the links to their tags with
+     * JDBC batches in the current transaction and assigns the
+     * generated IDs, the creation dates and the initial version
+     * to them. The tags must already exist. The inserted
+     * certificates are not attached to the persistence context.
+     *
+     * @param certificates the certificates to insert
+     * @return the inserted certificates
+     */
+    List<Certificate> insertAll(List<Certificate> certificates);
+
+    /**
+     * Updates the fields of the certificate and the links to its tags
+     * in the current transaction: one UPDATE of the certificate, guarded
+     * by its version, and JDBC batches deleting and inserting the changed
+     * links. Sets the new last update date and version on the certificate.
+     * The cached state of the certificate is evicted after commit.
+     *
+     * @param certificate     the certificate with the new field values
+     * @param expectedVersion the version the changes are based on
+     * @param addedTagIds     the IDs of the tags to link to the certificate
+     * @param removedTagIds   the IDs of the tags to unlink from the certificate
+     * @return {@code false} if the certificate was changed or deleted since
+     *         {@code expectedVersion}, in which case nothing is written
+     */
+    boolean update(Certificate certificate,
+                   long expectedVersion,
+                   Collection<Long> addedTagIds,
+                   Collection<Long> removedTagIds);
+}
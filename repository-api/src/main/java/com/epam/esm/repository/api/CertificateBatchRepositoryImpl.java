@@ -0,0 +1,129 @@
+package com.epam.esm.repository.api;
+
+import com.epam.esm.domain.entity.CacheRegions;
+import com.epam.esm.domain.entity.Certificate;
+import com.epam.esm.domain.entity.Tag;
+import com.epam.esm.repository.support.JdbcBatches;
+import com.epam.esm.repository.support.QueryCacheEviction;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Implementation of {@link CertificateBatchRepository} with plain JDBC.
+ * Like {@link OrderBatchRepositoryImpl}, it avoids the single-row
+ * inserts Hibernate issues for IDENTITY IDs, and updates a certificate
+ * without the merge of the persistence context, which selects the
+ * certificate again and writes the links to the tags one row at a
+ * time. The query cache regions of certificates, and the cached state
+ * of an updated certificate, are evicted after commit.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@AllArgsConstructor
+public class CertificateBatchRepositoryImpl implements CertificateBatchRepository {
+
+    /**
+     * The maximum number of rows sent to the database in one batch.
+     */
+    static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_CERTIFICATE = "INSERT INTO certificates "
+            + "(name, description, price, duration, create_date, last_update_date) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_CERTIFICATE_TAG =
+            "INSERT INTO certificates_tags (certificate_id, tag_id) VALUES (?, ?)";
+
+    private static final String UPDATE_CERTIFICATE = "UPDATE certificates "
+            + "SET name = ?, description = ?, price = ?, duration = ?, last_update_date = ?, version = version + 1 "
+            + "WHERE id = ? AND version = ?";
+
+    private static final String DELETE_CERTIFICATE_TAG =
+            "DELETE FROM certificates_tags WHERE certificate_id = ? AND tag_id = ?";
+
+    private static final String TAGS_ROLE = Certificate.class.getName() + ".tags";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public List<Certificate> insertAll(List<Certificate> certificates) {
+        if (certificates.isEmpty()) {
+            return certificates;
+        }
+        LocalDateTime createDate = LocalDateTime.now();
+        Timestamp createTimestamp = Timestamp.valueOf(createDate);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            JdbcBatches.insertReturningIds(connection, INSERT_CERTIFICATE, certificates, BATCH_SIZE,
+                    (statement, certificate) -> {
+                        statement.setString(1, certificate.getName());
+                        statement.setString(2, certificate.getDescription());
+                        statement.setBigDecimal(3, certificate.getPrice());
+                        statement.setInt(4, certificate.getDuration());
+                        statement.setTimestamp(5, createTimestamp);
+                        statement.setTimestamp(6, createTimestamp);
+                    },
+                    Certificate::setId);
+            return null;
+        });
+        List<long[]> certificateTags = new ArrayList<>();
+        for (Certificate certificate : certificates) {
+            certificate.setCreateDate(createDate);
+            certificate.setLastUpdateDate(createDate);
+            certificate.setVersion(0L);
+            for (Tag tag : certificate.getTags()) {
+                certificateTags.add(new long[]{certificate.getId(), tag.getId()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_CERTIFICATE_TAG, certificateTags, BATCH_SIZE, (statement, link) -> {
+            statement.setLong(1, link[0]);
+            statement.setLong(2, link[1]);
+        });
+        QueryCacheEviction.evictAfterCommit(entityManagerFactory, CacheRegions.CERTIFICATE);
+        return certificates;
+    }
+
+    @Override
+    public boolean update(Certificate certificate,
+                          long expectedVersion,
+                          Collection<Long> addedTagIds,
+                          Collection<Long> removedTagIds) {
+        LocalDateTime lastUpdateDate = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        int updated = jdbcTemplate.update(UPDATE_CERTIFICATE,
+                certificate.getName(),
+                certificate.getDescription(),
+                certificate.getPrice(),
+                certificate.getDuration(),
+                Timestamp.valueOf(lastUpdateDate),
+                certificate.getId(),
+                expectedVersion);
+        if (updated == 0) {
+            return false;
+        }
+        Long id = certificate.getId();
+        jdbcTemplate.batchUpdate(DELETE_CERTIFICATE_TAG, removedTagIds, BATCH_SIZE, (statement, tagId) -> {
+            statement.setLong(1, id);
+            statement.setLong(2, tagId);
+        });
+        jdbcTemplate.batchUpdate(INSERT_CERTIFICATE_TAG, addedTagIds, BATCH_SIZE, (statement, tagId) -> {
+            statement.setLong(1, id);
+            statement.setLong(2, tagId);
+        });
+        certificate.setLastUpdateDate(lastUpdateDate);
+        certificate.setVersion(expectedVersion + 1);
+        QueryCacheEviction.evictAfterCommit(entityManagerFactory, cache -> {
+            cache.evictEntityData(Certificate.class, id);
+            cache.evictCollectionData(TAGS_ROLE, id);
+        }, CacheRegions.CERTIFICATE);
+        return true;
+    }
+}
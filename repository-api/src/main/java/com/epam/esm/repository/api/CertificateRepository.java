@@ -1,23 +1,40 @@
 package com.epam.esm.repository.api;
 
+import com.epam.esm.domain.entity.CacheRegions;
 import com.epam.esm.domain.entity.Certificate;
 import com.epam.esm.domain.payload.CertificateFilterDto;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.epam.esm.repository.specification.CertificateSpecifications.*;
+import static org.hibernate.jpa.QueryHints.*;
 
 /**
  * Repository interface for {@link Certificate} entities.
  * Provides methods for retrieving certificates from the database.
+ * The filter queries contain predicates only for the filter
+ * fields that are set. They load a page in two round trips:
+ * the page of certificates is selected with LIMIT in SQL, then
+ * the tags of all certificates of the page are fetched with a
+ * single join query, so converting the page does not trigger
+ * a lazy tags query per certificate.
  *
  * @author Oleksandr Koreshev
  * @since 1.0
  */
 @Repository
-public interface CertificateRepository extends BaseRepository<Certificate, Long> {
+public interface CertificateRepository extends BaseRepository<Certificate, Long>, CertificateBatchRepository {
 
     /**
      * Finds all certificates matching the given filter and pageable criteria.
@@ -26,17 +43,9 @@ public interface CertificateRepository extends BaseRepository<Certificate, Long>
      * @param pageable the pageable criteria to apply when returning certificates.
      * @return a list of certificates matching the given criteria.
      */
-    @Query(value = "SELECT c FROM Certificate c " +
-            "WHERE " +
-            "(:#{#filter.name} is null or c.name = :#{#filter.name}) AND " +
-            "(:#{#filter.description} is null or c.description = :#{#filter.description}) AND " +
-            "(:#{#filter.price} is null or c.price = :#{#filter.price}) AND " +
-            "(:#{#filter.duration} is null or c.duration = :#{#filter.duration}) AND " +
-            "(:#{#filter.createDate} is null or c.createDate = :#{#filter.createDate}) AND " +
-            "(:#{#filter.lastUpdateDate} is null or c.lastUpdateDate = :#{#filter.lastUpdateDate}) AND " +
-            "LOWER(c.name) LIKE LOWER(CONCAT('%', :#{#filter.nameContaining}, '%')) AND " +
-            "LOWER(c.description) LIKE LOWER(CONCAT('%', :#{#filter.descriptionContaining}, '%'))")
-    List<Certificate> findAll(@Param("filter") CertificateFilterDto filter, Pageable pageable);
+    default List<Certificate> findAll(CertificateFilterDto filter, Pageable pageable) {
+        return withTags(findAllAsList(byFilter(filter), pageable));
+    }
 
     /**
      * Finds all certificates associated with a given tag and matching
@@ -47,19 +56,9 @@ public interface CertificateRepository extends BaseRepository<Certificate, Long>
      * @param pageable the pageable criteria to apply when returning certificates.
      * @return a list of certificates matching the given criteria.
      */
-    @Query(value = "SELECT c FROM Certificate c JOIN c.tags t " +
-            "WHERE t.id = :tagId AND " +
-            "(:#{#filter.name} is null or c.name = :#{#filter.name}) AND " +
-            "(:#{#filter.description} is null or c.description = :#{#filter.description}) AND " +
-            "(:#{#filter.price} is null or c.price = :#{#filter.price}) AND " +
-            "(:#{#filter.duration} is null or c.duration = :#{#filter.duration}) AND " +
-            "(:#{#filter.createDate} is null or c.createDate = :#{#filter.createDate}) AND " +
-            "(:#{#filter.lastUpdateDate} is null or c.lastUpdateDate = :#{#filter.lastUpdateDate}) AND " +
-            "LOWER(c.name) LIKE LOWER(CONCAT('%', :#{#filter.nameContaining}, '%')) AND " +
-            "LOWER(c.description) LIKE LOWER(CONCAT('%', :#{#filter.descriptionContaining}, '%'))")
-    List<Certificate> findAllByTagId(@Param("tagId") Long tagId,
-                                     @Param("filter") CertificateFilterDto filter,
-                                     Pageable pageable);
+    default List<Certificate> findAllByTagId(Long tagId, CertificateFilterDto filter, Pageable pageable) {
+        return withTags(findAllAsList(hasTagId(tagId).and(byFilter(filter)), pageable));
+    }
 
     /**
      * Finds all certificates associated with a given tag name and
@@ -70,17 +69,116 @@ public interface CertificateRepository extends BaseRepository<Certificate, Long>
      * @param pageable the pageable criteria to apply when returning certificates.
      * @return a list of certificates matching the given criteria.
      */
-    @Query(value = "SELECT c FROM Certificate c JOIN c.tags t " +
-            "WHERE t.name = :tagName AND " +
-            "(:#{#filter.name} is null or c.name = :#{#filter.name}) AND " +
-            "(:#{#filter.description} is null or c.description = :#{#filter.description}) AND " +
-            "(:#{#filter.price} is null or c.price = :#{#filter.price}) AND " +
-            "(:#{#filter.duration} is null or c.duration = :#{#filter.duration}) AND " +
-            "(:#{#filter.createDate} is null or c.createDate = :#{#filter.createDate}) AND " +
-            "(:#{#filter.lastUpdateDate} is null or c.lastUpdateDate = :#{#filter.lastUpdateDate}) AND " +
-            "LOWER(c.name) LIKE LOWER(CONCAT('%', :#{#filter.nameContaining}, '%')) AND " +
-            "LOWER(c.description) LIKE LOWER(CONCAT('%', :#{#filter.descriptionContaining}, '%'))")
-    List<Certificate> findAllByTagName(@Param("tagName") String tagName,
-                                       @Param("filter") CertificateFilterDto filter,
-                                       Pageable pageable);
+    default List<Certificate> findAllByTagName(String tagName, CertificateFilterDto filter, Pageable pageable) {
+        return withTags(findAllAsList(hasTagName(tagName).and(byFilter(filter)), pageable));
+    }
+
+    /**
+     * Finds the certificates with the given IDs that match the
+     * exact-value criteria of the given filter. The substring criteria
+     * of the filter are not evaluated, they are expected to be resolved
+     * to the given IDs by the certificate search index.
+     *
+     * @param ids the IDs of the candidate certificates.
+     * @param filter the filter to apply when searching for certificates.
+     * @param pageable the pageable criteria to apply when returning certificates.
+     * @return a list of certificates matching the given criteria.
+     */
+    default List<Certificate> findAllByIdIn(Collection<Long> ids, CertificateFilterDto filter, Pageable pageable) {
+        return withTags(findAllAsList(idIn(ids).and(byExactFilter(filter)), pageable));
+    }
+
+    /**
+     * Finds the certificates with the given IDs that are associated
+     * with a given tag and match the exact-value criteria of the given
+     * filter.
+     *
+     * @param ids the IDs of the candidate certificates.
+     * @param tagId the ID of the tag to search certificates for.
+     * @param filter the filter to apply when searching for certificates.
+     * @param pageable the pageable criteria to apply when returning certificates.
+     * @return a list of certificates matching the given criteria.
+     * @see #findAllByIdIn(Collection, CertificateFilterDto, Pageable)
+     */
+    default List<Certificate> findAllByIdInAndTagId(Collection<Long> ids,
+                                                    Long tagId,
+                                                    CertificateFilterDto filter,
+                                                    Pageable pageable) {
+        return withTags(findAllAsList(
+                idIn(ids).and(hasTagId(tagId)).and(byExactFilter(filter)), pageable));
+    }
+
+    /**
+     * Finds the certificates with the given IDs that are associated
+     * with a given tag name and match the exact-value criteria of the
+     * given filter.
+     *
+     * @param ids the IDs of the candidate certificates.
+     * @param tagName the name of the tag to search certificates for.
+     * @param filter the filter to apply when searching for certificates.
+     * @param pageable the pageable criteria to apply when returning certificates.
+     * @return a list of certificates matching the given criteria.
+     * @see #findAllByIdIn(Collection, CertificateFilterDto, Pageable)
+     */
+    default List<Certificate> findAllByIdInAndTagName(Collection<Long> ids,
+                                                      String tagName,
+                                                      CertificateFilterDto filter,
+                                                      Pageable pageable) {
+        return withTags(findAllAsList(
+                idIn(ids).and(hasTagName(tagName)).and(byExactFilter(filter)), pageable));
+    }
+
+    /**
+     * Finds the certificates with the given IDs together with their tags.
+     *
+     * @param ids the IDs of the certificates.
+     * @return the certificates with initialized tags, in no particular order.
+     */
+    @Query("SELECT DISTINCT c FROM Certificate c LEFT JOIN FETCH c.tags WHERE c.id IN :ids")
+    @QueryHints({
+            @QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"),
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = CacheRegions.QUERY_PREFIX + CacheRegions.CERTIFICATE)
+    })
+    List<Certificate> findAllWithTagsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds the certificate with the given ID together with its tags
+     * with a single join query.
+     *
+     * @param id the ID of the certificate.
+     * @return the certificate with initialized tags, if it exists.
+     */
+    @Query("SELECT c FROM Certificate c LEFT JOIN FETCH c.tags WHERE c.id = :id")
+    Optional<Certificate> findWithTagsById(@Param("id") Long id);
+
+    /**
+     * Finds which of the given names are already used by certificates.
+     *
+     * @param names the names to look up.
+     * @return the names of the existing certificates, as stored.
+     */
+    @Query("SELECT c.name FROM Certificate c WHERE c.name IN :names")
+    List<String> findNamesByNameIn(@Param("names") Collection<String> names);
+
+    /**
+     * Replaces the certificates of a page with instances whose tags
+     * are fetched by one join query, keeping the order of the page.
+     *
+     * @param page the page of certificates.
+     * @return the page of certificates with initialized tags.
+     */
+    private List<Certificate> withTags(List<Certificate> page) {
+        if (page.isEmpty()) {
+            return page;
+        }
+        Map<Long, Certificate> fetched = findAllWithTagsByIdIn(page.stream()
+                .map(Certificate::getId)
+                .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Certificate::getId, Function.identity()));
+        return page.stream()
+                .map(certificate -> fetched.getOrDefault(certificate.getId(), certificate))
+                .collect(Collectors.toList());
+    }
 }
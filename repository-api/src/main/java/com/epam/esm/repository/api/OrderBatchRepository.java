@@ -0,0 +1,25 @@
+package com.epam.esm.repository.api;
+
+import com.epam.esm.domain.entity.Order;
+
+import java.util.List;
+
+/**
+ * Repository fragment inserting many orders at once.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public interface OrderBatchRepository {
+
+    /**
+     * Inserts the orders with JDBC batches in the current transaction
+     * and assigns the generated IDs and the creation date to them.
+     * The orders must reference existing users and certificates.
+     * The inserted orders are not attached to the persistence context.
+     *
+     * @param orders the orders to insert
+     * @return the inserted orders
+     */
+    List<Order> insertAll(List<Order> orders);
+}
@@ -0,0 +1,60 @@
+package com.epam.esm.repository.api;
+
+import com.epam.esm.domain.entity.Order;
+import lombok.AllArgsConstructor;
+import com.epam.esm.repository.support.JdbcBatches;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementation of {@link OrderBatchRepository} with plain JDBC.
+ * {@link Order} uses IDENTITY IDs, which makes Hibernate insert
+ * every order with a separate statement, so the orders are
+ * inserted with {@link PreparedStatement#executeBatch()} instead.
+ * The statement runs on the connection of the current JPA
+ * transaction. With {@code rewriteBatchedStatements=true} the
+ * MySQL driver sends each batch as one multi-row INSERT.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@AllArgsConstructor
+public class OrderBatchRepositoryImpl implements OrderBatchRepository {
+
+    /**
+     * The maximum number of orders sent to the database in one batch.
+     */
+    static final int BATCH_SIZE = 100;
+
+    private static final String INSERT_ORDER =
+            "INSERT INTO orders (cost, create_date, user_id, gift_certificate_id) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Order> insertAll(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+        LocalDateTime createDate = LocalDateTime.now();
+        Timestamp createTimestamp = Timestamp.valueOf(createDate);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            JdbcBatches.insertReturningIds(connection, INSERT_ORDER, orders, BATCH_SIZE,
+                    (statement, order) -> {
+                        statement.setBigDecimal(1, order.getCost());
+                        statement.setTimestamp(2, createTimestamp);
+                        statement.setLong(3, order.getUser().getId());
+                        statement.setLong(4, order.getCertificate().getId());
+                    },
+                    Order::setId);
+            return null;
+        });
+        orders.forEach(order -> order.setCreateDate(createDate));
+        return orders;
+    }
+}
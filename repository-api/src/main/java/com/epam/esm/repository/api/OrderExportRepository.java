@@ -0,0 +1,34 @@
+package com.epam.esm.repository.api;
+
+import com.epam.esm.domain.payload.OrderExportRow;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Repository fragment reading orders for an export.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public interface OrderExportRepository {
+
+    /**
+     * Streams the orders created in the given range, in the order
+     * of their IDs, from a forward-only cursor fetching
+     * {@code fetchSize} rows per round trip. The rows are not
+     * attached to the persistence context, so memory use does not
+     * depend on the number of orders. The stream holds a database
+     * connection and must be closed.
+     *
+     * @param createdFrom the inclusive lower bound of the creation date, or {@code null}
+     * @param createdTo   the exclusive upper bound of the creation date, or {@code null}
+     * @param fetchSize   the number of rows fetched per round trip,
+     *                    ignored by MySQL, which streams the rows
+     * @return the stream of rows
+     */
+    Stream<OrderExportRow> streamAll(@Nullable LocalDateTime createdFrom,
+                                     @Nullable LocalDateTime createdTo,
+                                     int fetchSize);
+}
@@ -0,0 +1,78 @@
+package com.epam.esm.repository.api;
+
+import com.epam.esm.domain.payload.OrderExportRow;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link OrderExportRepository} with plain JDBC.
+ * The rows are mapped straight from the result set, without
+ * creating entities. Without {@code useCursorFetch=true}, which
+ * would turn every statement of the application into a server-side
+ * prepared statement, MySQL Connector/J reads the whole result into
+ * memory unless the fetch size of a forward-only, read-only
+ * statement is {@link Integer#MIN_VALUE}; the export statement is
+ * therefore streamed row by row on MySQL. The connection can run
+ * no other statement until the stream is closed.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@AllArgsConstructor
+public class OrderExportRepositoryImpl implements OrderExportRepository {
+
+    private static final String SELECT_ORDERS = "SELECT o.id, o.cost, o.create_date, "
+            + "o.user_id, u.login, o.gift_certificate_id, c.name "
+            + "FROM orders o "
+            + "LEFT JOIN users u ON u.id = o.user_id "
+            + "LEFT JOIN certificates c ON c.id = o.gift_certificate_id";
+
+    private static final RowMapper<OrderExportRow> ROW_MAPPER = (resultSet, rowNum) -> new OrderExportRow(
+            resultSet.getLong("id"),
+            resultSet.getBigDecimal("cost"),
+            resultSet.getTimestamp("create_date").toLocalDateTime(),
+            resultSet.getObject("user_id", Long.class),
+            resultSet.getString("login"),
+            resultSet.getObject("gift_certificate_id", Long.class),
+            resultSet.getString("name"));
+
+    private static final String MYSQL = "MySQL";
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Stream<OrderExportRow> streamAll(LocalDateTime createdFrom, LocalDateTime createdTo, int fetchSize) {
+        StringBuilder sql = new StringBuilder(SELECT_ORDERS);
+        List<Timestamp> parameters = new ArrayList<>(2);
+        if (createdFrom != null) {
+            sql.append(" WHERE o.create_date >= ?");
+            parameters.add(Timestamp.valueOf(createdFrom));
+        }
+        if (createdTo != null) {
+            sql.append(parameters.isEmpty() ? " WHERE" : " AND").append(" o.create_date < ?");
+            parameters.add(Timestamp.valueOf(createdTo));
+        }
+        sql.append(" ORDER BY o.id");
+        return jdbcTemplate.queryForStream(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(MYSQL.equals(connection.getMetaData().getDatabaseProductName())
+                    ? MYSQL_STREAMING_FETCH_SIZE
+                    : fetchSize);
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setTimestamp(i + 1, parameters.get(i));
+            }
+            return statement;
+        }, ROW_MAPPER);
+    }
+}
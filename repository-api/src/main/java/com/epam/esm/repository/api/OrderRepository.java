@@ -5,20 +5,29 @@ import com.epam.esm.domain.entity.Order;
 import com.epam.esm.domain.payload.OrderFilterDto;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 
+import static com.epam.esm.repository.specification.OrderSpecifications.*;
+
 /**
  * This interface is a repository for working with the Order
  * entity in the database.
+ * The filter queries select a page of orders together with their
+ * users and certificates; the tags of the certificates of the
+ * page are fetched by the service with
+ * {@link CertificateRepository#findAllWithTagsByIdIn(java.util.Collection)}.
+ * Many orders are inserted at once with
+ * {@link OrderBatchRepository#insertAll(List)} and read for
+ * an export with {@link OrderExportRepository#streamAll}.
  *
  * @author Oleksandr Koreshev
  * @since 1.0
  */
 @Repository
-public interface OrderRepository extends BaseRepository<Order, Long> {
+public interface OrderRepository extends BaseRepository<Order, Long>, OrderBatchRepository, OrderExportRepository {
 
     /**
      * Finds all orders with pagination and filtering.
@@ -28,21 +37,9 @@ public interface OrderRepository extends BaseRepository<Order, Long> {
      * @return a list of orders matching the filter criteria
      * @throws IllegalArgumentException if the filter is invalid
      */
-    @Query(value = "SELECT o FROM Order o " +
-            "WHERE " +
-            "(:#{#filter.cost} is null or o.cost = :#{#filter.cost}) AND " +
-            "(:#{#filter.createDate} is null or o.createDate = :#{#filter.createDate}) AND " +
-            "(:#{#filter.user.id} is null or o.user.id = :#{#filter.user.id}) AND " +
-            "(:#{#filter.user.login} is null or o.user.login = :#{#filter.user.login}) AND " +
-            "(:#{#filter.user.email} is null or o.user.email = :#{#filter.user.email}) AND " +
-            "(:#{#filter.user.role} is null or o.user.role = :#{#filter.user.role}) AND " +
-            "(:#{#filter.certificate.name} is null or o.certificate.name = :#{#filter.certificate.name}) AND " +
-            "(:#{#filter.certificate.description} is null or o.certificate.description = :#{#filter.certificate.description}) AND " +
-            "(:#{#filter.certificate.price} is null or o.certificate.price = :#{#filter.certificate.price}) AND " +
-            "(:#{#filter.certificate.duration} is null or o.certificate.duration = :#{#filter.certificate.duration}) AND " +
-            "(:#{#filter.certificate.createDate} is null or o.certificate.createDate = :#{#filter.certificate.createDate}) AND " +
-            "(:#{#filter.certificate.lastUpdateDate} is null or o.certificate.lastUpdateDate = :#{#filter.certificate.lastUpdateDate})")
-    List<Order> findAll(@Param("filter") OrderFilterDto filter, Pageable pageable);
+    default List<Order> findAll(OrderFilterDto filter, Pageable pageable) {
+        return findAllAsList(fetchUserAndCertificate().and(byFilter(filter)), pageable);
+    }
 
     /**
      * Finds all orders for a given user with pagination and filtering.
@@ -53,21 +50,52 @@ public interface OrderRepository extends BaseRepository<Order, Long> {
      * @return a list of orders matching the filter criteria
      * @throws IllegalArgumentException if the user ID or filter is invalid
      */
-    @Query(value = "SELECT o FROM Order o JOIN o.user u " +
-            "WHERE u.id = :userId AND " +
-            "(:#{#filter.cost} is null or o.cost = :#{#filter.cost}) AND " +
-            "(:#{#filter.createDate} is null or o.createDate = :#{#filter.createDate}) AND " +
-            "(:#{#filter.user.id} is null or o.user.id = :#{#filter.user.id}) AND " +
-            "(:#{#filter.user.login} is null or o.user.login = :#{#filter.user.login}) AND " +
-            "(:#{#filter.user.email} is null or o.user.email = :#{#filter.user.email}) AND " +
-            "(:#{#filter.user.role} is null or o.user.role = :#{#filter.user.role}) AND " +
-            "(:#{#filter.certificate.name} is null or o.certificate.name = :#{#filter.certificate.name}) AND " +
-            "(:#{#filter.certificate.description} is null or o.certificate.description = :#{#filter.certificate.description}) AND " +
-            "(:#{#filter.certificate.price} is null or o.certificate.price = :#{#filter.certificate.price}) AND " +
-            "(:#{#filter.certificate.duration} is null or o.certificate.duration = :#{#filter.certificate.duration}) AND " +
-            "(:#{#filter.certificate.createDate} is null or o.certificate.createDate = :#{#filter.certificate.createDate}) AND " +
-            "(:#{#filter.certificate.lastUpdateDate} is null or o.certificate.lastUpdateDate = :#{#filter.certificate.lastUpdateDate})")
-    List<Order> findAllByUserId(@Param("userId") Long userId,
-                                @Param("filter") OrderFilterDto filter,
-                                Pageable pageable);
+    default List<Order> findAllByUserId(Long userId, OrderFilterDto filter, Pageable pageable) {
+        return findAllAsList(fetchUserAndCertificate().and(hasUserId(userId)).and(byFilter(filter)), pageable);
+    }
+
+    /**
+     * Sums the cost and counts the orders of every user.
+     *
+     * @return the total cost and the number of orders per user
+     */
+    @Query("SELECT o.user.id AS userId, SUM(o.cost) AS total, COUNT(o.id) AS orderCount " +
+            "FROM Order o GROUP BY o.user.id")
+    List<UserCostTotal> sumCostGroupByUser();
+
+    /**
+     * Counts how many orders of every user contain a certificate
+     * associated with a tag, for every such pair of user and tag.
+     *
+     * @return the number of orders per user and tag
+     */
+    @Query("SELECT o.user.id AS userId, t.id AS tagId, COUNT(o.id) AS count " +
+            "FROM Order o JOIN o.certificate c JOIN c.tags t " +
+            "GROUP BY o.user.id, t.id")
+    List<UserTagCount> countTagsGroupByUser();
+
+    /**
+     * The total cost and the number of the orders of a user.
+     */
+    interface UserCostTotal {
+
+        Long getUserId();
+
+        BigDecimal getTotal();
+
+        Long getOrderCount();
+    }
+
+    /**
+     * The number of orders of a user whose certificate
+     * is associated with a tag.
+     */
+    interface UserTagCount {
+
+        Long getUserId();
+
+        Long getTagId();
+
+        Long getCount();
+    }
 }
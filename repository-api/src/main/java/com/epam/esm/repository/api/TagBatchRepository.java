@@ -0,0 +1,32 @@
+package com.epam.esm.repository.api;
+
+import com.epam.esm.domain.entity.Tag;
+
+import java.util.Collection;
+
+/**
+ * Repository fragment inserting and renaming many tags at once.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public interface TagBatchRepository {
+
+    /**
+     * Inserts tags with the given names with JDBC batches in the
+     * current transaction. Names that already exist, including
+     * ones inserted concurrently, are skipped.
+     *
+     * @param names the names of the tags to insert
+     */
+    void insertAllIgnoringExisting(Collection<String> names);
+
+    /**
+     * Renames the tags to their given names with a JDBC batch in the
+     * current transaction and increments their versions. The cached
+     * state of the tags is evicted after commit.
+     *
+     * @param tags the tags with their new names
+     */
+    void renameAll(Collection<Tag> tags);
+}
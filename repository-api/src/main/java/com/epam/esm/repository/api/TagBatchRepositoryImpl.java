@@ -0,0 +1,59 @@
+package com.epam.esm.repository.api;
+
+import com.epam.esm.domain.entity.CacheRegions;
+import com.epam.esm.domain.entity.Tag;
+import com.epam.esm.repository.support.QueryCacheEviction;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Collection;
+
+/**
+ * Implementation of {@link TagBatchRepository} with plain JDBC.
+ * Relies on the unique key of {@code tags.name} to skip existing
+ * names, so concurrent inserts of the same tag do not fail.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@AllArgsConstructor
+public class TagBatchRepositoryImpl implements TagBatchRepository {
+
+    /**
+     * The maximum number of rows sent to the database in one batch.
+     */
+    static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_TAG_IGNORING_EXISTING = "INSERT IGNORE INTO tags (name) VALUES (?)";
+
+    private static final String RENAME_TAG = "UPDATE tags SET name = ?, version = version + 1 WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void insertAllIgnoringExisting(Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_TAG_IGNORING_EXISTING, names, BATCH_SIZE,
+                (statement, name) -> statement.setString(1, name));
+        QueryCacheEviction.evictAfterCommit(entityManagerFactory, CacheRegions.TAG);
+    }
+
+    @Override
+    public void renameAll(Collection<Tag> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(RENAME_TAG, tags, BATCH_SIZE, (statement, tag) -> {
+            statement.setString(1, tag.getName());
+            statement.setLong(2, tag.getId());
+        });
+        tags.forEach(tag -> tag.setVersion(tag.getVersion() + 1));
+        QueryCacheEviction.evictAfterCommit(entityManagerFactory,
+                cache -> tags.forEach(tag -> cache.evictEntityData(Tag.class, tag.getId())),
+                CacheRegions.TAG, CacheRegions.CERTIFICATE);
+    }
+}
@@ -4,12 +4,14 @@ import com.epam.esm.domain.entity.Tag;
 import com.epam.esm.domain.payload.TagFilterDto;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static com.epam.esm.repository.specification.TagSpecifications.byFilter;
+
 
 /**
  * The TagRepository interface provides methods for working
@@ -19,7 +21,7 @@ import java.util.Optional;
  * @since 1.0
  */
 @Repository
-public interface TagRepository extends BaseRepository<Tag, Long> {
+public interface TagRepository extends BaseRepository<Tag, Long>, TagBatchRepository {
 
     /**
      * Finds all tags matching the specified filter.
@@ -29,11 +31,17 @@ public interface TagRepository extends BaseRepository<Tag, Long> {
      * @return the list of found tags
      * @throws IllegalArgumentException if the provided filter or pageable parameters are invalid
      */
-    @Query(value = "SELECT t FROM Tag t " +
-            "WHERE " +
-            "(:#{#filter.name} is null or t.name = :#{#filter.name}) AND " +
-            "LOWER(t.name) LIKE LOWER(CONCAT('%', :#{#filter.nameContaining}, '%'))")
-    List<Tag> findAll(@Param("filter") TagFilterDto filter, Pageable pageable);
+    default List<Tag> findAll(TagFilterDto filter, Pageable pageable) {
+        return findAllAsList(byFilter(filter), pageable);
+    }
+
+    /**
+     * Finds the tags with the given names.
+     *
+     * @param names the names of the tags
+     * @return the found tags
+     */
+    List<Tag> findAllByNameIn(Collection<String> names);
 
     /**
      * Finds the most popular tag among the orders of the user
@@ -0,0 +1,97 @@
+package com.epam.esm.repository.specification;
+
+import com.epam.esm.domain.entity.Certificate;
+import com.epam.esm.domain.payload.CertificateFilterDto;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+/**
+ * Factory of {@link Specification}s for {@link Certificate} queries.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public final class CertificateSpecifications {
+
+    private static final FilterSpecification<CertificateFilterDto, Certificate> EXACT_FILTER =
+            exactFields(FilterSpecification.builder()).build();
+
+    private static final FilterSpecification<CertificateFilterDto, Certificate> FILTER =
+            exactFields(FilterSpecification.<CertificateFilterDto, Certificate>builder())
+                    .containing(CertificateFilterDto::getNameContaining, root -> root.get("name"))
+                    .containing(CertificateFilterDto::getDescriptionContaining, root -> root.get("description"))
+                    .build();
+
+    private CertificateSpecifications() {
+    }
+
+    /**
+     * Returns a specification matching all criteria of the filter.
+     *
+     * @param filter the filter
+     * @return the specification
+     */
+    public static Specification<Certificate> byFilter(CertificateFilterDto filter) {
+        return FILTER.toSpecification(filter);
+    }
+
+    /**
+     * Returns a specification matching the exact-value criteria of
+     * the filter, ignoring its substring criteria.
+     *
+     * @param filter the filter
+     * @return the specification
+     */
+    public static Specification<Certificate> byExactFilter(CertificateFilterDto filter) {
+        return EXACT_FILTER.toSpecification(filter);
+    }
+
+    /**
+     * Returns a specification matching the certificates with the given IDs.
+     * The IDs are bound as parameters, so with IN-clause parameter padding
+     * the list sizes are rounded up to a power of two and at most
+     * eleven statements cover the lists of up to 1000 IDs.
+     *
+     * @param ids the IDs of the certificates
+     * @return the specification
+     */
+    public static Specification<Certificate> idIn(Collection<Long> ids) {
+        return (root, query, criteriaBuilder) -> root.get("id").in(ids);
+    }
+
+    /**
+     * Returns a specification matching the certificates
+     * associated with the tag with the given ID.
+     *
+     * @param tagId the ID of the tag
+     * @return the specification
+     */
+    public static Specification<Certificate> hasTagId(Long tagId) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.join("tags").get("id"), tagId);
+    }
+
+    /**
+     * Returns a specification matching the certificates
+     * associated with the tag with the given name.
+     *
+     * @param tagName the name of the tag
+     * @return the specification
+     */
+    public static Specification<Certificate> hasTagName(String tagName) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.join("tags").get("name"), tagName);
+    }
+
+    private static FilterSpecification.Builder<CertificateFilterDto, Certificate> exactFields(
+            FilterSpecification.Builder<CertificateFilterDto, Certificate> builder) {
+        return builder
+                .equal(CertificateFilterDto::getName, root -> root.get("name"))
+                .equal(CertificateFilterDto::getDescription, root -> root.get("description"))
+                .equal(CertificateFilterDto::getPrice, root -> root.get("price"))
+                .equal(CertificateFilterDto::getDuration, root -> root.get("duration"))
+                .equal(CertificateFilterDto::getCreateDate, root -> root.get("createDate"))
+                .equal(CertificateFilterDto::getLastUpdateDate, root -> root.get("lastUpdateDate"));
+    }
+}
@@ -0,0 +1,230 @@
+package com.epam.esm.repository.specification;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Translates a filter object into a {@link Specification} that
+ * contains predicates only for the filter fields that are actually
+ * set. Unset fields ({@code null} values and empty substrings)
+ * produce no SQL at all, so the database receives a small query
+ * that can use the indexes of the filtered columns.
+ * <p>
+ * Every field of the filter is assigned a bit. The set fields
+ * of a filter form a bitmask which identifies the shape of the
+ * query; the list of fields belonging to a shape is resolved once
+ * and cached, so building a specification for a known shape only
+ * checks which fields are set.
+ * <p>
+ * The values are passed to the criteria builder as literals. Hibernate
+ * inlines numeric literals into the SQL unless
+ * {@code hibernate.criteria.literal_handling_mode=bind}, which the
+ * application sets, so that a shape is one SQL statement whatever
+ * the values are and IN-lists are padded by
+ * {@code hibernate.query.in_clause_parameter_padding}.
+ * <p>
+ * Substrings are matched with LIKE, so {@code %} and {@code _} in a
+ * substring are wildcards, as in the original queries.
+ *
+ * @param <F> the type of the filter
+ * @param <E> the type of the filtered entity
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public final class FilterSpecification<F, E> {
+
+    private final List<FilterField<F, E>> fields;
+    private final Map<Long, List<FilterField<F, E>>> shapes = new ConcurrentHashMap<>();
+
+    private FilterSpecification(List<FilterField<F, E>> fields) {
+        this.fields = List.copyOf(fields);
+    }
+
+    /**
+     * Creates a builder of a filter specification.
+     *
+     * @param <F> the type of the filter
+     * @param <E> the type of the filtered entity
+     * @return a new builder
+     */
+    public static <F, E> Builder<F, E> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Builds the specification for the given filter.
+     *
+     * @param filter the filter, {@code null} means no restriction
+     * @return a specification containing predicates for the set fields only
+     */
+    public Specification<E> toSpecification(F filter) {
+        List<FilterField<F, E>> shape = shapes.computeIfAbsent(shapeOf(filter), this::resolveShape);
+        if (shape.isEmpty()) {
+            return Specification.where(null);
+        }
+        return (root, query, criteriaBuilder) -> {
+            Predicate[] predicates = new Predicate[shape.size()];
+            for (int i = 0; i < predicates.length; i++) {
+                predicates[i] = shape.get(i).toPredicate(filter, root, criteriaBuilder);
+            }
+            return criteriaBuilder.and(predicates);
+        };
+    }
+
+    /**
+     * Returns the number of distinct query shapes built so far.
+     *
+     * @return the number of cached shapes
+     */
+    public int getShapeCount() {
+        return shapes.size();
+    }
+
+    private long shapeOf(F filter) {
+        long mask = 0L;
+        if (filter == null) {
+            return mask;
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).isSet(filter)) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    private List<FilterField<F, E>> resolveShape(long mask) {
+        List<FilterField<F, E>> shape = new ArrayList<>(Long.bitCount(mask));
+        for (int i = 0; i < fields.size(); i++) {
+            if ((mask & 1L << i) != 0) {
+                shape.add(fields.get(i));
+            }
+        }
+        return Collections.unmodifiableList(shape);
+    }
+
+    private static String likePattern(String value) {
+        return '%' + value.toLowerCase(Locale.ROOT) + '%';
+    }
+
+    /**
+     * Creates the predicate of a single filter field
+     * from its value.
+     *
+     * @param <T> the type of the value
+     * @param <E> the type of the filtered entity
+     */
+    @FunctionalInterface
+    public interface PredicateFactory<T, E> {
+
+        /**
+         * Creates the predicate for the given value.
+         *
+         * @param value           the value of the field, never {@code null}
+         * @param root            the root of the query
+         * @param criteriaBuilder the criteria builder
+         * @return the predicate
+         */
+        Predicate create(T value, Root<E> root, CriteriaBuilder criteriaBuilder);
+    }
+
+    /**
+     * A single field of the filter: knows whether it is set
+     * and how to turn its value into a predicate.
+     */
+    private static final class FilterField<F, E> {
+        private final Function<F, ?> value;
+        private final PredicateFactory<Object, E> predicate;
+
+        @SuppressWarnings("unchecked")
+        private <T> FilterField(Function<F, T> value, PredicateFactory<T, E> predicate) {
+            this.value = value;
+            this.predicate = (PredicateFactory<Object, E>) predicate;
+        }
+
+        private boolean isSet(F filter) {
+            Object fieldValue = value.apply(filter);
+            return fieldValue != null && !(fieldValue instanceof String && ((String) fieldValue).isEmpty());
+        }
+
+        private Predicate toPredicate(F filter, Root<E> root, CriteriaBuilder criteriaBuilder) {
+            return predicate.create(value.apply(filter), root, criteriaBuilder);
+        }
+    }
+
+    /**
+     * Builder of {@link FilterSpecification}. The order in which the
+     * fields are added is the order of the predicates in the query.
+     *
+     * @param <F> the type of the filter
+     * @param <E> the type of the filtered entity
+     */
+    public static final class Builder<F, E> {
+        private final List<FilterField<F, E>> fields = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds an exact-match field.
+         *
+         * @param value the accessor of the field value in the filter
+         * @param path  the accessor of the compared attribute
+         * @return this builder
+         */
+        public Builder<F, E> equal(Function<F, ?> value, Function<Root<E>, Path<?>> path) {
+            return field(value, (fieldValue, root, criteriaBuilder) ->
+                    criteriaBuilder.equal(path.apply(root), fieldValue));
+        }
+
+        /**
+         * Adds a case-insensitive substring field. Empty substrings
+         * are treated as unset.
+         *
+         * @param value the accessor of the substring in the filter
+         * @param path  the accessor of the matched attribute
+         * @return this builder
+         */
+        public Builder<F, E> containing(Function<F, String> value, Function<Root<E>, Expression<String>> path) {
+            return field(value, (fieldValue, root, criteriaBuilder) -> criteriaBuilder.like(
+                    criteriaBuilder.lower(path.apply(root)), likePattern(fieldValue)));
+        }
+
+        /**
+         * Adds a field with a custom predicate.
+         *
+         * @param value     the accessor of the field value in the filter
+         * @param predicate the factory of the predicate
+         * @param <T>       the type of the field value
+         * @return this builder
+         */
+        public <T> Builder<F, E> field(Function<F, T> value, PredicateFactory<T, E> predicate) {
+            if (fields.size() == Long.SIZE) {
+                throw new IllegalStateException("A filter supports at most " + Long.SIZE + " fields");
+            }
+            fields.add(new FilterField<>(value, predicate));
+            return this;
+        }
+
+        /**
+         * Builds the filter specification.
+         *
+         * @return the filter specification
+         */
+        public FilterSpecification<F, E> build() {
+            return new FilterSpecification<>(fields);
+        }
+    }
+}
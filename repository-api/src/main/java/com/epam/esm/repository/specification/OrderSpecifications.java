@@ -0,0 +1,93 @@
+package com.epam.esm.repository.specification;
+
+import com.epam.esm.domain.entity.Order;
+import com.epam.esm.domain.payload.CertificateFilterDto;
+import com.epam.esm.domain.payload.OrderFilterDto;
+import com.epam.esm.domain.payload.UserFilterDto;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.JoinType;
+import java.util.function.Function;
+
+/**
+ * Factory of {@link Specification}s for {@link Order} queries.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public final class OrderSpecifications {
+
+    private static final FilterSpecification<OrderFilterDto, Order> FILTER =
+            FilterSpecification.<OrderFilterDto, Order>builder()
+                    .equal(OrderFilterDto::getCost, root -> root.get("cost"))
+                    .equal(OrderFilterDto::getCreateDate, root -> root.get("createDate"))
+                    .equal(user(UserFilterDto::getId), root -> root.get("user").get("id"))
+                    .equal(user(UserFilterDto::getLogin), root -> root.get("user").get("login"))
+                    .equal(user(UserFilterDto::getEmail), root -> root.get("user").get("email"))
+                    .equal(user(UserFilterDto::getRole), root -> root.get("user").get("role"))
+                    .equal(certificate(CertificateFilterDto::getName),
+                            root -> root.get("certificate").get("name"))
+                    .equal(certificate(CertificateFilterDto::getDescription),
+                            root -> root.get("certificate").get("description"))
+                    .equal(certificate(CertificateFilterDto::getPrice),
+                            root -> root.get("certificate").get("price"))
+                    .equal(certificate(CertificateFilterDto::getDuration),
+                            root -> root.get("certificate").get("duration"))
+                    .equal(certificate(CertificateFilterDto::getCreateDate),
+                            root -> root.get("certificate").get("createDate"))
+                    .equal(certificate(CertificateFilterDto::getLastUpdateDate),
+                            root -> root.get("certificate").get("lastUpdateDate"))
+                    .build();
+
+    private OrderSpecifications() {
+    }
+
+    /**
+     * Returns a specification matching all criteria of the filter.
+     *
+     * @param filter the filter
+     * @return the specification
+     */
+    public static Specification<Order> byFilter(OrderFilterDto filter) {
+        return FILTER.toSpecification(filter);
+    }
+
+    /**
+     * Returns a specification matching the orders of the user
+     * with the given ID.
+     *
+     * @param userId the ID of the user
+     * @return the specification
+     */
+    public static Specification<Order> hasUserId(Long userId) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.get("user").get("id"), userId);
+    }
+
+    /**
+     * Returns a specification that fetches the user and the
+     * certificate of the orders with the orders themselves, instead
+     * of loading each of them with a separate select. Both are
+     * to-one associations, so the fetch does not multiply rows and
+     * the page is still limited in SQL.
+     *
+     * @return the specification
+     */
+    public static Specification<Order> fetchUserAndCertificate() {
+        return (root, query, criteriaBuilder) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("user", JoinType.INNER);
+                root.fetch("certificate", JoinType.INNER);
+            }
+            return null;
+        };
+    }
+
+    private static <T> Function<OrderFilterDto, T> user(Function<UserFilterDto, T> field) {
+        return filter -> filter.getUser() == null ? null : field.apply(filter.getUser());
+    }
+
+    private static <T> Function<OrderFilterDto, T> certificate(Function<CertificateFilterDto, T> field) {
+        return filter -> filter.getCertificate() == null ? null : field.apply(filter.getCertificate());
+    }
+}
@@ -0,0 +1,33 @@
+package com.epam.esm.repository.specification;
+
+import com.epam.esm.domain.entity.Tag;
+import com.epam.esm.domain.payload.TagFilterDto;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Factory of {@link Specification}s for {@link Tag} queries.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public final class TagSpecifications {
+
+    private static final FilterSpecification<TagFilterDto, Tag> FILTER =
+            FilterSpecification.<TagFilterDto, Tag>builder()
+                    .equal(TagFilterDto::getName, root -> root.get("name"))
+                    .containing(TagFilterDto::getNameContaining, root -> root.get("name"))
+                    .build();
+
+    private TagSpecifications() {
+    }
+
+    /**
+     * Returns a specification matching all criteria of the filter.
+     *
+     * @param filter the filter
+     * @return the specification
+     */
+    public static Specification<Tag> byFilter(TagFilterDto filter) {
+        return FILTER.toSpecification(filter);
+    }
+}
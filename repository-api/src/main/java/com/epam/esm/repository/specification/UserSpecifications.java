@@ -0,0 +1,59 @@
+package com.epam.esm.repository.specification;
+
+import com.epam.esm.domain.entity.Role;
+import com.epam.esm.domain.entity.User;
+import com.epam.esm.domain.payload.UserFilterDto;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Factory of {@link Specification}s for {@link User} queries.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public final class UserSpecifications {
+
+    private static final FilterSpecification<UserFilterDto, User> FILTER =
+            FilterSpecification.<UserFilterDto, User>builder()
+                    .equal(UserFilterDto::getLogin, root -> root.get("login"))
+                    .equal(UserFilterDto::getEmail, root -> root.get("email"))
+                    .equal(UserFilterDto::getRole, root -> root.get("role"))
+                    .containing(UserFilterDto::getLoginContaining, root -> root.get("login"))
+                    .containing(UserFilterDto::getEmailContaining, root -> root.get("email"))
+                    .field(UserFilterDto::getRoleContaining, UserSpecifications::roleContaining)
+                    .build();
+
+    private UserSpecifications() {
+    }
+
+    /**
+     * Returns a specification matching all criteria of the filter.
+     *
+     * @param filter the filter
+     * @return the specification
+     */
+    public static Specification<User> byFilter(UserFilterDto filter) {
+        return FILTER.toSpecification(filter);
+    }
+
+    /**
+     * Resolves the role substring against the {@link Role} constants,
+     * so the query compares the role column with an IN-list instead
+     * of applying LOWER and LIKE to every row.
+     */
+    private static Predicate roleContaining(String value, Root<User> root, CriteriaBuilder criteriaBuilder) {
+        String substring = value.toLowerCase(Locale.ROOT);
+        List<Role> roles = Arrays.stream(Role.values())
+                .filter(role -> role.name().toLowerCase(Locale.ROOT).contains(substring))
+                .collect(Collectors.toList());
+        return roles.isEmpty() ? criteriaBuilder.disjunction() : root.get("role").in(roles);
+    }
+}
@@ -0,0 +1,66 @@
+package com.epam.esm.repository.support;
+
+import com.epam.esm.domain.entity.AbstractEntity;
+import com.epam.esm.domain.entity.CacheRegions;
+import com.epam.esm.repository.api.BaseRepository;
+import org.hibernate.annotations.Cache;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.lang.Nullable;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.List;
+
+/**
+ * Base class of all repositories in the application.
+ * Adds to {@link SimpleJpaRepository} the methods declared
+ * in {@link BaseRepository}. Registered as the repository base
+ * class with {@code @EnableJpaRepositories(repositoryBaseClass = ...)}.
+ *
+ * @param <E> the type of entity managed by the repository
+ * @param <N> the type of the entity's ID
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public class BaseJpaRepository<E extends AbstractEntity, N> extends SimpleJpaRepository<E, N>
+        implements BaseRepository<E, N> {
+
+    private final String queryCacheRegion;
+
+    public BaseJpaRepository(JpaEntityInformation<E, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        Cache cache = entityInformation.getJavaType().getAnnotation(Cache.class);
+        this.queryCacheRegion = cache == null ? null : CacheRegions.QUERY_PREFIX + cache.region();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A {@link KeysetPageable} adds the keyset predicate to the
+     * specification, so the query seeks to the page instead of
+     * skipping the rows of the previous pages. The queries of
+     * entities with a second-level cache region are cached in the
+     * query cache region of the entity.
+     */
+    @Override
+    public List<E> findAllAsList(@Nullable Specification<E> specification, Pageable pageable) {
+        if (pageable instanceof KeysetPageable) {
+            specification = Specification.where(specification)
+                    .and(((KeysetPageable) pageable).toSpecification());
+        }
+        TypedQuery<E> query = getQuery(specification, pageable);
+        if (queryCacheRegion != null) {
+            query.setHint(QueryHints.HINT_CACHEABLE, true);
+            query.setHint(QueryHints.HINT_CACHE_REGION, queryCacheRegion);
+        }
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query.getResultList();
+    }
+}
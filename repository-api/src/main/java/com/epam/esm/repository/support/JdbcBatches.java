@@ -0,0 +1,88 @@
+package com.epam.esm.repository.support;
+
+import org.springframework.dao.DataRetrievalFailureException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Helpers for the repository fragments that write rows with
+ * JDBC batches instead of through the persistence context.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public final class JdbcBatches {
+
+    private JdbcBatches() {
+    }
+
+    /**
+     * Sets the parameters of the statement for a single row.
+     *
+     * @param <T> the type of the row
+     */
+    @FunctionalInterface
+    public interface StatementBinder<T> {
+
+        void bind(PreparedStatement statement, T row) throws SQLException;
+    }
+
+    /**
+     * Assigns the generated ID to a row.
+     *
+     * @param <T> the type of the row
+     */
+    @FunctionalInterface
+    public interface IdSetter<T> {
+
+        void setId(T row, long id);
+    }
+
+    /**
+     * Inserts the rows with {@link PreparedStatement#executeBatch()}
+     * in batches of {@code batchSize} rows and assigns the
+     * generated IDs to them.
+     *
+     * @param connection the connection of the current transaction
+     * @param sql        the INSERT statement
+     * @param rows       the rows to insert
+     * @param batchSize  the maximum number of rows sent in one batch
+     * @param binder     sets the statement parameters of a row
+     * @param idSetter   assigns a generated ID to a row
+     * @param <T>        the type of the rows
+     * @throws SQLException if the statement fails
+     * @throws DataRetrievalFailureException if the driver returns
+     * fewer generated keys than rows inserted
+     */
+    public static <T> void insertReturningIds(Connection connection,
+                                              String sql,
+                                              List<T> rows,
+                                              int batchSize,
+                                              StatementBinder<T> binder,
+                                              IdSetter<T> idSetter) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            for (int from = 0; from < rows.size(); from += batchSize) {
+                List<T> batch = rows.subList(from, Math.min(from + batchSize, rows.size()));
+                for (T row : batch) {
+                    binder.bind(statement, row);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (T row : batch) {
+                        if (!keys.next()) {
+                            throw new DataRetrievalFailureException("The driver returned fewer generated IDs "
+                                    + "than rows inserted");
+                        }
+                        idSetter.setId(row, keys.getLong(1));
+                    }
+                }
+            }
+        }
+    }
+}
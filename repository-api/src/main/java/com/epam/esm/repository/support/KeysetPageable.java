@@ -0,0 +1,284 @@
+package com.epam.esm.repository.support;
+
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link Pageable} that selects the page following a cursor
+ * instead of skipping rows with OFFSET. The page is defined by
+ * one sort property and the entity ID as the tie-breaker, so the
+ * query seeks to {@code (property, id) > (lastValue, lastId)} and
+ * its cost does not depend on how deep the page is.
+ * <p>
+ * The cursor is an opaque URL-safe string which carries the sort
+ * property, the direction and the sort key of the last row of the
+ * previous page. A keyset pageable without a cursor selects the
+ * first page. The sort property must be one of the sort keys of
+ * the endpoint, which are attributes of the entity that cannot be
+ * null; the cursor is parsed when the pageable is created, so a
+ * malformed cursor never reaches the query.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public final class KeysetPageable implements Pageable {
+
+    /**
+     * The name of the ID attribute used as the tie-breaker.
+     */
+    public static final String ID = "id";
+
+    /**
+     * The name of the request parameter carrying the cursor.
+     */
+    public static final String AFTER = "after";
+
+    private static final String SEPARATOR = ".";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final int size;
+    private final String property;
+    private final Sort.Direction direction;
+    private final Object lastValue;
+    private final Long lastId;
+
+    private KeysetPageable(int size, String property, Sort.Direction direction, Object lastValue, Long lastId) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must not be less than one");
+        }
+        this.size = size;
+        this.property = property;
+        this.direction = direction;
+        this.lastValue = lastValue;
+        this.lastId = lastId;
+    }
+
+    /**
+     * Creates a keyset pageable from the page size and the first
+     * sort order of the given pageable and the given cursor.
+     * The sort of a non-empty cursor takes precedence over the
+     * sort of the pageable.
+     *
+     * @param pageable the pageable resolved from the request
+     * @param cursor   the cursor, {@code null} or empty for the first page
+     * @param sortKeys the types of the properties the page can be
+     *                 sorted by, including {@link #ID}
+     * @return the keyset pageable
+     * @throws IllegalArgumentException if the cursor is malformed or
+     *                                  the sort property is not a sort key
+     */
+    public static KeysetPageable of(Pageable pageable, String cursor, Map<String, Class<?>> sortKeys) {
+        int size = pageable.getPageSize();
+        if (cursor == null || cursor.isEmpty()) {
+            Sort.Order order = pageable.getSort().stream()
+                    .findFirst()
+                    .orElse(Sort.Order.asc(ID));
+            sortKeyType(order.getProperty(), sortKeys);
+            return new KeysetPageable(size, order.getProperty(), order.getDirection(), null, null);
+        }
+        String[] parts = cursor.split("\\.", -1);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Malformed page cursor: " + cursor);
+        }
+        try {
+            String property = decode(parts[0]);
+            Class<?> type = sortKeyType(property, sortKeys);
+            return new KeysetPageable(size,
+                    property,
+                    Sort.Direction.fromString(parts[1]),
+                    convert(decode(parts[2]), type),
+                    Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException | DateTimeException | ConversionException ex) {
+            throw new IllegalArgumentException("Malformed page cursor: " + cursor, ex);
+        }
+    }
+
+    /**
+     * Returns the cursor of the page following the row
+     * with the given sort key.
+     *
+     * @param value the value of the sort property of the last row
+     * @param id    the ID of the last row
+     * @return the cursor of the next page
+     * @throws IllegalStateException if the value is {@code null},
+     *                               i.e. the sort key is not a sort key
+     */
+    public String nextCursor(Object value, Long id) {
+        if (value == null) {
+            throw new IllegalStateException("The sort key " + property + " of the row " + id + " is null");
+        }
+        return encode(property) + SEPARATOR
+                + direction.name() + SEPARATOR
+                + encode(value.toString()) + SEPARATOR
+                + Objects.requireNonNull(id);
+    }
+
+    /**
+     * Returns the specification that restricts a query to the rows
+     * following the cursor, or a specification without restriction
+     * for the first page.
+     *
+     * @param <E> the type of the entity
+     * @return the keyset specification
+     */
+    public <E> Specification<E> toSpecification() {
+        if (lastId == null) {
+            return Specification.where(null);
+        }
+        return (root, query, criteriaBuilder) -> {
+            Path<Long> id = root.get(ID);
+            Predicate afterId = after(criteriaBuilder, id, lastId);
+            if (ID.equals(property)) {
+                return afterId;
+            }
+            Path<?> path = root.get(property);
+            return criteriaBuilder.or(
+                    after(criteriaBuilder, path, lastValue),
+                    criteriaBuilder.and(criteriaBuilder.equal(path, lastValue), afterId));
+        };
+    }
+
+    /**
+     * Returns the sort property of the keyset.
+     *
+     * @return the sort property
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    @Override
+    public int getPageNumber() {
+        return 0;
+    }
+
+    @Override
+    public int getPageSize() {
+        return size;
+    }
+
+    @Override
+    public long getOffset() {
+        return 0;
+    }
+
+    @Override
+    public Sort getSort() {
+        Sort sort = Sort.by(direction, property);
+        return ID.equals(property) ? sort : sort.and(Sort.by(direction, ID));
+    }
+
+    /**
+     * Keyset pages are navigated with {@link #nextCursor(Object, Long)},
+     * as the following page depends on the last row of this one. Without
+     * the rows there is no next position, so this page is returned.
+     *
+     * @return this pageable
+     */
+    @Override
+    public Pageable next() {
+        return this;
+    }
+
+    @Override
+    public Pageable previousOrFirst() {
+        return first();
+    }
+
+    @Override
+    public Pageable first() {
+        return new KeysetPageable(size, property, direction, null, null);
+    }
+
+    @Override
+    public Pageable withPage(int pageNumber) {
+        return pageNumber == 0 ? first() : PageRequest.of(pageNumber, size, getSort());
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return lastId != null;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate after(CriteriaBuilder criteriaBuilder, Expression<?> expression, Object value) {
+        Expression<Comparable> comparable = (Expression<Comparable>) expression;
+        return direction.isAscending()
+                ? criteriaBuilder.greaterThan(comparable, (Comparable) value)
+                : criteriaBuilder.lessThan(comparable, (Comparable) value);
+    }
+
+    private static Class<?> sortKeyType(String property, Map<String, Class<?>> sortKeys) {
+        Class<?> type = sortKeys.get(property);
+        if (type == null) {
+            throw new IllegalArgumentException("Unsupported keyset sort property: " + property);
+        }
+        return type;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object convert(String value, Class<?> type) {
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.parse(value);
+        }
+        if (type.isEnum()) {
+            return Enum.valueOf((Class<Enum>) type, value);
+        }
+        Object converted = DefaultConversionService.getSharedInstance().convert(value, type);
+        if (converted == null) {
+            throw new IllegalArgumentException("Empty sort key");
+        }
+        return converted;
+    }
+
+    private static String encode(String value) {
+        return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String value) {
+        return new String(DECODER.decode(value), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof KeysetPageable)) {
+            return false;
+        }
+        KeysetPageable that = (KeysetPageable) o;
+        return size == that.size
+                && property.equals(that.property)
+                && direction == that.direction
+                && Objects.equals(lastValue, that.lastValue)
+                && Objects.equals(lastId, that.lastId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(size, property, direction, lastValue, lastId);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Keyset page after (%s=%s, id=%s) of size %d sorted by %s",
+                property, lastValue, lastId, size, getSort());
+    }
+}
@@ -0,0 +1,72 @@
+package com.epam.esm.repository.support;
+
+import com.epam.esm.domain.entity.CacheRegions;
+import org.hibernate.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.function.Consumer;
+
+/**
+ * Evicts query cache regions after writes made with plain JDBC.
+ * Hibernate invalidates cached query results only for the tables
+ * written through the persistence context, so the repository
+ * fragments bypassing it evict the affected regions themselves.
+ * The eviction runs after commit, so a concurrent reader cannot
+ * cache the state before the write again.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public final class QueryCacheEviction {
+
+    private QueryCacheEviction() {
+    }
+
+    /**
+     * Evicts the query cache regions of the given entity regions and
+     * the default query cache region after the current transaction
+     * commits, or immediately if there is no transaction.
+     *
+     * @param entityManagerFactory the factory owning the cache
+     * @param entityRegions        the {@link CacheRegions} of the written entities
+     */
+    public static void evictAfterCommit(EntityManagerFactory entityManagerFactory, String... entityRegions) {
+        evictAfterCommit(entityManagerFactory, cache -> {
+        }, entityRegions);
+    }
+
+    /**
+     * Evicts the cached state of the written entities and the query
+     * cache regions of the given entity regions and the default query
+     * cache region after the current transaction commits, or
+     * immediately if there is no transaction.
+     *
+     * @param entityManagerFactory the factory owning the cache
+     * @param entityEviction       evicts the cached state of the written entities
+     * @param entityRegions        the {@link CacheRegions} of the written entities
+     */
+    public static void evictAfterCommit(EntityManagerFactory entityManagerFactory,
+                                        Consumer<Cache> entityEviction,
+                                        String... entityRegions) {
+        Runnable eviction = () -> {
+            Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+            entityEviction.accept(cache);
+            for (String region : entityRegions) {
+                cache.evictQueryRegion(CacheRegions.QUERY_PREFIX + region);
+            }
+            cache.evictDefaultQueryRegion();
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.epam.esm.config;
 
+import com.epam.esm.repository.support.BaseJpaRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringBootConfiguration;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -29,7 +30,7 @@ import javax.sql.DataSource;
 @EnableAutoConfiguration
 @ComponentScan("com.epam.esm.repository")
 @EntityScan("com.epam.esm.domain")
-@EnableJpaRepositories("com.epam.esm.repository.api")
+@EnableJpaRepositories(basePackages = "com.epam.esm.repository.api", repositoryBaseClass = BaseJpaRepository.class)
 @PropertySource("classpath:test.properties")
 public class RepositoryTestConfig {
 
@@ -6,6 +6,7 @@ import com.epam.esm.config.TestTags;
 import com.epam.esm.domain.entity.Certificate;
 import com.epam.esm.domain.entity.Tag;
 import com.epam.esm.domain.payload.CertificateFilterDto;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +21,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import javax.transaction.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -41,6 +44,9 @@ import static org.junit.jupiter.api.Assertions.*;
 @Transactional
 class CertificateRepositoryTest {
 
+    @PersistenceContext
+    protected EntityManager em;
+
     @Autowired
     private CertificateRepository certificateRepository;
 
@@ -239,6 +245,42 @@ class CertificateRepositoryTest {
     }
 
 
+    /**
+     * @see CertificateRepository#findAllWithTagsByIdIn(Collection)
+     */
+    @Test
+    void testFindAllWithTagsByIdInShouldReturnEveryCertificateOnceWithInitializedTags() {
+        em.clear();
+        List<Certificate> certificates = certificateRepository.findAllWithTagsByIdIn(List.of(1L, 2L, 1L));
+        assertEquals(2, certificates.size());
+        certificates.forEach(certificate -> assertTrue(Hibernate.isInitialized(certificate.getTags())));
+        Map<Long, Integer> tagCounts = new HashMap<>();
+        certificates.forEach(certificate -> tagCounts.put(certificate.getId(), certificate.getTags().size()));
+        assertEquals(Map.of(1L, 7, 2L, 6), tagCounts);
+    }
+
+    /**
+     * @see CertificateRepository#update(Certificate, long, Collection, Collection)
+     */
+    @Test
+    void testUpdateWithTagChangesShouldUpdateCertificateAndTagLinks() {
+        Certificate certificate = certificateRepository.findWithTagsById(1L).orElseThrow();
+        long version = certificate.getVersion();
+        Certificate changes = new Certificate(1L, "updated certificate", certificate.getDescription(),
+                certificate.getPrice(), certificate.getDuration(), certificate.getCreateDate(),
+                certificate.getLastUpdateDate(), Set.of());
+        assertTrue(certificateRepository.update(changes, version, List.of(10L), List.of(1L)));
+        em.clear();
+        Certificate updated = certificateRepository.findWithTagsById(1L).orElseThrow();
+        assertEquals("updated certificate", updated.getName());
+        assertEquals(changes.getLastUpdateDate(), updated.getLastUpdateDate());
+        assertEquals(version + 1, updated.getVersion());
+        assertEquals(updated.getVersion(), changes.getVersion());
+        assertTrue(updated.getTags().stream().anyMatch(tag -> tag.getId() == 10L));
+        assertTrue(updated.getTags().stream().noneMatch(tag -> tag.getId() == 1L));
+        assertFalse(certificateRepository.update(changes, version, List.of(), List.of()));
+    }
+
     /**
      * This test method checks if an entity is deleted from the
      * database when delete method is called and the corresponding
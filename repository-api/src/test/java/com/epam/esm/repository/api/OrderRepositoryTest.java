@@ -6,6 +6,7 @@ import com.epam.esm.domain.entity.Order;
 import com.epam.esm.domain.entity.Tag;
 import com.epam.esm.domain.entity.User;
 import com.epam.esm.domain.payload.CertificateFilterDto;
+import com.epam.esm.domain.payload.OrderExportRow;
 import com.epam.esm.domain.payload.OrderFilterDto;
 import com.epam.esm.domain.payload.UserFilterDto;
 import org.junit.jupiter.api.AfterEach;
@@ -28,6 +29,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -144,6 +146,47 @@ class OrderRepositoryTest {
         assertEquals(expected, savedOrder);
     }
 
+    /**
+     * @see OrderRepository#insertAll(List)
+     */
+    @Test
+    void testInsertAllShouldCreateEntitiesInDBAndAssignIds() {
+        TestUsers tu = new TestUsers();
+        TestCertificates tc = new TestCertificates();
+        List<Order> orders = List.of(
+                new Order(null, new BigDecimal("11.11"), null, tu.user1, tc.certificate1),
+                new Order(null, new BigDecimal("22.22"), null, tu.user2, tc.certificate2));
+        List<Order> savedOrders = orderRepository.insertAll(orders);
+        assertEquals(2, savedOrders.size());
+        for (Order savedOrder : savedOrders) {
+            Order expected = orderRepository.findById(savedOrder.getId()).orElseThrow();
+            assertEquals(expected.getCost(), savedOrder.getCost());
+            assertEquals(expected.getUser().getId(), savedOrder.getUser().getId());
+            assertEquals(expected.getCertificate().getId(), savedOrder.getCertificate().getId());
+        }
+    }
+
+    /**
+     * @see OrderRepository#streamAll(LocalDateTime, LocalDateTime, int)
+     */
+    @Test
+    void testStreamAllShouldReturnAllOrdersInRangeSortedById() {
+        List<Order> expected = orderRepository.findAll(Sort.by("id"));
+        try (Stream<OrderExportRow> rows = orderRepository.streamAll(null, null, 2)) {
+            List<OrderExportRow> exported = rows.collect(Collectors.toList());
+            assertEquals(expected.size(), exported.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getId(), exported.get(i).getId());
+                assertEquals(expected.get(i).getUser().getLogin(), exported.get(i).getUserLogin());
+                assertEquals(expected.get(i).getCertificate().getName(), exported.get(i).getCertificateName());
+            }
+        }
+        LocalDateTime from = expected.get(0).getCreateDate();
+        try (Stream<OrderExportRow> rows = orderRepository.streamAll(from, from.plusNanos(1_000_000), 2)) {
+            assertThat(rows).allMatch(row -> row.getCreateDate().equals(from));
+        }
+    }
+
     /**
      * @see BaseRepository#save(Object)
      */
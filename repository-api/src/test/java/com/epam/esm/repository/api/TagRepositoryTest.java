@@ -193,6 +193,10 @@ class TagRepositoryTest {
                         TagFilterDto.builder().nameContaining("airpla").build(),
                         PageRequest.of(0, 10, Sort.by("id")),
                         Comparator.comparing(Tag::getId)),
+                Arguments.of(
+                        TagFilterDto.builder().nameContaining("m_th").build(),
+                        PageRequest.of(0, 10, Sort.by("id")),
+                        Comparator.comparing(Tag::getId)),
                 Arguments.of(
                         TagFilterDto.builder().nameContaining("d").build(),
                         PageRequest.of(0, 10, Sort.by("id")),
@@ -0,0 +1,46 @@
+package com.epam.esm.repository.specification;
+
+import com.epam.esm.domain.entity.Tag;
+import com.epam.esm.domain.payload.TagFilterDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Test class for {@link FilterSpecification}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class FilterSpecificationTest {
+
+    private final FilterSpecification<TagFilterDto, Tag> filterSpecification =
+            FilterSpecification.<TagFilterDto, Tag>builder()
+                    .equal(TagFilterDto::getName, root -> root.get("name"))
+                    .containing(TagFilterDto::getNameContaining, root -> root.get("name"))
+                    .build();
+
+    /**
+     * @see FilterSpecification#toSpecification(Object)
+     */
+    @Test
+    void testToSpecificationShouldSkipUnsetFields() {
+        Specification<Tag> specification = filterSpecification.toSpecification(new TagFilterDto());
+        assertNull(specification.toPredicate(null, null, null));
+    }
+
+    /**
+     * @see FilterSpecification#getShapeCount()
+     */
+    @Test
+    void testToSpecificationShouldCacheShapePerSetOfFields() {
+        filterSpecification.toSpecification(new TagFilterDto());
+        filterSpecification.toSpecification(TagFilterDto.builder().name("sport").build());
+        filterSpecification.toSpecification(TagFilterDto.builder().name("music").build());
+        filterSpecification.toSpecification(TagFilterDto.builder().nameContaining("mus").build());
+        filterSpecification.toSpecification(TagFilterDto.builder().name("music").nameContaining("mus").build());
+        assertEquals(4, filterSpecification.getShapeCount());
+    }
+}
@@ -0,0 +1,102 @@
+package com.epam.esm.repository.support;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link KeysetPageable}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class KeysetPageableTest {
+
+    private static final Map<String, Class<?>> SORT_KEYS = Map.of(
+            KeysetPageable.ID, Long.class,
+            "name", String.class,
+            "price", BigDecimal.class,
+            "createDate", LocalDateTime.class);
+
+    /**
+     * @see KeysetPageable#of(Pageable, String, Map)
+     */
+    @Test
+    void testOfShouldUseFirstSortOrderWithIdAsTieBreaker() {
+        KeysetPageable pageable = KeysetPageable.of(
+                PageRequest.of(5, 20, Sort.by(Sort.Direction.DESC, "price", "name")), "", SORT_KEYS);
+        assertEquals(0, pageable.getOffset());
+        assertEquals(20, pageable.getPageSize());
+        assertEquals(Sort.by(Sort.Direction.DESC, "price", "id"), pageable.getSort());
+        assertFalse(pageable.hasPrevious());
+    }
+
+    /**
+     * @see KeysetPageable#nextCursor(Object, Long)
+     */
+    @Test
+    void testNextCursorShouldRestoreSortAndPosition() {
+        KeysetPageable first = KeysetPageable.of(PageRequest.of(0, 10, Sort.by("price")), null, SORT_KEYS);
+        String cursor = first.nextCursor(new BigDecimal("10.10"), 42L);
+        KeysetPageable next = KeysetPageable.of(PageRequest.of(0, 10, Sort.by("name")), cursor, SORT_KEYS);
+        assertEquals(Sort.by("price", "id"), next.getSort());
+        assertTrue(next.hasPrevious());
+        assertEquals(first, next.first());
+    }
+
+    /**
+     * @see KeysetPageable#of(Pageable, String, Map)
+     */
+    @Test
+    void testOfShouldRejectMalformedCursor() {
+        Pageable pageable = PageRequest.of(0, 10);
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageable.of(pageable, "not-a-cursor", SORT_KEYS));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageable.of(pageable, "aWQ.UP.MQ.1", SORT_KEYS));
+    }
+
+    /**
+     * @see KeysetPageable#of(Pageable, String, Map)
+     */
+    @Test
+    void testOfShouldRejectSortPropertiesThatAreNotSortKeys() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageable.of(
+                PageRequest.of(0, 10, Sort.by("tags.name")), null, SORT_KEYS));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageable.of(
+                PageRequest.of(0, 10), cursor("tags.name", "spa", 7L), SORT_KEYS));
+    }
+
+    /**
+     * @see KeysetPageable#of(Pageable, String, Map)
+     */
+    @Test
+    void testOfShouldRejectSortKeyOfWrongType() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageable.of(
+                PageRequest.of(0, 10), cursor("createDate", "not a date", 7L), SORT_KEYS));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageable.of(
+                PageRequest.of(0, 10), cursor("price", "", 7L), SORT_KEYS));
+    }
+
+    /**
+     * @see KeysetPageable#next()
+     */
+    @Test
+    void testNextShouldReturnThePageItself() {
+        KeysetPageable pageable = KeysetPageable.of(PageRequest.of(0, 10), null, SORT_KEYS);
+        assertSame(pageable, pageable.next());
+    }
+
+    private static String cursor(String property, String value, long id) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(property.getBytes(StandardCharsets.UTF_8)) + ".ASC."
+                + encoder.encodeToString(value.getBytes(StandardCharsets.UTF_8)) + "." + id;
+    }
+}
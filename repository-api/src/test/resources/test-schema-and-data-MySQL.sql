@@ -17,7 +17,8 @@ CREATE TABLE IF NOT EXISTS certificates
     price            DECIMAL(9, 2) NOT NULL,
     duration         INT UNSIGNED  NOT NULL,
     create_date      DATETIME(3)   NOT NULL,
-    last_update_date DATETIME(3)   NOT NULL
+    last_update_date DATETIME(3)   NOT NULL,
+    version          BIGINT        NOT NULL DEFAULT 0 INVISIBLE
 );
 
 CREATE TRIGGER do_immutable_create_date
@@ -35,8 +36,9 @@ END;
 CREATE TABLE IF NOT EXISTS tags
 (
     PRIMARY KEY (id),
-    id   INT UNSIGNED NOT NULL AUTO_INCREMENT,
-    name VARCHAR(32)  NOT NULL UNIQUE
+    id      INT UNSIGNED NOT NULL AUTO_INCREMENT,
+    name    VARCHAR(32)  NOT NULL UNIQUE,
+    version BIGINT       NOT NULL DEFAULT 0 INVISIBLE
 );
 
 
@@ -69,7 +71,8 @@ CREATE TABLE IF NOT EXISTS users
     login    VARCHAR(32) COLLATE utf8_bin NOT NULL UNIQUE,
     email    VARCHAR(255)                 NOT NULL UNIQUE,
     password VARCHAR(512)                 NOT NULL,
-    role     VARCHAR(15)                  NOT NULL
+    role     VARCHAR(15)                  NOT NULL,
+    version  BIGINT                       NOT NULL DEFAULT 0 INVISIBLE
 );
 
 
@@ -0,0 +1,47 @@
+package com.epam.esm.service.api;
+
+import com.epam.esm.domain.payload.CertificateImportReport;
+
+import java.io.InputStream;
+
+/**
+ * The interface that provides the bulk import of Gift Certificates.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public interface CertificateImportService {
+
+    /**
+     * The formats of an import.
+     */
+    enum Format {
+
+        /**
+         * One JSON certificate per line.
+         */
+        NDJSON,
+
+        /**
+         * Comma separated values with the header
+         * {@code name,description,price,duration,tags}, where
+         * the tag names are separated by semicolons.
+         */
+        CSV
+    }
+
+    /**
+     * Imports the certificates read from the content. The content
+     * is read incrementally and the certificates are saved in chunks,
+     * each in its own transaction. Rows that cannot be read, violate
+     * the constraints of a new certificate or use the name of an
+     * existing certificate are skipped and reported. Missing tags
+     * are created.
+     *
+     * @param content the content to import
+     * @param format  the format of the content
+     * @return the numbers of imported and failed rows and
+     *         the errors of the failed rows
+     */
+    CertificateImportReport importCertificates(InputStream content, Format format);
+}
@@ -5,6 +5,7 @@ import com.epam.esm.domain.payload.CertificateFilterDto;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 /**
  * The interface that provides methods for managing Gift Certificates.
@@ -44,4 +45,17 @@ public interface CertificateService extends BaseService<CertificateDto, Long> {
      * @return a list of Gift Certificates that match the given tag name, filter and page parameters
      */
     List<CertificateDto> findAllByTagName(String tagName, CertificateFilterDto filter, Pageable pageable);
+
+    /**
+     * Applies a partial update to a Gift Certificate. The certificate
+     * is loaded once, passed to the patch and updated with the values
+     * the patch returns. Unlike {@link #update(Object, Object)}, the
+     * tags returned by the patch replace the tags of the certificate,
+     * so a patch can also remove tags.
+     *
+     * @param id    the ID of the Gift Certificate to update
+     * @param patch returns the certificate with the changes applied
+     * @return the updated Gift Certificate
+     */
+    CertificateDto patch(Long id, UnaryOperator<CertificateDto> patch);
 }
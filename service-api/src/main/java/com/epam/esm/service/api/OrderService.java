@@ -1,10 +1,13 @@
 package com.epam.esm.service.api;
 
 import com.epam.esm.domain.payload.OrderDto;
+import com.epam.esm.domain.payload.OrderExportRow;
 import com.epam.esm.domain.payload.OrderFilterDto;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * This interface represents the service layer for orders.
@@ -35,4 +38,24 @@ public interface OrderService extends BaseService<OrderDto, Long> {
      * @return the list of found orders.
      */
     List<OrderDto> findAllByUserId(Long userId, OrderFilterDto orderFilterDto, Pageable pageable);
+
+    /**
+     * Creates all given orders in one transaction.
+     *
+     * @param orderDtos the orders to create.
+     * @return the created orders, in the order of the given list.
+     */
+    List<OrderDto> createAll(List<OrderDto> orderDtos);
+
+    /**
+     * Passes the orders created in the given range to the action
+     * one at a time, in the order of their IDs. The orders are read
+     * with a forward-only cursor and are not collected, so any number
+     * of orders can be exported with constant memory.
+     *
+     * @param createdFrom the inclusive lower bound of the creation date, or {@code null}
+     * @param createdTo   the exclusive upper bound of the creation date, or {@code null}
+     * @param action      the action receiving the rows
+     */
+    void exportAll(LocalDateTime createdFrom, LocalDateTime createdTo, Consumer<OrderExportRow> action);
 }
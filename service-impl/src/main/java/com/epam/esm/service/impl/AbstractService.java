@@ -2,6 +2,7 @@ package com.epam.esm.service.impl;
 
 import com.epam.esm.service.api.BaseService;
 import lombok.AllArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.util.Arrays;
 import java.util.List;
@@ -9,7 +10,8 @@ import java.util.List;
 /**
  * Abstract base implementation for {@link BaseService} interface.
  * Implements {@link #isEqualsIds} method to check if
- * provided ids are equal.
+ * provided ids are equal and {@link #checkVersion} method
+ * to check the version an update is based on.
  *
  * @param <T> the type of the service
  * @param <N> the type of the ID of the service
@@ -28,4 +30,21 @@ public abstract class AbstractService<T, N> implements BaseService<T, N> {
     protected final boolean isEqualsIds(N... ids) {
         return List.of(ids).isEmpty() || Arrays.stream(ids).allMatch(ids[0]::equals);
     }
+
+    /**
+     * Checks that the version an update is based on, if given,
+     * is the current version of the resource.
+     *
+     * @param entityClass     the class of the resource
+     * @param id              the ID of the resource
+     * @param expectedVersion the version the update is based on,
+     *                        or {@code null} to skip the check
+     * @param currentVersion  the current version of the resource
+     * @throws ObjectOptimisticLockingFailureException if the versions differ
+     */
+    protected final void checkVersion(Class<?> entityClass, N id, Long expectedVersion, Long currentVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new ObjectOptimisticLockingFailureException(entityClass, id);
+        }
+    }
 }
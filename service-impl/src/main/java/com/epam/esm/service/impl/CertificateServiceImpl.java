@@ -10,14 +10,26 @@ import com.epam.esm.exceptions.*;
 import com.epam.esm.repository.api.CertificateRepository;
 import com.epam.esm.repository.api.TagRepository;
 import com.epam.esm.service.api.CertificateService;
+import com.epam.esm.service.impl.aggregate.PopularTagAggregate;
+import com.epam.esm.service.impl.cache.CacheNames;
+import com.epam.esm.service.impl.support.SingleFlight;
+import com.epam.esm.service.impl.search.CertificateSearchIndex;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 import static com.epam.esm.domain.validation.ValidationConstants.*;
 
@@ -39,9 +51,18 @@ public class CertificateServiceImpl extends AbstractService<CertificateDto, Long
     private final DtoConverter<Certificate, CertificateDto> converter;
     private final TagRepository tagRepository;
     private final DtoConverter<Tag, TagDto> tagConverter;
+    private final CertificateSearchIndex searchIndex;
+    private final PopularTagAggregate popularTags;
+    private final CacheManager cacheManager;
 
     @Override
     public List<CertificateDto> findAll(CertificateFilterDto certificateFilterDto, Pageable pageable) {
+        Optional<Set<Long>> candidateIds = searchCandidates(certificateFilterDto);
+        if (candidateIds.isPresent()) {
+            return candidateIds.get().isEmpty()
+                    ? Collections.emptyList()
+                    : converter.toDto(repository.findAllByIdIn(candidateIds.get(), certificateFilterDto, pageable));
+        }
         List<Certificate> certificates = repository.findAll(certificateFilterDto, pageable);
         return converter.toDto(certificates);
     }
@@ -50,6 +71,13 @@ public class CertificateServiceImpl extends AbstractService<CertificateDto, Long
     public List<CertificateDto> findAllByTagId(Long id,
                                                CertificateFilterDto certificateFilterDto,
                                                Pageable pageable) {
+        Optional<Set<Long>> candidateIds = searchCandidates(certificateFilterDto);
+        if (candidateIds.isPresent()) {
+            return candidateIds.get().isEmpty()
+                    ? Collections.emptyList()
+                    : converter.toDto(repository.findAllByIdInAndTagId(
+                            candidateIds.get(), id, certificateFilterDto, pageable));
+        }
         List<Certificate> certificates = repository.findAllByTagId(id, certificateFilterDto, pageable);
         return converter.toDto(certificates);
     }
@@ -58,11 +86,20 @@ public class CertificateServiceImpl extends AbstractService<CertificateDto, Long
     public List<CertificateDto> findAllByTagName(String tagName,
                                                  CertificateFilterDto certificateFilterDto,
                                                  Pageable pageable) {
+        Optional<Set<Long>> candidateIds = searchCandidates(certificateFilterDto);
+        if (candidateIds.isPresent()) {
+            return candidateIds.get().isEmpty()
+                    ? Collections.emptyList()
+                    : converter.toDto(repository.findAllByIdInAndTagName(
+                            candidateIds.get(), tagName, certificateFilterDto, pageable));
+        }
         List<Certificate> certificates = repository.findAllByTagName(tagName, certificateFilterDto, pageable);
         return converter.toDto(certificates);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.CERTIFICATES, sync = true)
+    @SingleFlight("certificate-by-id")
     public CertificateDto findById(Long id) {
         Certificate certificate = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -71,32 +108,193 @@ public class CertificateServiceImpl extends AbstractService<CertificateDto, Long
     }
 
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.TAGS, allEntries = true),
+        @CacheEvict(cacheNames = CacheNames.RESPONSES, allEntries = true)
+    })
     public CertificateDto create(CertificateDto certificateDto) {
         Certificate certificate = converter.toEntity(certificateDto);
         Certificate savedCertificate = repository.save(certificate);
+        searchIndex.index(savedCertificate);
         return converter.toDto(savedCertificate);
     }
 
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.CERTIFICATES, key = "#id"),
+        @CacheEvict(cacheNames = CacheNames.RESPONSES, allEntries = true)
+    })
     public CertificateDto deleteById(Long id) {
         Certificate certificate = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         CERTIFICATE_NOT_FOUND, id, ErrorCodes.NOT_FOUND_CERTIFICATE_RESOURCE));
         repository.delete(certificate);
+        searchIndex.remove(id);
+        popularTags.invalidate();
         return converter.toDto(certificate);
     }
 
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.CERTIFICATES, key = "#id"),
+        @CacheEvict(cacheNames = CacheNames.TAGS, allEntries = true),
+        @CacheEvict(cacheNames = CacheNames.RESPONSES, allEntries = true)
+    })
     public CertificateDto update(Long id, CertificateDto certificateDto) {
         if (!isEqualsIds(certificateDto.getId(), id)) {
             throw new InvalidResourcePropertyException(CERTIFICATE_ID_NOT_MAPPED, id, ErrorCodes.INVALID_ID_PROPERTY);
         }
-        Certificate sourceCertificate = converter.toEntity(findById(id));
-        Certificate certificateToUpdate = converter.toEntity(certificateDto);
-        Set<Tag> tagsToUpdate = Set.copyOf(certificateToUpdate.getTags());
-        certificateToUpdate.mergeTags(sourceCertificate.getTags());
-        Certificate updated = repository.save(certificateToUpdate);
-        tagsToUpdate.forEach(tagRepository::save);
+        return update(findWithTagsById(id), certificateDto, false);
+    }
+
+    @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.CERTIFICATES, key = "#id"),
+        @CacheEvict(cacheNames = CacheNames.TAGS, allEntries = true),
+        @CacheEvict(cacheNames = CacheNames.RESPONSES, allEntries = true)
+    })
+    public CertificateDto patch(Long id, UnaryOperator<CertificateDto> patch) {
+        Certificate certificate = findWithTagsById(id);
+        CertificateDto patchedDto = patch.apply(converter.toDto(certificate));
+        if (!isEqualsIds(patchedDto.getId(), id)) {
+            throw new InvalidResourcePropertyException(CERTIFICATE_ID_NOT_MAPPED, id, ErrorCodes.INVALID_ID_PROPERTY);
+        }
+        return update(certificate, patchedDto, true);
+    }
+
+    private Certificate findWithTagsById(Long id) {
+        return repository.findWithTagsById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        CERTIFICATE_NOT_FOUND, id, ErrorCodes.NOT_FOUND_CERTIFICATE_RESOURCE));
+    }
+
+    /**
+     * Writes the changes of the update to the loaded certificate with
+     * one UPDATE of the certificate and batches of changed tag links,
+     * without merging the certificate into the persistence context.
+     *
+     * @param source         the certificate as loaded, with its tags
+     * @param certificateDto the certificate with the new values and
+     *                       optionally the version they are based on
+     * @param replaceTags    whether the tags of the update replace the
+     *                       tags of the certificate or are added to them
+     * @return the updated certificate
+     * @throws ObjectOptimisticLockingFailureException if the certificate
+     *         does not have the given version or is changed concurrently
+     */
+    private CertificateDto update(Certificate source, CertificateDto certificateDto, boolean replaceTags) {
+        checkVersion(Certificate.class, source.getId(), certificateDto.getVersion(), source.getVersion());
+        CertificateTagDiff tagDiff = diffTags(source, tagConverter.toEntity(certificateDto.getTags()), replaceTags);
+        Certificate updated = new Certificate(source.getId(),
+                certificateDto.getName(),
+                certificateDto.getDescription(),
+                certificateDto.getPrice(),
+                certificateDto.getDuration(),
+                source.getCreateDate(),
+                source.getLastUpdateDate(),
+                tagDiff.getTags());
+        if (!repository.update(updated, source.getVersion(),
+                tagDiff.getAddedTagIds(), tagDiff.getRemovedTagIds())) {
+            throw new ObjectOptimisticLockingFailureException(Certificate.class, source.getId());
+        }
+        tagRepository.renameAll(tagDiff.getRenamedTags());
+        if (!tagDiff.getRenamedTags().isEmpty()) {
+            evictAllCertificates();
+        }
+        searchIndex.index(updated);
+        if (tagDiff.isLinksChanged()) {
+            popularTags.invalidate();
+        }
         return converter.toDto(updated);
     }
+
+    /**
+     * Evicts every cached certificate, as the renamed tags may be
+     * shared with other certificates. Like the annotated evictions,
+     * the eviction is deferred until the transaction commits by the
+     * transaction-aware cache.
+     */
+    private void evictAllCertificates() {
+        Cache certificates = cacheManager.getCache(CacheNames.CERTIFICATES);
+        if (certificates != null) {
+            certificates.clear();
+        }
+    }
+
+    /**
+     * Resolves the tags of an update against the stored tags and
+     * computes the changes to the tags of the certificate. Tags
+     * without an ID are looked up by name and created if missing;
+     * tags without a name keep their stored name. Tags with an ID
+     * are copied with their stored version, so renaming them does
+     * not touch the loaded entities.
+     *
+     * @param source        the certificate as loaded, with its tags
+     * @param requestedTags the tags of the update
+     * @param replaceTags   whether the requested tags replace the current ones
+     * @return the changes to the tags of the certificate
+     * @throws ResourceNotFoundException if a tag with the given ID does not exist
+     */
+    private CertificateTagDiff diffTags(Certificate source, Set<Tag> requestedTags, boolean replaceTags) {
+        Map<Long, String> storedNames = new HashMap<>();
+        Map<Long, Long> storedVersions = new HashMap<>();
+        Consumer<Tag> storeTag = tag -> {
+            storedNames.put(tag.getId(), tag.getName());
+            storedVersions.put(tag.getId(), tag.getVersion());
+        };
+        source.getTags().forEach(storeTag);
+        Set<Long> unknownIds = requestedTags.stream()
+                .map(Tag::getId)
+                .filter(tagId -> tagId != null && !storedNames.containsKey(tagId))
+                .collect(Collectors.toSet());
+        if (!unknownIds.isEmpty()) {
+            tagRepository.findAllById(unknownIds).forEach(storeTag);
+            unknownIds.stream()
+                    .filter(tagId -> !storedNames.containsKey(tagId))
+                    .findFirst()
+                    .ifPresent(tagId -> {
+                        throw new ResourceNotFoundException(TAG_NOT_FOUND, tagId, ErrorCodes.NOT_FOUND_TAG_RESOURCE);
+                    });
+        }
+        Map<String, Tag> tagsByName = findOrCreateTagsByName(requestedTags.stream()
+                .filter(tag -> tag.getId() == null)
+                .map(Tag::getName)
+                .collect(Collectors.toSet()));
+        tagsByName.values().forEach(tag -> storedNames.put(tag.getId(), tag.getName()));
+        List<Tag> resolvedTags = requestedTags.stream()
+                .map(tag -> {
+                    if (tag.getId() == null) {
+                        return tagsByName.get(tag.getName());
+                    }
+                    Tag resolved = new Tag(tag.getId(),
+                            tag.getName() == null ? storedNames.get(tag.getId()) : tag.getName());
+                    resolved.setVersion(storedVersions.get(tag.getId()));
+                    return resolved;
+                })
+                .collect(Collectors.toList());
+        return CertificateTagDiff.of(source.getTags(), resolvedTags, storedNames, replaceTags);
+    }
+
+    private Map<String, Tag> findOrCreateTagsByName(Set<String> names) {
+        Map<String, Tag> tags = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (!names.isEmpty()) {
+            tagRepository.insertAllIgnoringExisting(names);
+            tagRepository.findAllByNameIn(names).forEach(tag -> tags.put(tag.getName(), tag));
+        }
+        return tags;
+    }
+
+    /**
+     * Resolves the substring criteria of the filter to the IDs of
+     * the matching certificates using the search index.
+     *
+     * @param certificateFilterDto the filter to resolve
+     * @return the matching IDs, or an empty optional if the filter
+     * has to be evaluated by the database
+     */
+    private Optional<Set<Long>> searchCandidates(CertificateFilterDto certificateFilterDto) {
+        return searchIndex.search(
+                certificateFilterDto.getNameContaining(),
+                certificateFilterDto.getDescriptionContaining());
+    }
 }
@@ -0,0 +1,76 @@
+package com.epam.esm.service.impl;
+
+import com.epam.esm.domain.entity.Tag;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * The changes an update makes to the tags of a certificate:
+ * the tags to link to the certificate, the tags to unlink
+ * from it and the tags to rename, together with the tags
+ * the certificate has after the update.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Getter
+final class CertificateTagDiff {
+
+    private final Set<Tag> tags;
+    private final List<Long> addedTagIds = new ArrayList<>();
+    private final List<Long> removedTagIds = new ArrayList<>();
+    private final List<Tag> renamedTags = new ArrayList<>();
+
+    private CertificateTagDiff(Set<Tag> currentTags,
+                               Collection<Tag> requestedTags,
+                               Map<Long, String> storedNames,
+                               boolean replace) {
+        Map<Long, Tag> tagsById = new LinkedHashMap<>();
+        if (!replace) {
+            currentTags.forEach(tag -> tagsById.put(tag.getId(), tag));
+        }
+        Set<Long> currentIds = new HashSet<>();
+        currentTags.forEach(tag -> currentIds.add(tag.getId()));
+        for (Tag tag : requestedTags) {
+            if (tagsById.put(tag.getId(), tag) == null && !currentIds.contains(tag.getId())) {
+                addedTagIds.add(tag.getId());
+            }
+            if (!tag.getName().equals(storedNames.get(tag.getId()))) {
+                renamedTags.add(tag);
+            }
+        }
+        for (Long id : currentIds) {
+            if (!tagsById.containsKey(id)) {
+                removedTagIds.add(id);
+            }
+        }
+        this.tags = new HashSet<>(tagsById.values());
+    }
+
+    /**
+     * Computes the changes to the tags of a certificate.
+     *
+     * @param currentTags   the tags the certificate has
+     * @param requestedTags the tags of the update, all with IDs and names
+     * @param storedNames   the stored names of the current and the requested tags by ID
+     * @param replace       whether the requested tags replace the current ones
+     *                      or are added to them
+     * @return the changes to the tags
+     */
+    static CertificateTagDiff of(Set<Tag> currentTags,
+                                 Collection<Tag> requestedTags,
+                                 Map<Long, String> storedNames,
+                                 boolean replace) {
+        return new CertificateTagDiff(currentTags, requestedTags, storedNames, replace);
+    }
+
+    /**
+     * Returns whether tags are linked to or unlinked from the certificate.
+     *
+     * @return {@code true} if the links to the tags change
+     */
+    boolean isLinksChanged() {
+        return !addedTagIds.isEmpty() || !removedTagIds.isEmpty();
+    }
+}
@@ -6,17 +6,27 @@ import com.epam.esm.domain.entity.Order;
 import com.epam.esm.domain.entity.User;
 import com.epam.esm.domain.payload.*;
 import com.epam.esm.exceptions.*;
+import com.epam.esm.repository.api.CertificateRepository;
 import com.epam.esm.repository.api.OrderRepository;
+import com.epam.esm.repository.api.UserRepository;
 import com.epam.esm.service.api.CertificateService;
 import com.epam.esm.service.api.OrderService;
 import com.epam.esm.service.api.UserService;
+import com.epam.esm.service.impl.aggregate.PopularTagAggregate;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.epam.esm.domain.validation.ValidationConstants.*;
 import static com.epam.esm.exceptions.ErrorCodes.INVALID_ID_PROPERTY;
@@ -42,17 +52,56 @@ public class OrderServiceImpl extends AbstractService<OrderDto, Long> implements
     private final DtoConverter<Certificate, CertificateDto> certificateConverter;
     private final UserService userService;
     private final CertificateService certificateService;
+    private final PopularTagAggregate popularTags;
+    private final UserRepository userRepository;
+    private final CertificateRepository certificateRepository;
+
+    /**
+     * The number of rows fetched per round trip by an export.
+     */
+    @Value("${order.export.fetch-size:1000}")
+    private int exportFetchSize = 1000;
 
     @Override
     public List<OrderDto> findAll(OrderFilterDto orderFilterDto, Pageable pageable) {
         List<Order> orders = orderRepository.findAll(orderFilterDto, pageable);
-        return converter.toDto(orders);
+        return converter.toDto(withCertificateTags(orders));
     }
 
     @Override
     public List<OrderDto> findAllByUserId(Long id, OrderFilterDto orderFilterDto, Pageable pageable) {
         List<Order> orders = orderRepository.findAllByUserId(id, orderFilterDto, pageable);
-        return converter.toDto(orders);
+        return converter.toDto(withCertificateTags(orders));
+    }
+
+    /**
+     * Initializes the tags of the certificates of a page of orders
+     * with one join query over the distinct certificates of the page.
+     *
+     * @param orders the page of orders
+     * @return the page of orders
+     */
+    private List<Order> withCertificateTags(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+        Map<Long, Certificate> certificates = certificateRepository.findAllWithTagsByIdIn(orders.stream()
+                        .map(order -> order.getCertificate().getId())
+                        .distinct()
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Certificate::getId, Function.identity()));
+        orders.forEach(order -> order.setCertificate(
+                certificates.getOrDefault(order.getCertificate().getId(), order.getCertificate())));
+        return orders;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(LocalDateTime createdFrom, LocalDateTime createdTo, Consumer<OrderExportRow> action) {
+        try (Stream<OrderExportRow> rows = orderRepository.streamAll(createdFrom, createdTo, exportFetchSize)) {
+            rows.forEach(action);
+        }
     }
 
     @Override
@@ -74,23 +123,83 @@ public class OrderServiceImpl extends AbstractService<OrderDto, Long> implements
         order.setUser(user);
         order.setCertificate(certificate);
         Order savedOrder = orderRepository.save(order);
+        popularTags.addOrder(savedOrder);
         return converter.toDto(savedOrder);
     }
 
-    private User getUserById(Long userId) {
-        if (userId == null || userId < MIN_ENTITY_ID) {
-            throw new InvalidResourcePropertyException(USER_INVALID_ID, userId, INVALID_ID_PROPERTY);
+    @Override
+    public List<OrderDto> createAll(List<OrderDto> orderDtos) {
+        List<Order> orders = converter.toEntity(orderDtos);
+        Map<Long, User> users = getUsersByIds(orders);
+        Map<Long, Certificate> certificates = getCertificatesByIds(orders);
+        for (Order order : orders) {
+            Certificate certificate = certificates.get(order.getCertificate().getId());
+            order.setCost(certificate.getPrice());
+            order.setUser(users.get(order.getUser().getId()));
+            order.setCertificate(certificate);
         }
+        List<Order> savedOrders = orderRepository.insertAll(orders);
+        savedOrders.forEach(popularTags::addOrder);
+        return converter.toDto(savedOrders);
+    }
+
+    private Map<Long, User> getUsersByIds(List<Order> orders) {
+        List<Long> userIds = orders.stream()
+                .map(order -> checkUserId(order.getUser().getId()))
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        userIds.stream()
+                .filter(userId -> !users.containsKey(userId))
+                .findFirst()
+                .ifPresent(userId -> {
+                    throw new ResourceNotFoundException(USER_NOT_FOUND, userId, ErrorCodes.NOT_FOUND_USER_RESOURCE);
+                });
+        return users;
+    }
+
+    private Map<Long, Certificate> getCertificatesByIds(List<Order> orders) {
+        List<Long> certificateIds = orders.stream()
+                .map(order -> checkCertificateId(order.getCertificate().getId()))
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, Certificate> certificates = certificateRepository.findAllWithTagsByIdIn(certificateIds).stream()
+                .collect(Collectors.toMap(Certificate::getId, Function.identity()));
+        certificateIds.stream()
+                .filter(certificateId -> !certificates.containsKey(certificateId))
+                .findFirst()
+                .ifPresent(certificateId -> {
+                    throw new ResourceNotFoundException(
+                            CERTIFICATE_NOT_FOUND, certificateId, ErrorCodes.NOT_FOUND_CERTIFICATE_RESOURCE);
+                });
+        return certificates;
+    }
+
+    private User getUserById(Long userId) {
+        checkUserId(userId);
         UserDto userDto = userService.findById(userId);
         return userConverter.toEntity(userDto);
     }
 
     private Certificate getCertificateById(Long certificateId) {
+        checkCertificateId(certificateId);
+        CertificateDto certificateDto = certificateService.findById(certificateId);
+        return certificateConverter.toEntity(certificateDto);
+    }
+
+    private static Long checkUserId(Long userId) {
+        if (userId == null || userId < MIN_ENTITY_ID) {
+            throw new InvalidResourcePropertyException(USER_INVALID_ID, userId, INVALID_ID_PROPERTY);
+        }
+        return userId;
+    }
+
+    private static Long checkCertificateId(Long certificateId) {
         if (certificateId == null || certificateId < MIN_ENTITY_ID) {
             throw new InvalidResourcePropertyException(CERTIFICATE_INVALID_ID, certificateId, INVALID_ID_PROPERTY);
         }
-        CertificateDto certificateDto = certificateService.findById(certificateId);
-        return certificateConverter.toEntity(certificateDto);
+        return certificateId;
     }
 
     @Override
@@ -104,6 +213,7 @@ public class OrderServiceImpl extends AbstractService<OrderDto, Long> implements
                 .orElseThrow(() -> new ResourceNotFoundException(
                         ORDER_NOT_FOUND, id, ErrorCodes.NOT_FOUND_ORDER_RESOURCE));
         orderRepository.delete(order);
+        popularTags.removeOrder(order);
         return converter.toDto(order);
     }
 }
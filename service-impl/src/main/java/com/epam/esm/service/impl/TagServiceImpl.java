@@ -10,8 +10,14 @@ import com.epam.esm.domain.payload.TagFilterDto;
 import com.epam.esm.exceptions.*;
 import com.epam.esm.repository.api.TagRepository;
 import com.epam.esm.service.api.TagService;
+import com.epam.esm.service.impl.aggregate.PopularTagAggregate;
+import com.epam.esm.service.impl.cache.CacheNames;
+import com.epam.esm.service.impl.support.SingleFlight;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -38,6 +44,7 @@ public class TagServiceImpl extends AbstractService<TagDto, Long> implements Tag
     private final TagRepository tagRepository;
     private final DtoConverter<Tag, TagDto> converter;
     private final DtoConverter<Certificate, CertificateDto> certificateConverter;
+    private final PopularTagAggregate popularTags;
 
     @Override
     public List<TagDto> findAll(TagFilterDto tagFilterDto, Pageable pageable) {
@@ -46,6 +53,8 @@ public class TagServiceImpl extends AbstractService<TagDto, Long> implements Tag
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.TAGS, sync = true)
+    @SingleFlight("tag-by-id")
     public TagDto findById(Long tagId) {
         Tag tag = tagRepository.findById(tagId)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -54,6 +63,7 @@ public class TagServiceImpl extends AbstractService<TagDto, Long> implements Tag
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.RESPONSES, allEntries = true)
     public TagDto create(TagDto tagDto) {
         Tag tag = converter.toEntity(tagDto);
         Tag savedTag = tagRepository.save(tag);
@@ -61,30 +71,44 @@ public class TagServiceImpl extends AbstractService<TagDto, Long> implements Tag
     }
 
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.TAGS, key = "#id"),
+        @CacheEvict(cacheNames = CacheNames.CERTIFICATES, allEntries = true),
+        @CacheEvict(cacheNames = CacheNames.RESPONSES, allEntries = true)
+    })
     public TagDto update(Long id, TagDto tagDto) {
         if (!isEqualsIds(tagDto.getId(), id)) {
             throw new InvalidResourcePropertyException(TAG_ID_NOT_MAPPED, tagDto.getId(), INVALID_ID_PROPERTY);
         }
-        if (tagRepository.findById(id).isEmpty()) {
-            throw new ResourceNotFoundException(TAG_NOT_FOUND, id, ErrorCodes.NOT_FOUND_TAG_RESOURCE);
-        }
-        Tag tag = converter.toEntity(tagDto);
-        Tag updated = tagRepository.save(tag);
+        Tag tag = tagRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        TAG_NOT_FOUND, id, ErrorCodes.NOT_FOUND_TAG_RESOURCE));
+        checkVersion(Tag.class, id, tagDto.getVersion(), tag.getVersion());
+        tag.setName(tagDto.getName());
+        Tag updated = tagRepository.saveAndFlush(tag);
         return converter.toDto(updated);
     }
 
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.TAGS, key = "#tagId"),
+        @CacheEvict(cacheNames = CacheNames.CERTIFICATES, allEntries = true),
+        @CacheEvict(cacheNames = CacheNames.RESPONSES, allEntries = true)
+    })
     public TagDto deleteById(Long tagId) {
         Tag tag = tagRepository.findById(tagId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         TAG_NOT_FOUND, tagId, ErrorCodes.NOT_FOUND_TAG_RESOURCE));
         tagRepository.delete(tag);
+        popularTags.invalidate();
         return converter.toDto(tag);
     }
 
     @Override
+    @SingleFlight("popular-tag")
     public TagDto findMostPopularTagOfUserWithHighestCostOfAllOrders() {
-        Tag tag = tagRepository.findMostPopularTagOfUserWithHighestCostOfAllOrders()
+        Tag tag = popularTags.findMostPopularTagId()
+                .flatMap(tagRepository::findById)
                 .orElseThrow(() -> new MostPopularTagNotFoundException(
                         TAG_NOT_FOUND, ErrorCodes.NOT_FOUND_TAG_RESOURCE));
         return converter.toDto(tag);
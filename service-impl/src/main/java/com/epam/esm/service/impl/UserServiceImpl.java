@@ -11,14 +11,17 @@ import com.epam.esm.exceptions.InvalidResourcePropertyException;
 import com.epam.esm.exceptions.ResourceNotFoundException;
 import com.epam.esm.repository.api.UserRepository;
 import com.epam.esm.service.api.UserService;
+import com.epam.esm.service.impl.aggregate.PopularTagAggregate;
+import com.epam.esm.service.impl.cache.CacheNames;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Optional;
 
 import static com.epam.esm.domain.validation.ValidationConstants.*;
 import static com.epam.esm.exceptions.ErrorCodes.INVALID_ID_PROPERTY;
@@ -43,6 +46,7 @@ public class UserServiceImpl extends AbstractService<UserDto, Long> implements U
     private final UserRepository userRepository;
     private final DtoConverter<User, UserDto> converter;
     private final DtoConverter<Order, OrderDto> orderConverter;
+    private final PopularTagAggregate popularTags;
 
     @Override
     public List<UserDto> findAll(UserFilterDto filter, Pageable pageable) {
@@ -51,11 +55,13 @@ public class UserServiceImpl extends AbstractService<UserDto, Long> implements U
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.USERS, sync = true)
     public UserDto findById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         USER_NOT_FOUND, id, ErrorCodes.NOT_FOUND_USER_RESOURCE));
-        return converter.toDto(user);
+        // the lookups are cached, so they never carry the password hash
+        return withoutPassword(converter.toDto(user));
     }
 
     @Override
@@ -66,27 +72,36 @@ public class UserServiceImpl extends AbstractService<UserDto, Long> implements U
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.USERS, key = "#id")
     public UserDto update(Long id, UserDto userDto) {
         if (!isEqualsIds(userDto.getId(), id)) {
             throw new InvalidResourcePropertyException(USER_ID_NOT_MAPPED, userDto.getId(), INVALID_ID_PROPERTY);
         }
-        Optional<User> sourceUser = userRepository.findById(id);
-        if (sourceUser.isEmpty()) {
-            throw new ResourceNotFoundException(USER_NOT_FOUND, id, ErrorCodes.NOT_FOUND_USER_RESOURCE);
-        }
-        String password = sourceUser.get().getPassword();
-        User userToUpdate = converter.toEntity(userDto);
-        userToUpdate.setPassword(password);
-        User updated = userRepository.save(userToUpdate);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        USER_NOT_FOUND, id, ErrorCodes.NOT_FOUND_USER_RESOURCE));
+        checkVersion(User.class, id, userDto.getVersion(), user.getVersion());
+        user.setLogin(userDto.getLogin());
+        user.setEmail(userDto.getEmail());
+        user.setRole(userDto.getRole());
+        User updated = userRepository.saveAndFlush(user);
         return converter.toDto(updated);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.USERS, key = "#id")
     public UserDto deleteById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         USER_NOT_FOUND, id, ErrorCodes.NOT_FOUND_USER_RESOURCE));
         userRepository.delete(user);
+        popularTags.invalidate();
         return converter.toDto(user);
     }
+
+    private static UserDto withoutPassword(UserDto user) {
+        UserDto view = new UserDto(user.getId(), user.getLogin(), user.getEmail(), null, user.getRole());
+        view.setVersion(user.getVersion());
+        return view;
+    }
 }
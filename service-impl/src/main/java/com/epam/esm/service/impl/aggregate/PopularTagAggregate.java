@@ -0,0 +1,397 @@
+package com.epam.esm.service.impl.aggregate;
+
+import com.epam.esm.domain.entity.Certificate;
+import com.epam.esm.domain.entity.Order;
+import com.epam.esm.domain.entity.Tag;
+import com.epam.esm.repository.api.OrderRepository;
+import com.epam.esm.repository.api.TagRepository;
+import com.epam.esm.service.impl.support.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Maintained aggregate answering which tag is the most popular
+ * one among the orders of the user with the highest total cost
+ * of all orders, without aggregating the {@code orders} table
+ * on every request.
+ * <p>
+ * The aggregate keeps the running total cost and the number of
+ * orders of every user, a sorted set of the users ordered by
+ * their total cost, and the number of orders per user and tag.
+ * Creating and deleting an order updates these values when its
+ * transaction commits; changes which can alter the tags of
+ * already placed orders (updating or deleting a certificate,
+ * deleting a tag or a user) invalidate the aggregate, which is
+ * then rebuilt from the database on the next request. The answer
+ * is cached until the next change, so repeated requests are
+ * answered in O(1).
+ * <p>
+ * The aggregate is loaded from the database outside the monitor,
+ * so readers and order updates are never blocked by a load. A
+ * loaded snapshot is only installed if no order transaction was
+ * committing and no update was applied while it was read, as the
+ * snapshot may or may not contain such an order and replaying it
+ * could count it twice; otherwise the snapshot only answers the
+ * request which loaded it and the next request loads again.
+ * <p>
+ * Ties are resolved in favour of the lowest user ID and the
+ * lowest tag ID. The aggregate is rebuilt periodically and checked
+ * against {@link TagRepository#findMostPopularTagOfUserWithHighestCostOfAllOrders()}.
+ * <p>
+ * The aggregate lives in the memory of each application node and
+ * only sees the orders written through that node. With several
+ * nodes the orders written elsewhere are picked up when the check
+ * finds the disagreement and rebuilds the aggregate, so the answer
+ * of a node may lag behind the database by up to
+ * {@code popular-tag.aggregate.check-delay}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class PopularTagAggregate {
+
+    private final OrderRepository orderRepository;
+    private final TagRepository tagRepository;
+    private State state;
+    private Optional<Long> mostPopularTagId;
+    private int committing;
+    private long modifications;
+
+    public PopularTagAggregate(OrderRepository orderRepository, TagRepository tagRepository) {
+        this.orderRepository = orderRepository;
+        this.tagRepository = tagRepository;
+    }
+
+    /**
+     * Finds the ID of the most popular tag of the user
+     * with the highest total cost of all orders.
+     *
+     * @return the ID of the tag, or an empty optional if there
+     * are no orders or the orders of the user have no tags
+     */
+    public Optional<Long> findMostPopularTagId() {
+        long seen;
+        synchronized (this) {
+            if (state != null) {
+                if (mostPopularTagId == null) {
+                    mostPopularTagId = state.mostPopularTagId();
+                }
+                return mostPopularTagId;
+            }
+            seen = modifications;
+        }
+        State loaded = load();
+        Optional<Long> tagId = loaded.mostPopularTagId();
+        synchronized (this) {
+            if (state == null && install(loaded, seen)) {
+                mostPopularTagId = tagId;
+            }
+        }
+        return tagId;
+    }
+
+    /**
+     * Adds a created order to the aggregate.
+     *
+     * @param order the saved order with its user and certificate
+     */
+    public void addOrder(Order order) {
+        Long userId = order.getUser().getId();
+        BigDecimal cost = order.getCost();
+        Set<Long> tagIds = tagIds(order.getCertificate());
+        onCommit(() -> apply(userId, cost, tagIds, 1));
+    }
+
+    /**
+     * Removes a deleted order from the aggregate.
+     *
+     * @param order the deleted order with its user and certificate
+     */
+    public void removeOrder(Order order) {
+        Long userId = order.getUser().getId();
+        BigDecimal cost = order.getCost().negate();
+        Set<Long> tagIds = tagIds(order.getCertificate());
+        onCommit(() -> apply(userId, cost, tagIds, -1));
+    }
+
+    /**
+     * Discards the aggregate after commit, so that it is rebuilt
+     * from the database on the next request.
+     */
+    public void invalidate() {
+        AfterCommit.run(this::discard);
+    }
+
+    /**
+     * Reloads the aggregate from the database. If orders were
+     * committed while the database was read, the current content
+     * is kept and the next check tries again.
+     */
+    @Scheduled(cron = "${popular-tag.aggregate.rebuild-cron:0 0 3 * * *}")
+    public void rebuild() {
+        long seen;
+        synchronized (this) {
+            seen = modifications;
+        }
+        State rebuilt = load();
+        synchronized (this) {
+            if (!install(rebuilt, seen)) {
+                log.debug("The popular tag aggregate changed during the rebuild, which is skipped");
+            }
+        }
+    }
+
+    /**
+     * Checks the aggregate against the database and rebuilds
+     * it if they disagree.
+     */
+    @Scheduled(fixedDelayString = "${popular-tag.aggregate.check-delay:PT1H}",
+            initialDelayString = "${popular-tag.aggregate.check-delay:PT1H}")
+    public void verify() {
+        if (!isConsistent()) {
+            log.warn("The popular tag aggregate disagrees with the database and is rebuilt");
+            rebuild();
+        }
+    }
+
+    /**
+     * Compares the aggregate with a fresh aggregation of the
+     * orders and with the result of the SQL query. As the SQL
+     * query resolves ties arbitrarily, its result is accepted if
+     * it is the most popular tag of any of the tied users.
+     *
+     * @return {@code true} if the aggregate matches the database
+     */
+    public boolean isConsistent() {
+        State expected = load();
+        Optional<Long> sqlTagId = tagRepository.findMostPopularTagOfUserWithHighestCostOfAllOrders()
+                .map(Tag::getId);
+        if (!expected.acceptableTagIds().contains(sqlTagId)) {
+            return false;
+        }
+        synchronized (this) {
+            return state == null || state.equals(expected);
+        }
+    }
+
+    /**
+     * Runs the update when the current transaction commits. From
+     * the start of the commit until the update is applied the
+     * transaction counts as committing, which keeps loads running
+     * at the same time from being installed.
+     *
+     * @param update the update of the aggregate
+     */
+    private void onCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean started;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                synchronized (PopularTagAggregate.this) {
+                    committing++;
+                    modifications++;
+                }
+                started = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    update.run();
+                }
+                if (started) {
+                    synchronized (PopularTagAggregate.this) {
+                        committing--;
+                        modifications++;
+                    }
+                }
+            }
+        });
+    }
+
+    private synchronized boolean install(State loaded, long seen) {
+        if (committing > 0 || modifications != seen) {
+            return false;
+        }
+        state = loaded;
+        mostPopularTagId = null;
+        return true;
+    }
+
+    private synchronized void apply(Long userId, BigDecimal cost, Set<Long> tagIds, int orders) {
+        modifications++;
+        if (state != null) {
+            state.apply(userId, cost, tagIds, orders);
+            mostPopularTagId = null;
+        }
+    }
+
+    private synchronized void discard() {
+        modifications++;
+        state = null;
+        mostPopularTagId = null;
+    }
+
+    private static Set<Long> tagIds(Certificate certificate) {
+        return certificate.getTags().stream()
+                .map(Tag::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private State load() {
+        State loaded = new State();
+        orderRepository.sumCostGroupByUser().forEach(total ->
+                loaded.apply(total.getUserId(), total.getTotal(), Set.of(), total.getOrderCount()));
+        orderRepository.countTagsGroupByUser().forEach(count ->
+                loaded.count(count.getUserId(), count.getTagId(), count.getCount()));
+        return loaded;
+    }
+
+    /**
+     * The aggregated values of all orders.
+     */
+    private static final class State {
+        private static final Comparator<Spender> HIGHEST_TOTAL_FIRST =
+                Comparator.comparing((Spender spender) -> spender.total).reversed()
+                        .thenComparing(spender -> spender.userId);
+
+        private final Map<Long, Spender> spenders = new HashMap<>();
+        private final NavigableSet<Spender> ranking = new TreeSet<>(HIGHEST_TOTAL_FIRST);
+        private final Map<Long, Map<Long, Long>> tagCounts = new HashMap<>();
+
+        private void apply(Long userId, BigDecimal cost, Set<Long> tagIds, long orders) {
+            Spender previous = spenders.remove(userId);
+            Spender spender = previous == null
+                    ? new Spender(userId, cost, orders)
+                    : new Spender(userId, previous.total.add(cost), previous.orders + orders);
+            if (previous != null) {
+                ranking.remove(previous);
+            }
+            if (spender.orders > 0) {
+                spenders.put(userId, spender);
+                ranking.add(spender);
+            }
+            tagIds.forEach(tagId -> count(userId, tagId, orders));
+        }
+
+        private void count(Long userId, Long tagId, long orders) {
+            Map<Long, Long> counts = tagCounts.computeIfAbsent(userId, key -> new HashMap<>());
+            long count = counts.getOrDefault(tagId, 0L) + orders;
+            if (count > 0) {
+                counts.put(tagId, count);
+            } else {
+                counts.remove(tagId);
+            }
+            if (counts.isEmpty()) {
+                tagCounts.remove(userId);
+            }
+        }
+
+        private Optional<Long> mostPopularTagId() {
+            if (ranking.isEmpty()) {
+                return Optional.empty();
+            }
+            return mostPopularTagIds(ranking.first().userId).stream().findFirst();
+        }
+
+        private Set<Optional<Long>> acceptableTagIds() {
+            Set<Optional<Long>> tagIds = new HashSet<>();
+            if (ranking.isEmpty()) {
+                tagIds.add(Optional.empty());
+                return tagIds;
+            }
+            BigDecimal highestTotal = ranking.first().total;
+            for (Spender spender : ranking) {
+                if (spender.total.compareTo(highestTotal) != 0) {
+                    break;
+                }
+                SortedSet<Long> userTagIds = mostPopularTagIds(spender.userId);
+                if (userTagIds.isEmpty()) {
+                    tagIds.add(Optional.empty());
+                }
+                userTagIds.forEach(tagId -> tagIds.add(Optional.of(tagId)));
+            }
+            return tagIds;
+        }
+
+        private SortedSet<Long> mostPopularTagIds(Long userId) {
+            SortedSet<Long> tagIds = new TreeSet<>();
+            long highestCount = 0;
+            for (Map.Entry<Long, Long> entry : tagCounts.getOrDefault(userId, Map.of()).entrySet()) {
+                if (entry.getValue() > highestCount) {
+                    highestCount = entry.getValue();
+                    tagIds.clear();
+                }
+                if (entry.getValue() == highestCount) {
+                    tagIds.add(entry.getKey());
+                }
+            }
+            return tagIds;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof State)) {
+                return false;
+            }
+            State that = (State) o;
+            return spenders.equals(that.spenders) && tagCounts.equals(that.tagCounts);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(spenders, tagCounts);
+        }
+    }
+
+    /**
+     * The total cost and the number of orders of a user.
+     */
+    private static final class Spender {
+        private final Long userId;
+        private final BigDecimal total;
+        private final long orders;
+
+        private Spender(Long userId, BigDecimal total, long orders) {
+            this.userId = userId;
+            this.total = total;
+            this.orders = orders;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Spender)) {
+                return false;
+            }
+            Spender that = (Spender) o;
+            return userId.equals(that.userId)
+                    && total.compareTo(that.total) == 0
+                    && orders == that.orders;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, total.stripTrailingZeros(), orders);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.epam.esm.service.impl.bulk;
+
+import com.epam.esm.domain.converter.DtoConverter;
+import com.epam.esm.domain.entity.Certificate;
+import com.epam.esm.domain.entity.Tag;
+import com.epam.esm.domain.payload.CertificateDto;
+import com.epam.esm.domain.payload.CertificateImportReport;
+import com.epam.esm.domain.payload.CertificateImportReport.RowError;
+import com.epam.esm.domain.payload.TagDto;
+import com.epam.esm.domain.validation.OnCreate;
+import com.epam.esm.exceptions.ErrorMessageFormatter;
+import com.epam.esm.repository.api.CertificateRepository;
+import com.epam.esm.repository.api.TagRepository;
+import com.epam.esm.service.api.CertificateImportService;
+import com.epam.esm.service.impl.cache.CacheNames;
+import com.epam.esm.service.impl.search.CertificateSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.Validator;
+import javax.validation.groups.Default;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.epam.esm.domain.validation.ValidationConstants.CERTIFICATE_IMPORT_NAME_EXISTS;
+import static com.epam.esm.domain.validation.ValidationConstants.CERTIFICATE_IMPORT_ROWS_NOT_SAVED;
+
+/**
+ * Implementation of {@link CertificateImportService}.
+ * <p>
+ * Rows are read one at a time and validated with the same
+ * constraints as a certificate created through the API. Valid
+ * rows are collected into chunks of {@code certificate.import.chunk-size}
+ * rows. For every chunk the names already taken and the tags are
+ * resolved with one query each, missing tags are created with one
+ * batch, and the certificates and their links to the tags are
+ * written with JDBC batches, so memory use is bounded by the chunk
+ * size and the number of round trips does not grow with the number
+ * of rows. Each chunk is saved in its own transaction; if it fails,
+ * its rows are reported and the import continues.
+ * <p>
+ * Names are compared ignoring case, like the unique keys of the
+ * {@code certificates} and {@code tags} tables. The cached catalog
+ * responses are evicted when the import ends.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class CertificateImportServiceImpl implements CertificateImportService {
+
+    /**
+     * The maximum number of row errors included in the report.
+     */
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final CertificateRepository certificateRepository;
+    private final TagRepository tagRepository;
+    private final DtoConverter<Certificate, CertificateDto> converter;
+    private final CertificateSearchIndex searchIndex;
+    private final Validator validator;
+    private final ErrorMessageFormatter messageFormatter;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${certificate.import.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    public CertificateImportServiceImpl(CertificateRepository certificateRepository,
+                                        TagRepository tagRepository,
+                                        DtoConverter<Certificate, CertificateDto> converter,
+                                        CertificateSearchIndex searchIndex,
+                                        Validator validator,
+                                        ErrorMessageFormatter messageFormatter,
+                                        ObjectMapper objectMapper,
+                                        PlatformTransactionManager transactionManager) {
+        this.certificateRepository = certificateRepository;
+        this.tagRepository = tagRepository;
+        this.converter = converter;
+        this.searchIndex = searchIndex;
+        this.validator = validator;
+        this.messageFormatter = messageFormatter;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheNames.RESPONSES, allEntries = true)
+    public CertificateImportReport importCertificates(InputStream content, Format format) {
+        CertificateImportReport report = new CertificateImportReport();
+        try (CertificateRowReader reader = openReader(content, format)) {
+            List<CertificateRow> chunk = new ArrayList<>(chunkSize);
+            CertificateRow row;
+            while ((row = reader.next()) != null) {
+                List<String> errors = validate(row);
+                if (!errors.isEmpty()) {
+                    reject(report, new RowError(row.getNumber(), errors));
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, report);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return report;
+    }
+
+    private CertificateRowReader openReader(InputStream content, Format format) throws IOException {
+        if (format == Format.CSV) {
+            return new CsvCertificateRowReader(content);
+        }
+        return new NdjsonCertificateRowReader(content, objectMapper);
+    }
+
+    private List<String> validate(CertificateRow row) {
+        if (row.isMalformed()) {
+            return List.of(messageFormatter.getLocalizedMessage(row.getErrorCode(), row.getErrorDetail()));
+        }
+        return validator.validate(row.getCertificate(), Default.class, OnCreate.class).stream()
+                .map(messageFormatter::getLocalizedMessage)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private void importChunk(List<CertificateRow> rows, CertificateImportReport report) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<RowError> rejected = new ArrayList<>();
+        try {
+            Integer imported = transactionTemplate.execute(status -> saveChunk(rows, rejected));
+            report.setImported(report.getImported() + Objects.requireNonNull(imported));
+            rejected.forEach(error -> reject(report, error));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Failed to import the certificates of rows {}-{}",
+                    rows.get(0).getNumber(), rows.get(rows.size() - 1).getNumber(), e);
+            List<String> errors = List.of(
+                    messageFormatter.getTranslator().toLocale(CERTIFICATE_IMPORT_ROWS_NOT_SAVED));
+            rows.forEach(row -> reject(report, new RowError(row.getNumber(), errors)));
+        }
+    }
+
+    private int saveChunk(List<CertificateRow> rows, List<RowError> rejected) {
+        Set<String> takenNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        takenNames.addAll(certificateRepository.findNamesByNameIn(rows.stream()
+                .map(row -> row.getCertificate().getName())
+                .collect(Collectors.toSet())));
+        Map<String, Tag> tags = resolveTags(rows);
+        List<Certificate> certificates = new ArrayList<>(rows.size());
+        for (CertificateRow row : rows) {
+            CertificateDto certificateDto = row.getCertificate();
+            if (!takenNames.add(certificateDto.getName())) {
+                rejected.add(new RowError(row.getNumber(), List.of(messageFormatter.getLocalizedMessage(
+                        CERTIFICATE_IMPORT_NAME_EXISTS, "name = '" + certificateDto.getName() + "'"))));
+                continue;
+            }
+            Certificate certificate = converter.toEntity(certificateDto);
+            certificate.setTags(certificateDto.getTags().stream()
+                    .map(tag -> tags.get(tag.getName()))
+                    .collect(Collectors.toSet()));
+            certificates.add(certificate);
+        }
+        certificateRepository.insertAll(certificates);
+        certificates.forEach(searchIndex::index);
+        return certificates.size();
+    }
+
+    /**
+     * Finds the tags used by the rows, creating the missing ones.
+     *
+     * @param rows the rows of the chunk
+     * @return the tags by name, ignoring case
+     */
+    private Map<String, Tag> resolveTags(List<CertificateRow> rows) {
+        Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        rows.forEach(row -> row.getCertificate().getTags().stream()
+                .map(TagDto::getName)
+                .forEach(names::add));
+        Map<String, Tag> tags = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (names.isEmpty()) {
+            return tags;
+        }
+        tagRepository.findAllByNameIn(names).forEach(tag -> tags.put(tag.getName(), tag));
+        if (tags.size() < names.size()) {
+            List<String> missingNames = names.stream()
+                    .filter(name -> !tags.containsKey(name))
+                    .collect(Collectors.toList());
+            tagRepository.insertAllIgnoringExisting(missingNames);
+            tagRepository.findAllByNameIn(missingNames).forEach(tag -> tags.put(tag.getName(), tag));
+        }
+        return tags;
+    }
+
+    private static void reject(CertificateImportReport report, RowError error) {
+        report.setFailed(report.getFailed() + 1);
+        if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+            report.getErrors().add(error);
+        }
+    }
+}
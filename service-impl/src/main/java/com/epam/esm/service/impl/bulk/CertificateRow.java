@@ -0,0 +1,31 @@
+package com.epam.esm.service.impl.bulk;
+
+import com.epam.esm.domain.payload.CertificateDto;
+import lombok.Value;
+
+/**
+ * A row of a certificate import, either the certificate read
+ * from the row or the reason why the row could not be read.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Value
+class CertificateRow {
+    long number;
+    CertificateDto certificate;
+    String errorCode;
+    String errorDetail;
+
+    static CertificateRow of(long number, CertificateDto certificate) {
+        return new CertificateRow(number, certificate, null, null);
+    }
+
+    static CertificateRow malformed(long number, String errorCode, String errorDetail) {
+        return new CertificateRow(number, null, errorCode, errorDetail);
+    }
+
+    boolean isMalformed() {
+        return certificate == null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.epam.esm.service.impl.bulk;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads the rows of a certificate import one at a time,
+ * so the content never has to be held in memory as a whole.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+interface CertificateRowReader extends Closeable {
+
+    /**
+     * Reads the next row.
+     *
+     * @return the next row, or {@code null} at the end of the content
+     * @throws IOException if the content cannot be read
+     */
+    CertificateRow next() throws IOException;
+}
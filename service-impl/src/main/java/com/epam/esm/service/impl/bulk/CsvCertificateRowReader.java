@@ -0,0 +1,97 @@
+package com.epam.esm.service.impl.bulk;
+
+import com.epam.esm.domain.payload.CertificateDto;
+import com.epam.esm.domain.payload.TagDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.epam.esm.domain.validation.ValidationConstants.*;
+
+/**
+ * Reads certificates from CSV with the header
+ * {@code name,description,price,duration,tags}. The tag names
+ * are separated by {@value #TAG_SEPARATOR}. A row with an invalid
+ * price or duration is reported as malformed. A row that breaks
+ * the CSV structure ends the import, as the following rows
+ * cannot be told apart reliably.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class CsvCertificateRowReader implements CertificateRowReader {
+
+    static final String TAG_SEPARATOR = ";";
+
+    private final MappingIterator<Map<String, String>> rows;
+    private long number;
+    private boolean broken;
+
+    CsvCertificateRowReader(InputStream content) throws IOException {
+        this.rows = new CsvMapper()
+                .readerForMapOf(String.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(new InputStreamReader(content, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public CertificateRow next() throws IOException {
+        if (broken) {
+            return null;
+        }
+        Map<String, String> values;
+        try {
+            if (!rows.hasNextValue()) {
+                return null;
+            }
+            values = rows.nextValue();
+        } catch (JsonProcessingException e) {
+            broken = true;
+            return CertificateRow.malformed(++number, CERTIFICATE_IMPORT_MALFORMED_ROW, e.getOriginalMessage());
+        }
+        number++;
+        CertificateDto certificate = new CertificateDto();
+        certificate.setName(values.get("name"));
+        certificate.setDescription(values.get("description"));
+        String price = values.get("price");
+        try {
+            certificate.setPrice(isBlank(price) ? null : new BigDecimal(price.trim()));
+        } catch (NumberFormatException e) {
+            return CertificateRow.malformed(number, CERTIFICATE_INVALID_PRICE, "price = '" + price + "'");
+        }
+        String duration = values.get("duration");
+        try {
+            certificate.setDuration(isBlank(duration) ? null : Integer.valueOf(duration.trim()));
+        } catch (NumberFormatException e) {
+            return CertificateRow.malformed(number, CERTIFICATE_INVALID_DURATION, "duration = '" + duration + "'");
+        }
+        String tags = values.get("tags");
+        if (!isBlank(tags)) {
+            certificate.setTags(Arrays.stream(tags.split(TAG_SEPARATOR))
+                    .map(String::trim)
+                    .filter(name -> !name.isEmpty())
+                    .map(name -> new TagDto(null, name))
+                    .collect(Collectors.toSet()));
+        }
+        return CertificateRow.of(number, certificate);
+    }
+
+    @Override
+    public void close() throws IOException {
+        rows.close();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,57 @@
+package com.epam.esm.service.impl.bulk;
+
+import com.epam.esm.domain.payload.CertificateDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import static com.epam.esm.domain.validation.ValidationConstants.CERTIFICATE_IMPORT_MALFORMED_ROW;
+
+/**
+ * Reads certificates from newline delimited JSON, one certificate
+ * per line. Blank lines are skipped. A line that is not a valid
+ * certificate is reported as malformed and reading continues
+ * with the next line.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class NdjsonCertificateRowReader implements CertificateRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader certificateReader;
+    private long number;
+
+    NdjsonCertificateRowReader(InputStream content, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8));
+        this.certificateReader = objectMapper.readerFor(CertificateDto.class);
+    }
+
+    @Override
+    public CertificateRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+        number++;
+        try {
+            return CertificateRow.of(number, certificateReader.readValue(line));
+        } catch (JsonProcessingException e) {
+            return CertificateRow.malformed(number, CERTIFICATE_IMPORT_MALFORMED_ROW, e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
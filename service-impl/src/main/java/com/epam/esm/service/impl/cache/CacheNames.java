@@ -0,0 +1,28 @@
+package com.epam.esm.service.impl.cache;
+
+import java.util.List;
+
+/**
+ * Names of the caches of the service layer. Every entity cache maps
+ * the ID of an entity to its DTO as returned by {@code findById}.
+ * The {@link #RESPONSES} cache keeps the serialized responses to
+ * catalog requests; every write of a certificate or a tag clears it.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public final class CacheNames {
+
+    public static final String TAGS = "tags";
+    public static final String CERTIFICATES = "certificates";
+    public static final String USERS = "users";
+    public static final String RESPONSES = "responses";
+
+    /**
+     * The names of all caches of the service layer.
+     */
+    public static final List<String> ALL = List.of(TAGS, CERTIFICATES, USERS, RESPONSES);
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,298 @@
+package com.epam.esm.service.impl.search;
+
+import com.epam.esm.domain.entity.Certificate;
+import com.epam.esm.repository.api.CertificateRepository;
+import com.epam.esm.service.impl.support.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-process trigram inverted index over the name and description
+ * of {@link Certificate} entities. Used to resolve the
+ * {@code nameContaining} and {@code descriptionContaining} filters
+ * to a set of candidate certificate IDs without scanning the
+ * {@code certificates} table with a leading-wildcard LIKE.
+ * <p>
+ * The index is built lazily from the database on the first search
+ * and kept up to date by the certificate service. Changes made
+ * inside a transaction are applied after commit, so rolled back
+ * writes never reach the index. Changes committed while the index
+ * is being built are recorded and replayed onto the new index
+ * before it replaces the previous one.
+ * <p>
+ * The index is local to the node: writes made through another
+ * instance of the application are only seen after the periodic
+ * rebuild ({@code certificate.search.rebuild-delay}). Terms with
+ * the LIKE wildcards {@code %} and {@code _} are not answered by
+ * the index, so they keep their wildcard meaning in the LIKE query.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Component
+public class CertificateSearchIndex {
+
+    /**
+     * The length of the grams stored in the index. Search terms
+     * shorter than this cannot be answered by the index.
+     */
+    public static final int GRAM_LENGTH = 3;
+
+    private static final String LIKE_WILDCARDS = "%_";
+
+    private final CertificateRepository repository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Index index;
+    private List<Consumer<Index>> pendingChanges;
+
+    /**
+     * The maximum number of matching IDs the index returns.
+     * Larger result sets are cheaper to resolve with a table scan
+     * than with an IN-list, so the search reports them as unsupported.
+     */
+    @Value("${certificate.search.max-candidates:1000}")
+    private int maxCandidates = 1000;
+
+    public CertificateSearchIndex(CertificateRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Finds the IDs of all certificates whose name contains
+     * {@code nameContaining} and whose description contains
+     * {@code descriptionContaining}, ignoring case. Blank terms
+     * do not restrict the result.
+     *
+     * @param nameContaining        the substring of the name
+     * @param descriptionContaining the substring of the description
+     * @return the matching IDs, or an empty optional if the index
+     * cannot answer the query (both terms are blank, a term is shorter
+     * than {@link #GRAM_LENGTH} or contains a LIKE wildcard, or too
+     * many certificates match)
+     */
+    public Optional<Set<Long>> search(String nameContaining, String descriptionContaining) {
+        String name = normalize(nameContaining);
+        String description = normalize(descriptionContaining);
+        if (name.isEmpty() && description.isEmpty()
+                || !isSearchable(name) || !isSearchable(description)) {
+            return Optional.empty();
+        }
+        ensureBuilt();
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = null;
+            if (!name.isEmpty()) {
+                candidates = lookup(index.nameGrams, name);
+            }
+            if (!description.isEmpty()) {
+                Set<Long> descriptionCandidates = lookup(index.descriptionGrams, description);
+                if (candidates == null) {
+                    candidates = descriptionCandidates;
+                } else {
+                    candidates.retainAll(descriptionCandidates);
+                }
+            }
+            Set<Long> result = new TreeSet<>();
+            for (Long id : candidates) {
+                Document document = index.documents.get(id);
+                if (document != null
+                        && document.name.contains(name)
+                        && document.description.contains(description)) {
+                    result.add(id);
+                    if (result.size() > maxCandidates) {
+                        return Optional.empty();
+                    }
+                }
+            }
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the certificate to the index or replaces its previous entry.
+     *
+     * @param certificate the saved certificate
+     */
+    public void index(Certificate certificate) {
+        Long id = certificate.getId();
+        Document document = new Document(normalize(certificate.getName()),
+                normalize(certificate.getDescription()));
+        AfterCommit.run(() -> apply(target -> {
+            target.unindex(id);
+            target.put(id, document);
+        }));
+    }
+
+    /**
+     * Removes the certificate with the given ID from the index.
+     *
+     * @param id the ID of the deleted certificate
+     */
+    public void remove(Long id) {
+        AfterCommit.run(() -> apply(target -> target.unindex(id)));
+    }
+
+    /**
+     * Reloads the index from the database. Searches keep using the
+     * current index while the new one is loaded.
+     */
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Index rebuilt = new Index();
+        boolean loaded = false;
+        try {
+            for (Certificate certificate : repository.findAll()) {
+                rebuilt.put(certificate.getId(), new Document(normalize(certificate.getName()),
+                        normalize(certificate.getDescription())));
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (loaded) {
+                    pendingChanges.forEach(change -> change.accept(rebuilt));
+                    index = rebuilt;
+                }
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Reloads a built index periodically, so it picks up the
+     * writes made through other instances of the application.
+     */
+    @Scheduled(fixedDelayString = "${certificate.search.rebuild-delay:PT10M}",
+            initialDelayString = "${certificate.search.rebuild-delay:PT10M}")
+    public void refresh() {
+        if (index != null) {
+            rebuild();
+        }
+    }
+
+    private void ensureBuilt() {
+        if (index == null) {
+            synchronized (this) {
+                if (index == null) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies a committed change to the current index, and records
+     * it for the index being built, if any. A change is applied as
+     * the commit happens, so an index built later reads it from
+     * the database.
+     */
+    private void apply(Consumer<Index> change) {
+        lock.writeLock().lock();
+        try {
+            if (index != null) {
+                change.accept(index);
+            }
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Set<Long> lookup(Map<String, Set<Long>> postings, String term) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(term)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return new HashSet<>();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private static void removePosting(Map<String, Set<Long>> postings, String gram, Long id) {
+        Set<Long> ids = postings.get(gram);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            postings.remove(gram);
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static boolean isSearchable(String term) {
+        if (term.isEmpty()) {
+            return true;
+        }
+        return term.length() >= GRAM_LENGTH
+                && term.chars().noneMatch(c -> LIKE_WILDCARDS.indexOf(c) >= 0);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The documents and the postings of the grams of the names
+     * and descriptions.
+     */
+    private static final class Index {
+        private final Map<Long, Document> documents = new HashMap<>();
+        private final Map<String, Set<Long>> nameGrams = new HashMap<>();
+        private final Map<String, Set<Long>> descriptionGrams = new HashMap<>();
+
+        private void put(Long id, Document document) {
+            documents.put(id, document);
+            grams(document.name).forEach(gram ->
+                    nameGrams.computeIfAbsent(gram, key -> new HashSet<>()).add(id));
+            grams(document.description).forEach(gram ->
+                    descriptionGrams.computeIfAbsent(gram, key -> new HashSet<>()).add(id));
+        }
+
+        private void unindex(Long id) {
+            Document previous = documents.remove(id);
+            if (previous == null) {
+                return;
+            }
+            grams(previous.name).forEach(gram -> removePosting(nameGrams, gram, id));
+            grams(previous.description).forEach(gram -> removePosting(descriptionGrams, gram, id));
+        }
+    }
+
+    private static final class Document {
+        private final String name;
+        private final String description;
+
+        private Document(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+    }
+}
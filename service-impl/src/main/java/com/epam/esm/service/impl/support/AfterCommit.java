@@ -0,0 +1,37 @@
+package com.epam.esm.service.impl.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers changes of in-process state derived from the database
+ * until the surrounding transaction commits, so that rolled back
+ * writes never reach it.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Runs the change after the commit of the current transaction,
+     * or immediately if there is no transaction synchronization.
+     *
+     * @param change the change to run
+     */
+    public static void run(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.epam.esm.service.impl.support;
+
+import com.epam.esm.domain.payload.CertificateDto;
+import com.epam.esm.domain.payload.TagDto;
+import com.epam.esm.domain.payload.UserDto;
+
+import java.util.stream.Collectors;
+
+/**
+ * Copies of the DTOs returned by the services. The callers mutate
+ * the returned DTOs, e.g. HATEOAS links are added to them, so a DTO
+ * kept by a cache or shared between concurrent calls is handed out
+ * as a copy.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public final class DtoCopies {
+
+    private DtoCopies() {
+    }
+
+    /**
+     * Copies a tag, certificate or user DTO without its links.
+     * Other values are considered immutable and returned as is.
+     *
+     * @param value the value to copy
+     * @return the copy
+     */
+    public static Object copy(Object value) {
+        if (value instanceof TagDto) {
+            return copy((TagDto) value);
+        }
+        if (value instanceof CertificateDto) {
+            CertificateDto certificate = (CertificateDto) value;
+            CertificateDto copy = new CertificateDto(certificate.getId(),
+                    certificate.getName(),
+                    certificate.getDescription(),
+                    certificate.getPrice(),
+                    certificate.getDuration(),
+                    certificate.getCreateDate(),
+                    certificate.getLastUpdateDate(),
+                    certificate.getTags().stream()
+                            .map(DtoCopies::copy)
+                            .collect(Collectors.toSet()));
+            copy.setVersion(certificate.getVersion());
+            return copy;
+        }
+        if (value instanceof UserDto) {
+            UserDto user = (UserDto) value;
+            UserDto copy = new UserDto(user.getId(), user.getLogin(), user.getEmail(), user.getPassword(), user.getRole());
+            copy.setVersion(user.getVersion());
+            return copy;
+        }
+        return value;
+    }
+
+    private static TagDto copy(TagDto tag) {
+        TagDto copy = new TagDto(tag.getId(), tag.getName());
+        copy.setVersion(tag.getVersion());
+        return copy;
+    }
+}
@@ -0,0 +1,31 @@
+package com.epam.esm.service.impl.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read method of a service whose concurrent calls with
+ * equal arguments are collapsed into one call, see
+ * {@link SingleFlightInterceptor}. The arguments must implement
+ * {@code equals} and {@code hashCode}.
+ * <p>
+ * Enabled unless {@code single-flight.<name>.enabled=false}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SingleFlight {
+
+    /**
+     * The name of the method in the configuration properties.
+     *
+     * @return the name
+     */
+    String value();
+}
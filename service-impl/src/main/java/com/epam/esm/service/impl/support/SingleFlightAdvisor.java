@@ -0,0 +1,37 @@
+package com.epam.esm.service.impl.support;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * Applies the {@link SingleFlightInterceptor} to the methods
+ * annotated with {@link SingleFlight}. Ordered before the caching
+ * and transaction advisors, so concurrent misses of a cached method
+ * are collapsed too and waiting callers hold no connection.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@Component
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+public class SingleFlightAdvisor extends StaticMethodMatcherPointcutAdvisor {
+
+    public SingleFlightAdvisor(Environment environment) {
+        super(new SingleFlightInterceptor(environment));
+        setOrder(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return AnnotatedElementUtils.hasAnnotation(
+                AopUtils.getMostSpecificMethod(method, targetClass), SingleFlight.class);
+    }
+}
@@ -0,0 +1,127 @@
+package com.epam.esm.service.impl.support;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Collapses concurrent calls of a {@link SingleFlight} method with
+ * equal arguments into one call.
+ * <p>
+ * The first call of a method with some arguments runs it; calls
+ * with the same arguments arriving while it runs wait for it and
+ * return copies of its result, or throw its exception, instead of
+ * running the method again. So a burst of requests for the same
+ * popular resource takes one database connection instead of one
+ * connection per request. Every caller gets its own instance of
+ * the result, see {@link DtoCopies}; the copies are made only when
+ * a call had waiting callers.
+ * <p>
+ * The interceptor runs before the transaction interceptor, so the
+ * waiting callers hold no connection. Calls made inside a
+ * transaction run on their own, as they must see the changes of
+ * their transaction.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+public class SingleFlightInterceptor implements MethodInterceptor {
+
+    private static final String PROPERTY_PREFIX = "single-flight.";
+    private static final String ENABLED_SUFFIX = ".enabled";
+
+    private final Environment environment;
+    private final Map<Method, Boolean> enabledMethods = new ConcurrentHashMap<>();
+    private final Map<List<Object>, Flight> flights = new ConcurrentHashMap<>();
+
+    public SingleFlightInterceptor(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!isEnabled(invocation) || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return invocation.proceed();
+        }
+        List<Object> key = List.of(invocation.getMethod(), Arrays.asList(invocation.getArguments()));
+        Flight flight = new Flight();
+        Flight inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            return inFlight.join() ? DtoCopies.copy(inFlight.await()) : invocation.proceed();
+        }
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            flights.remove(key, flight);
+            if (flight.land()) {
+                flight.result.completeExceptionally(e);
+            }
+            throw e;
+        }
+        flights.remove(key, flight);
+        if (flight.land()) {
+            flight.result.complete(DtoCopies.copy(result));
+        }
+        return result;
+    }
+
+    private boolean isEnabled(MethodInvocation invocation) {
+        return enabledMethods.computeIfAbsent(invocation.getMethod(), method -> {
+            Method targetMethod = AopUtils.getMostSpecificMethod(method, AopUtils.getTargetClass(invocation.getThis()));
+            SingleFlight singleFlight = Objects.requireNonNull(
+                    AnnotatedElementUtils.findMergedAnnotation(targetMethod, SingleFlight.class));
+            return environment.getProperty(PROPERTY_PREFIX + singleFlight.value() + ENABLED_SUFFIX,
+                    Boolean.class, true);
+        });
+    }
+
+    /**
+     * A running call and the calls waiting for its result. A call
+     * can join until the running call lands.
+     */
+    private static final class Flight {
+
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private int followers;
+        private boolean landed;
+
+        private synchronized boolean join() {
+            if (landed) {
+                return false;
+            }
+            followers++;
+            return true;
+        }
+
+        /**
+         * Closes the flight for new callers.
+         *
+         * @return {@code true} if callers are waiting for the result
+         */
+        private synchronized boolean land() {
+            landed = true;
+            return followers > 0;
+        }
+
+        private Object await() throws Throwable {
+            try {
+                return result.get();
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.epam.esm.config;
 
+import com.epam.esm.repository.support.BaseJpaRepository;
 import org.springframework.boot.SpringBootConfiguration;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
@@ -17,7 +18,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @EnableAutoConfiguration
 @ComponentScan("com.epam.esm.repository")
 @EntityScan("com.epam.esm.domain")
-@EnableJpaRepositories("com.epam.esm.repository.api")
+@EnableJpaRepositories(basePackages = "com.epam.esm.repository.api", repositoryBaseClass = BaseJpaRepository.class)
 public class ServiceTestConfig {
 
 }
@@ -7,10 +7,14 @@ import com.epam.esm.domain.entity.Certificate;
 import com.epam.esm.domain.entity.Tag;
 import com.epam.esm.domain.payload.CertificateFilterDto;
 import com.epam.esm.domain.payload.CertificateDto;
+import com.epam.esm.domain.payload.TagDto;
 import com.epam.esm.exceptions.InvalidResourcePropertyException;
 import com.epam.esm.exceptions.ResourceNotFoundException;
 import com.epam.esm.repository.api.CertificateRepository;
 import com.epam.esm.repository.api.TagRepository;
+import com.epam.esm.service.api.CertificateService;
+import com.epam.esm.service.impl.aggregate.PopularTagAggregate;
+import com.epam.esm.service.impl.search.CertificateSearchIndex;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,12 +23,20 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.ContextConfiguration;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 
@@ -89,6 +101,12 @@ class CertificateServiceImplTest {
     @Mock
     private final TagDtoConverter tagConverter = Mockito.mock(TagDtoConverter.class);
 
+    @Mock
+    private final CertificateSearchIndex searchIndex = Mockito.mock(CertificateSearchIndex.class);
+
+    @Mock
+    private final PopularTagAggregate popularTags = Mockito.mock(PopularTagAggregate.class);
+
     private CertificateServiceImpl certificateService;
 
     @BeforeEach
@@ -97,7 +115,10 @@ class CertificateServiceImplTest {
                 certificateRepository,
                 converter,
                 tagRepository,
-                tagConverter);
+                tagConverter,
+                searchIndex,
+                popularTags,
+                new ConcurrentMapCacheManager());
     }
 
     @AfterEach
@@ -106,6 +127,7 @@ class CertificateServiceImplTest {
         reset(converter);
         reset(certificateRepository);
         reset(tagConverter);
+        reset(searchIndex);
     }
 
     /**
@@ -120,6 +142,31 @@ class CertificateServiceImplTest {
                 certificateService.findAll(new CertificateFilterDto(), Pageable.unpaged()));
     }
 
+    /**
+     * @see CertificateServiceImpl#findAll(CertificateFilterDto, Pageable)
+     */
+    @Test
+    void testFindAllShouldHydrateCandidatesFoundBySearchIndex() {
+        CertificateFilterDto filter = CertificateFilterDto.builder().nameContaining("certificate").build();
+        when(searchIndex.search("certificate", "")).thenReturn(Optional.of(Set.of(1L, 2L)));
+        when(certificateRepository.findAllByIdIn(eq(Set.of(1L, 2L)), eq(filter), any(Pageable.class)))
+                .thenReturn(CERTIFICATES);
+        when(converter.toDto(anyList())).thenReturn(EXPECTED_CERTIFICATES);
+        assertEquals(EXPECTED_CERTIFICATES, certificateService.findAll(filter, Pageable.unpaged()));
+        verify(certificateRepository, never()).findAll(any(CertificateFilterDto.class), any(Pageable.class));
+    }
+
+    /**
+     * @see CertificateServiceImpl#findAll(CertificateFilterDto, Pageable)
+     */
+    @Test
+    void testFindAllShouldReturnEmptyListWhenSearchIndexFindsNothing() {
+        CertificateFilterDto filter = CertificateFilterDto.builder().nameContaining("unknown").build();
+        when(searchIndex.search("unknown", "")).thenReturn(Optional.of(Collections.emptySet()));
+        assertTrue(certificateService.findAll(filter, Pageable.unpaged()).isEmpty());
+        verifyNoInteractions(certificateRepository);
+    }
+
     /**
      * @see CertificateServiceImpl#findAllByTagId(Long, CertificateFilterDto, Pageable)
      */
@@ -202,14 +249,113 @@ class CertificateServiceImplTest {
     @Test
     void testUpdateShouldReturnUpdatedTadDto() {
         CertificateDto expected = INPUT_CERTIFICATE_DTO;
-        when(certificateRepository.findById(anyLong())).thenReturn(Optional.of(new Certificate()));
-        when(converter.toEntity(any(CertificateDto.class))).thenReturn(new Certificate());
-        when(certificateRepository.save(any(Certificate.class))).thenReturn(new Certificate());
-        lenient().when(tagRepository.save(any(Tag.class))).thenReturn(new Tag());
+        when(certificateRepository.findWithTagsById(anyLong())).thenReturn(Optional.of(certificateWithTags(0L)));
+        when(certificateRepository.update(any(Certificate.class), anyLong(), anyCollection(), anyCollection()))
+                .thenReturn(true);
         when(converter.toDto(any(Certificate.class))).thenReturn(expected);
         assertEquals(expected, certificateService.update(1L, INPUT_CERTIFICATE_DTO));
     }
 
+    /**
+     * @see CertificateServiceImpl#update(Long, CertificateDto)
+     */
+    @Test
+    void testUpdateShouldAddAndRenameTagsWithoutRemovingCurrentOnes() {
+        Certificate source = certificateWithTags(4L, new Tag(1L, "fun"), new Tag(2L, "spa"));
+        CertificateDto input = certificateDtoWithTags(new TagDto(2L, "relax"), new TagDto(3L, "new"));
+        when(certificateRepository.findWithTagsById(1L)).thenReturn(Optional.of(source));
+        when(tagConverter.toEntity(input.getTags())).thenReturn(Set.of(new Tag(2L, "relax"), new Tag(3L, "new")));
+        when(tagRepository.findAllById(Set.of(3L))).thenReturn(List.of(new Tag(3L, "new")));
+        when(certificateRepository.update(any(Certificate.class), eq(4L), anyCollection(), anyCollection()))
+                .thenReturn(true);
+
+        certificateService.update(1L, input);
+
+        verify(certificateRepository).update(any(Certificate.class), eq(4L), eq(List.of(3L)), eq(List.of()));
+        verify(tagRepository).renameAll(List.of(new Tag(2L, "relax")));
+        verify(certificateRepository, never()).save(any());
+    }
+
+    /**
+     * @see CertificateServiceImpl#update(Long, CertificateDto)
+     */
+    @Test
+    void testUpdateShouldEvictOtherCachedCertificatesWhenSharedTagIsRenamed() {
+        Certificate other = certificateWithTags(0L, new Tag(2L, "spa"));
+        other.setId(2L);
+        Certificate renamedOther = certificateWithTags(0L, new Tag(2L, "relax"));
+        renamedOther.setId(2L);
+        CertificateDto input = certificateDtoWithTags(new TagDto(2L, "relax"));
+        when(certificateRepository.findById(2L)).thenReturn(Optional.of(other), Optional.of(renamedOther));
+        when(certificateRepository.findWithTagsById(1L))
+                .thenReturn(Optional.of(certificateWithTags(4L, new Tag(2L, "spa"))));
+        when(certificateRepository.update(any(Certificate.class), eq(4L), anyCollection(), anyCollection()))
+                .thenReturn(true);
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.registerBean(CertificateRepository.class, () -> certificateRepository);
+            context.registerBean(TagRepository.class, () -> tagRepository);
+            context.registerBean(CertificateSearchIndex.class, () -> searchIndex);
+            context.registerBean(PopularTagAggregate.class, () -> popularTags);
+            context.register(CachingConfig.class);
+            context.refresh();
+            CertificateService service = context.getBean(CertificateService.class);
+
+            assertEquals(Set.of(new TagDto(2L, "spa")), service.findById(2L).getTags());
+            service.update(1L, input);
+
+            assertEquals(Set.of(new TagDto(2L, "relax")), service.findById(2L).getTags());
+        }
+        verify(tagRepository).renameAll(List.of(new Tag(2L, "relax")));
+    }
+
+    /**
+     * @see CertificateServiceImpl#patch(Long, UnaryOperator)
+     */
+    @Test
+    void testPatchShouldReplaceTagsAndLoadCertificateOnce() {
+        Certificate source = certificateWithTags(4L, new Tag(1L, "fun"), new Tag(2L, "spa"));
+        CertificateDto patched = certificateDtoWithTags(new TagDto(2L, "spa"));
+        when(certificateRepository.findWithTagsById(1L)).thenReturn(Optional.of(source));
+        when(converter.toDto(any(Certificate.class))).thenReturn(new CertificateDto());
+        when(tagConverter.toEntity(patched.getTags())).thenReturn(Set.of(new Tag(2L, "spa")));
+        when(certificateRepository.update(any(Certificate.class), eq(4L), anyCollection(), anyCollection()))
+                .thenReturn(true);
+
+        certificateService.patch(1L, certificateDto -> patched);
+
+        verify(certificateRepository).findWithTagsById(1L);
+        verify(certificateRepository).update(any(Certificate.class), eq(4L), eq(List.of()), eq(List.of(1L)));
+        verify(tagRepository).renameAll(List.of());
+        verifyNoMoreInteractions(certificateRepository);
+    }
+
+    /**
+     * @see CertificateServiceImpl#update(Long, CertificateDto)
+     */
+    @Test
+    void testUpdateShouldThrowExceptionWhenCertificateIsModifiedConcurrently() {
+        when(certificateRepository.findWithTagsById(anyLong())).thenReturn(Optional.of(certificateWithTags(0L)));
+        when(certificateRepository.update(any(Certificate.class), anyLong(), anyCollection(), anyCollection()))
+                .thenReturn(false);
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> certificateService.update(1L, INPUT_CERTIFICATE_DTO));
+        verify(tagRepository, never()).renameAll(anyCollection());
+    }
+
+    /**
+     * @see CertificateServiceImpl#update(Long, CertificateDto)
+     */
+    @Test
+    void testUpdateShouldThrowExceptionWhenVersionIsNotCurrent() {
+        CertificateDto input = certificateDtoWithTags();
+        input.setVersion(3L);
+        when(certificateRepository.findWithTagsById(1L)).thenReturn(Optional.of(certificateWithTags(4L)));
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> certificateService.update(1L, input));
+        verify(certificateRepository, never()).update(any(Certificate.class), anyLong(), anyCollection(), anyCollection());
+    }
+
     /**
      * @see CertificateServiceImpl#update(Long, CertificateDto)
      */
@@ -229,4 +375,52 @@ class CertificateServiceImplTest {
         assertThrows(InvalidResourcePropertyException.class,
                 () -> certificateService.update(999L, INPUT_CERTIFICATE_DTO));
     }
-}
\ No newline at end of file
+
+    private static Certificate certificateWithTags(long version, Tag... tags) {
+        LocalDateTime lastUpdateDate = LocalDateTime.parse("2023-01-02T07:37:15");
+        Certificate certificate = new Certificate(1L, "standard", "standard level gift certificate",
+                new BigDecimal("999.99"), 180, lastUpdateDate, lastUpdateDate, new HashSet<>(List.of(tags)));
+        certificate.setVersion(version);
+        return certificate;
+    }
+
+    private static CertificateDto certificateDtoWithTags(TagDto... tags) {
+        return new CertificateDto(1L, "standard", "standard level gift certificate", new BigDecimal("999.99"), 180,
+                null, null, new HashSet<>(List.of(tags)));
+    }
+
+    /**
+     * The certificate service with real converters and the caching
+     * of the service layer over in-memory caches.
+     */
+    @Configuration
+    @EnableCaching
+    static class CachingConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+
+        @Bean
+        TagDtoConverter tagDtoConverter() {
+            return new TagDtoConverter();
+        }
+
+        @Bean
+        CertificateService certificateService(CertificateRepository certificateRepository,
+                                              TagRepository tagRepository,
+                                              CertificateSearchIndex searchIndex,
+                                              PopularTagAggregate popularTags,
+                                              TagDtoConverter tagConverter,
+                                              CacheManager cacheManager) {
+            return new CertificateServiceImpl(certificateRepository,
+                    new CertificateDtoConverter(tagConverter),
+                    tagRepository,
+                    tagConverter,
+                    searchIndex,
+                    popularTags,
+                    cacheManager);
+        }
+    }
+}
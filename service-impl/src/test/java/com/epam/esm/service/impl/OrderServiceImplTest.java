@@ -10,7 +10,10 @@ import com.epam.esm.domain.payload.*;
 import com.epam.esm.exceptions.InvalidResourcePropertyException;
 import com.epam.esm.exceptions.ResourceNotFoundException;
 import com.epam.esm.exceptions.ResourceUnsupportedOperationException;
+import com.epam.esm.repository.api.CertificateRepository;
 import com.epam.esm.repository.api.OrderRepository;
+import com.epam.esm.repository.api.UserRepository;
+import com.epam.esm.service.impl.aggregate.PopularTagAggregate;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,9 +30,12 @@ import org.springframework.test.context.ContextConfiguration;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -101,6 +107,15 @@ class OrderServiceImplTest {
     @Mock
     private final CertificateServiceImpl certificateService = Mockito.mock(CertificateServiceImpl.class);
 
+    @Mock
+    private final PopularTagAggregate popularTags = Mockito.mock(PopularTagAggregate.class);
+
+    @Mock
+    private final UserRepository userRepository = Mockito.mock(UserRepository.class);
+
+    @Mock
+    private final CertificateRepository certificateRepository = Mockito.mock(CertificateRepository.class);
+
     private OrderServiceImpl orderService;
 
     @BeforeEach
@@ -111,7 +126,10 @@ class OrderServiceImplTest {
                 userConverter,
                 certificateConverter,
                 userService,
-                certificateService);
+                certificateService,
+                popularTags,
+                userRepository,
+                certificateRepository);
     }
 
     @AfterEach
@@ -148,6 +166,36 @@ class OrderServiceImplTest {
                 orderService.findAllByUserId(1L, new OrderFilterDto(), Pageable.unpaged()));
     }
 
+    /**
+     * @see OrderServiceImpl#findAll(OrderFilterDto, Pageable)
+     */
+    @Test
+    void testFindAllShouldLoadTagsOfDistinctCertificatesOfPageWithOneQuery() {
+        Certificate withTags = new Certificate(1L, "name", "description",
+                new BigDecimal("10.10"), 30, null, null);
+        List<Order> page = List.of(orderOf(1L, 1L), orderOf(2L, 1L), orderOf(1L, 2L));
+        when(orderRepository.findAll(any(OrderFilterDto.class), any(Pageable.class))).thenReturn(page);
+        when(certificateRepository.findAllWithTagsByIdIn(List.of(1L, 2L))).thenReturn(List.of(withTags));
+        when(converter.toDto(anyList())).thenReturn(expectedOrders);
+        orderService.findAll(new OrderFilterDto(), Pageable.unpaged());
+        Mockito.verify(certificateRepository).findAllWithTagsByIdIn(List.of(1L, 2L));
+        assertSame(withTags, page.get(0).getCertificate());
+        assertSame(withTags, page.get(1).getCertificate());
+        assertEquals(2L, page.get(2).getCertificate().getId());
+    }
+
+    /**
+     * @see OrderServiceImpl#findAllByUserId(Long, OrderFilterDto, Pageable)
+     */
+    @Test
+    void testFindAllByUserIdShouldNotQueryCertificatesOfEmptyPage() {
+        when(orderRepository.findAllByUserId(anyLong(), any(OrderFilterDto.class), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(converter.toDto(anyList())).thenReturn(List.of());
+        assertEquals(List.of(), orderService.findAllByUserId(1L, new OrderFilterDto(), Pageable.unpaged()));
+        Mockito.verifyNoInteractions(certificateRepository);
+    }
+
     /**
      * @see OrderServiceImpl#findById(Long)
      */
@@ -267,6 +315,67 @@ class OrderServiceImplTest {
         orderToCreate.getCertificate().setId(1L);
     }
 
+    /**
+     * @see OrderServiceImpl#createAll(List)
+     */
+    @Test
+    void testCreateAllShouldResolveUsersAndCertificatesOnceAndInsertOrders() {
+        Certificate certificate = new Certificate(1L, "name", "description",
+                new BigDecimal("10.10"), 30, null, null);
+        List<Order> ordersToCreate = List.of(
+                orderOf(1L, 1L),
+                orderOf(1L, 1L));
+        when(converter.toEntity(anyList())).thenReturn(ordersToCreate);
+        when(userRepository.findAllById(List.of(1L)))
+                .thenReturn(List.of(new User(1L, null, null, null, null)));
+        when(certificateRepository.findAllWithTagsByIdIn(List.of(1L)))
+                .thenReturn(List.of(certificate));
+        when(orderRepository.insertAll(ordersToCreate)).thenReturn(ordersToCreate);
+        when(converter.toDto(anyList())).thenReturn(expectedOrders);
+        assertEquals(expectedOrders,
+                orderService.createAll(List.of(new OrderDto(), new OrderDto())));
+        ordersToCreate.forEach(order -> {
+            assertEquals(certificate.getPrice(), order.getCost());
+            assertSame(certificate, order.getCertificate());
+        });
+    }
+
+    /**
+     * @see OrderServiceImpl#createAll(List)
+     */
+    @Test
+    void testCreateAllShouldThrowExceptionWhenUserIsNotExists() {
+        List<Order> ordersToCreate = List.of(
+                orderOf(1L, 1L));
+        when(converter.toEntity(anyList())).thenReturn(ordersToCreate);
+        when(userRepository.findAllById(List.of(1L))).thenReturn(List.of());
+        assertThrows(ResourceNotFoundException.class,
+                () -> orderService.createAll(List.of(new OrderDto())));
+    }
+
+    /**
+     * @see OrderServiceImpl#exportAll(LocalDateTime, LocalDateTime, Consumer)
+     */
+    @Test
+    void testExportAllShouldPassRowsToActionAndCloseStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        List<OrderExportRow> rows = List.of(
+                new OrderExportRow(1L, new BigDecimal("10.10"), null, 1L, "login", 1L, "name"),
+                new OrderExportRow(2L, new BigDecimal("20.20"), null, 2L, "login", 2L, "name"));
+        when(orderRepository.streamAll(null, null, orderService.getExportFetchSize()))
+                .thenReturn(rows.stream().onClose(() -> closed.set(true)));
+        List<OrderExportRow> exported = new ArrayList<>();
+        orderService.exportAll(null, null, exported::add);
+        assertEquals(rows, exported);
+        assertTrue(closed.get());
+    }
+
+    private static Order orderOf(Long userId, Long certificateId) {
+        return new Order(null, null, null,
+                new User(userId, null, null, null, null),
+                new Certificate(certificateId, null, null, null, null, null, null));
+    }
+
     private static Stream<Arguments> exceptionalTestCasesFroCreateMethod() {
         return Stream.of(
                 Arguments.of(null, 1L),
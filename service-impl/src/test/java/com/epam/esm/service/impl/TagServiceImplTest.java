@@ -10,6 +10,7 @@ import com.epam.esm.exceptions.InvalidResourcePropertyException;
 import com.epam.esm.exceptions.MostPopularTagNotFoundException;
 import com.epam.esm.exceptions.ResourceNotFoundException;
 import com.epam.esm.repository.api.TagRepository;
+import com.epam.esm.service.impl.aggregate.PopularTagAggregate;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.ContextConfiguration;
 
 import java.util.*;
@@ -54,11 +56,14 @@ class TagServiceImplTest {
     private final CertificateDtoConverter certificateConverter =
             Mockito.mock(CertificateDtoConverter.class);
 
+    @Mock
+    private final PopularTagAggregate popularTags = Mockito.mock(PopularTagAggregate.class);
+
     private TagServiceImpl tagService;
 
     @BeforeEach
     void setUp() {
-        tagService = new TagServiceImpl(tagRepository, converter, certificateConverter);
+        tagService = new TagServiceImpl(tagRepository, converter, certificateConverter, popularTags);
     }
 
     @AfterEach
@@ -147,12 +152,25 @@ class TagServiceImplTest {
     void testUpdateShouldReturnUpdatedTadDto() {
         TagDto expected = new TagDto(1L, "updated");
         when(tagRepository.findById(anyLong())).thenReturn(Optional.of(new Tag()));
-        when(converter.toEntity(any(TagDto.class))).thenReturn(new Tag());
-        when(tagRepository.save(any(Tag.class))).thenReturn(new Tag());
+        when(tagRepository.saveAndFlush(any(Tag.class))).thenReturn(new Tag());
         when(converter.toDto(any(Tag.class))).thenReturn(expected);
         assertEquals(expected, tagService.update(1L, new TagDto(1L, "updated")));
     }
 
+    /**
+     * @see TagServiceImpl#update(Long, TagDto)
+     */
+    @Test
+    void testUpdateShouldThrowExceptionWhenVersionIsNotCurrent() {
+        Tag tag = new Tag(1L, "source");
+        tag.setVersion(2L);
+        TagDto tagToUpdate = new TagDto(1L, "updated");
+        tagToUpdate.setVersion(1L);
+        when(tagRepository.findById(anyLong())).thenReturn(Optional.of(tag));
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> tagService.update(1L, tagToUpdate));
+        assertEquals("source", tag.getName());
+    }
+
     /**
      * @see TagServiceImpl#update(Long, TagDto)
      */
@@ -178,8 +196,8 @@ class TagServiceImplTest {
     @Test
     void testFindMostPopularTagOfUserWithHighestCostOfAllOrders() {
         TagDto expected = new TagDto();
-        when(tagRepository.findMostPopularTagOfUserWithHighestCostOfAllOrders())
-                .thenReturn(Optional.of(new Tag()));
+        when(popularTags.findMostPopularTagId()).thenReturn(Optional.of(1L));
+        when(tagRepository.findById(1L)).thenReturn(Optional.of(new Tag()));
         when(converter.toDto(any(Tag.class))).thenReturn(expected);
         assertEquals(expected, tagService.findMostPopularTagOfUserWithHighestCostOfAllOrders());
     }
@@ -189,8 +207,7 @@ class TagServiceImplTest {
      */
     @Test
     void testFindMostPopularTagOfUserWithHighestCostOfAllOrdersShouldThrowExceptionWhenTagIsNotFound() {
-        when(tagRepository.findMostPopularTagOfUserWithHighestCostOfAllOrders())
-                .thenReturn(Optional.empty());
+        when(popularTags.findMostPopularTagId()).thenReturn(Optional.empty());
         assertThrows(MostPopularTagNotFoundException.class,
                 () -> tagService.findMostPopularTagOfUserWithHighestCostOfAllOrders());
     }
@@ -10,6 +10,7 @@ import com.epam.esm.domain.payload.UserFilterDto;
 import com.epam.esm.exceptions.InvalidResourcePropertyException;
 import com.epam.esm.exceptions.ResourceNotFoundException;
 import com.epam.esm.repository.api.UserRepository;
+import com.epam.esm.service.impl.aggregate.PopularTagAggregate;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.ContextConfiguration;
 
 import java.util.Comparator;
@@ -69,11 +71,14 @@ class UserServiceImplTest {
     @Mock
     private final OrderDtoConverter orderConverter = Mockito.mock(OrderDtoConverter.class);
 
+    @Mock
+    private final PopularTagAggregate popularTags = Mockito.mock(PopularTagAggregate.class);
+
     private UserServiceImpl userService;
 
     @BeforeEach
     void setUp() {
-        userService = new UserServiceImpl(userRepository, converter, orderConverter);
+        userService = new UserServiceImpl(userRepository, converter, orderConverter, popularTags);
     }
 
     @AfterEach
@@ -118,7 +123,20 @@ class UserServiceImplTest {
     void testFindByIdShouldReturnUserDto() {
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(new User()));
         when(converter.toDto(any(User.class))).thenReturn(EXPECTED);
-        assertEquals(EXPECTED, userService.findById(anyLong()));
+        UserDto expected = new UserDto(EXPECTED.getId(), EXPECTED.getLogin(),
+                EXPECTED.getEmail(), null, EXPECTED.getRole());
+        assertEquals(expected, userService.findById(anyLong()));
+    }
+
+    /**
+     * @see UserServiceImpl#findById(Long)
+     */
+    @Test
+    void testFindByIdShouldNotReturnPassword() {
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(new User()));
+        when(converter.toDto(any(User.class))).thenReturn(EXPECTED);
+        assertNull(userService.findById(1L).getPassword());
+        assertEquals("pass", EXPECTED.getPassword());
     }
 
     /**
@@ -166,12 +184,25 @@ class UserServiceImplTest {
     @Test
     void testUpdateShouldReturnUpdatedUserDto() {
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(new User()));
-        when(converter.toEntity(any(UserDto.class))).thenReturn(new User());
-        when(userRepository.save(any(User.class))).thenReturn(new User());
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(new User());
         when(converter.toDto(any(User.class))).thenReturn(EXPECTED);
         assertEquals(EXPECTED, userService.update(1L, USER_TO_UPDATE));
     }
 
+    /**
+     * @see UserServiceImpl#update(Long, UserDto)
+     */
+    @Test
+    void testUpdateShouldThrowExceptionWhenVersionIsNotCurrent() {
+        User user = new User();
+        user.setVersion(2L);
+        UserDto userToUpdate = new UserDto(1L, "login", "user@mail.com", null, Role.USER);
+        userToUpdate.setVersion(1L);
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> userService.update(1L, userToUpdate));
+    }
+
     /**
      * @see UserServiceImpl#update(Long, UserDto)
      */
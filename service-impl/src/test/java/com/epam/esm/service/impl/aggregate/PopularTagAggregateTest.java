@@ -0,0 +1,213 @@
+package com.epam.esm.service.impl.aggregate;
+
+import com.epam.esm.domain.entity.Certificate;
+import com.epam.esm.domain.entity.Order;
+import com.epam.esm.domain.entity.Role;
+import com.epam.esm.domain.entity.Tag;
+import com.epam.esm.domain.entity.User;
+import com.epam.esm.repository.api.OrderRepository;
+import com.epam.esm.repository.api.TagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link PopularTagAggregate}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class PopularTagAggregateTest {
+
+    private final OrderRepository orderRepository = Mockito.mock(OrderRepository.class);
+
+    private final TagRepository tagRepository = Mockito.mock(TagRepository.class);
+
+    private PopularTagAggregate popularTags;
+
+    @BeforeEach
+    void setUp() {
+        when(orderRepository.sumCostGroupByUser()).thenReturn(List.of(
+                total(1L, "300.00", 2L),
+                total(2L, "250.00", 1L)));
+        when(orderRepository.countTagsGroupByUser()).thenReturn(List.of(
+                count(1L, 10L, 1L),
+                count(1L, 11L, 2L),
+                count(2L, 12L, 1L)));
+        popularTags = new PopularTagAggregate(orderRepository, tagRepository);
+    }
+
+    /**
+     * @see PopularTagAggregate#findMostPopularTagId()
+     */
+    @Test
+    void testFindMostPopularTagIdShouldReturnMostPopularTagOfTopSpender() {
+        assertEquals(Optional.of(11L), popularTags.findMostPopularTagId());
+    }
+
+    /**
+     * @see PopularTagAggregate#addOrder(Order)
+     * @see PopularTagAggregate#removeOrder(Order)
+     */
+    @Test
+    void testAddAndRemoveOrderShouldUpdateTopSpender() {
+        popularTags.findMostPopularTagId();
+        popularTags.addOrder(order(2L, "100.00", 12L));
+        assertEquals(Optional.of(12L), popularTags.findMostPopularTagId());
+        popularTags.removeOrder(order(2L, "100.00", 12L));
+        assertEquals(Optional.of(11L), popularTags.findMostPopularTagId());
+    }
+
+    /**
+     * @see PopularTagAggregate#isConsistent()
+     */
+    @Test
+    void testIsConsistentShouldDetectDriftFromDatabase() {
+        when(tagRepository.findMostPopularTagOfUserWithHighestCostOfAllOrders())
+                .thenReturn(Optional.of(new Tag(11L, "tag11")));
+        popularTags.findMostPopularTagId();
+        assertTrue(popularTags.isConsistent());
+        popularTags.addOrder(order(3L, "10.00", 10L));
+        assertFalse(popularTags.isConsistent());
+        popularTags.rebuild();
+        assertTrue(popularTags.isConsistent());
+    }
+
+    /**
+     * @see PopularTagAggregate#findMostPopularTagId()
+     */
+    @Test
+    void testFindMostPopularTagIdShouldNotInstallSnapshotLoadedWhileOrderWasApplied() {
+        when(orderRepository.sumCostGroupByUser()).thenAnswer(invocation -> {
+            popularTags.addOrder(order(2L, "100.00", 12L));
+            return List.of(total(1L, "300.00", 2L), total(2L, "350.00", 2L));
+        }).thenReturn(List.of(total(1L, "300.00", 2L), total(2L, "350.00", 2L)));
+        when(orderRepository.countTagsGroupByUser()).thenReturn(List.of(
+                count(1L, 11L, 2L),
+                count(2L, 12L, 2L)));
+        assertEquals(Optional.of(12L), popularTags.findMostPopularTagId());
+        assertEquals(Optional.of(12L), popularTags.findMostPopularTagId());
+        assertEquals(Optional.of(12L), popularTags.findMostPopularTagId());
+        verify(orderRepository, times(2)).sumCostGroupByUser();
+    }
+
+    /**
+     * @see PopularTagAggregate#findMostPopularTagId()
+     * @see PopularTagAggregate#addOrder(Order)
+     */
+    @Test
+    void testFindMostPopularTagIdShouldNotInstallSnapshotLoadedWhileOrderWasCommitting() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            popularTags.addOrder(order(2L, "100.00", 12L));
+            List<TransactionSynchronization> synchronizations =
+                    TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            assertEquals(Optional.of(11L), popularTags.findMostPopularTagId());
+            synchronizations.forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        popularTags.findMostPopularTagId();
+        popularTags.findMostPopularTagId();
+        verify(orderRepository, times(2)).sumCostGroupByUser();
+    }
+
+    /**
+     * @see PopularTagAggregate#addOrder(Order)
+     */
+    @Test
+    void testAddOrderShouldIgnoreRolledBackOrder() {
+        popularTags.findMostPopularTagId();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            popularTags.addOrder(order(2L, "100.00", 12L));
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(Optional.of(11L), popularTags.findMostPopularTagId());
+    }
+
+    /**
+     * @see PopularTagAggregate#rebuild()
+     */
+    @Test
+    void testRebuildShouldKeepAggregateWhenOrderWasAppliedDuringTheRebuild() {
+        popularTags.findMostPopularTagId();
+        when(orderRepository.sumCostGroupByUser()).thenAnswer(invocation -> {
+            popularTags.addOrder(order(2L, "100.00", 12L));
+            return List.of(total(1L, "300.00", 2L), total(2L, "250.00", 1L));
+        });
+        popularTags.rebuild();
+        assertEquals(Optional.of(12L), popularTags.findMostPopularTagId());
+    }
+
+    private static Order order(Long userId, String cost, Long tagId) {
+        Certificate certificate = new Certificate(1L, "name", "description",
+                new BigDecimal(cost),
+                30,
+                LocalDateTime.parse("2023-01-02T07:37:15"),
+                LocalDateTime.parse("2023-01-02T07:37:15"));
+        certificate.addTags(Set.of(new Tag(tagId, "tag" + tagId)));
+        User user = new User(userId, "login", "user@mail.com", "password", Role.USER);
+        return new Order(null, new BigDecimal(cost),
+                LocalDateTime.parse("2023-01-03T07:37:15"), user, certificate);
+    }
+
+    private static OrderRepository.UserCostTotal total(Long userId, String total, Long orderCount) {
+        return new OrderRepository.UserCostTotal() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public BigDecimal getTotal() {
+                return new BigDecimal(total);
+            }
+
+            @Override
+            public Long getOrderCount() {
+                return orderCount;
+            }
+        };
+    }
+
+    private static OrderRepository.UserTagCount count(Long userId, Long tagId, Long count) {
+        return new OrderRepository.UserTagCount() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getTagId() {
+                return tagId;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+}
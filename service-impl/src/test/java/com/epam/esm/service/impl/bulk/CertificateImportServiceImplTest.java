@@ -0,0 +1,171 @@
+package com.epam.esm.service.impl.bulk;
+
+import com.epam.esm.domain.converter.impl.CertificateDtoConverter;
+import com.epam.esm.domain.converter.impl.TagDtoConverter;
+import com.epam.esm.domain.entity.Certificate;
+import com.epam.esm.domain.entity.Tag;
+import com.epam.esm.domain.payload.CertificateImportReport;
+import com.epam.esm.domain.payload.CertificateImportReport.RowError;
+import com.epam.esm.exceptions.ErrorMessageFormatter;
+import com.epam.esm.exceptions.Translator;
+import com.epam.esm.repository.api.CertificateRepository;
+import com.epam.esm.repository.api.TagRepository;
+import com.epam.esm.service.api.CertificateImportService.Format;
+import com.epam.esm.service.impl.search.CertificateSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static com.epam.esm.domain.validation.ValidationConstants.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link CertificateImportServiceImpl}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class CertificateImportServiceImplTest {
+
+    private final CertificateRepository certificateRepository = Mockito.mock(CertificateRepository.class);
+    private final TagRepository tagRepository = Mockito.mock(TagRepository.class);
+    private final CertificateSearchIndex searchIndex = Mockito.mock(CertificateSearchIndex.class);
+    private final Translator translator = Mockito.mock(Translator.class);
+
+    private CertificateImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(translator.toLocale(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        importService = new CertificateImportServiceImpl(
+                certificateRepository,
+                tagRepository,
+                new CertificateDtoConverter(new TagDtoConverter()),
+                searchIndex,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ErrorMessageFormatter(translator),
+                new ObjectMapper().findAndRegisterModules(),
+                Mockito.mock(PlatformTransactionManager.class));
+    }
+
+    /**
+     * @see CertificateImportServiceImpl#importCertificates(InputStream, Format)
+     */
+    @Test
+    void testImportNdjsonShouldSaveValidRowsAndReportInvalidOnes() {
+        when(certificateRepository.findNamesByNameIn(any())).thenReturn(List.of("Existing"));
+        when(tagRepository.findAllByNameIn(any()))
+                .thenReturn(List.of(new Tag(1L, "Fun")))
+                .thenReturn(List.of(new Tag(2L, "new")));
+        when(certificateRepository.insertAll(anyList()))
+                .thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+        CertificateImportReport report = importService.importCertificates(content(
+                "{\"name\":\"Spa\",\"description\":\"spa day\",\"price\":10.5,\"duration\":30,"
+                        + "\"tags\":[{\"name\":\"fun\"},{\"name\":\"new\"}]}",
+                "",
+                "{\"name\":\"Gym\",\"description\":\"gym visit\",\"price\":-1,\"duration\":30}",
+                "{\"name\":",
+                "{\"name\":\"existing\",\"description\":\"taken name\",\"price\":5,\"duration\":7}"),
+                Format.NDJSON);
+
+        assertEquals(1, report.getImported());
+        assertEquals(3, report.getFailed());
+        assertEquals(List.of(2L, 3L, 4L), report.getErrors().stream()
+                .map(RowError::getRow)
+                .collect(Collectors.toList()));
+        assertTrue(report.getErrors().get(0).getMessages().get(0).startsWith(CERTIFICATE_INVALID_PRICE));
+        assertTrue(report.getErrors().get(1).getMessages().get(0).startsWith(CERTIFICATE_IMPORT_MALFORMED_ROW));
+        assertTrue(report.getErrors().get(2).getMessages().get(0).startsWith(CERTIFICATE_IMPORT_NAME_EXISTS));
+        verify(tagRepository).insertAllIgnoringExisting(List.of("new"));
+        Certificate saved = capturedCertificates().get(0);
+        assertEquals("Spa", saved.getName());
+        assertEquals(Set.of(1L, 2L), saved.getTags().stream().map(Tag::getId).collect(Collectors.toSet()));
+        verify(searchIndex).index(saved);
+    }
+
+    /**
+     * @see CertificateImportServiceImpl#importCertificates(InputStream, Format)
+     */
+    @Test
+    void testImportCsvShouldSplitTagsAndReportInvalidNumbers() {
+        when(certificateRepository.findNamesByNameIn(any())).thenReturn(List.of());
+        when(tagRepository.findAllByNameIn(any())).thenReturn(List.of(new Tag(1L, "fun"), new Tag(2L, "new")));
+        when(certificateRepository.insertAll(anyList()))
+                .thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+        CertificateImportReport report = importService.importCertificates(content(
+                "name,description,price,duration,tags",
+                "Spa,\"spa day, with lunch\",10.50,30,fun;new",
+                "Gym,gym visit,10,abc,",
+                "Pool,pool visit,7,14,"),
+                Format.CSV);
+
+        assertEquals(2, report.getImported());
+        assertEquals(1, report.getFailed());
+        assertEquals(2L, report.getErrors().get(0).getRow());
+        assertTrue(report.getErrors().get(0).getMessages().get(0).startsWith(CERTIFICATE_INVALID_DURATION));
+        List<Certificate> saved = capturedCertificates();
+        assertEquals("spa day, with lunch", saved.get(0).getDescription());
+        assertEquals(2, saved.get(0).getTags().size());
+        assertTrue(saved.get(1).getTags().isEmpty());
+        verify(tagRepository, never()).insertAllIgnoringExisting(any());
+    }
+
+    /**
+     * @see CertificateImportServiceImpl#importCertificates(InputStream, Format)
+     */
+    @Test
+    void testImportShouldReportAllRowsOfFailedChunk() {
+        when(certificateRepository.findNamesByNameIn(any())).thenReturn(List.of());
+        when(certificateRepository.insertAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        CertificateImportReport report = importService.importCertificates(content(
+                "{\"name\":\"Spa\",\"description\":\"spa day\",\"price\":10.5,\"duration\":30}",
+                "{\"name\":\"Gym\",\"description\":\"gym visit\",\"price\":10,\"duration\":30}"),
+                Format.NDJSON);
+
+        assertEquals(0, report.getImported());
+        assertEquals(2, report.getFailed());
+        report.getErrors().forEach(error ->
+                assertEquals(List.of(CERTIFICATE_IMPORT_ROWS_NOT_SAVED), error.getMessages()));
+        verifyNoInteractions(searchIndex);
+    }
+
+    private List<Certificate> capturedCertificates() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Certificate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(certificateRepository).insertAll(captor.capture());
+        return captor.getValue();
+    }
+
+    private static List<Certificate> assignIds(List<Certificate> certificates) {
+        AtomicLong id = new AtomicLong();
+        certificates.forEach(certificate -> certificate.setId(id.incrementAndGet()));
+        return certificates;
+    }
+
+    private static InputStream content(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,109 @@
+package com.epam.esm.service.impl.search;
+
+import com.epam.esm.domain.entity.Certificate;
+import com.epam.esm.repository.api.CertificateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link CertificateSearchIndex}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class CertificateSearchIndexTest {
+
+    private final CertificateRepository certificateRepository = Mockito.mock(CertificateRepository.class);
+
+    private CertificateSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(certificateRepository.findAll()).thenReturn(List.of(
+                certificate(1L, "standard", "standard level gift certificate"),
+                certificate(2L, "Premium", "premium level gift certificate"),
+                certificate(3L, "base", "base level gift certificate")));
+        searchIndex = new CertificateSearchIndex(certificateRepository);
+        searchIndex.rebuild();
+    }
+
+    /**
+     * @see CertificateSearchIndex#search(String, String)
+     */
+    @Test
+    void testSearchShouldFindSubstringIgnoringCase() {
+        assertEquals(Optional.of(Set.of(2L)), searchIndex.search("EMIU", ""));
+        assertEquals(Optional.of(Set.of(1L, 2L, 3L)), searchIndex.search("", "level gift"));
+        assertEquals(Optional.of(Set.of(1L)), searchIndex.search("stand", "standard level"));
+        assertEquals(Optional.of(Set.of()), searchIndex.search("stand", "premium"));
+    }
+
+    /**
+     * @see CertificateSearchIndex#search(String, String)
+     */
+    @Test
+    void testSearchShouldNotAnswerBlankOrShortTerms() {
+        assertEquals(Optional.empty(), searchIndex.search("", ""));
+        assertEquals(Optional.empty(), searchIndex.search("st", ""));
+        assertEquals(Optional.empty(), searchIndex.search("standard", "le"));
+    }
+
+    /**
+     * @see CertificateSearchIndex#index(Certificate)
+     * @see CertificateSearchIndex#remove(Long)
+     */
+    @Test
+    void testIndexAndRemoveShouldUpdateSearchResults() {
+        searchIndex.index(certificate(1L, "golden", "golden level gift certificate"));
+        searchIndex.index(certificate(4L, "standard plus", "extended standard certificate"));
+        searchIndex.remove(3L);
+        assertEquals(Optional.of(Set.of(4L)), searchIndex.search("standard", ""));
+        assertEquals(Optional.of(Set.of(1L)), searchIndex.search("gold", ""));
+        assertEquals(Optional.of(Set.of()), searchIndex.search("base", ""));
+    }
+
+    /**
+     * @see CertificateSearchIndex#search(String, String)
+     */
+    @Test
+    void testSearchShouldNotAnswerTermsWithLikeWildcards() {
+        assertEquals(Optional.empty(), searchIndex.search("stan%rd", ""));
+        assertEquals(Optional.empty(), searchIndex.search("", "gift_certificate"));
+    }
+
+    /**
+     * @see CertificateSearchIndex#rebuild()
+     */
+    @Test
+    void testRebuildShouldReplayChangesCommittedDuringTheBuild() {
+        CertificateSearchIndex index = new CertificateSearchIndex(certificateRepository);
+        when(certificateRepository.findAll()).thenAnswer(invocation -> {
+            index.index(certificate(4L, "standard plus", "extended standard certificate"));
+            index.remove(1L);
+            return List.of(certificate(1L, "standard", "standard level gift certificate"));
+        });
+
+        assertEquals(Optional.of(Set.of(4L)), index.search("standard", ""));
+    }
+
+    private static Certificate certificate(Long id, String name, String description) {
+        return new Certificate(id, name, description,
+                new BigDecimal("999.99"),
+                180,
+                LocalDateTime.parse("2023-01-02T07:37:15"),
+                LocalDateTime.parse("2023-01-02T07:37:15"));
+    }
+}
@@ -0,0 +1,126 @@
+package com.epam.esm.service.impl.support;
+
+import com.epam.esm.domain.payload.TagDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SingleFlightInterceptor}.
+ *
+ * @author Oleksandr Koreshev
+ * @since 1.0
+ */
+class SingleFlightInterceptorTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @see SingleFlightInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)
+     */
+    @Test
+    void testInvokeShouldShareOneCallBetweenConcurrentCallsWithEqualArguments() throws Exception {
+        SlowTagFinder target = new SlowTagFinder();
+        TagFinder finder = proxy(target, new MockEnvironment());
+
+        Future<TagDto> first = executor.submit(() -> finder.findById(1L));
+        assertTrue(target.started.await(5, TimeUnit.SECONDS));
+        AtomicReference<Thread> secondThread = new AtomicReference<>();
+        Future<TagDto> second = executor.submit(() -> {
+            secondThread.set(Thread.currentThread());
+            return finder.findById(1L);
+        });
+        awaitWaiting(secondThread);
+        target.release.countDown();
+
+        TagDto firstTag = first.get(5, TimeUnit.SECONDS);
+        TagDto secondTag = second.get(5, TimeUnit.SECONDS);
+        assertEquals(1, target.calls.get());
+        assertEquals(firstTag, secondTag);
+        assertNotSame(firstTag, secondTag);
+    }
+
+    /**
+     * @see SingleFlightInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)
+     */
+    @Test
+    void testInvokeShouldRunEveryCallWhenDisabled() {
+        SlowTagFinder target = new SlowTagFinder();
+        target.release.countDown();
+        TagFinder finder = proxy(target, new MockEnvironment().withProperty("single-flight.tag-finder.enabled", "false"));
+
+        finder.findById(1L);
+        finder.findById(1L);
+
+        assertEquals(2, target.calls.get());
+    }
+
+    /**
+     * @see SingleFlightInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)
+     */
+    @Test
+    void testInvokeShouldRunCallsWithDifferentArgumentsSeparately() {
+        SlowTagFinder target = new SlowTagFinder();
+        target.release.countDown();
+        TagFinder finder = proxy(target, new MockEnvironment());
+
+        assertEquals(1L, finder.findById(1L).getId());
+        assertEquals(2L, finder.findById(2L).getId());
+        assertEquals(2, target.calls.get());
+    }
+
+    private static TagFinder proxy(TagFinder target, MockEnvironment environment) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addInterface(TagFinder.class);
+        proxyFactory.addAdvisor(new SingleFlightAdvisor(environment));
+        return (TagFinder) proxyFactory.getProxy();
+    }
+
+    private static void awaitWaiting(AtomicReference<Thread> thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.get() == null || thread.get().getState() != Thread.State.WAITING) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    interface TagFinder {
+        TagDto findById(Long id);
+    }
+
+    static class SlowTagFinder implements TagFinder {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        @SingleFlight("tag-finder")
+        public TagDto findById(Long id) {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new TagDto(id, "tag" + id);
+        }
+    }
+}